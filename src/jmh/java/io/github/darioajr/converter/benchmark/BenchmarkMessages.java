@@ -0,0 +1,69 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.benchmark;
+
+import io.github.darioajr.converter.models.FixDefaultVersion;
+
+/**
+ * Representative FIX messages used by the benchmarks.
+ */
+final class BenchmarkMessages {
+
+  private BenchmarkMessages() {
+  }
+
+  /**
+   * Builds a message of the given type for the given FIX version, with a valid
+   * BodyLength and CheckSum. Fields are delimited by a vertical bar.
+   *
+   * @param version the FIX version
+   * @param messageType NewOrderSingle, ExecutionReport or MarketDataSnapshot
+   * @return the raw FIX message
+   */
+  static String create(FixDefaultVersion version, String messageType) {
+    String body;
+    switch (messageType) {
+      case "NewOrderSingle":
+        body = "35=D|49=BUYSIDE|56=SELLSIDE|34=1024|52=20231208-12:34:56.789|"
+            + "11=ORD-000001|1=ACC-01|21=1|55=AAPL|54=1|60=20231208-12:34:56.789|"
+            + "38=100|40=2|44=189.25|59=0|";
+        break;
+      case "ExecutionReport":
+        body = "35=8|49=SELLSIDE|56=BUYSIDE|34=2048|52=20231208-12:34:56.901|"
+            + "37=EX-778812|11=ORD-000001|17=EXEC-1|150=F|39=2|55=AAPL|54=1|"
+            + "453=2|448=BROKER1|447=D|452=1|448=DESK7|447=D|452=3|"
+            + "38=100|32=100|31=189.25|151=0|14=100|6=189.25|60=20231208-12:34:56.900|";
+        break;
+      case "MarketDataSnapshot":
+        body = "35=W|49=FEED|56=CLIENT|34=4096|52=20231208-12:34:57.000|262=MD-REQ-1|"
+            + "55=AAPL|268=4|269=0|270=189.20|271=500|269=0|270=189.19|271=1200|"
+            + "269=1|270=189.27|271=300|269=1|270=189.28|271=900|";
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown message type: " + messageType);
+    }
+    String beginString = version == FixDefaultVersion.FIX_4_4 ? "FIX.4.4" : "FIX.5.0SP2";
+    String header = "8=" + beginString + "|9=" + body.length() + "|";
+    String message = header + body;
+    int checksum = 0;
+    for (int i = 0; i < message.length(); i++) {
+      char c = message.charAt(i);
+      checksum += c == '|' ? 1 : c;
+    }
+    return message + String.format("10=%03d|", checksum & 0xFF);
+  }
+}
@@ -0,0 +1,181 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.benchmark;
+
+import io.github.darioajr.converter.core.FixConverter;
+import io.github.darioajr.converter.models.FixDefaultVersion;
+import io.github.darioajr.converter.parser.FixFieldMap;
+import io.github.darioajr.converter.parser.FixMessageParser;
+import io.github.darioajr.converter.parser.FixMessageView;
+import io.github.darioajr.converter.utils.AvroUtils;
+import io.github.darioajr.converter.validation.FixMessageValidator;
+import io.github.darioajr.converter.validation.ValidationProgram;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the parse, validate, convert and serialize hot paths.
+ *
+ * <p>Run with {@code mvn -Pbenchmark test-compile exec:exec}; the GC profiler is
+ * enabled by default so allocation rates are reported next to ops/s. Other JMH
+ * options can be passed with {@code -Djmh.args="..."}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversionBenchmark {
+
+  @Param({"FIX_4_4", "FIX_5_0_SP2"})
+  private String version;
+
+  @Param({"NewOrderSingle", "ExecutionReport", "MarketDataSnapshot"})
+  private String messageType;
+
+  private FixDefaultVersion schema;
+  private String rawMessage;
+  private Map<String, String> parsedFields;
+  private Map<String, Object> criteria;
+  private ValidationProgram program;
+  private final FixMessageParser parser = new FixMessageParser();
+  private final FixFieldMap fieldMap = new FixFieldMap();
+  private final FixMessageView view = new FixMessageView();
+  private final FixMessageValidator validator = new FixMessageValidator();
+  private final FixConverter converter = new FixConverter();
+
+  /**
+   * Builds the message and checks that every benchmarked path accepts it.
+   *
+   * @throws IOException if the FIX dictionary cannot be loaded
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    schema = FixDefaultVersion.valueOf(version);
+    rawMessage = BenchmarkMessages.create(schema, messageType);
+    parsedFields = parser.parse(rawMessage, schema);
+    criteria = Map.of(
+        "35", List.of("D", "8", "W"),
+        "49", List.of("BUYSIDE", "SELLSIDE", "FEED"),
+        "55", "AAPL");
+    validator.validateFields(parsedFields, schema, criteria);
+    program = validator.compile(schema, criteria);
+    program.validate(parsedFields);
+    converter.convertToByteArray(rawMessage, schema);
+  }
+
+  /**
+   * Splits the raw message into a tag/value map.
+   *
+   * @return the parsed fields
+   */
+  @Benchmark
+  public Map<String, String> parse() {
+    return parser.parse(rawMessage, schema);
+  }
+
+  /**
+   * Splits the raw message into a reused int-keyed field map.
+   *
+   * @return the parsed fields
+   */
+  @Benchmark
+  public FixFieldMap parseFields() {
+    return parser.parseFields(rawMessage, schema, fieldMap);
+  }
+
+  /**
+   * Indexes the raw message into a reused lazy view and reads the routing tags only.
+   *
+   * @return the MsgType and SenderCompID values
+   */
+  @Benchmark
+  public String viewRoutingTags() {
+    view.wrap(rawMessage);
+    return view.getMsgType() + view.get(49);
+  }
+
+  /**
+   * Checks the version and field criteria of an already parsed message.
+   *
+   * @return the validated fields
+   */
+  @Benchmark
+  public Map<String, String> validateFields() {
+    validator.validateFields(parsedFields, schema, criteria);
+    return parsedFields;
+  }
+
+  /**
+   * Checks the same criteria through a precompiled validation program.
+   *
+   * @return the validated fields
+   */
+  @Benchmark
+  public Map<String, String> validateCompiled() {
+    program.validate(parsedFields);
+    return parsedFields;
+  }
+
+  /**
+   * Builds a GenericRecord through quickfixj.
+   *
+   * @return the converted record
+   */
+  @Benchmark
+  public GenericRecord convertFixToAvro() {
+    return AvroUtils.convertFixToAvro(rawMessage, schema);
+  }
+
+  /**
+   * Builds a GenericRecord and serializes it to Avro binary.
+   *
+   * @return the serialized record
+   * @throws IOException if serialization fails
+   */
+  @Benchmark
+  public byte[] convertToByteArray() throws IOException {
+    return converter.convertToByteArray(rawMessage, schema);
+  }
+
+  /**
+   * Encodes the raw message straight to Avro binary.
+   *
+   * @return the serialized record
+   * @throws IOException if serialization fails
+   */
+  @Benchmark
+  public byte[] convertToByteArrayDirect() throws IOException {
+    return converter.convertToByteArrayDirect(rawMessage, schema);
+  }
+}
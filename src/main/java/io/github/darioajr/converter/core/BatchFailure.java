@@ -0,0 +1,59 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.core;
+
+/**
+ * A message of a batch that could not be converted.
+ */
+public final class BatchFailure {
+  private final int index;
+  private final Exception cause;
+
+  /**
+   * Constructs a new BatchFailure.
+   *
+   * @param index the position of the message in the batch
+   * @param cause the exception raised while converting the message
+   */
+  public BatchFailure(int index, Exception cause) {
+    this.index = index;
+    this.cause = cause;
+  }
+
+  /**
+   * Gets the position of the failed message in the batch.
+   *
+   * @return the zero-based message index
+   */
+  public int getIndex() {
+    return index;
+  }
+
+  /**
+   * Gets the exception raised while converting the message.
+   *
+   * @return the failure cause
+   */
+  public Exception getCause() {
+    return cause;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("BatchFailure[index=%d, cause=%s]", index, cause);
+  }
+}
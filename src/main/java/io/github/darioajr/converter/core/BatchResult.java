@@ -0,0 +1,98 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a batch conversion. Results are kept in input order; messages that
+ * failed have a {@code null} result and a matching {@link BatchFailure}.
+ *
+ * @param <T> the converted message type
+ */
+public final class BatchResult<T> {
+  private final List<T> results;
+  private final List<BatchFailure> failures;
+
+  /**
+   * Constructs a new BatchResult.
+   *
+   * @param results one entry per input message, {@code null} for failed messages
+   * @param failures the failed messages, in input order
+   */
+  public BatchResult(List<T> results, List<BatchFailure> failures) {
+    this.results = Collections.unmodifiableList(new ArrayList<>(results));
+    this.failures = List.copyOf(failures);
+  }
+
+  /**
+   * Gets the converted messages.
+   *
+   * @return one entry per input message, {@code null} where the conversion failed
+   */
+  public List<T> getResults() {
+    return results;
+  }
+
+  /**
+   * Gets the converted message at the given position.
+   *
+   * @param index the zero-based message index
+   * @return the converted message, or {@code null} if it failed
+   */
+  public T get(int index) {
+    return results.get(index);
+  }
+
+  /**
+   * Gets the messages that could not be converted.
+   *
+   * @return the failures, in input order
+   */
+  public List<BatchFailure> getFailures() {
+    return failures;
+  }
+
+  /**
+   * Gets the number of messages in the batch.
+   *
+   * @return the batch size
+   */
+  public int size() {
+    return results.size();
+  }
+
+  /**
+   * Gets the number of messages converted successfully.
+   *
+   * @return the success count
+   */
+  public int getSuccessCount() {
+    return results.size() - failures.size();
+  }
+
+  /**
+   * Checks whether any message of the batch failed.
+   *
+   * @return true if at least one message could not be converted
+   */
+  public boolean hasFailures() {
+    return !failures.isEmpty();
+  }
+}
@@ -17,6 +17,8 @@
 package io.github.darioajr.converter.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Generic interface for message conversion.
@@ -35,4 +37,28 @@ public interface Converter<I, O> {
    * @throws IOException if an I/O error occurs during conversion
    */
   O convertToAvro(I rawMessage, SchemaProvider schema) throws IOException;
+
+  /**
+   * Converts a batch of input messages to Avro format. A message that fails to
+   * convert is reported in the result and does not abort the rest of the batch.
+   *
+   * @param rawMessages the raw input messages
+   * @param schema the schema provider for the Avro schema
+   * @return the converted messages and failures, in input order
+   * @throws IOException if an I/O error prevents the batch from being converted
+   */
+  default BatchResult<O> convertBatch(List<I> rawMessages, SchemaProvider schema)
+      throws IOException {
+    List<O> results = new ArrayList<>(rawMessages.size());
+    List<BatchFailure> failures = new ArrayList<>();
+    for (I rawMessage : rawMessages) {
+      try {
+        results.add(convertToAvro(rawMessage, schema));
+      } catch (IOException | RuntimeException e) {
+        failures.add(new BatchFailure(results.size(), e));
+        results.add(null);
+      }
+    }
+    return new BatchResult<>(results, failures);
+  }
 }
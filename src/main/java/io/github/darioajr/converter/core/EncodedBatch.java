@@ -0,0 +1,129 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.core;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Outcome of a batch conversion to Avro binary. The records of all converted
+ * messages are concatenated in input order into a single buffer; failed messages
+ * contribute no bytes and have a matching {@link BatchFailure}.
+ */
+public final class EncodedBatch {
+  private final byte[] data;
+  private final int[] offsets;
+  private final int[] lengths;
+  private final List<BatchFailure> failures;
+
+  /**
+   * Constructs a new EncodedBatch.
+   *
+   * @param data the concatenated Avro records
+   * @param offsets the start of each message's record in {@code data}
+   * @param lengths the length of each message's record, or -1 for failed messages
+   * @param failures the failed messages, in input order
+   */
+  public EncodedBatch(byte[] data, int[] offsets, int[] lengths, List<BatchFailure> failures) {
+    if (offsets.length != lengths.length) {
+      throw new IllegalArgumentException("offsets and lengths must have the same size");
+    }
+    this.data = data;
+    this.offsets = offsets;
+    this.lengths = lengths;
+    this.failures = List.copyOf(failures);
+  }
+
+  /**
+   * Gets the concatenated Avro records. The array is not copied.
+   *
+   * @return the encoded batch
+   */
+  public byte[] getData() {
+    return data;
+  }
+
+  /**
+   * Gets the number of messages in the batch.
+   *
+   * @return the batch size
+   */
+  public int size() {
+    return offsets.length;
+  }
+
+  /**
+   * Checks whether the message at the given position was converted.
+   *
+   * @param index the zero-based message index
+   * @return true if the message has a record in the buffer
+   */
+  public boolean isSuccess(int index) {
+    return lengths[index] >= 0;
+  }
+
+  /**
+   * Gets the start of a message's record in the buffer.
+   *
+   * @param index the zero-based message index
+   * @return the offset in {@link #getData()}
+   */
+  public int getOffset(int index) {
+    return offsets[index];
+  }
+
+  /**
+   * Gets the length of a message's record in the buffer.
+   *
+   * @param index the zero-based message index
+   * @return the record length, or -1 if the message failed
+   */
+  public int getLength(int index) {
+    return lengths[index];
+  }
+
+  /**
+   * Copies a single message's record out of the buffer.
+   *
+   * @param index the zero-based message index
+   * @return the Avro binary record, or {@code null} if the message failed
+   */
+  public byte[] getRecord(int index) {
+    if (!isSuccess(index)) {
+      return null;
+    }
+    return Arrays.copyOfRange(data, offsets[index], offsets[index] + lengths[index]);
+  }
+
+  /**
+   * Gets the messages that could not be converted.
+   *
+   * @return the failures, in input order
+   */
+  public List<BatchFailure> getFailures() {
+    return failures;
+  }
+
+  /**
+   * Checks whether any message of the batch failed.
+   *
+   * @return true if at least one message could not be converted
+   */
+  public boolean hasFailures() {
+    return !failures.isEmpty();
+  }
+}
@@ -16,22 +16,115 @@
 
 package io.github.darioajr.converter.core;
 
+import io.github.darioajr.converter.metrics.ConversionMetrics;
+import io.github.darioajr.converter.metrics.ConversionStage;
+import io.github.darioajr.converter.parser.FixFieldMap;
+import io.github.darioajr.converter.registry.AvroSchemaRegistry;
+import io.github.darioajr.converter.registry.DataDictionaryRegistry;
+import io.github.darioajr.converter.schema.TypedRecordConverter;
+import io.github.darioajr.converter.schema.TypedSchemaGenerator;
+import io.github.darioajr.converter.schema.TypedSchemas;
+import io.github.darioajr.converter.utils.AvroSerializer;
+import io.github.darioajr.converter.utils.AvroToFixEncoder;
 import io.github.darioajr.converter.utils.AvroUtils;
+import io.github.darioajr.converter.utils.DirectAvroEncoder;
+import io.github.darioajr.converter.utils.FixUtils;
+import io.github.darioajr.converter.utils.SingleObjectDecoder;
+import io.github.darioajr.converter.utils.SingleObjectEncoder;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import quickfix.ConfigError;
+import quickfix.DataDictionary;
+import quickfix.InvalidMessage;
+import quickfix.Message;
 
 /**
  * Implementation of FixConverter.
  */
 public class FixConverter implements Converter<String, GenericRecord> {
+  private static final ThreadLocal<AvroToFixEncoder> FIX_ENCODER =
+      ThreadLocal.withInitial(AvroToFixEncoder::new);
+
+  private final Schema avroSchema;
+  private final ConversionMetrics metrics;
+  private final ConcurrentMap<String, TypedRecordConverter> typedConverters =
+      new ConcurrentHashMap<>();
+
   /**
    * Implementation of FixConverter Constructor.
+   * Records are built with the shared default Avro schema.
    */
-  public FixConverter() {}
+  public FixConverter() {
+    this.avroSchema = null;
+    this.metrics = ConversionMetrics.noop();
+  }
+
+  /**
+   * Constructs a FixConverter that builds records with the shared default Avro schema
+   * and reports stage timings, message types, output sizes and failures to a metrics
+   * hook.
+   *
+   * @param metrics the metrics hook, or {@link ConversionMetrics#noop()}
+   */
+  public FixConverter(ConversionMetrics metrics) {
+    this.avroSchema = null;
+    this.metrics = Objects.requireNonNull(metrics, "metrics");
+  }
+
+  /**
+   * Constructs a FixConverter that builds records with a pre-resolved Avro schema,
+   * so conversions never need to look the schema up.
+   *
+   * @param avroSchema the Avro schema of the produced records
+   */
+  public FixConverter(Schema avroSchema) {
+    this(avroSchema, ConversionMetrics.noop());
+  }
+
+  /**
+   * Constructs a FixConverter that builds records with a pre-resolved Avro schema
+   * and reports to a metrics hook.
+   *
+   * @param avroSchema the Avro schema of the produced records
+   * @param metrics the metrics hook, or {@link ConversionMetrics#noop()}
+   */
+  public FixConverter(Schema avroSchema, ConversionMetrics metrics) {
+    this.avroSchema = Objects.requireNonNull(avroSchema, "avroSchema");
+    this.metrics = Objects.requireNonNull(metrics, "metrics");
+  }
+
+  /**
+   * Gets the metrics hook this converter reports to.
+   *
+   * @return the metrics hook
+   */
+  public ConversionMetrics getMetrics() {
+    return metrics;
+  }
 
   @Override
   public GenericRecord convertToAvro(String rawMessage, SchemaProvider schema) {
-    return AvroUtils.convertFixToAvro(rawMessage, schema);
+    if (!metrics.isEnabled()) {
+      return convertRecord(rawMessage, schema);
+    }
+    long start = System.nanoTime();
+    GenericRecord record = convertRecord(rawMessage, schema);
+    metrics.recordConversion(System.nanoTime() - start);
+    return record;
   }
 
   /**
@@ -43,6 +136,446 @@ public class FixConverter implements Converter<String, GenericRecord> {
    * @throws IOException if an I/O error occurs during conversion or serialization
    */
   public byte[] convertToByteArray(String rawMessage, SchemaProvider schema) throws IOException {
-    return AvroUtils.convertFixToAvroByteArray(rawMessage, schema);
+    if (!metrics.isEnabled()) {
+      if (avroSchema == null) {
+        return AvroUtils.convertFixToAvroByteArray(rawMessage, schema);
+      }
+      return AvroUtils.convertFixToAvroByteArray(rawMessage, schema, avroSchema);
+    }
+    long start = System.nanoTime();
+    byte[] bytes = serialize(convertRecord(rawMessage, schema));
+    metrics.recordConversion(System.nanoTime() - start);
+    return bytes;
+  }
+
+  /**
+   * Converts a FIX message to Avro binary and writes it into a caller-supplied
+   * buffer, starting at its current position.
+   *
+   * @param rawMessage the raw FIX message as a string
+   * @param schema the schema provider for the Avro schema
+   * @param target the buffer receiving the serialized bytes
+   * @return the number of bytes written
+   * @throws IOException if an I/O error occurs during conversion or serialization
+   * @throws java.nio.BufferOverflowException if the target has not enough space remaining
+   */
+  public int convertToByteBuffer(String rawMessage, SchemaProvider schema, ByteBuffer target)
+      throws IOException {
+    long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+    GenericRecord record = convertRecord(rawMessage, schema);
+    long serializeStart = metrics.isEnabled() ? System.nanoTime() : 0L;
+    try {
+      int written = AvroSerializer.getInstance().serialize(record, record.getSchema(), target);
+      recordSerialized(serializeStart, written);
+      if (metrics.isEnabled()) {
+        metrics.recordConversion(System.nanoTime() - start);
+      }
+      return written;
+    } catch (IOException | RuntimeException e) {
+      metrics.recordError(ConversionStage.SERIALIZE, e);
+      throw e;
+    }
+  }
+
+  /**
+   * Converts a FIX message to Avro binary and writes it to a caller-supplied stream.
+   * The stream is flushed but not closed.
+   *
+   * @param rawMessage the raw FIX message as a string
+   * @param schema the schema provider for the Avro schema
+   * @param out the stream receiving the serialized bytes
+   * @throws IOException if an I/O error occurs during conversion or serialization
+   */
+  public void convertToOutputStream(String rawMessage, SchemaProvider schema, OutputStream out)
+      throws IOException {
+    long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+    GenericRecord record = convertRecord(rawMessage, schema);
+    long serializeStart = metrics.isEnabled() ? System.nanoTime() : 0L;
+    try {
+      AvroSerializer.getInstance().serialize(record, record.getSchema(), out);
+      if (metrics.isEnabled()) {
+        long end = System.nanoTime();
+        metrics.recordStage(ConversionStage.SERIALIZE, end - serializeStart);
+        metrics.recordConversion(end - start);
+      }
+    } catch (IOException | RuntimeException e) {
+      metrics.recordError(ConversionStage.SERIALIZE, e);
+      throw e;
+    }
+  }
+
+  /**
+   * Converts a FIX message to Avro single-object encoding: the record is prefixed
+   * with the fingerprint of its writer schema, so it stays readable with
+   * {@link SingleObjectDecoder} after the schema evolves.
+   *
+   * @param rawMessage the raw FIX message as a string
+   * @param schema the schema provider for the FIX dictionary
+   * @return the single-object encoded bytes
+   * @throws IOException if an I/O error occurs during conversion or serialization
+   */
+  public byte[] convertToSingleObject(String rawMessage, SchemaProvider schema)
+      throws IOException {
+    long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+    GenericRecord record = convertRecord(rawMessage, schema);
+    long serializeStart = metrics.isEnabled() ? System.nanoTime() : 0L;
+    try {
+      byte[] bytes = SingleObjectEncoder.getInstance().encode(record);
+      recordSerialized(serializeStart, bytes.length);
+      if (metrics.isEnabled()) {
+        metrics.recordConversion(System.nanoTime() - start);
+      }
+      return bytes;
+    } catch (IOException | RuntimeException e) {
+      metrics.recordError(ConversionStage.SERIALIZE, e);
+      throw e;
+    }
+  }
+
+  /**
+   * Converts a FIX message to Avro binary in streaming mode: tag/value pairs are
+   * read from the raw bytes and written straight into the {@code FixMessage.avsc}
+   * layout, without building a quickfixj Message or a GenericRecord. Well-formed
+   * messages produce the same bytes as {@link #convertToByteArray}.
+   *
+   * @param rawMessage the raw FIX message bytes, SOH or vertical bar delimited
+   * @param schema the schema provider for the FIX dictionary
+   * @return the serialized Avro byte array
+   * @throws IOException if an I/O error occurs during conversion or serialization
+   * @throws UnsupportedOperationException if this converter uses a custom Avro schema
+   */
+  public byte[] convertToByteArrayDirect(byte[] rawMessage, SchemaProvider schema)
+      throws IOException {
+    requireDefaultLayout();
+    long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+    byte[] bytes = DirectAvroEncoder.getInstance()
+        .encode(rawMessage, 0, rawMessage.length, schema, metrics);
+    recordDirect(start, bytes.length);
+    return bytes;
+  }
+
+  /**
+   * Converts a FIX message to Avro binary in streaming mode.
+   *
+   * @param rawMessage the raw FIX message as a string
+   * @param schema the schema provider for the FIX dictionary
+   * @return the serialized Avro byte array
+   * @throws IOException if an I/O error occurs during conversion or serialization
+   * @throws UnsupportedOperationException if this converter uses a custom Avro schema
+   * @see #convertToByteArrayDirect(byte[], SchemaProvider)
+   */
+  public byte[] convertToByteArrayDirect(String rawMessage, SchemaProvider schema)
+      throws IOException {
+    requireDefaultLayout();
+    long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+    byte[] bytes = DirectAvroEncoder.getInstance().encode(rawMessage, schema, metrics);
+    recordDirect(start, bytes.length);
+    return bytes;
+  }
+
+  /**
+   * Parses and validates a FIX message with its dictionary, as {@link #convertToAvro}
+   * does, and returns its header, body and trailer fields in an int-keyed map instead
+   * of a record. Repeating group entries are not included.
+   *
+   * @param rawMessage the raw FIX message as a string
+   * @param schema the schema provider for the FIX dictionary
+   * @param target the map receiving the fields; its previous content is cleared
+   * @return the target map
+   * @throws IOException if the FIX dictionary cannot be loaded
+   * @throws RuntimeException if the message cannot be parsed
+   */
+  public FixFieldMap convertToFieldMap(String rawMessage, SchemaProvider schema,
+      FixFieldMap target) throws IOException {
+    DataDictionary dictionary = lookupDictionary(schema);
+    long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+    Message message = new Message();
+    try {
+      message.fromString(rawMessage.replace("|", "\u0001"), dictionary, true);
+    } catch (InvalidMessage e) {
+      metrics.recordError(ConversionStage.DECODE, e);
+      throw new RuntimeException("Error converting FIX message", e);
+    }
+    if (metrics.isEnabled()) {
+      metrics.recordStage(ConversionStage.DECODE, System.nanoTime() - start);
+    }
+    target.clear();
+    FixUtils.getFields(message.getHeader(), target);
+    FixUtils.getFields(message, target);
+    return FixUtils.getFields(message.getTrailer(), target);
+  }
+
+  /**
+   * Gets the typed per-MsgType Avro schemas generated from the FIX dictionary, as used
+   * by {@link #convertToTypedRecord}. They are generated once per dictionary path.
+   *
+   * @param schema the schema provider for the FIX dictionary
+   * @return the typed schemas
+   * @throws IOException if an I/O error occurs reading the dictionary file
+   */
+  public TypedSchemas getTypedSchemas(SchemaProvider schema) throws IOException {
+    return typedConverter(schema).getSchemas();
+  }
+
+  /**
+   * Converts a FIX message to a typed record of its message type, with one typed
+   * field per dictionary field instead of the {@code fields} string map. The Avro
+   * schema this converter was constructed with does not apply to typed records.
+   *
+   * @param rawMessage the raw FIX message as a string
+   * @param schema the schema provider for the FIX dictionary
+   * @return the typed record
+   * @throws IOException if an I/O error occurs reading the dictionary file
+   * @throws RuntimeException if the message cannot be converted
+   * @see TypedSchemaGenerator
+   */
+  public GenericRecord convertToTypedRecord(String rawMessage, SchemaProvider schema)
+      throws IOException {
+    DataDictionary dictionary = lookupDictionary(schema);
+    TypedRecordConverter converter = typedConverter(schema);
+    long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+    GenericRecord record;
+    try {
+      record = converter.convert(rawMessage, dictionary);
+    } catch (RuntimeException e) {
+      metrics.recordError(ConversionStage.RECORD_BUILD, e);
+      throw e;
+    }
+    if (metrics.isEnabled()) {
+      metrics.recordStage(ConversionStage.RECORD_BUILD, System.nanoTime() - start);
+      metrics.recordMessage(dictionary.getVersion(),
+          record.getSchema().getProp(TypedSchemaGenerator.MSG_TYPE_PROP));
+    }
+    return record;
+  }
+
+  /**
+   * Converts a FIX message to a typed record and serializes it to Avro binary.
+   *
+   * @param rawMessage the raw FIX message as a string
+   * @param schema the schema provider for the FIX dictionary
+   * @return the serialized Avro byte array
+   * @throws IOException if an I/O error occurs during conversion or serialization
+   * @see #convertToTypedRecord(String, SchemaProvider)
+   */
+  public byte[] convertToTypedByteArray(String rawMessage, SchemaProvider schema)
+      throws IOException {
+    return serialize(convertToTypedRecord(rawMessage, schema));
+  }
+
+  /**
+   * Converts a {@code FixMessage.avsc} record back into a FIX message, recomputing
+   * BodyLength(9) and CheckSum(10). Callers converting many records can use an
+   * {@link AvroToFixEncoder} directly to reuse its buffer.
+   *
+   * @param record a record produced by {@link #convertToAvro}
+   * @return the SOH delimited FIX message bytes
+   * @throws IllegalArgumentException if the record lacks a header field
+   * @see AvroToFixEncoder
+   */
+  public byte[] convertToFix(GenericRecord record) {
+    return FIX_ENCODER.get().toByteArray(record);
+  }
+
+  /**
+   * Converts a batch of FIX messages to Avro GenericRecords. The FIX dictionary and
+   * the Avro schema are resolved once for the whole batch; a message that fails to
+   * convert is reported in the result and does not abort the batch.
+   *
+   * @param rawMessages the raw FIX messages as strings
+   * @param schema the schema provider for the FIX dictionary
+   * @return the converted records and failures, in input order
+   * @throws IOException if the FIX dictionary cannot be loaded
+   */
+  @Override
+  public BatchResult<GenericRecord> convertBatch(List<String> rawMessages, SchemaProvider schema)
+      throws IOException {
+    return convertBatch(rawMessages, schema, Function.identity());
+  }
+
+  /**
+   * Converts a batch of raw FIX messages to Avro GenericRecords. The bytes of each
+   * message are read as ISO-8859-1.
+   *
+   * @param rawMessages the raw FIX message bytes, SOH or vertical bar delimited
+   * @param schema the schema provider for the FIX dictionary
+   * @return the converted records and failures, in input order
+   * @throws IOException if the FIX dictionary cannot be loaded
+   * @see #convertBatch(List, SchemaProvider)
+   */
+  public BatchResult<GenericRecord> convertBatch(Iterable<byte[]> rawMessages,
+      SchemaProvider schema) throws IOException {
+    return convertBatch(rawMessages, schema,
+        rawMessage -> new String(rawMessage, StandardCharsets.ISO_8859_1));
+  }
+
+  private <T> BatchResult<GenericRecord> convertBatch(Iterable<T> rawMessages,
+      SchemaProvider schema, Function<T, String> decoder) throws IOException {
+    DataDictionary dictionary = lookupDictionary(schema);
+    Schema recordSchema = recordSchema();
+    List<GenericRecord> results = new ArrayList<>();
+    List<BatchFailure> failures = new ArrayList<>();
+    for (T rawMessage : rawMessages) {
+      try {
+        results.add(AvroUtils.convertFixToAvro(decoder.apply(rawMessage), dictionary,
+            recordSchema, metrics));
+      } catch (RuntimeException e) {
+        failures.add(new BatchFailure(results.size(), e));
+        results.add(null);
+      }
+    }
+    return new BatchResult<>(results, failures);
+  }
+
+  /**
+   * Converts a batch of raw FIX messages to Avro binary, concatenating the records
+   * of all converted messages into a single buffer. The FIX dictionary and the Avro
+   * writer are resolved once for the whole batch; with the default Avro schema the
+   * messages are encoded in streaming mode, see {@link #convertToByteArrayDirect}.
+   *
+   * @param rawMessages the raw FIX message bytes, SOH or vertical bar delimited
+   * @param schema the schema provider for the FIX dictionary
+   * @return the concatenated records with their offsets, and the failures
+   * @throws IOException if the FIX dictionary cannot be loaded
+   */
+  public EncodedBatch convertBatchToByteArray(Iterable<byte[]> rawMessages,
+      SchemaProvider schema) throws IOException {
+    DataDictionary dictionary = lookupDictionary(schema);
+    boolean direct = isDefaultLayout();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+    List<BatchFailure> failures = new ArrayList<>();
+    int[] offsets = new int[16];
+    int[] lengths = new int[16];
+    int count = 0;
+
+    for (byte[] rawMessage : rawMessages) {
+      if (count == offsets.length) {
+        offsets = Arrays.copyOf(offsets, count * 2);
+        lengths = Arrays.copyOf(lengths, count * 2);
+      }
+      int offset = out.size();
+      long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+      try {
+        if (direct) {
+          DirectAvroEncoder.getInstance()
+              .encode(rawMessage, 0, rawMessage.length, dictionary, encoder, metrics);
+          encoder.flush();
+          recordDirect(start, out.size() - offset);
+        } else {
+          GenericRecord record = AvroUtils.convertFixToAvro(
+              new String(rawMessage, StandardCharsets.ISO_8859_1), dictionary, avroSchema,
+              metrics);
+          out.write(serialize(record));
+          if (metrics.isEnabled()) {
+            metrics.recordConversion(System.nanoTime() - start);
+          }
+        }
+        offsets[count] = offset;
+        lengths[count] = out.size() - offset;
+      } catch (RuntimeException e) {
+        failures.add(new BatchFailure(count, e));
+        offsets[count] = offset;
+        lengths[count] = -1;
+      }
+      count++;
+    }
+    return new EncodedBatch(out.toByteArray(), Arrays.copyOf(offsets, count),
+        Arrays.copyOf(lengths, count), failures);
+  }
+
+  private TypedRecordConverter typedConverter(SchemaProvider schema) throws IOException {
+    String key = schema.getSchemaPath();
+    TypedRecordConverter converter = typedConverters.get(key);
+    if (converter == null) {
+      converter = new TypedRecordConverter(new TypedSchemaGenerator().generate(schema));
+      TypedRecordConverter existing = typedConverters.putIfAbsent(key, converter);
+      if (existing != null) {
+        converter = existing;
+      }
+    }
+    return converter;
+  }
+
+  private GenericRecord convertRecord(String rawMessage, SchemaProvider schema) {
+    if (!metrics.isEnabled()) {
+      if (avroSchema == null) {
+        return AvroUtils.convertFixToAvro(rawMessage, schema);
+      }
+      return AvroUtils.convertFixToAvro(rawMessage, schema, avroSchema);
+    }
+    try {
+      return AvroUtils.convertFixToAvro(rawMessage, lookupDictionary(schema), recordSchema(),
+          metrics);
+    } catch (IOException e) {
+      throw new RuntimeException("Error converting FIX message to Avro", e);
+    }
+  }
+
+  private Schema recordSchema() throws IOException {
+    return avroSchema != null ? avroSchema : AvroSchemaRegistry.getInstance().getDefaultSchema();
+  }
+
+  private DataDictionary lookupDictionary(SchemaProvider schema) throws IOException {
+    if (!metrics.isEnabled()) {
+      return resolveDictionary(schema);
+    }
+    long start = System.nanoTime();
+    try {
+      DataDictionary dictionary = resolveDictionary(schema);
+      metrics.recordStage(ConversionStage.DICTIONARY_LOOKUP, System.nanoTime() - start);
+      return dictionary;
+    } catch (IOException | RuntimeException e) {
+      metrics.recordError(ConversionStage.DICTIONARY_LOOKUP, e);
+      throw e;
+    }
+  }
+
+  private byte[] serialize(GenericRecord record) throws IOException {
+    long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+    try {
+      byte[] bytes = AvroSerializer.getInstance().serialize(record, record.getSchema());
+      recordSerialized(start, bytes.length);
+      return bytes;
+    } catch (IOException | RuntimeException e) {
+      metrics.recordError(ConversionStage.SERIALIZE, e);
+      throw e;
+    }
+  }
+
+  private void recordDirect(long start, int bytes) {
+    if (metrics.isEnabled()) {
+      long elapsed = System.nanoTime() - start;
+      metrics.recordStage(ConversionStage.SERIALIZE, elapsed);
+      metrics.recordOutputBytes(bytes);
+      metrics.recordConversion(elapsed);
+    }
+  }
+
+  private void recordSerialized(long start, int bytes) {
+    if (metrics.isEnabled()) {
+      metrics.recordStage(ConversionStage.SERIALIZE, System.nanoTime() - start);
+      metrics.recordOutputBytes(bytes);
+    }
+  }
+
+  private static DataDictionary resolveDictionary(SchemaProvider schema) throws IOException {
+    try {
+      return DataDictionaryRegistry.getInstance().get(schema);
+    } catch (ConfigError e) {
+      throw new RuntimeException("Error converting FIX message to Avro", e);
+    }
+  }
+
+  private boolean isDefaultLayout() throws IOException {
+    return avroSchema == null
+        || avroSchema.equals(AvroSchemaRegistry.getInstance().getDefaultSchema());
+  }
+
+  private void requireDefaultLayout() throws IOException {
+    if (!isDefaultLayout()) {
+      throw new UnsupportedOperationException(
+        "Direct conversion only supports the default FixMessage schema");
+    }
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,274 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.ingest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads raw FIX messages from a log file, such as a QuickFIX/J message log,
+ * without loading the file into the heap.
+ *
+ * <p>The file is memory-mapped one window at a time. A message starts at
+ * {@code 8=FIX} and ends after the {@code 10=xxx} CheckSum field; fields may be
+ * delimited by SOH or by a vertical bar, as accepted by the parser. Anything
+ * between messages, such as log timestamps and line breaks, is ignored. The
+ * BodyLength field is used to jump to the trailer when it is consistent with the
+ * message; otherwise the trailer is searched for. A message interrupted by a line
+ * break or by the end of the file is skipped and counted.
+ *
+ * <p>Instances are not thread-safe.
+ */
+public final class FixLogReader implements Closeable {
+  /** Default size of the mapped window, in bytes. */
+  public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+  private static final int MIN_WINDOW_SIZE = 64;
+  private static final byte SOH = 0x01;
+  private static final byte PIPE = '|';
+  private static final byte[] MESSAGE_START = {'8', '=', 'F', 'I', 'X'};
+  private static final int CHECKSUM_FIELD_LENGTH = 7;
+  private static final int INCOMPLETE = -1;
+  private static final int MALFORMED = -2;
+
+  private final FileChannel channel;
+  private final int windowSize;
+  private byte[] scratch = new byte[1024];
+  private int malformedAt;
+  private long messageCount;
+  private long skippedCount;
+
+  /**
+   * Opens a FIX log with the default window size.
+   *
+   * @param file the log file
+   * @throws IOException if the file cannot be opened
+   */
+  public FixLogReader(Path file) throws IOException {
+    this(file, DEFAULT_WINDOW_SIZE);
+  }
+
+  /**
+   * Opens a FIX log.
+   *
+   * @param file the log file
+   * @param windowSize the number of bytes mapped at once; bounds the message size
+   * @throws IOException if the file cannot be opened
+   * @throws IllegalArgumentException if the window size is smaller than 64 bytes
+   */
+  public FixLogReader(Path file, int windowSize) throws IOException {
+    if (windowSize < MIN_WINDOW_SIZE) {
+      throw new IllegalArgumentException("Invalid windowSize value: " + windowSize);
+    }
+    this.windowSize = windowSize;
+    this.channel = FileChannel.open(file, StandardOpenOption.READ);
+  }
+
+  /**
+   * Reads the whole file, passing every message to the handler in file order.
+   *
+   * @param handler the callback receiving the messages
+   * @return the number of messages passed to the handler
+   * @throws IOException if the file cannot be read, a message does not fit in the
+   *     window, or the handler fails
+   */
+  public long read(FixMessageHandler handler) throws IOException {
+    long size = channel.size();
+    long position = 0;
+    long count = 0;
+
+    while (position < size) {
+      int limit = (int) Math.min(windowSize, size - position);
+      boolean last = position + limit == size;
+      MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, limit);
+      int cursor = 0;
+
+      while (true) {
+        int start = findStart(window, cursor, limit);
+        if (start < 0) {
+          cursor = last ? limit : Math.max(cursor, limit - MESSAGE_START.length + 1);
+          break;
+        }
+        int end = findEnd(window, start, limit);
+        if (end == MALFORMED) {
+          skippedCount++;
+          cursor = malformedAt + 1;
+          continue;
+        }
+        if (end == INCOMPLETE) {
+          if (last) {
+            skippedCount++;
+            cursor = limit;
+          } else if (start == 0) {
+            throw new IOException(String.format(
+                "FIX message at position %d does not fit in a %d byte window",
+                position, windowSize));
+          } else {
+            cursor = start;
+          }
+          break;
+        }
+
+        int length = end - start;
+        if (length > scratch.length) {
+          scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        window.get(start, scratch, 0, length);
+        handler.onMessage(scratch, 0, length);
+        count++;
+        cursor = end;
+      }
+      position += cursor;
+    }
+    messageCount += count;
+    return count;
+  }
+
+  /**
+   * Gets the number of messages passed to handlers so far.
+   *
+   * @return the message count
+   */
+  public long getMessageCount() {
+    return messageCount;
+  }
+
+  /**
+   * Gets the number of truncated or malformed messages skipped so far.
+   *
+   * @return the skipped message count
+   */
+  public long getSkippedCount() {
+    return skippedCount;
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private static int findStart(MappedByteBuffer window, int from, int limit) {
+    for (int i = from; i <= limit - MESSAGE_START.length; i++) {
+      if (window.get(i) == MESSAGE_START[0] && (i == 0 || !isDigit(window.get(i - 1)))
+          && matches(window, i, MESSAGE_START)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private int findEnd(MappedByteBuffer window, int start, int limit) {
+    int i = start + MESSAGE_START.length;
+    byte delimiter = 0;
+    for (; i < limit; i++) {
+      byte b = window.get(i);
+      if (b == SOH || b == PIPE) {
+        delimiter = b;
+        break;
+      }
+      if (b == '\n') {
+        malformedAt = i;
+        return MALFORMED;
+      }
+    }
+    if (i == limit) {
+      return INCOMPLETE;
+    }
+
+    int trailer = trailerFromBodyLength(window, i + 1, limit, delimiter);
+    if (trailer >= 0 && isCheckSumField(window, trailer, limit, delimiter)) {
+      return trailer + CHECKSUM_FIELD_LENGTH;
+    }
+
+    for (; i < limit; i++) {
+      byte b = window.get(i);
+      if (b == '\n') {
+        malformedAt = i;
+        return MALFORMED;
+      }
+      if (b != delimiter) {
+        continue;
+      }
+      if (i + 4 > limit) {
+        return INCOMPLETE;
+      }
+      if (window.get(i + 1) != '1' || window.get(i + 2) != '0' || window.get(i + 3) != '=') {
+        continue;
+      }
+      int j = i + 4;
+      while (j < limit && isDigit(window.get(j))) {
+        j++;
+      }
+      if (j == limit) {
+        return INCOMPLETE;
+      }
+      if (j > i + 4 && window.get(j) == delimiter) {
+        return j + 1;
+      }
+    }
+    return INCOMPLETE;
+  }
+
+  /**
+   * Gets the offset of the trailer announced by the BodyLength field starting at
+   * the given offset, or -1 if the field is absent or invalid.
+   */
+  private static int trailerFromBodyLength(MappedByteBuffer window, int field, int limit,
+      byte delimiter) {
+    if (field + 2 > limit || window.get(field) != '9' || window.get(field + 1) != '=') {
+      return -1;
+    }
+    long bodyLength = 0;
+    int j = field + 2;
+    while (j < limit && isDigit(window.get(j)) && bodyLength <= Integer.MAX_VALUE) {
+      bodyLength = bodyLength * 10 + (window.get(j) - '0');
+      j++;
+    }
+    if (j == field + 2 || j >= limit || window.get(j) != delimiter) {
+      return -1;
+    }
+    long trailer = j + 1 + bodyLength;
+    return trailer + CHECKSUM_FIELD_LENGTH <= limit ? (int) trailer : -1;
+  }
+
+  private static boolean isCheckSumField(MappedByteBuffer window, int offset, int limit,
+      byte delimiter) {
+    return offset + CHECKSUM_FIELD_LENGTH <= limit
+        && window.get(offset) == '1' && window.get(offset + 1) == '0'
+        && window.get(offset + 2) == '=' && isDigit(window.get(offset + 3))
+        && isDigit(window.get(offset + 4)) && isDigit(window.get(offset + 5))
+        && window.get(offset + 6) == delimiter
+        && window.get(offset - 1) == delimiter;
+  }
+
+  private static boolean matches(MappedByteBuffer window, int offset, byte[] expected) {
+    for (int k = 0; k < expected.length; k++) {
+      if (window.get(offset + k) != expected[k]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isDigit(byte b) {
+    return b >= '0' && b <= '9';
+  }
+}
@@ -0,0 +1,36 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.ingest;
+
+import java.io.IOException;
+
+/**
+ * Callback receiving the raw FIX messages found by a {@link FixLogReader}.
+ */
+@FunctionalInterface
+public interface FixMessageHandler {
+  /**
+   * Handles one raw FIX message. The buffer is reused for the next message, so
+   * its content must be copied if it is needed after this call returns.
+   *
+   * @param buffer the buffer holding the message bytes
+   * @param offset the index of the first byte of the message
+   * @param length the number of bytes in the message
+   * @throws IOException if the message cannot be handled
+   */
+  void onMessage(byte[] buffer, int offset, int length) throws IOException;
+}
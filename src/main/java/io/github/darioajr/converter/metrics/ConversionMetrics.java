@@ -0,0 +1,99 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.metrics;
+
+/**
+ * Hook receiving timings and counts from the conversion hot path.
+ *
+ * <p>Implementations must be thread-safe and cheap, since they are called for every
+ * message; they are the place to bridge to a metrics library such as Micrometer or
+ * to JMX. Instrumented classes check {@link #isEnabled()} once and skip reading the
+ * clock entirely when it returns false, so the {@link #noop()} default costs nothing.
+ */
+public interface ConversionMetrics {
+
+  /**
+   * Gets the metrics hook that records nothing.
+   *
+   * @return the no-op hook
+   */
+  static ConversionMetrics noop() {
+    return NoopConversionMetrics.INSTANCE;
+  }
+
+  /**
+   * Checks whether this hook records anything.
+   *
+   * @return false if instrumented code may skip timing altogether
+   */
+  default boolean isEnabled() {
+    return true;
+  }
+
+  /**
+   * Records the time spent in one stage for one message, or for one batch when the
+   * stage runs once per batch.
+   *
+   * @param stage the stage
+   * @param nanos the elapsed time in nanoseconds
+   */
+  void recordStage(ConversionStage stage, long nanos);
+
+  /**
+   * Records the end-to-end latency of one successful conversion, from the raw message
+   * to the record or to the serialized bytes.
+   *
+   * @param nanos the elapsed time in nanoseconds
+   */
+  default void recordConversion(long nanos) {
+    // Ignored unless overridden
+  }
+
+  /**
+   * Records a converted message.
+   *
+   * @param beginString the BeginString (8) of the message, such as {@code FIX.4.4}
+   * @param msgType the MsgType (35) of the message
+   */
+  void recordMessage(String beginString, String msgType);
+
+  /**
+   * Records the size of a serialized message.
+   *
+   * @param bytes the number of Avro bytes written
+   */
+  void recordOutputBytes(int bytes);
+
+  /**
+   * Records a failure.
+   *
+   * @param stage the stage that failed
+   * @param cause a short, low-cardinality label of the cause, such as an exception
+   *     class name or a {@link io.github.darioajr.converter.validation.ValidationError}
+   */
+  void recordError(ConversionStage stage, String cause);
+
+  /**
+   * Records a failure, labelled with the simple class name of the exception.
+   *
+   * @param stage the stage that failed
+   * @param cause the exception raised by the stage
+   */
+  default void recordError(ConversionStage stage, Throwable cause) {
+    recordError(stage, cause.getClass().getSimpleName());
+  }
+}
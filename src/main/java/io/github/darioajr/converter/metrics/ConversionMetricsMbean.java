@@ -0,0 +1,106 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.metrics;
+
+import java.util.Map;
+import javax.management.MXBean;
+
+/**
+ * JMX view of a {@link SimpleConversionMetrics}, exposed as an MXBean so the maps are
+ * readable from any JMX console. Per-stage maps are keyed by {@link ConversionStage}
+ * name; latencies are in microseconds.
+ *
+ * @see SimpleConversionMetrics#registerMbean(String)
+ */
+@MXBean
+public interface ConversionMetricsMbean {
+
+  /**
+   * Gets the number of times each stage ran.
+   *
+   * @return the counts keyed by stage
+   */
+  Map<String, Long> getStageCounts();
+
+  /**
+   * Gets the average time spent in each stage.
+   *
+   * @return the averages in microseconds keyed by stage
+   */
+  Map<String, Double> getStageMeanMicros();
+
+  /**
+   * Gets the median time spent in each stage.
+   *
+   * @return the medians in microseconds keyed by stage
+   */
+  Map<String, Double> getStageP50Micros();
+
+  /**
+   * Gets the 99th percentile of the time spent in each stage.
+   *
+   * @return the percentiles in microseconds keyed by stage
+   */
+  Map<String, Double> getStageP99Micros();
+
+  /**
+   * Gets the 99.9th percentile of the time spent in each stage.
+   *
+   * @return the percentiles in microseconds keyed by stage
+   */
+  Map<String, Double> getStageP999Micros();
+
+  /**
+   * Gets the longest time recorded for each stage.
+   *
+   * @return the maxima in microseconds keyed by stage
+   */
+  Map<String, Double> getStageMaxMicros();
+
+  /**
+   * Gets the number of converted messages per FIX version and message type.
+   *
+   * @return the counts keyed by {@code BeginString/MsgType}
+   */
+  Map<String, Long> getMessageCounts();
+
+  /**
+   * Gets the number of failures per stage and cause.
+   *
+   * @return the counts keyed by {@code STAGE/cause}
+   */
+  Map<String, Long> getErrorCounts();
+
+  /**
+   * Gets the number of serialized messages.
+   *
+   * @return the output count
+   */
+  long getOutputCount();
+
+  /**
+   * Gets the total number of Avro bytes written.
+   *
+   * @return the output size in bytes
+   */
+  long getOutputBytes();
+
+  /**
+   * Resets every counter and histogram.
+   */
+  void reset();
+}
@@ -0,0 +1,35 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.metrics;
+
+/**
+ * Stages of the conversion hot path timed by {@link ConversionMetrics}.
+ */
+public enum ConversionStage {
+  /** Splitting the raw message into tag/value pairs with the FIX message parser. */
+  PARSE,
+  /** Checking parsed fields against the version and validation criteria. */
+  VALIDATE,
+  /** Resolving the FIX dictionary of a schema provider. */
+  DICTIONARY_LOOKUP,
+  /** Parsing and validating the message with quickfixj and its dictionary. */
+  DECODE,
+  /** Copying the decoded fields into an Avro record. */
+  RECORD_BUILD,
+  /** Writing Avro binary, including streaming encodes that skip the record. */
+  SERIALIZE
+}
@@ -0,0 +1,178 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable snapshot of a latency distribution, as produced by {@link LatencyRecorder}.
+ *
+ * <p>Values are counted in log-linear buckets, in the layout used by HdrHistogram:
+ * each power of two is split into {@value #SUB_BUCKET_HALF_COUNT} linear sub-buckets,
+ * so every reported value is within 1% of the recorded one while the whole range up to
+ * {@link #HIGHEST_TRACKABLE_NANOS} fits in a few thousand counters. Larger values are
+ * counted as the highest trackable one.
+ */
+public final class LatencyHistogram {
+  /** The highest latency told apart from larger ones: one hour, in nanoseconds. */
+  public static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.HOURS.toNanos(1);
+
+  static final int SUB_BUCKET_HALF_COUNT_MAGNITUDE = 7;
+  static final int SUB_BUCKET_HALF_COUNT = 1 << SUB_BUCKET_HALF_COUNT_MAGNITUDE;
+  static final int COUNTS_LENGTH = countsIndex(HIGHEST_TRACKABLE_NANOS) + 1;
+
+  private static final long SUB_BUCKET_MASK = (SUB_BUCKET_HALF_COUNT << 1) - 1;
+  private static final int LEADING_ZERO_COUNT_BASE = 64 - SUB_BUCKET_HALF_COUNT_MAGNITUDE - 1;
+
+  private final long[] counts;
+  private final long totalCount;
+  private final long totalNanos;
+
+  LatencyHistogram(long[] counts, long totalNanos) {
+    this.counts = counts;
+    this.totalNanos = totalNanos;
+    long total = 0;
+    for (long count : counts) {
+      total += count;
+    }
+    this.totalCount = total;
+  }
+
+  /**
+   * Gets the counter index of a latency, clamped to the trackable range.
+   *
+   * @param nanos the latency in nanoseconds
+   * @return the counter index
+   */
+  static int countsIndex(long nanos) {
+    long value = Math.max(0L, Math.min(nanos, HIGHEST_TRACKABLE_NANOS));
+    int bucketIndex = LEADING_ZERO_COUNT_BASE - Long.numberOfLeadingZeros(value | SUB_BUCKET_MASK);
+    int subBucketIndex = (int) (value >>> bucketIndex);
+    return ((bucketIndex + 1) << SUB_BUCKET_HALF_COUNT_MAGNITUDE)
+        + (subBucketIndex - SUB_BUCKET_HALF_COUNT);
+  }
+
+  private static long lowestValue(int index) {
+    int bucketIndex = (index >> SUB_BUCKET_HALF_COUNT_MAGNITUDE) - 1;
+    int subBucketIndex = (index & (SUB_BUCKET_HALF_COUNT - 1)) + SUB_BUCKET_HALF_COUNT;
+    if (bucketIndex < 0) {
+      subBucketIndex -= SUB_BUCKET_HALF_COUNT;
+      bucketIndex = 0;
+    }
+    return (long) subBucketIndex << bucketIndex;
+  }
+
+  private static long highestValue(int index) {
+    int bucketIndex = Math.max(0, (index >> SUB_BUCKET_HALF_COUNT_MAGNITUDE) - 1);
+    return lowestValue(index) + (1L << bucketIndex) - 1;
+  }
+
+  /**
+   * Gets the number of recorded latencies.
+   *
+   * @return the count
+   */
+  public long getTotalCount() {
+    return totalCount;
+  }
+
+  /**
+   * Gets the exact average of the recorded latencies.
+   *
+   * @return the mean in nanoseconds, or 0 if nothing was recorded
+   */
+  public double getMean() {
+    return totalCount == 0 ? 0.0 : (double) totalNanos / totalCount;
+  }
+
+  /**
+   * Gets the lowest recorded latency, to bucket precision.
+   *
+   * @return the minimum in nanoseconds, or 0 if nothing was recorded
+   */
+  public long getMin() {
+    for (int i = 0; i < counts.length; i++) {
+      if (counts[i] != 0) {
+        return lowestValue(i);
+      }
+    }
+    return 0L;
+  }
+
+  /**
+   * Gets the highest recorded latency, to bucket precision.
+   *
+   * @return the maximum in nanoseconds, or 0 if nothing was recorded
+   */
+  public long getMax() {
+    for (int i = counts.length - 1; i >= 0; i--) {
+      if (counts[i] != 0) {
+        return highestValue(i);
+      }
+    }
+    return 0L;
+  }
+
+  /**
+   * Gets the latency below or at which a percentage of the recorded latencies fall.
+   *
+   * @param percentile the percentile, between 0 and 100, such as 99.9
+   * @return the latency in nanoseconds, to bucket precision, or 0 if nothing was recorded
+   * @throws IllegalArgumentException if the percentile is out of range
+   */
+  public long getValueAtPercentile(double percentile) {
+    if (!(percentile >= 0.0 && percentile <= 100.0)) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+    }
+    if (totalCount == 0) {
+      return 0L;
+    }
+    long target = Math.max(1L, (long) Math.ceil(percentile / 100.0 * totalCount));
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= target) {
+        return highestValue(i);
+      }
+    }
+    return getMax();
+  }
+
+  /**
+   * Gets the latencies recorded after an earlier snapshot of the same recorder.
+   *
+   * @param earlier a snapshot taken before this one
+   * @return the distribution of the latencies recorded in between
+   */
+  public LatencyHistogram minus(LatencyHistogram earlier) {
+    long[] delta = Arrays.copyOf(counts, counts.length);
+    for (int i = 0; i < delta.length; i++) {
+      delta[i] -= earlier.counts[i];
+    }
+    return new LatencyHistogram(delta, totalNanos - earlier.totalNanos);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+      "LatencyHistogram[count=%d, meanUs=%.3f, p50Us=%.3f, p99Us=%.3f, p999Us=%.3f, maxUs=%.3f]",
+      totalCount, getMean() / 1_000.0, getValueAtPercentile(50.0) / 1_000.0,
+      getValueAtPercentile(99.0) / 1_000.0, getValueAtPercentile(99.9) / 1_000.0,
+      getMax() / 1_000.0);
+  }
+}
@@ -0,0 +1,155 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.metrics;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically appends the latency percentiles of the last interval of a
+ * {@link LatencyRecorder} to a CSV log file, so spikes caused by garbage collection
+ * or dictionary reloads stand out instead of being averaged away.
+ *
+ * <p>Each line holds the end of the interval, its length, the number of conversions
+ * and the mean, p50, p90, p99, p99.9 and max latencies in microseconds. Intervals
+ * are written by a daemon thread; {@link #close()} writes the last partial interval.
+ */
+public final class LatencyIntervalLog implements Closeable {
+  /** The first line of a new log file. */
+  public static final String HEADER =
+      "#timestamp,intervalMs,count,meanUs,p50Us,p90Us,p99Us,p999Us,maxUs";
+
+  private final LatencyRecorder recorder;
+  private final Writer writer;
+  private final ScheduledExecutorService scheduler;
+  private LatencyHistogram previous;
+  private long previousNanos;
+  private volatile IOException error;
+  private boolean closed;
+
+  /**
+   * Opens a log file, appending to it if it exists, and starts writing an interval
+   * every period.
+   *
+   * @param recorder the recorder to report
+   * @param file the log file
+   * @param period the length of an interval
+   * @throws IOException if the file cannot be opened
+   * @throws IllegalArgumentException if the period is not positive
+   */
+  public LatencyIntervalLog(LatencyRecorder recorder, Path file, Duration period)
+      throws IOException {
+    this.recorder = Objects.requireNonNull(recorder, "recorder");
+    if (period.isZero() || period.isNegative()) {
+      throw new IllegalArgumentException("Invalid period value: " + period);
+    }
+    boolean empty = !Files.exists(file) || Files.size(file) == 0;
+    this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    if (empty) {
+      writer.write(HEADER);
+      writer.write('\n');
+      writer.flush();
+    }
+    this.previous = recorder.snapshot();
+    this.previousNanos = System.nanoTime();
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "fix-latency-log");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long periodNanos = period.toNanos();
+    scheduler.scheduleAtFixedRate(this::writeScheduled, periodNanos, periodNanos,
+        TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Writes the latencies recorded since the previous interval now, and starts a new
+   * interval.
+   *
+   * @return the distribution of the interval that was written
+   * @throws IOException if the line cannot be written or the log is closed
+   */
+  public synchronized LatencyHistogram writeInterval() throws IOException {
+    if (closed) {
+      throw new IOException("Latency log is closed");
+    }
+    LatencyHistogram snapshot = recorder.snapshot();
+    long now = System.nanoTime();
+    LatencyHistogram interval = snapshot.minus(previous);
+    writer.write(String.format(Locale.ROOT, "%s,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f",
+        Instant.now(), TimeUnit.NANOSECONDS.toMillis(now - previousNanos),
+        interval.getTotalCount(), interval.getMean() / 1_000.0,
+        micros(interval.getValueAtPercentile(50.0)), micros(interval.getValueAtPercentile(90.0)),
+        micros(interval.getValueAtPercentile(99.0)), micros(interval.getValueAtPercentile(99.9)),
+        micros(interval.getMax())));
+    writer.write('\n');
+    writer.flush();
+    previous = snapshot;
+    previousNanos = now;
+    return interval;
+  }
+
+  /**
+   * Stops the periodic writes, writes the last interval and closes the file.
+   *
+   * @throws IOException if a periodic write or the last one failed
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    scheduler.shutdownNow();
+    try {
+      writeInterval();
+    } finally {
+      closed = true;
+      writer.close();
+    }
+    if (error != null) {
+      throw error;
+    }
+  }
+
+  private void writeScheduled() {
+    try {
+      writeInterval();
+    } catch (IOException e) {
+      if (error == null) {
+        error = e;
+      }
+      scheduler.shutdown();
+    }
+  }
+
+  private static double micros(long nanos) {
+    return nanos / 1_000.0;
+  }
+}
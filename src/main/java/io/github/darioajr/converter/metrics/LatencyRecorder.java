@@ -0,0 +1,94 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.metrics;
+
+import java.util.Objects;
+
+/**
+ * {@link ConversionMetrics} keeping a latency histogram of whole conversions, for
+ * percentile reporting.
+ *
+ * <p>Latencies are recorded into a fixed set of striped histograms, about two per
+ * core, so recording is a couple of atomic increments that rarely contend and the
+ * memory held does not grow with the number of threads. {@link #snapshot()} merges
+ * the stripes on demand. Every other callback is forwarded to a delegate, so the
+ * recorder can wrap another hook such as {@link SimpleConversionMetrics}.
+ *
+ * @see LatencyIntervalLog
+ */
+public final class LatencyRecorder implements ConversionMetrics {
+  private final ConversionMetrics delegate;
+  private final StripedHistogram histogram = new StripedHistogram();
+
+  /**
+   * Constructs a recorder that only records conversion latencies.
+   */
+  public LatencyRecorder() {
+    this(ConversionMetrics.noop());
+  }
+
+  /**
+   * Constructs a recorder forwarding every other callback to a delegate.
+   *
+   * @param delegate the hook receiving stage timings, counts and errors
+   */
+  public LatencyRecorder(ConversionMetrics delegate) {
+    this.delegate = Objects.requireNonNull(delegate, "delegate");
+  }
+
+  @Override
+  public void recordConversion(long nanos) {
+    histogram.record(nanos);
+    delegate.recordConversion(nanos);
+  }
+
+  @Override
+  public void recordStage(ConversionStage stage, long nanos) {
+    delegate.recordStage(stage, nanos);
+  }
+
+  @Override
+  public void recordMessage(String beginString, String msgType) {
+    delegate.recordMessage(beginString, msgType);
+  }
+
+  @Override
+  public void recordOutputBytes(int bytes) {
+    delegate.recordOutputBytes(bytes);
+  }
+
+  @Override
+  public void recordError(ConversionStage stage, String cause) {
+    delegate.recordError(stage, cause);
+  }
+
+  @Override
+  public void recordError(ConversionStage stage, Throwable cause) {
+    delegate.recordError(stage, cause);
+  }
+
+  /**
+   * Merges the histograms of all stripes into a snapshot of every latency recorded so
+   * far. Latencies recorded while the snapshot is taken may or may not be included.
+   *
+   * @return the merged histogram
+   * @see LatencyHistogram#minus(LatencyHistogram)
+   */
+  public LatencyHistogram snapshot() {
+    return histogram.snapshot();
+  }
+}
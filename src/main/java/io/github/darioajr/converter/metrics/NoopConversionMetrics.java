@@ -0,0 +1,63 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.metrics;
+
+/**
+ * Metrics hook that records nothing.
+ */
+final class NoopConversionMetrics implements ConversionMetrics {
+  static final NoopConversionMetrics INSTANCE = new NoopConversionMetrics();
+
+  private NoopConversionMetrics() {
+    // Singleton
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return false;
+  }
+
+  @Override
+  public void recordStage(ConversionStage stage, long nanos) {
+    // Disabled
+  }
+
+  @Override
+  public void recordMessage(String beginString, String msgType) {
+    // Disabled
+  }
+
+  @Override
+  public void recordOutputBytes(int bytes) {
+    // Disabled
+  }
+
+  @Override
+  public void recordError(ConversionStage stage, String cause) {
+    // Disabled
+  }
+
+  @Override
+  public void recordError(ConversionStage stage, Throwable cause) {
+    // Disabled
+  }
+
+  @Override
+  public String toString() {
+    return "ConversionMetrics.noop()";
+  }
+}
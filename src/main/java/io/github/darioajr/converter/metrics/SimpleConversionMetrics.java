@@ -0,0 +1,278 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * In-memory {@link ConversionMetrics} keeping counters per stage, per message type
+ * and per error cause, and a latency histogram per stage. Counters are
+ * {@link LongAdder}s and histograms are striped, so recording from many threads does
+ * not contend. The metrics can be published over JMX with {@link #registerMbean(String)}.
+ */
+public final class SimpleConversionMetrics
+    implements ConversionMetrics, ConversionMetricsMbean {
+  private static final String MBEAN_DOMAIN = "io.github.darioajr.converter";
+
+
+  private final Map<ConversionStage, StageCounters> stages = new EnumMap<>(ConversionStage.class);
+  private final ConcurrentMap<String, LongAdder> messages = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+  private final LongAdder outputCount = new LongAdder();
+  private final LongAdder outputBytes = new LongAdder();
+
+  /**
+   * Constructs a new SimpleConversionMetrics with all counters at zero.
+   */
+  public SimpleConversionMetrics() {
+    for (ConversionStage stage : ConversionStage.values()) {
+      stages.put(stage, new StageCounters());
+    }
+  }
+
+  @Override
+  public void recordStage(ConversionStage stage, long nanos) {
+    StageCounters counters = stages.get(stage);
+    counters.count.increment();
+    counters.totalNanos.add(nanos);
+    counters.maxNanos.accumulate(nanos);
+    counters.histogram.record(nanos);
+  }
+
+  @Override
+  public void recordMessage(String beginString, String msgType) {
+    messages.computeIfAbsent(beginString + "/" + msgType, key -> new LongAdder()).increment();
+  }
+
+  @Override
+  public void recordOutputBytes(int bytes) {
+    outputCount.increment();
+    outputBytes.add(bytes);
+  }
+
+  @Override
+  public void recordError(ConversionStage stage, String cause) {
+    errors.computeIfAbsent(stage + "/" + cause, key -> new LongAdder()).increment();
+  }
+
+  /**
+   * Gets the number of times a stage ran.
+   *
+   * @param stage the stage
+   * @return the number of recorded timings
+   */
+  public long getStageCount(ConversionStage stage) {
+    return stages.get(stage).count.sum();
+  }
+
+  /**
+   * Gets the accumulated time spent in a stage.
+   *
+   * @param stage the stage
+   * @return the total time in nanoseconds
+   */
+  public long getStageTotalNanos(ConversionStage stage) {
+    return stages.get(stage).totalNanos.sum();
+  }
+
+  /**
+   * Gets the longest time recorded for a stage.
+   *
+   * @param stage the stage
+   * @return the maximum time in nanoseconds, or 0 if the stage never ran
+   */
+  public long getStageMaxNanos(ConversionStage stage) {
+    return stages.get(stage).maxNanos.get();
+  }
+
+  /**
+   * Gets the average time spent in a stage.
+   *
+   * @param stage the stage
+   * @return the average time in nanoseconds, or 0 if the stage never ran
+   */
+  public double getStageAverageNanos(ConversionStage stage) {
+    long count = getStageCount(stage);
+    return count == 0 ? 0.0 : (double) getStageTotalNanos(stage) / count;
+  }
+
+  /**
+   * Gets the latency distribution of a stage, for percentile reporting.
+   *
+   * @param stage the stage
+   * @return a snapshot of the stage's histogram
+   */
+  public LatencyHistogram getStageHistogram(ConversionStage stage) {
+    return stages.get(stage).histogram.snapshot();
+  }
+
+  @Override
+  public Map<String, Long> getStageCounts() {
+    Map<String, Long> result = new LinkedHashMap<>();
+    for (ConversionStage stage : ConversionStage.values()) {
+      result.put(stage.name(), getStageCount(stage));
+    }
+    return result;
+  }
+
+  @Override
+  public Map<String, Double> getStageMeanMicros() {
+    return stageMicros(LatencyHistogram::getMean);
+  }
+
+  @Override
+  public Map<String, Double> getStageP50Micros() {
+    return stageMicros(histogram -> histogram.getValueAtPercentile(50.0));
+  }
+
+  @Override
+  public Map<String, Double> getStageP99Micros() {
+    return stageMicros(histogram -> histogram.getValueAtPercentile(99.0));
+  }
+
+  @Override
+  public Map<String, Double> getStageP999Micros() {
+    return stageMicros(histogram -> histogram.getValueAtPercentile(99.9));
+  }
+
+  @Override
+  public Map<String, Double> getStageMaxMicros() {
+    Map<String, Double> result = new LinkedHashMap<>();
+    for (ConversionStage stage : ConversionStage.values()) {
+      result.put(stage.name(), getStageMaxNanos(stage) / 1_000.0);
+    }
+    return result;
+  }
+
+  /**
+   * Gets the number of converted messages per FIX version and message type.
+   *
+   * @return the counts keyed by {@code BeginString/MsgType}, such as {@code FIX.4.4/D}
+   */
+  @Override
+  public Map<String, Long> getMessageCounts() {
+    return snapshot(messages);
+  }
+
+  /**
+   * Gets the number of failures per stage and cause.
+   *
+   * @return the counts keyed by {@code STAGE/cause}, such as
+   *     {@code DECODE/InvalidMessage}
+   */
+  @Override
+  public Map<String, Long> getErrorCounts() {
+    return snapshot(errors);
+  }
+
+  /**
+   * Gets the number of serialized messages.
+   *
+   * @return the output count
+   */
+  @Override
+  public long getOutputCount() {
+    return outputCount.sum();
+  }
+
+  /**
+   * Gets the total number of Avro bytes written.
+   *
+   * @return the output size in bytes
+   */
+  @Override
+  public long getOutputBytes() {
+    return outputBytes.sum();
+  }
+
+  /**
+   * Resets every counter to zero and empties the stage histograms.
+   */
+  @Override
+  public void reset() {
+    for (StageCounters counters : stages.values()) {
+      counters.count.reset();
+      counters.totalNanos.reset();
+      counters.maxNanos.reset();
+      counters.histogram.reset();
+    }
+    messages.clear();
+    errors.clear();
+    outputCount.reset();
+    outputBytes.reset();
+  }
+
+  /**
+   * Registers these metrics with the platform MBean server, under
+   * {@code io.github.darioajr.converter:type=ConversionMetrics,name=<name>}.
+   *
+   * @param name the value of the {@code name} key, distinguishing several converters
+   * @return the name the MBean was registered under, for unregistering it
+   * @throws JMException if the name is malformed or already registered
+   */
+  public ObjectName registerMbean(String name) throws JMException {
+    ObjectName objectName = new ObjectName(MBEAN_DOMAIN + ":type=ConversionMetrics,name="
+        + ObjectName.quote(name));
+    return ManagementFactory.getPlatformMBeanServer()
+        .registerMBean(this, objectName).getObjectName();
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder("SimpleConversionMetrics[");
+    for (ConversionStage stage : ConversionStage.values()) {
+      builder.append(String.format("%s(count=%d, avgUs=%.3f), ", stage, getStageCount(stage),
+          getStageAverageNanos(stage) / 1_000.0));
+    }
+    return builder.append("messages=").append(getMessageCounts())
+        .append(", errors=").append(getErrorCounts())
+        .append(", outputBytes=").append(getOutputBytes())
+        .append(']').toString();
+  }
+
+  private Map<String, Double> stageMicros(ToDoubleFunction<LatencyHistogram> statistic) {
+    Map<String, Double> result = new LinkedHashMap<>();
+    for (ConversionStage stage : ConversionStage.values()) {
+      result.put(stage.name(), statistic.applyAsDouble(getStageHistogram(stage)) / 1_000.0);
+    }
+    return result;
+  }
+
+  private static Map<String, Long> snapshot(ConcurrentMap<String, LongAdder> counters) {
+    Map<String, Long> result = new TreeMap<>();
+    counters.forEach((key, adder) -> result.put(key, adder.sum()));
+    return result;
+  }
+
+  private static final class StageCounters {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+    private final StripedHistogram histogram = new StripedHistogram();
+  }
+}
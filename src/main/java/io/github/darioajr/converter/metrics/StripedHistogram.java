@@ -0,0 +1,100 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Latency histogram written by many threads, read as a {@link LatencyHistogram}.
+ *
+ * <p>Latencies are recorded into a fixed set of stripes, about two per core, with the
+ * stripe picked from the recording thread's identity. Recording is a couple of atomic
+ * increments that rarely contend, and the memory held does not grow with the number
+ * of threads, so short-lived or virtual threads cost nothing extra. A stripe is
+ * allocated the first time a thread maps to it.
+ */
+final class StripedHistogram {
+  private static final int STRIPES =
+      Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1);
+
+  private final AtomicReferenceArray<Stripe> stripes = new AtomicReferenceArray<>(STRIPES);
+
+  /**
+   * Records one latency.
+   *
+   * @param nanos the latency in nanoseconds
+   */
+  void record(long nanos) {
+    stripe().record(nanos);
+  }
+
+  /**
+   * Merges the stripes into a snapshot of every latency recorded so far. Latencies
+   * recorded while the snapshot is taken may or may not be included.
+   *
+   * @return the merged histogram
+   */
+  LatencyHistogram snapshot() {
+    long[] counts = new long[LatencyHistogram.COUNTS_LENGTH];
+    long totalNanos = 0;
+    for (int s = 0; s < STRIPES; s++) {
+      Stripe stripe = stripes.get(s);
+      if (stripe != null) {
+        for (int i = 0; i < counts.length; i++) {
+          counts[i] += stripe.counts.get(i);
+        }
+        totalNanos += stripe.totalNanos.get();
+      }
+    }
+    return new LatencyHistogram(counts, totalNanos);
+  }
+
+  /**
+   * Drops every recorded latency. Latencies recorded concurrently may survive.
+   */
+  void reset() {
+    for (int s = 0; s < STRIPES; s++) {
+      stripes.set(s, null);
+    }
+  }
+
+  private Stripe stripe() {
+    int hash = System.identityHashCode(Thread.currentThread());
+    int index = (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    Stripe stripe = stripes.get(index);
+    if (stripe == null) {
+      stripes.compareAndSet(index, null, new Stripe());
+      stripe = stripes.get(index);
+    }
+    return stripe;
+  }
+
+  /**
+   * Histogram shared by the threads mapped to one stripe.
+   */
+  private static final class Stripe {
+    private final AtomicLongArray counts = new AtomicLongArray(LatencyHistogram.COUNTS_LENGTH);
+    private final AtomicLong totalNanos = new AtomicLong();
+
+    private void record(long nanos) {
+      counts.getAndIncrement(LatencyHistogram.countsIndex(nanos));
+      totalNanos.getAndAdd(Math.max(0L, nanos));
+    }
+  }
+}
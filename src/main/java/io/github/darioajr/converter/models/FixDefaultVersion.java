@@ -45,6 +45,7 @@ public enum FixDefaultVersion implements SchemaProvider {
 
   private final String version;
   private final String schemaPath;
+  private volatile String resolvedPath;
   
   /**
    * Constructs a FixDefaultVersion with the specified version and schema path.
@@ -68,13 +69,19 @@ public enum FixDefaultVersion implements SchemaProvider {
   }
 
   /**
-   * Gets the path to the schema file.
+   * Gets the path to the schema file. The classpath resource is resolved once,
+   * since the path is the dictionary cache key on every conversion.
    *
    * @return the path to the schema file
    */
   @Override
   public String getSchemaPath() {
-    return Objects.requireNonNull(
-      getClass().getClassLoader().getResource(schemaPath)).getPath();
+    String path = resolvedPath;
+    if (path == null) {
+      path = Objects.requireNonNull(
+        getClass().getClassLoader().getResource(schemaPath)).getPath();
+      resolvedPath = path;
+    }
+    return path;
   }
 }
\ No newline at end of file
@@ -16,8 +16,9 @@
 
 package io.github.darioajr.converter.parser;
 
-import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Paths;
 import org.apache.avro.Schema;
 
@@ -26,7 +27,10 @@ import org.apache.avro.Schema;
  * 
  */
 public class AvroSchemaReader {
-  private static final String AVRO_SCHEMA_PATH = "src/main/resources/schemas/FixMessage.avsc";
+  /**
+   * Classpath location of the default FIX message Avro schema.
+   */
+  public static final String DEFAULT_AVRO_SCHEMA_RESOURCE = "schemas/FixMessage.avsc";
 
   /**
    * Private constructor to prevent instantiation.
@@ -49,14 +53,34 @@ public class AvroSchemaReader {
   }
   
   /**
-   * Reads the default Avro schema from a predefined file path.
+   * Reads an Avro schema from the specified classpath resource.
    *
+   * @param resourceName the classpath location of the Avro schema file
    * @return the parsed Avro schema
-   * @throws IOException if an I/O error occurs reading from the file
+   * @throws IOException if the resource does not exist or cannot be read
+   * @throws org.apache.avro.SchemaParseException if the schema is invalid
+   */
+  public static Schema readAvroSchemaResource(String resourceName)
+      throws IOException, org.apache.avro.SchemaParseException {
+    try (InputStream in = AvroSchemaReader.class.getClassLoader()
+        .getResourceAsStream(resourceName)) {
+      if (in == null) {
+        throw new FileNotFoundException("Avro schema not found on classpath: " + resourceName);
+      }
+      return new Schema.Parser().parse(in);
+    }
+  }
+
+  /**
+   * Reads the default Avro schema from the classpath, so it also resolves
+   * when the library is packaged as a jar.
+   *
+   * @return the parsed Avro schema
+   * @throws IOException if an I/O error occurs reading the resource
    * @throws org.apache.avro.SchemaParseException if the schema is invalid
    */
   public static Schema readDefaultAvroSchema()
       throws IOException, org.apache.avro.SchemaParseException {
-    return new Schema.Parser().parse(new File(AVRO_SCHEMA_PATH));
+    return readAvroSchemaResource(DEFAULT_AVRO_SCHEMA_RESOURCE);
   }
 }
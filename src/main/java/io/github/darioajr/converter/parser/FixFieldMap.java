@@ -0,0 +1,279 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.parser;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Tag to value map of one FIX message, keyed by primitive {@code int} tags.
+ *
+ * <p>Tags below {@value #DENSE_TAG_LIMIT} are stored in a directly indexed array,
+ * which covers every standard FIX field; other tags go to an open-addressing hash
+ * table with linear probing. Tags are never boxed or converted to strings. Fields keep
+ * the order in which they were first put, and {@link #clear()} only touches the
+ * entries in use, so one instance can be reused for every message on a thread.
+ *
+ * <p>Instances are not thread-safe.
+ */
+public final class FixFieldMap {
+  /**
+   * Tags below this limit are stored in the dense array.
+   */
+  public static final int DENSE_TAG_LIMIT = 1024;
+
+  private static final int EMPTY = -1;
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final String[] dense;
+  private int[] keys;
+  private String[] values;
+  private int hashCount;
+  private int[] order = new int[INITIAL_CAPACITY];
+  private int size;
+
+  /**
+   * Constructs an empty map that stores tags below {@value #DENSE_TAG_LIMIT} in a
+   * dense array.
+   */
+  public FixFieldMap() {
+    this(true);
+  }
+
+  /**
+   * Constructs an empty map.
+   *
+   * @param denseSmallTags whether tags below {@value #DENSE_TAG_LIMIT} use a dense
+   *     array; without it every tag is hashed and the map takes less memory
+   */
+  public FixFieldMap(boolean denseSmallTags) {
+    this.dense = denseSmallTags ? new String[DENSE_TAG_LIMIT] : null;
+    this.keys = newKeys(INITIAL_CAPACITY);
+    this.values = new String[INITIAL_CAPACITY];
+  }
+
+  /**
+   * Sets the value of a tag. A tag that is already present keeps its position and
+   * gets the new value, so the last occurrence wins as in
+   * {@link FixMessageParser#parse}.
+   *
+   * @param tag the tag number
+   * @param value the field value
+   * @return the previous value, or {@code null} if the tag was not present
+   * @throws IllegalArgumentException if the tag is negative
+   */
+  public String put(int tag, String value) {
+    if (tag < 0) {
+      throw new IllegalArgumentException("Invalid tag: " + tag);
+    }
+    Objects.requireNonNull(value, "value");
+    String previous;
+    if (dense != null && tag < DENSE_TAG_LIMIT) {
+      previous = dense[tag];
+      dense[tag] = value;
+    } else {
+      previous = hashPut(tag, value);
+    }
+    if (previous == null) {
+      if (size == order.length) {
+        order = Arrays.copyOf(order, size << 1);
+      }
+      order[size++] = tag;
+    }
+    return previous;
+  }
+
+  /**
+   * Gets the value of a tag.
+   *
+   * @param tag the tag number
+   * @return the value, or {@code null} if the tag is not present
+   */
+  public String get(int tag) {
+    if (tag < 0) {
+      return null;
+    }
+    if (dense != null && tag < DENSE_TAG_LIMIT) {
+      return dense[tag];
+    }
+    if (hashCount == 0) {
+      return null;
+    }
+    int mask = keys.length - 1;
+    for (int slot = mix(tag) & mask; ; slot = (slot + 1) & mask) {
+      int key = keys[slot];
+      if (key == tag) {
+        return values[slot];
+      }
+      if (key == EMPTY) {
+        return null;
+      }
+    }
+  }
+
+  /**
+   * Checks whether a tag is present.
+   *
+   * @param tag the tag number
+   * @return true if the map holds a value for the tag
+   */
+  public boolean containsTag(int tag) {
+    return get(tag) != null;
+  }
+
+  /**
+   * Gets the number of distinct tags.
+   *
+   * @return the number of fields
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Checks whether the map holds no fields.
+   *
+   * @return true if the map is empty
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Gets the tag at the given position, in the order tags were first put.
+   *
+   * @param index the field position
+   * @return the tag number
+   */
+  public int tagAt(int index) {
+    checkIndex(index);
+    return order[index];
+  }
+
+  /**
+   * Gets the value at the given position, in the order tags were first put.
+   *
+   * @param index the field position
+   * @return the field value
+   */
+  public String valueAt(int index) {
+    return get(tagAt(index));
+  }
+
+  /**
+   * Removes every field, keeping the allocated storage for the next message.
+   */
+  public void clear() {
+    if (dense != null) {
+      for (int i = 0; i < size; i++) {
+        int tag = order[i];
+        if (tag < DENSE_TAG_LIMIT) {
+          dense[tag] = null;
+        }
+      }
+    }
+    if (hashCount > 0) {
+      Arrays.fill(keys, EMPTY);
+      Arrays.fill(values, null);
+      hashCount = 0;
+    }
+    size = 0;
+  }
+
+  /**
+   * Copies the fields into a string-keyed map, in field order.
+   *
+   * @return a new map containing the fields (tag, value)
+   */
+  public Map<String, String> toMap() {
+    Map<String, String> fields = new LinkedHashMap<>((int) (size / 0.75f) + 1);
+    for (int i = 0; i < size; i++) {
+      fields.put(Integer.toString(order[i]), valueAt(i));
+    }
+    return fields;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder text = new StringBuilder("{");
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        text.append(", ");
+      }
+      text.append(order[i]).append('=').append(valueAt(i));
+    }
+    return text.append('}').toString();
+  }
+
+  private String hashPut(int tag, String value) {
+    if ((hashCount + 1) << 1 > keys.length) {
+      rehash(keys.length << 1);
+    }
+    int mask = keys.length - 1;
+    int slot = mix(tag) & mask;
+    while (keys[slot] != EMPTY) {
+      if (keys[slot] == tag) {
+        String previous = values[slot];
+        values[slot] = value;
+        return previous;
+      }
+      slot = (slot + 1) & mask;
+    }
+    keys[slot] = tag;
+    values[slot] = value;
+    hashCount++;
+    return null;
+  }
+
+  private void rehash(int capacity) {
+    int[] oldKeys = keys;
+    String[] oldValues = values;
+    keys = newKeys(capacity);
+    values = new String[capacity];
+    int mask = capacity - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != EMPTY) {
+        int slot = mix(oldKeys[i]) & mask;
+        while (keys[slot] != EMPTY) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  private static int[] newKeys(int capacity) {
+    int[] keys = new int[capacity];
+    Arrays.fill(keys, EMPTY);
+    return keys;
+  }
+
+  private static int mix(int tag) {
+    int hash = tag * 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Field index " + index + " out of bounds for "
+        + size + " fields");
+    }
+  }
+}
@@ -17,8 +17,10 @@
 package io.github.darioajr.converter.parser;
 
 import io.github.darioajr.converter.core.SchemaProvider;
-import java.util.HashMap;
+import io.github.darioajr.converter.metrics.ConversionMetrics;
+import io.github.darioajr.converter.metrics.ConversionStage;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Implementation of FixMessageParser.
@@ -26,15 +28,27 @@ import java.util.Map;
  */
 public class FixMessageParser {
 
-  private static final char SOH_DELIMITER = '\u0001'; // SOH delimiter character
-  private static final String KEY_VALUE_SEPARATOR = "=";
+  private static final ThreadLocal<FixTokenizer> TOKENIZER =
+      ThreadLocal.withInitial(FixTokenizer::new);
+
+  private final ConversionMetrics metrics;
 
   /**
-   * Default constructor.
-   * This constructor is intentionally empty. Nothing special is needed here.
+   * Constructs a parser that reports to the no-op metrics hook,
+   * {@link ConversionMetrics#noop()}.
    */
   public FixMessageParser() {
-    // Default constructor
+    this.metrics = ConversionMetrics.noop();
+  }
+
+  /**
+   * Constructs a parser that reports the time spent in {@link #parse} and
+   * {@link #parseFields} to a metrics hook as the {@link ConversionStage#PARSE} stage.
+   *
+   * @param metrics the metrics hook, or {@link ConversionMetrics#noop()}
+   */
+  public FixMessageParser(ConversionMetrics metrics) {
+    this.metrics = Objects.requireNonNull(metrics, "metrics");
   }
   
   /**
@@ -48,54 +62,111 @@ public class FixMessageParser {
   public Map<String, String> parse(String fixMessage, SchemaProvider schema) {
     validateMessage(fixMessage);
 
-    // Replace the vertical bar delimiter with the SOH delimiter
-    fixMessage = fixMessage.replace('|', SOH_DELIMITER);
+    long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+    FixTokenizer tokenizer = TOKENIZER.get();
+    try {
+      return tokenizer.tokenize(fixMessage).toMap();
+    } finally {
+      tokenizer.reset();
+      recordParse(start);
+    }
+  }
+
+  /**
+   * Parses a FIX message into a new int-keyed field map.
+   *
+   * @param fixMessage The FIX message as a string.
+   * @param schema    The FIX version used for specific validations (optional).
+   * @return A map containing the fields of the FIX message (tag, value).
+   * @throws IllegalArgumentException If the message is null or invalid.
+   * @see #parseFields(String, SchemaProvider, FixFieldMap)
+   */
+  public FixFieldMap parseFields(String fixMessage, SchemaProvider schema) {
+    return parseFields(fixMessage, schema, new FixFieldMap());
+  }
 
-    // Map to store the key-value pairs of the message
-    Map<String, String> parsedFields = new HashMap<>();
-    // Split the message into fields
-    String[] fields = fixMessage.split(String.valueOf(SOH_DELIMITER)); 
+  /**
+   * Parses a FIX message into a caller-supplied int-keyed field map, so a single map
+   * can be reused for every message. Unlike {@link #parse}, fields with a non-numeric
+   * tag are skipped and tags are not kept as strings.
+   *
+   * @param fixMessage The FIX message as a string.
+   * @param schema    The FIX version used for specific validations (optional).
+   * @param target    The map receiving the fields; its previous content is cleared.
+   * @return The target map.
+   * @throws IllegalArgumentException If the message is null or invalid.
+   */
+  public FixFieldMap parseFields(String fixMessage, SchemaProvider schema, FixFieldMap target) {
+    validateMessage(fixMessage);
 
-    for (String field : fields) {
-      parseField(field, parsedFields);
+    long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+    FixTokenizer tokenizer = TOKENIZER.get();
+    try {
+      return tokenizer.tokenize(fixMessage).toFieldMap(target);
+    } finally {
+      tokenizer.reset();
+      recordParse(start);
     }
+  }
 
-    return parsedFields;
+  /**
+   * Indexes a FIX message without decoding its values; each value is decoded the
+   * first time it is read from the returned view.
+   *
+   * @param fixMessage The FIX message as a string.
+   * @return A lazy view of the message fields.
+   * @throws IllegalArgumentException If the message is null or empty.
+   */
+  public FixMessageView view(String fixMessage) {
+    validateMessage(fixMessage);
+    return new FixMessageView().wrap(fixMessage);
   }
 
   /**
-   * Validates if the FIX message is valid.
+   * Indexes a region of a byte array holding a FIX message, without copying it. The
+   * bytes must not change while the returned view is in use.
    *
-   * @param fixMessage The FIX message to validate.
+   * @param data   The raw FIX message bytes, read as ISO-8859-1.
+   * @param offset The index of the first byte of the message.
+   * @param length The number of bytes in the message.
+   * @return A lazy view of the message fields.
    * @throws IllegalArgumentException If the message is null or empty.
    */
-  private void validateMessage(String fixMessage) {
-    if (fixMessage == null || fixMessage.trim().isEmpty()) {
+  public FixMessageView view(byte[] data, int offset, int length) {
+    if (data == null || length == 0) {
       throw new IllegalArgumentException("The FIX message cannot be null or empty.");
     }
+    return new FixMessageView().wrap(data, offset, length);
+  }
+
+  private void recordParse(long start) {
+    if (metrics.isEnabled()) {
+      metrics.recordStage(ConversionStage.PARSE, System.nanoTime() - start);
+    }
   }
 
   /**
-   * Parses a FIX field and adds it to the map of fields.
+   * Validates if the FIX message is valid.
    *
-   * @param field        The FIX field in key-value format (e.g., "35=D").
-   * @param parsedFields The map to store the parsed fields.
+   * @param fixMessage The FIX message to validate.
+   * @throws IllegalArgumentException If the message is null or empty.
    */
-  private void parseField(String field, Map<String, String> parsedFields) {
-    if (field == null || field.isEmpty()) {
-      return; // Ignore empty fields
+  private void validateMessage(String fixMessage) {
+    if (fixMessage == null || isEmptyAfterTrim(fixMessage)) {
+      throw new IllegalArgumentException("The FIX message cannot be null or empty.");
     }
+  }
 
-    String[] keyValue = field.split(KEY_VALUE_SEPARATOR, 2); // Split at the first "=" found
-
-    if (keyValue.length == 2) {
-      String tag = keyValue[0].trim();
-      String value = keyValue[1].trim();
-
-      // Only add to the map if both values are valid
-      if (!tag.isEmpty() && !value.isEmpty()) {
-        parsedFields.put(tag, value);
+  /**
+   * Checks {@code trim().isEmpty()} without allocating: true when every character is a
+   * space or control character, SOH included.
+   */
+  private static boolean isEmptyAfterTrim(String fixMessage) {
+    for (int i = 0; i < fixMessage.length(); i++) {
+      if (fixMessage.charAt(i) > ' ') {
+        return false;
       }
     }
+    return true;
   }
 }
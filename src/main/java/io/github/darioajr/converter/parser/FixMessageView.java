@@ -0,0 +1,272 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.parser;
+
+import io.github.darioajr.converter.core.SchemaProvider;
+import io.github.darioajr.converter.utils.AvroUtils;
+import io.github.darioajr.converter.utils.DirectAvroEncoder;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import org.apache.avro.generic.GenericRecord;
+
+/**
+ * Read-only view of a raw FIX message that decodes values on demand.
+ *
+ * <p>Wrapping a message scans it once to index where each tag and value starts; a
+ * value is only decoded into a String the first time it is read, and then cached.
+ * Reading a handful of tags such as MsgType(35) or ClOrdID(11) therefore costs one
+ * String per tag read instead of one per field. When the whole record is needed,
+ * {@link #toAvro} and {@link #toAvroByteArray} convert the underlying message.
+ *
+ * <p>The view keeps a reference to the wrapped source, which must not change while
+ * the view is in use. When a tag repeats, the last occurrence is returned, matching
+ * {@link FixMessageParser#parse}. Instances are reusable through {@code wrap} but
+ * not thread-safe.
+ */
+public final class FixMessageView {
+  private final FixTokenizer tokenizer = new FixTokenizer();
+  private String[] decoded = new String[64];
+  private byte[] bytes;
+  private int offset;
+  private int length;
+  private CharSequence chars;
+
+  /**
+   * Constructs an empty view; call one of the {@code wrap} methods before reading.
+   */
+  public FixMessageView() {
+    // Default constructor
+  }
+
+  /**
+   * Indexes a region of a byte array. The bytes are read as ISO-8859-1.
+   *
+   * @param data the raw FIX message bytes, SOH or vertical bar delimited
+   * @param offset the index of the first byte of the message
+   * @param length the number of bytes in the message
+   * @return this view
+   */
+  public FixMessageView wrap(byte[] data, int offset, int length) {
+    tokenizer.tokenize(data, offset, length);
+    this.bytes = data;
+    this.offset = offset;
+    this.length = length;
+    this.chars = null;
+    resetDecoded();
+    return this;
+  }
+
+  /**
+   * Indexes a character sequence such as a String.
+   *
+   * @param data the raw FIX message, SOH or vertical bar delimited
+   * @return this view
+   */
+  public FixMessageView wrap(CharSequence data) {
+    tokenizer.tokenize(data);
+    this.bytes = null;
+    this.chars = data;
+    resetDecoded();
+    return this;
+  }
+
+  /**
+   * Gets the number of fields in the message, repeated tags included.
+   *
+   * @return the number of fields
+   */
+  public int size() {
+    return tokenizer.size();
+  }
+
+  /**
+   * Gets the tag at the given position.
+   *
+   * @param index the field index, in message order
+   * @return the tag number, or {@link FixTokenizer#INVALID_TAG}
+   */
+  public int tagAt(int index) {
+    return tokenizer.tagAt(index);
+  }
+
+  /**
+   * Gets the value at the given position, decoding it on first access.
+   *
+   * @param index the field index, in message order
+   * @return the value
+   */
+  public String valueAt(int index) {
+    String value = decoded[index];
+    if (value == null) {
+      value = tokenizer.valueAsString(index);
+      decoded[index] = value;
+    }
+    return value;
+  }
+
+  /**
+   * Checks whether the message contains a tag.
+   *
+   * @param tag the tag number
+   * @return true if the tag is present
+   */
+  public boolean contains(int tag) {
+    return lastIndexOf(tag) >= 0;
+  }
+
+  /**
+   * Gets the value of a tag, decoding it on first access.
+   *
+   * @param tag the tag number
+   * @return the value, or {@code null} if the tag is not present
+   */
+  public String get(int tag) {
+    int index = lastIndexOf(tag);
+    return index < 0 ? null : valueAt(index);
+  }
+
+  /**
+   * Parses the value of a tag as an int without creating a String.
+   *
+   * @param tag the tag number
+   * @param defaultValue the value returned when the tag is not present
+   * @return the parsed value, or the default
+   * @throws NumberFormatException if the value is not a valid int
+   */
+  public int getInt(int tag, int defaultValue) {
+    int index = lastIndexOf(tag);
+    return index < 0 ? defaultValue : tokenizer.valueAsInt(index);
+  }
+
+  /**
+   * Compares the value of a tag with a character sequence without creating a String.
+   *
+   * @param tag the tag number
+   * @param expected the expected value
+   * @return true if the tag is present with the expected value
+   */
+  public boolean valueEquals(int tag, CharSequence expected) {
+    int index = lastIndexOf(tag);
+    return index >= 0 && tokenizer.valueEquals(index, expected);
+  }
+
+  /**
+   * Checks the BodyLength(9) and CheckSum(10) of the message, as measured while it
+   * was indexed, so corrupted messages can be dropped before any value is decoded.
+   *
+   * @return true if the message is intact
+   * @see FixTokenizer#isVerified()
+   */
+  public boolean isVerified() {
+    return tokenizer.isVerified();
+  }
+
+  /**
+   * Gets the MsgType (35) value.
+   *
+   * @return the message type, or {@code null} if it is not present
+   */
+  public String getMsgType() {
+    return get(35);
+  }
+
+  /**
+   * Decodes every field into an int-keyed map, replacing its previous content.
+   *
+   * @param target the map receiving the fields
+   * @return the target map
+   */
+  public FixFieldMap toFieldMap(FixFieldMap target) {
+    target.clear();
+    for (int i = 0; i < size(); i++) {
+      int tag = tagAt(i);
+      if (tag != FixTokenizer.INVALID_TAG) {
+        target.put(tag, valueAt(i));
+      }
+    }
+    return target;
+  }
+
+  /**
+   * Decodes every field into the map produced by {@link FixMessageParser#parse}.
+   *
+   * @return a new map containing the fields of the message (tag, value)
+   */
+  public Map<String, String> toMap() {
+    return tokenizer.toMap();
+  }
+
+  /**
+   * Materializes the message as an Avro record with the default Avro schema.
+   *
+   * @param schema the schema provider for the FIX dictionary
+   * @return the converted record
+   * @throws RuntimeException if the message cannot be converted
+   */
+  public GenericRecord toAvro(SchemaProvider schema) {
+    return AvroUtils.convertFixToAvro(rawMessage(), schema);
+  }
+
+  /**
+   * Encodes the message straight into Avro binary with the default Avro schema,
+   * reading the wrapped source without building a record.
+   *
+   * @param schema the schema provider for the FIX dictionary
+   * @return the serialized Avro byte array
+   * @throws IOException if an I/O error occurs loading the dictionary or encoding
+   * @throws RuntimeException if the message is not a valid FIX message
+   */
+  public byte[] toAvroByteArray(SchemaProvider schema) throws IOException {
+    requireWrapped();
+    if (bytes != null) {
+      return DirectAvroEncoder.getInstance().encode(bytes, offset, length, schema);
+    }
+    return DirectAvroEncoder.getInstance().encode(chars, schema);
+  }
+
+  private String rawMessage() {
+    requireWrapped();
+    return bytes != null
+        ? new String(bytes, offset, length, StandardCharsets.ISO_8859_1) : chars.toString();
+  }
+
+  private void requireWrapped() {
+    if (bytes == null && chars == null) {
+      throw new IllegalStateException("No message is wrapped");
+    }
+  }
+
+  private int lastIndexOf(int tag) {
+    for (int i = tokenizer.size() - 1; i >= 0; i--) {
+      if (tokenizer.tagAt(i) == tag) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private void resetDecoded() {
+    int count = tokenizer.size();
+    if (decoded.length < count) {
+      decoded = new String[Math.max(count, decoded.length << 1)];
+    } else {
+      Arrays.fill(decoded, null);
+    }
+  }
+}
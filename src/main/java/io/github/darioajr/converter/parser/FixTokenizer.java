@@ -0,0 +1,622 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Single-pass tokenizer for FIX tag=value messages.
+ *
+ * <p>The tokenizer scans a {@code byte[]}, {@link ByteBuffer} or {@link CharSequence}
+ * once, parses numeric tags directly to ints and records where each value starts
+ * and ends. No String is created until {@link #valueAsString(int)} or
+ * {@link #toMap()} is called. Fields may be separated by SOH or by a vertical bar,
+ * and leading or trailing whitespace around tags and values is ignored, matching
+ * {@link FixMessageParser}.
+ *
+ * <p>The same scan keeps a running CheckSum(10) and notes where the body starts, so
+ * {@link #isVerified()} can tell an intact message from a corrupted one without
+ * reading it again.
+ *
+ * <p>Offsets are absolute indexes into the tokenized source. Instances are reusable
+ * but not thread-safe; keep one per thread.
+ */
+public final class FixTokenizer {
+  /**
+   * Tag reported for fields whose tag is not a valid non-negative integer.
+   */
+  public static final int INVALID_TAG = -1;
+
+  private static final char SOH_DELIMITER = '\u0001'; // SOH delimiter character
+  private static final char PIPE_DELIMITER = '|';
+  private static final int INITIAL_CAPACITY = 64;
+  private static final int BEGIN_STRING = 8;
+  private static final int BODY_LENGTH = 9;
+  private static final int CHECK_SUM = 10;
+
+  private byte[] bytes;
+  private ByteBuffer buffer;
+  private CharSequence chars;
+  private int sourceStart;
+
+  private int[] tags = new int[INITIAL_CAPACITY];
+  private int[] tagStarts = new int[INITIAL_CAPACITY];
+  private int[] tagLengths = new int[INITIAL_CAPACITY];
+  private int[] valueStarts = new int[INITIAL_CAPACITY];
+  private int[] valueLengths = new int[INITIAL_CAPACITY];
+  private int[] tagSums = new int[INITIAL_CAPACITY];
+  private int count;
+  private int sum;
+  private int bodyStart = -1;
+  private FixValueInterner interner = FixValueInterner.getInstance();
+
+  /**
+   * Default constructor.
+   * This constructor is intentionally empty. Nothing special is needed here.
+   */
+  public FixTokenizer() {
+    // Default constructor
+  }
+
+  /**
+   * Tokenizes a whole byte array.
+   *
+   * @param data the raw FIX message bytes
+   * @return this tokenizer, positioned on the new message
+   */
+  public FixTokenizer tokenize(byte[] data) {
+    return tokenize(data, 0, data.length);
+  }
+
+  /**
+   * Tokenizes a region of a byte array.
+   *
+   * @param data the raw FIX message bytes
+   * @param offset the index of the first byte of the message
+   * @param length the number of bytes in the message
+   * @return this tokenizer, positioned on the new message
+   */
+  public FixTokenizer tokenize(byte[] data, int offset, int length) {
+    if (offset < 0 || length < 0 || offset + length > data.length) {
+      throw new IndexOutOfBoundsException("Invalid region: offset=" + offset
+        + ", length=" + length + ", size=" + data.length);
+    }
+    reset();
+    bytes = data;
+    scan(offset, offset + length);
+    return this;
+  }
+
+  /**
+   * Tokenizes the bytes between the buffer position and limit. The buffer
+   * position is not modified and offsets are absolute buffer indexes.
+   *
+   * @param data the buffer holding the raw FIX message
+   * @return this tokenizer, positioned on the new message
+   */
+  public FixTokenizer tokenize(ByteBuffer data) {
+    reset();
+    buffer = data;
+    scan(data.position(), data.limit());
+    return this;
+  }
+
+  /**
+   * Tokenizes a character sequence such as a String.
+   *
+   * @param data the raw FIX message
+   * @return this tokenizer, positioned on the new message
+   */
+  public FixTokenizer tokenize(CharSequence data) {
+    reset();
+    chars = data;
+    scan(0, data.length());
+    return this;
+  }
+
+  /**
+   * Releases the reference to the last tokenized source.
+   */
+  public void reset() {
+    bytes = null;
+    buffer = null;
+    chars = null;
+    count = 0;
+    bodyStart = -1;
+  }
+
+  /**
+   * Gets the number of fields found in the message.
+   *
+   * @return the number of fields
+   */
+  public int size() {
+    return count;
+  }
+
+  /**
+   * Gets the tag of the field at the given index.
+   *
+   * @param index the field index, in message order
+   * @return the tag number, or {@link #INVALID_TAG} if the tag is not numeric
+   */
+  public int tagAt(int index) {
+    checkIndex(index);
+    return tags[index];
+  }
+
+  /**
+   * Gets the offset of the first character of the tag at the given index.
+   *
+   * @param index the field index, in message order
+   * @return the absolute offset of the tag in the source
+   */
+  public int tagOffset(int index) {
+    checkIndex(index);
+    return tagStarts[index];
+  }
+
+  /**
+   * Gets the offset of the first character of the value at the given index.
+   *
+   * @param index the field index, in message order
+   * @return the absolute offset of the value in the source
+   */
+  public int valueOffset(int index) {
+    checkIndex(index);
+    return valueStarts[index];
+  }
+
+  /**
+   * Gets the length of the value at the given index.
+   *
+   * @param index the field index, in message order
+   * @return the value length
+   */
+  public int valueLength(int index) {
+    checkIndex(index);
+    return valueLengths[index];
+  }
+
+  /**
+   * Finds the first field with the given tag.
+   *
+   * @param tag the tag number
+   * @return the field index, or -1 if the tag is not present
+   */
+  public int indexOf(int tag) {
+    for (int i = 0; i < count; i++) {
+      if (tags[i] == tag) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Gets the value of the first field with the given tag.
+   *
+   * @param tag the tag number
+   * @return the decoded value, or null if the tag is not present
+   */
+  public String getValue(int tag) {
+    int index = indexOf(tag);
+    return index < 0 ? null : valueAsString(index);
+  }
+
+  /**
+   * Decodes the tag at the given index as it appears in the message.
+   *
+   * @param index the field index, in message order
+   * @return the tag text
+   */
+  public String tagAsString(int index) {
+    checkIndex(index);
+    return decode(tagStarts[index], tagLengths[index]);
+  }
+
+  /**
+   * Decodes the value at the given index.
+   *
+   * @param index the field index, in message order
+   * @return the value text
+   */
+  public String valueAsString(int index) {
+    checkIndex(index);
+    FixValueInterner current = interner;
+    if (current != null && current.isInterned(tags[index])) {
+      return intern(current, valueStarts[index], valueLengths[index]);
+    }
+    return decode(valueStarts[index], valueLengths[index]);
+  }
+
+  /**
+   * Sets the interner providing canonical Strings for low-cardinality values.
+   * Defaults to {@link FixValueInterner#getInstance()}.
+   *
+   * @param interner the interner, or {@code null} to decode every value
+   */
+  public void setInterner(FixValueInterner interner) {
+    this.interner = interner;
+  }
+
+  /**
+   * Parses the value at the given index as a signed integer without creating a String.
+   *
+   * @param index the field index, in message order
+   * @return the parsed value
+   * @throws NumberFormatException if the value is not a valid int
+   */
+  public int valueAsInt(int index) {
+    checkIndex(index);
+    int start = valueStarts[index];
+    int end = start + valueLengths[index];
+    boolean negative = at(start) == '-';
+    int i = negative ? start + 1 : start;
+    if (i == end) {
+      throw new NumberFormatException("Not a number: " + valueAsString(index));
+    }
+    long result = 0;
+    for (; i < end; i++) {
+      int digit = at(i) - '0';
+      if (digit < 0 || digit > 9) {
+        throw new NumberFormatException("Not a number: " + valueAsString(index));
+      }
+      result = result * 10 + digit;
+      if (result > (long) Integer.MAX_VALUE + 1) {
+        throw new NumberFormatException("Value out of int range: " + valueAsString(index));
+      }
+    }
+    result = negative ? -result : result;
+    if (result > Integer.MAX_VALUE) {
+      throw new NumberFormatException("Value out of int range: " + valueAsString(index));
+    }
+    return (int) result;
+  }
+
+  /**
+   * Compares the value at the given index with a character sequence without
+   * creating a String.
+   *
+   * @param index the field index, in message order
+   * @param expected the expected value
+   * @return true if the value equals the expected text
+   */
+  public boolean valueEquals(int index, CharSequence expected) {
+    checkIndex(index);
+    int length = valueLengths[index];
+    if (expected.length() != length) {
+      return false;
+    }
+    int start = valueStarts[index];
+    for (int i = 0; i < length; i++) {
+      if (at(start + i) != expected.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Computes the FIX CheckSum(10) of the source from its start up to the given
+   * offset, counting vertical bar delimiters as SOH.
+   *
+   * @param endOffset the absolute offset where the sum stops (exclusive)
+   * @return the sum of the characters modulo 256
+   */
+  public int checksum(int endOffset) {
+    int sum = 0;
+    for (int i = sourceStart; i < endOffset; i++) {
+      int c = at(i);
+      sum += c == PIPE_DELIMITER ? SOH_DELIMITER : c;
+    }
+    return sum & 0xFF;
+  }
+
+  /**
+   * Gets the CheckSum(10) of the source from its start up to the tag of the field at
+   * the given index, as summed during the scan. Vertical bar delimiters count as SOH.
+   *
+   * @param index the field index, in message order
+   * @return the sum of the characters before the field modulo 256
+   */
+  public int checksumBefore(int index) {
+    checkIndex(index);
+    return tagSums[index] & 0xFF;
+  }
+
+  /**
+   * Gets the BodyLength(9) of the message as measured during the scan: the number of
+   * characters after the delimiter that ends the BodyLength field, up to the tag of
+   * the last field when it is the CheckSum.
+   *
+   * @return the measured body length, or -1 if the message does not have a
+   *     BodyLength field or does not end with a CheckSum field
+   */
+  public int bodyLength() {
+    if (bodyStart < 0 || count == 0 || tags[count - 1] != CHECK_SUM) {
+      return -1;
+    }
+    return tagStarts[count - 1] - bodyStart;
+  }
+
+  /**
+   * Checks the integrity of the message, from the values collected during the scan:
+   * it starts with BeginString(8) and BodyLength(9), ends with CheckSum(10), and both
+   * the declared BodyLength and CheckSum match the ones measured.
+   *
+   * @return true if the message is intact
+   */
+  public boolean isVerified() {
+    if (count < 3 || tags[0] != BEGIN_STRING || tags[1] != BODY_LENGTH) {
+      return false;
+    }
+    int last = count - 1;
+    int measuredLength = bodyLength();
+    return measuredLength >= 0
+        && parseUnsigned(1) == measuredLength
+        && parseUnsigned(last) == (tagSums[last] & 0xFF);
+  }
+
+  /**
+   * Writes the UTF-8 encoding of the value at the given index into a byte array.
+   * Byte sources are decoded as ISO-8859-1, like {@link #valueAsString(int)}.
+   *
+   * @param index the field index, in message order
+   * @param target the destination array, with at least {@code 3 * valueLength(index)}
+   *     bytes available from {@code offset}
+   * @param offset the index in the destination where writing starts
+   * @return the number of bytes written
+   */
+  public int copyValueUtf8(int index, byte[] target, int offset) {
+    checkIndex(index);
+    int start = valueStarts[index];
+    int end = start + valueLengths[index];
+    int pos = offset;
+    for (int i = start; i < end; i++) {
+      int c = at(i);
+      if (c < 0x80) {
+        target[pos++] = (byte) c;
+      } else if (c < 0x800) {
+        target[pos++] = (byte) (0xC0 | (c >> 6));
+        target[pos++] = (byte) (0x80 | (c & 0x3F));
+      } else if (Character.isSurrogate((char) c)) {
+        int next = i + 1 < end ? at(i + 1) : 0;
+        if (Character.isHighSurrogate((char) c) && Character.isLowSurrogate((char) next)) {
+          int cp = Character.toCodePoint((char) c, (char) next);
+          target[pos++] = (byte) (0xF0 | (cp >> 18));
+          target[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+          target[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+          target[pos++] = (byte) (0x80 | (cp & 0x3F));
+          i++;
+        } else {
+          target[pos++] = (byte) '?'; // Unpaired surrogate, as String.getBytes does
+        }
+      } else {
+        target[pos++] = (byte) (0xE0 | (c >> 12));
+        target[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+        target[pos++] = (byte) (0x80 | (c & 0x3F));
+      }
+    }
+    return pos - offset;
+  }
+
+  /**
+   * Builds the tag to value map produced by {@link FixMessageParser#parse}.
+   * When a tag repeats, the last occurrence wins.
+   *
+   * @return a new map containing the fields of the message (tag, value)
+   */
+  public Map<String, String> toMap() {
+    Map<String, String> parsedFields = new HashMap<>((int) (count / 0.75f) + 1);
+    for (int i = 0; i < count; i++) {
+      parsedFields.put(tagName(i), valueAsString(i));
+    }
+    return parsedFields;
+  }
+
+  /**
+   * Copies the fields into an int-keyed map, replacing its previous content. Fields
+   * whose tag is not a valid number are skipped, and tags written with leading zeros
+   * are stored under their numeric value. When a tag repeats, the last occurrence wins.
+   *
+   * @param target the map receiving the fields
+   * @return the target map
+   */
+  public FixFieldMap toFieldMap(FixFieldMap target) {
+    target.clear();
+    for (int i = 0; i < count; i++) {
+      if (tags[i] != INVALID_TAG) {
+        target.put(tags[i], valueAsString(i));
+      }
+    }
+    return target;
+  }
+
+  private String tagName(int index) {
+    int tag = tags[index];
+    // Shared names are only used when they match the original text (no leading zeros)
+    if (tag != INVALID_TAG) {
+      String name = FixValueInterner.tagName(tag);
+      if (name.length() == tagLengths[index]) {
+        return name;
+      }
+    }
+    return tagAsString(index);
+  }
+
+  private void scan(int start, int end) {
+    sourceStart = start;
+    int fieldStart = start;
+    int fieldSum = 0;
+    int separator = -1;
+    sum = 0;
+    for (int i = start; i < end; i++) {
+      int c = at(i);
+      if (c == SOH_DELIMITER || c == PIPE_DELIMITER) {
+        addField(fieldStart, separator, i, fieldSum);
+        sum += SOH_DELIMITER;
+        fieldStart = i + 1;
+        fieldSum = sum;
+        separator = -1;
+      } else {
+        if (c == '=' && separator < 0) {
+          separator = i;
+        }
+        sum += c;
+      }
+    }
+    addField(fieldStart, separator, end, fieldSum);
+  }
+
+  /**
+   * Records a field.
+   *
+   * @param fieldSum the running CheckSum before the first character of the field
+   */
+  private void addField(int start, int separator, int end, int fieldSum) {
+    if (separator < 0) {
+      return; // Ignore fields without a key-value separator
+    }
+    int tagStart = skipLeading(start, separator);
+    int tagEnd = skipTrailing(tagStart, separator);
+    int valueStart = skipLeading(separator + 1, end);
+    int valueEnd = skipTrailing(valueStart, end);
+    if (tagStart == tagEnd || valueStart == valueEnd) {
+      return; // Only keep fields where both tag and value are present
+    }
+    if (count == tags.length) {
+      grow();
+    }
+    int tag = parseTag(tagStart, tagEnd);
+    for (int i = start; i < tagStart; i++) {
+      fieldSum += at(i);
+    }
+    if (tag == BODY_LENGTH && bodyStart < 0) {
+      bodyStart = end + 1;
+    }
+    tags[count] = tag;
+    tagSums[count] = fieldSum;
+    tagStarts[count] = tagStart;
+    tagLengths[count] = tagEnd - tagStart;
+    valueStarts[count] = valueStart;
+    valueLengths[count] = valueEnd - valueStart;
+    count++;
+  }
+
+  private int parseTag(int start, int end) {
+    if (end - start > 9) {
+      return INVALID_TAG;
+    }
+    int tag = 0;
+    for (int i = start; i < end; i++) {
+      int digit = at(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return INVALID_TAG;
+      }
+      tag = tag * 10 + digit;
+    }
+    return tag;
+  }
+
+  /**
+   * Parses the value at the given index as a non-negative int, or returns -1.
+   */
+  private int parseUnsigned(int index) {
+    int start = valueStarts[index];
+    int end = start + valueLengths[index];
+    if (end - start > 9) {
+      return -1;
+    }
+    int value = 0;
+    for (int i = start; i < end; i++) {
+      int digit = at(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  private int skipLeading(int start, int end) {
+    while (start < end && at(start) <= ' ') {
+      start++;
+    }
+    return start;
+  }
+
+  private int skipTrailing(int start, int end) {
+    while (end > start && at(end - 1) <= ' ') {
+      end--;
+    }
+    return end;
+  }
+
+  private int at(int index) {
+    if (bytes != null) {
+      return bytes[index] & 0xFF;
+    }
+    if (buffer != null) {
+      return buffer.get(index) & 0xFF;
+    }
+    return chars.charAt(index);
+  }
+
+  private String decode(int start, int length) {
+    if (bytes != null) {
+      return new String(bytes, start, length, StandardCharsets.ISO_8859_1);
+    }
+    if (buffer != null) {
+      byte[] copy = new byte[length];
+      buffer.get(start, copy);
+      return new String(copy, StandardCharsets.ISO_8859_1);
+    }
+    return chars.subSequence(start, start + length).toString();
+  }
+
+  private String intern(FixValueInterner current, int start, int length) {
+    if (bytes != null) {
+      return current.intern(bytes, start, length);
+    }
+    if (buffer != null) {
+      return current.intern(buffer, start, length);
+    }
+    return current.intern(chars, start, length);
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= count) {
+      throw new IndexOutOfBoundsException("Field index " + index + " out of bounds for "
+        + count + " fields");
+    }
+  }
+
+  private void grow() {
+    int capacity = tags.length << 1;
+    tags = Arrays.copyOf(tags, capacity);
+    tagStarts = Arrays.copyOf(tagStarts, capacity);
+    tagLengths = Arrays.copyOf(tagLengths, capacity);
+    valueStarts = Arrays.copyOf(valueStarts, capacity);
+    valueLengths = Arrays.copyOf(valueLengths, capacity);
+    tagSums = Arrays.copyOf(tagSums, capacity);
+  }
+}
@@ -0,0 +1,349 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import quickfix.DataDictionary;
+
+/**
+ * Bounded, lock-free cache of canonical String instances for low-cardinality
+ * FIX values such as BeginString, MsgType, CompIDs and enum-valued fields.
+ *
+ * <p>Values are looked up by their raw bytes or characters, so a hit returns the
+ * canonical String without decoding or allocating anything. The cache is a
+ * direct-mapped table: each value hashes to a single slot holding an immutable
+ * entry, and a miss simply overwrites that slot. Readers and writers never lock;
+ * a racing write at worst costs another miss. Only the configured tags and values
+ * of at most {@link #MAX_VALUE_LENGTH} characters are interned.
+ *
+ * <p>Avro {@code Utf8} values are mutable and reused by Avro readers, so only
+ * Strings are shared.
+ */
+public final class FixValueInterner {
+  /**
+   * Default number of slots in the table.
+   */
+  public static final int DEFAULT_CAPACITY = 1024;
+  /**
+   * Longest value that is interned, in characters.
+   */
+  public static final int MAX_VALUE_LENGTH = 32;
+
+  /**
+   * Header tags and common enum-valued tags interned by default.
+   */
+  static final int[] DEFAULT_TAGS = {
+    8, 15, 20, 21, 22, 35, 39, 40, 47, 49, 50, 54, 56, 57, 59, 115, 128, 150, 167, 207, 263,
+    269, 279, 447, 452, 1128
+  };
+
+  private static final FixValueInterner INSTANCE =
+      new FixValueInterner(DEFAULT_CAPACITY, DEFAULT_TAGS);
+  private static final String[] SMALL_TAG_NAMES = new String[1024];
+
+  static {
+    for (int i = 0; i < SMALL_TAG_NAMES.length; i++) {
+      SMALL_TAG_NAMES[i] = Integer.toString(i).intern();
+    }
+  }
+
+  private final Entry[] table;
+  private final int mask;
+  private final boolean[] interned;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Constructs an interner for the default tags with the default capacity.
+   * Most callers should use the process-wide instance from {@link #getInstance()}.
+   */
+  public FixValueInterner() {
+    this(DEFAULT_CAPACITY, DEFAULT_TAGS);
+  }
+
+  /**
+   * Constructs an interner for the given tags.
+   *
+   * @param capacity the number of slots, rounded up to a power of two
+   * @param tags the tags whose values are interned
+   */
+  public FixValueInterner(int capacity, int... tags) {
+    if (capacity < 1 || capacity > 1 << 20) {
+      throw new IllegalArgumentException("Invalid capacity value: " + capacity);
+    }
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity) {
+      size <<= 1;
+    }
+    this.table = new Entry[size];
+    this.mask = size - 1;
+    int maxTag = 0;
+    for (int tag : tags) {
+      if (tag < 0) {
+        throw new IllegalArgumentException("Invalid tag value: " + tag);
+      }
+      maxTag = Math.max(maxTag, tag);
+    }
+    this.interned = new boolean[maxTag + 1];
+    for (int tag : tags) {
+      interned[tag] = true;
+    }
+  }
+
+  /**
+   * Gets the process-wide interner for the default tags.
+   *
+   * @return the shared interner
+   */
+  public static FixValueInterner getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Gets the decimal text of a tag, shared for tags below 1024.
+   *
+   * @param tag the tag number
+   * @return the tag as a String
+   */
+  public static String tagName(int tag) {
+    return tag >= 0 && tag < SMALL_TAG_NAMES.length
+        ? SMALL_TAG_NAMES[tag] : Integer.toString(tag);
+  }
+
+  /**
+   * Creates an interner for the default tags and every enum-valued field of a
+   * FIX dictionary.
+   *
+   * @param dictionary the FIX dictionary
+   * @param capacity the number of slots, rounded up to a power of two
+   * @return the new interner
+   */
+  public static FixValueInterner forDictionary(DataDictionary dictionary, int capacity) {
+    int[] fields = dictionary.getOrderedFields();
+    int[] tags = Arrays.copyOf(DEFAULT_TAGS, DEFAULT_TAGS.length + fields.length);
+    int count = DEFAULT_TAGS.length;
+    for (int tag : fields) {
+      if (dictionary.hasFieldValue(tag)) {
+        tags[count++] = tag;
+      }
+    }
+    return new FixValueInterner(capacity, Arrays.copyOf(tags, count));
+  }
+
+  /**
+   * Checks whether values of the given tag are interned.
+   *
+   * @param tag the tag number
+   * @return true if the tag's values are interned
+   */
+  public boolean isInterned(int tag) {
+    return tag >= 0 && tag < interned.length && interned[tag];
+  }
+
+  /**
+   * Gets the canonical String for Latin-1 bytes.
+   *
+   * @param bytes the source bytes
+   * @param offset the offset of the value
+   * @param length the length of the value
+   * @return the canonical String, or a new one if the value is too long
+   */
+  public String intern(byte[] bytes, int offset, int length) {
+    if (length > MAX_VALUE_LENGTH) {
+      return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+    }
+    int hash = 0;
+    for (int i = offset; i < offset + length; i++) {
+      hash = 31 * hash + (bytes[i] & 0xFF);
+    }
+    int slot = hash & mask;
+    Entry entry = table[slot];
+    if (entry != null && entry.hash == hash && entry.matches(bytes, offset, length)) {
+      hits.increment();
+      return entry.value;
+    }
+    String value = new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+    store(slot, hash, value);
+    return value;
+  }
+
+  /**
+   * Gets the canonical String for Latin-1 bytes held in a buffer, using absolute
+   * positions so the buffer is left untouched.
+   *
+   * @param buffer the source buffer
+   * @param offset the absolute offset of the value
+   * @param length the length of the value
+   * @return the canonical String, or a new one if the value is too long
+   */
+  public String intern(ByteBuffer buffer, int offset, int length) {
+    if (length > MAX_VALUE_LENGTH) {
+      byte[] copy = new byte[length];
+      buffer.get(offset, copy);
+      return new String(copy, StandardCharsets.ISO_8859_1);
+    }
+    int hash = 0;
+    for (int i = offset; i < offset + length; i++) {
+      hash = 31 * hash + (buffer.get(i) & 0xFF);
+    }
+    int slot = hash & mask;
+    Entry entry = table[slot];
+    if (entry != null && entry.hash == hash && entry.matches(buffer, offset, length)) {
+      hits.increment();
+      return entry.value;
+    }
+    byte[] copy = new byte[length];
+    buffer.get(offset, copy);
+    String value = new String(copy, StandardCharsets.ISO_8859_1);
+    store(slot, hash, value);
+    return value;
+  }
+
+  /**
+   * Gets the canonical String for a range of characters.
+   *
+   * @param chars the source characters
+   * @param offset the offset of the value
+   * @param length the length of the value
+   * @return the canonical String, or a new one if the value is too long
+   */
+  public String intern(CharSequence chars, int offset, int length) {
+    if (length > MAX_VALUE_LENGTH) {
+      return chars.subSequence(offset, offset + length).toString();
+    }
+    int hash = 0;
+    for (int i = offset; i < offset + length; i++) {
+      hash = 31 * hash + chars.charAt(i);
+    }
+    int slot = hash & mask;
+    Entry entry = table[slot];
+    if (entry != null && entry.hash == hash && entry.matches(chars, offset, length)) {
+      hits.increment();
+      return entry.value;
+    }
+    String value = chars.subSequence(offset, offset + length).toString();
+    store(slot, hash, value);
+    return value;
+  }
+
+  /**
+   * Gets the canonical instance of a String, so equal values decoded elsewhere
+   * share one instance.
+   *
+   * @param value the value, may be null
+   * @return the canonical String, or the value itself if it is null or too long
+   */
+  public String intern(String value) {
+    if (value == null || value.length() > MAX_VALUE_LENGTH) {
+      return value;
+    }
+    int hash = value.hashCode();
+    int slot = hash & mask;
+    Entry entry = table[slot];
+    if (entry != null && entry.hash == hash && entry.value.equals(value)) {
+      hits.increment();
+      return entry.value;
+    }
+    store(slot, hash, value);
+    return value;
+  }
+
+  /**
+   * Gets the number of lookups that returned a cached String.
+   *
+   * @return the hit count
+   */
+  public long getHits() {
+    return hits.sum();
+  }
+
+  /**
+   * Gets the number of lookups that stored a new String.
+   *
+   * @return the miss count
+   */
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * Gets the number of slots in the table.
+   *
+   * @return the table capacity
+   */
+  public int getCapacity() {
+    return table.length;
+  }
+
+  private void store(int slot, int hash, String value) {
+    misses.increment();
+    // Entries are immutable, so publishing one through a plain write is safe
+    table[slot] = new Entry(hash, value);
+  }
+
+  /**
+   * One cached value. The hash equals {@link String#hashCode()} of the value.
+   */
+  private static final class Entry {
+    private final int hash;
+    private final String value;
+
+    Entry(int hash, String value) {
+      this.hash = hash;
+      this.value = value;
+    }
+
+    boolean matches(byte[] bytes, int offset, int length) {
+      if (value.length() != length) {
+        return false;
+      }
+      for (int i = 0; i < length; i++) {
+        if (value.charAt(i) != (bytes[offset + i] & 0xFF)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    boolean matches(ByteBuffer buffer, int offset, int length) {
+      if (value.length() != length) {
+        return false;
+      }
+      for (int i = 0; i < length; i++) {
+        if (value.charAt(i) != (buffer.get(offset + i) & 0xFF)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    boolean matches(CharSequence chars, int offset, int length) {
+      if (value.length() != length) {
+        return false;
+      }
+      for (int i = 0; i < length; i++) {
+        if (value.charAt(i) != chars.charAt(offset + i)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
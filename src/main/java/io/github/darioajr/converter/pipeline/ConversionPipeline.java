@@ -0,0 +1,430 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.pipeline;
+
+import io.github.darioajr.converter.core.SchemaProvider;
+import io.github.darioajr.converter.parser.FixTokenizer;
+import io.github.darioajr.converter.utils.DirectAvroEncoder;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import quickfix.field.SenderCompID;
+
+/**
+ * Converts FIX messages to Avro binary on several cores.
+ *
+ * <p>The pipeline has three stages: the caller submits raw messages (read stage),
+ * a fixed set of worker threads encode them with {@link DirectAvroEncoder}
+ * (convert stage), and a single writer thread hands the results to a
+ * {@link PipelineOutput} (write stage). Each worker owns a bounded input and
+ * output queue, so a slow output blocks {@link #submit} instead of buffering
+ * without limit.
+ *
+ * <p>With {@link Ordering#INPUT} messages are dealt to the workers round-robin and
+ * the writer collects them in the same rotation, so the output follows the input
+ * order exactly. With {@link Ordering#SENDER} every message of a given
+ * SenderCompID goes to the same worker, so only the order within a sender is kept
+ * and a slow message does not hold back other senders.
+ *
+ * <p>Workers are dedicated platform threads, one per core by default. Encoding is
+ * CPU-bound and the parallelism is fixed by {@link Builder#workers(int)}, so
+ * virtual threads would add scheduling overhead without more throughput, and each
+ * worker blocks on its own queue for the pipeline's whole life, which a fork-join
+ * pool is not designed for.
+ *
+ * <p>{@link #submit} calls are serialized; the pipeline is meant to be fed by a
+ * single reader, such as a {@link io.github.darioajr.converter.ingest.FixLogReader}.
+ */
+public final class ConversionPipeline implements AutoCloseable {
+
+  /**
+   * Order in which converted messages reach the output.
+   */
+  public enum Ordering {
+    /** Messages are written in submission order. */
+    INPUT,
+    /** Messages of the same SenderCompID are written in submission order. */
+    SENDER
+  }
+
+  private static final Task END = new Task(-1, null, null);
+
+  private final SchemaProvider schema;
+  private final PipelineOutput output;
+  private final Ordering ordering;
+  private final Worker[] workers;
+  private final BlockingQueue<Task> completed;
+  private final Thread writer;
+  private final FixTokenizer tokenizer = new FixTokenizer();
+  private final long startNanos = System.nanoTime();
+
+  private final LongAdder readBusyNanos = new LongAdder();
+  private final LongAdder convertedMessages = new LongAdder();
+  private final LongAdder convertFailures = new LongAdder();
+  private final LongAdder convertBusyNanos = new LongAdder();
+  private final LongAdder writtenMessages = new LongAdder();
+  private final LongAdder writeBusyNanos = new LongAdder();
+
+  private volatile long submitted;
+  private volatile long endNanos;
+  private volatile Throwable outputError;
+  private volatile boolean aborted;
+  private boolean closed;
+
+  private ConversionPipeline(Builder builder) {
+    this.schema = builder.schema;
+    this.output = builder.output;
+    this.ordering = builder.ordering;
+    this.workers = new Worker[builder.workers];
+    this.completed = ordering == Ordering.SENDER
+        ? new ArrayBlockingQueue<>(builder.queueCapacity * builder.workers) : null;
+    for (int i = 0; i < workers.length; i++) {
+      BlockingQueue<Task> results = completed != null
+          ? completed : new ArrayBlockingQueue<>(builder.queueCapacity);
+      workers[i] = new Worker(i, new ArrayBlockingQueue<>(builder.queueCapacity), results);
+      workers[i].thread.start();
+    }
+    this.writer = new Thread(this::write, "fix-pipeline-writer");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  /**
+   * Creates a builder for a pipeline.
+   *
+   * @param schema the schema provider for the FIX dictionary
+   * @param output the final stage receiving the converted messages
+   * @return a new builder
+   */
+  public static Builder builder(SchemaProvider schema, PipelineOutput output) {
+    return new Builder(schema, output);
+  }
+
+  /**
+   * Submits a raw FIX message held in a byte array region. The bytes are copied,
+   * so the array may be reused once the call returns. Blocks while the target
+   * worker's queue is full.
+   *
+   * @param rawMessage the raw FIX message bytes, SOH or vertical bar delimited
+   * @param offset the index of the first byte of the message
+   * @param length the number of bytes in the message
+   * @throws IOException if the pipeline is closed or the output has failed
+   */
+  public synchronized void submit(byte[] rawMessage, int offset, int length) throws IOException {
+    long start = System.nanoTime();
+    byte[] copy = Arrays.copyOfRange(rawMessage, offset, offset + length);
+    enqueue(new Task(submitted, copy, null), start);
+  }
+
+  /**
+   * Submits a raw FIX message. Blocks while the target worker's queue is full.
+   *
+   * @param rawMessage the raw FIX message, SOH or vertical bar delimited
+   * @throws IOException if the pipeline is closed or the output has failed
+   */
+  public synchronized void submit(String rawMessage) throws IOException {
+    long start = System.nanoTime();
+    enqueue(new Task(submitted, null, Objects.requireNonNull(rawMessage, "rawMessage")), start);
+  }
+
+  /**
+   * Gets the counters of the read, convert and write stages, in that order.
+   *
+   * @return the stage snapshots
+   */
+  public List<StageStats> getStats() {
+    long end = endNanos;
+    long elapsed = (end != 0 ? end : System.nanoTime()) - startNanos;
+    return List.of(
+        new StageStats("read", 1, submitted, 0, readBusyNanos.sum(), elapsed),
+        new StageStats("convert", workers.length, convertedMessages.sum(),
+            convertFailures.sum(), convertBusyNanos.sum(), elapsed),
+        new StageStats("write", 1, writtenMessages.sum(), 0, writeBusyNanos.sum(), elapsed));
+  }
+
+  /**
+   * Waits for all submitted messages to be written and stops the threads.
+   *
+   * @throws IOException if the output failed or the wait was interrupted
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      for (Worker worker : workers) {
+        if (aborted) {
+          break;
+        }
+        worker.input.put(END);
+      }
+      writer.join();
+      for (Worker worker : workers) {
+        worker.thread.join();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while closing the pipeline");
+    }
+    endNanos = System.nanoTime();
+    checkOutput();
+  }
+
+  private void enqueue(Task task, long start) throws IOException {
+    if (closed) {
+      throw new IOException("Pipeline is closed");
+    }
+    checkOutput();
+    Worker worker = ordering == Ordering.INPUT
+        ? workers[(int) (task.sequence % workers.length)] : workers[senderLane(task)];
+    try {
+      worker.input.put(task);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while submitting a message");
+    }
+    if (aborted) {
+      checkOutput();
+    }
+    submitted++;
+    readBusyNanos.add(System.nanoTime() - start);
+  }
+
+  private int senderLane(Task task) {
+    try {
+      if (task.bytes != null) {
+        tokenizer.tokenize(task.bytes, 0, task.bytes.length);
+      } else {
+        tokenizer.tokenize(task.text);
+      }
+      String sender = tokenizer.getValue(SenderCompID.FIELD);
+      return sender == null ? 0 : Math.floorMod(sender.hashCode(), workers.length);
+    } finally {
+      tokenizer.reset();
+    }
+  }
+
+  private void checkOutput() throws IOException {
+    Throwable error = outputError;
+    if (error != null) {
+      throw new IOException("Pipeline output failed", error);
+    }
+  }
+
+  /**
+   * Aborts the pipeline after a worker died: records the cause, interrupts the other
+   * threads and empties the input queues, so that a {@link #submit} or {@link #close}
+   * blocked on a full queue returns and reports the cause.
+   */
+  private void abort(Throwable cause) {
+    if (outputError == null) {
+      outputError = cause;
+    }
+    aborted = true;
+    Thread current = Thread.currentThread();
+    for (Worker worker : workers) {
+      if (worker.thread != current) {
+        worker.thread.interrupt();
+      }
+      worker.input.clear();
+    }
+    writer.interrupt();
+  }
+
+  private void write() {
+    long sequence = 0;
+    int finished = 0;
+    try {
+      while (true) {
+        Task task = completed != null
+            ? completed.take() : workers[(int) (sequence % workers.length)].output.take();
+        if (task == END) {
+          if (completed == null || ++finished == workers.length) {
+            return;
+          }
+          continue;
+        }
+        sequence++;
+        if (outputError != null) {
+          continue;
+        }
+        long start = System.nanoTime();
+        try {
+          if (task.failure == null) {
+            output.onRecord(task.sequence, task.result);
+          } else {
+            output.onFailure(task.sequence, task.bytes != null
+                ? task.bytes : task.text.getBytes(StandardCharsets.ISO_8859_1), task.failure);
+          }
+          writtenMessages.increment();
+        } catch (IOException | RuntimeException e) {
+          outputError = e;
+        }
+        writeBusyNanos.add(System.nanoTime() - start);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * A submitted message and, once converted, its result.
+   */
+  private static final class Task {
+    private final long sequence;
+    private final byte[] bytes;
+    private final String text;
+    private byte[] result;
+    private Exception failure;
+
+    Task(long sequence, byte[] bytes, String text) {
+      this.sequence = sequence;
+      this.bytes = bytes;
+      this.text = text;
+    }
+  }
+
+  /**
+   * A converter thread with its own bounded input and output queues.
+   */
+  private final class Worker implements Runnable {
+    private final BlockingQueue<Task> input;
+    private final BlockingQueue<Task> output;
+    private final Thread thread;
+
+    Worker(int index, BlockingQueue<Task> input, BlockingQueue<Task> output) {
+      this.input = input;
+      this.output = output;
+      this.thread = new Thread(this, "fix-pipeline-worker-" + index);
+      thread.setDaemon(true);
+    }
+
+    /**
+     * Converts tasks until {@code END}. If the thread dies of an error or an
+     * interrupt instead, the pipeline is aborted with that cause and {@code END} is
+     * still posted, so the writer never waits on this worker.
+     */
+    @Override
+    public void run() {
+      try {
+        convertAll();
+      } catch (InterruptedException e) {
+        abort(new InterruptedIOException("Pipeline worker interrupted"));
+        output.offer(END);
+      } catch (Error e) {
+        abort(e);
+        output.offer(END);
+        throw e;
+      }
+    }
+
+    private void convertAll() throws InterruptedException {
+      DirectAvroEncoder encoder = DirectAvroEncoder.getInstance();
+      while (true) {
+        Task task = input.take();
+        if (task == END) {
+          output.put(END);
+          return;
+        }
+        long start = System.nanoTime();
+        try {
+          task.result = task.bytes != null
+              ? encoder.encode(task.bytes, 0, task.bytes.length, schema)
+              : encoder.encode(task.text, schema);
+        } catch (IOException | RuntimeException e) {
+          task.failure = e;
+          convertFailures.increment();
+        }
+        convertedMessages.increment();
+        convertBusyNanos.add(System.nanoTime() - start);
+        output.put(task);
+      }
+    }
+  }
+
+  /**
+   * Builder for {@link ConversionPipeline}.
+   */
+  public static final class Builder {
+    private final SchemaProvider schema;
+    private final PipelineOutput output;
+    private Ordering ordering = Ordering.INPUT;
+    private int workers = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 1024;
+
+    private Builder(SchemaProvider schema, PipelineOutput output) {
+      this.schema = Objects.requireNonNull(schema, "schema");
+      this.output = Objects.requireNonNull(output, "output");
+    }
+
+    /**
+     * Sets the output ordering. Defaults to {@link Ordering#INPUT}.
+     *
+     * @param ordering the ordering guarantee
+     * @return this builder
+     */
+    public Builder ordering(Ordering ordering) {
+      this.ordering = Objects.requireNonNull(ordering, "ordering");
+      return this;
+    }
+
+    /**
+     * Sets the number of converter threads. Defaults to the number of processors.
+     *
+     * @param workers the worker count
+     * @return this builder
+     */
+    public Builder workers(int workers) {
+      if (workers < 1) {
+        throw new IllegalArgumentException("Invalid workers value: " + workers);
+      }
+      this.workers = workers;
+      return this;
+    }
+
+    /**
+     * Sets the capacity of each worker's input and output queue. Defaults to 1024.
+     *
+     * @param queueCapacity the number of messages a queue holds before blocking
+     * @return this builder
+     */
+    public Builder queueCapacity(int queueCapacity) {
+      if (queueCapacity < 1) {
+        throw new IllegalArgumentException("Invalid queueCapacity value: " + queueCapacity);
+      }
+      this.queueCapacity = queueCapacity;
+      return this;
+    }
+
+    /**
+     * Builds the pipeline and starts its threads.
+     *
+     * @return the running pipeline
+     */
+    public ConversionPipeline build() {
+      return new ConversionPipeline(this);
+    }
+  }
+}
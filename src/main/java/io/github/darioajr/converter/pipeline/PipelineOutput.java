@@ -0,0 +1,47 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.pipeline;
+
+import java.io.IOException;
+
+/**
+ * Final stage of a {@link ConversionPipeline}, receiving the converted messages.
+ * Calls are made from the single writer thread of the pipeline.
+ */
+public interface PipelineOutput {
+  /**
+   * Handles a converted message.
+   *
+   * @param sequence the zero-based position of the message in the input
+   * @param record the Avro binary encoding of the message
+   * @throws IOException if the record cannot be written
+   */
+  void onRecord(long sequence, byte[] record) throws IOException;
+
+  /**
+   * Handles a message that could not be converted. Does nothing by default.
+   *
+   * @param sequence the zero-based position of the message in the input
+   * @param rawMessage the raw message bytes as submitted; messages submitted as a
+   *     String are passed encoded as ISO-8859-1
+   * @param cause the exception raised while converting the message
+   * @throws IOException if the failure cannot be recorded
+   */
+  default void onFailure(long sequence, byte[] rawMessage, Exception cause) throws IOException {
+    // Failed messages are dropped unless the output overrides this method
+  }
+}
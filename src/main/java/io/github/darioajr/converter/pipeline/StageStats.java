@@ -0,0 +1,129 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.pipeline;
+
+/**
+ * Immutable snapshot of the counters of one pipeline stage.
+ */
+public final class StageStats {
+  private final String name;
+  private final int threads;
+  private final long messages;
+  private final long failures;
+  private final long busyNanos;
+  private final long elapsedNanos;
+
+  /**
+   * Constructs a new StageStats snapshot.
+   *
+   * @param name the stage name
+   * @param threads the number of threads running the stage
+   * @param messages the number of messages that went through the stage
+   * @param failures the number of messages the stage could not process
+   * @param busyNanos the accumulated time spent processing, across all threads
+   * @param elapsedNanos the time since the pipeline was started
+   */
+  public StageStats(String name, int threads, long messages, long failures, long busyNanos,
+      long elapsedNanos) {
+    this.name = name;
+    this.threads = threads;
+    this.messages = messages;
+    this.failures = failures;
+    this.busyNanos = busyNanos;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Gets the stage name.
+   *
+   * @return the name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the number of threads running the stage.
+   *
+   * @return the thread count
+   */
+  public int getThreads() {
+    return threads;
+  }
+
+  /**
+   * Gets the number of messages that went through the stage, including failures.
+   *
+   * @return the message count
+   */
+  public long getMessages() {
+    return messages;
+  }
+
+  /**
+   * Gets the number of messages the stage could not process.
+   *
+   * @return the failure count
+   */
+  public long getFailures() {
+    return failures;
+  }
+
+  /**
+   * Gets the accumulated time spent processing, across all threads of the stage.
+   * For the read stage this includes the time spent blocked by back-pressure.
+   *
+   * @return the busy time in nanoseconds
+   */
+  public long getBusyNanos() {
+    return busyNanos;
+  }
+
+  /**
+   * Gets the time since the pipeline was started, or its total run time once closed.
+   *
+   * @return the elapsed time in nanoseconds
+   */
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * Gets the number of messages per second over the elapsed time.
+   *
+   * @return the throughput, or 0 if no time has elapsed
+   */
+  public double getThroughput() {
+    return elapsedNanos == 0 ? 0.0 : messages * 1_000_000_000.0 / elapsedNanos;
+  }
+
+  /**
+   * Gets the fraction of the available thread time the stage spent busy.
+   *
+   * @return the utilization between 0 and 1, or 0 if no time has elapsed
+   */
+  public double getUtilization() {
+    return elapsedNanos == 0 ? 0.0 : (double) busyNanos / ((double) elapsedNanos * threads);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+      "StageStats[name=%s, threads=%d, messages=%d, failures=%d, msgPerSec=%.1f, util=%.2f]",
+      name, threads, messages, failures, getThroughput(), getUtilization());
+  }
+}
@@ -0,0 +1,171 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.registry;
+
+import io.github.darioajr.converter.parser.AvroSchemaReader;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.avro.Schema;
+
+/**
+ * Thread-safe registry of parsed Avro schemas.
+ *
+ * <p>Each schema is parsed once and then shared. Classpath resources and
+ * filesystem paths are cached under separate keys.
+ */
+public class AvroSchemaRegistry {
+  private static final AvroSchemaRegistry INSTANCE = new AvroSchemaRegistry();
+  private static final String CLASSPATH_PREFIX = "classpath:";
+  private static final String DEFAULT_KEY =
+      CLASSPATH_PREFIX + AvroSchemaReader.DEFAULT_AVRO_SCHEMA_RESOURCE;
+
+  private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder loads = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder loadTimeNanos = new LongAdder();
+
+  /**
+   * Constructs an empty registry.
+   * Most callers should use the process-wide instance from {@link #getInstance()}.
+   */
+  public AvroSchemaRegistry() {
+    // Default constructor
+  }
+
+  /**
+   * Gets the process-wide registry instance.
+   *
+   * @return the shared registry
+   */
+  public static AvroSchemaRegistry getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Gets the default FIX message Avro schema, parsing it from the classpath on first use.
+   *
+   * @return the shared default schema
+   * @throws IOException if an I/O error occurs reading the schema
+   */
+  public Schema getDefaultSchema() throws IOException {
+    return get(DEFAULT_KEY, AvroSchemaReader::readDefaultAvroSchema);
+  }
+
+  /**
+   * Gets the Avro schema stored at the given classpath resource.
+   *
+   * @param resourceName the classpath location of the schema
+   * @return the shared schema
+   * @throws IOException if the resource does not exist or cannot be read
+   */
+  public Schema getSchemaResource(String resourceName) throws IOException {
+    return get(CLASSPATH_PREFIX + resourceName,
+        () -> AvroSchemaReader.readAvroSchemaResource(resourceName));
+  }
+
+  /**
+   * Gets the Avro schema stored at the given filesystem path.
+   *
+   * @param schemaPath the path to the schema file
+   * @return the shared schema
+   * @throws IOException if an I/O error occurs reading the file
+   */
+  public Schema getSchema(String schemaPath) throws IOException {
+    return get(schemaPath, () -> AvroSchemaReader.readAvroSchema(schemaPath));
+  }
+
+  /**
+   * Removes every cached schema. Schemas are parsed again on next use.
+   */
+  public void evictAll() {
+    for (String key : entries.keySet()) {
+      if (entries.remove(key) != null) {
+        evictions.increment();
+      }
+    }
+  }
+
+  /**
+   * Gets the number of schemas currently cached.
+   *
+   * @return the number of cached schemas
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Gets a snapshot of the registry counters.
+   *
+   * @return the current statistics
+   */
+  public RegistryStats getStats() {
+    return new RegistryStats(hits.sum(), misses.sum(), loads.sum(), evictions.sum(),
+      loadTimeNanos.sum());
+  }
+
+  private Schema get(String key, SchemaLoader loader) throws IOException {
+    Entry entry = entries.get(key);
+    if (entry != null) {
+      Schema schema = entry.schema;
+      if (schema != null) {
+        hits.increment();
+        return schema;
+      }
+    }
+    return entries.computeIfAbsent(key, k -> new Entry()).getOrLoad(loader);
+  }
+
+  /**
+   * Parses a schema from its source.
+   */
+  @FunctionalInterface
+  private interface SchemaLoader {
+    Schema load() throws IOException;
+  }
+
+  /**
+   * Cache slot for one schema location.
+   */
+  private final class Entry {
+    private volatile Schema schema;
+
+    Schema getOrLoad(SchemaLoader loader) throws IOException {
+      Schema current = schema;
+      if (current != null) {
+        hits.increment();
+        return current;
+      }
+      synchronized (this) {
+        if (schema == null) {
+          misses.increment();
+          long start = System.nanoTime();
+          schema = loader.load();
+          loads.increment();
+          loadTimeNanos.add(System.nanoTime() - start);
+        } else {
+          hits.increment();
+        }
+        return schema;
+      }
+    }
+  }
+}
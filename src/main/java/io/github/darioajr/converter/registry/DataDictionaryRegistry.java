@@ -0,0 +1,255 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.registry;
+
+import io.github.darioajr.converter.core.SchemaProvider;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import quickfix.ConfigError;
+import quickfix.DataDictionary;
+
+/**
+ * Thread-safe registry of FIX DataDictionary instances.
+ *
+ * <p>Each dictionary is parsed once per schema path and then shared by every
+ * thread. Lookups for a dictionary that is already loaded are lock-free; a
+ * reload parses the new dictionary before swapping it in, so readers never
+ * observe a partially loaded instance.
+ */
+public class DataDictionaryRegistry {
+  private static final DataDictionaryRegistry INSTANCE = new DataDictionaryRegistry();
+
+  private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder loads = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder loadTimeNanos = new LongAdder();
+  private volatile Path snapshotDirectory;
+
+  /**
+   * Constructs an empty registry.
+   * Most callers should use the process-wide instance from {@link #getInstance()}.
+   */
+  public DataDictionaryRegistry() {
+    // Default constructor
+  }
+
+  /**
+   * Gets the process-wide registry instance.
+   *
+   * @return the shared registry
+   */
+  public static DataDictionaryRegistry getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Loads dictionaries from precompiled snapshots kept in the given directory.
+   * A missing or stale snapshot is compiled from the XML on first use. Only
+   * dictionaries loaded after the call are affected.
+   *
+   * @param directory the snapshot directory, or {@code null} to always parse the XML
+   * @throws IOException if the directory cannot be created
+   * @see DictionarySnapshot
+   */
+  public void setSnapshotDirectory(Path directory) throws IOException {
+    if (directory != null) {
+      Files.createDirectories(directory);
+    }
+    snapshotDirectory = directory;
+  }
+
+  /**
+   * Gets the DataDictionary for the given schema, loading it on first use.
+   * Dictionaries of a {@link LocalSchemaRegistry} are served from that registry.
+   *
+   * @param schema the schema provider whose dictionary is requested
+   * @return the shared DataDictionary
+   * @throws IOException if an I/O error occurs reading the dictionary file
+   * @throws ConfigError if the dictionary is invalid
+   */
+  public DataDictionary get(SchemaProvider schema) throws IOException, ConfigError {
+    if (schema instanceof RegisteredDictionary) {
+      return ((RegisteredDictionary) schema).getDataDictionary();
+    }
+    String key = schema.getSchemaPath();
+    Entry entry = entries.get(key);
+    if (entry != null) {
+      DataDictionary dictionary = entry.dictionary;
+      if (dictionary != null) {
+        hits.increment();
+        return dictionary;
+      }
+    }
+    return entries.computeIfAbsent(key, k -> new Entry()).getOrLoad(key);
+  }
+
+  /**
+   * Parses the dictionary for the given schema again and atomically replaces
+   * the cached instance. Conversions already holding the previous instance
+   * keep using it.
+   *
+   * @param schema the schema provider whose dictionary is reloaded
+   * @return the newly loaded DataDictionary
+   * @throws IOException if an I/O error occurs reading the dictionary file
+   * @throws ConfigError if the dictionary is invalid
+   */
+  public DataDictionary reload(SchemaProvider schema) throws IOException, ConfigError {
+    return reload(schema.getSchemaPath());
+  }
+
+  DataDictionary reload(String key) throws IOException, ConfigError {
+    DataDictionary dictionary = load(key);
+    entries.put(key, new Entry(dictionary));
+    return dictionary;
+  }
+
+  /**
+   * Removes the dictionary for the given schema. It is loaded again on next use.
+   *
+   * @param schema the schema provider whose dictionary is evicted
+   * @return true if a dictionary was cached for the schema
+   */
+  public boolean evict(SchemaProvider schema) {
+    if (entries.remove(schema.getSchemaPath()) != null) {
+      evictions.increment();
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Removes every cached dictionary.
+   */
+  public void evictAll() {
+    for (String key : entries.keySet()) {
+      if (entries.remove(key) != null) {
+        evictions.increment();
+      }
+    }
+  }
+
+  /**
+   * Checks whether the dictionary for the given schema is already loaded.
+   *
+   * @param schema the schema provider to check
+   * @return true if the dictionary is cached
+   */
+  public boolean isLoaded(SchemaProvider schema) {
+    Entry entry = entries.get(schema.getSchemaPath());
+    return entry != null && entry.dictionary != null;
+  }
+
+  /**
+   * Gets the schema paths of the cached dictionaries.
+   *
+   * @return a snapshot of the cached schema paths
+   */
+  List<String> getSchemaPaths() {
+    return List.copyOf(entries.keySet());
+  }
+
+  /**
+   * Gets the number of dictionaries currently cached.
+   *
+   * @return the number of cached dictionaries
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Gets a snapshot of the registry counters.
+   *
+   * @return the current statistics
+   */
+  public RegistryStats getStats() {
+    return new RegistryStats(hits.sum(), misses.sum(), loads.sum(), evictions.sum(),
+      loadTimeNanos.sum());
+  }
+
+  /**
+   * Loads the DataDictionary from the specified file path.
+   *
+   * @param dictionaryPath the path to the DataDictionary file
+   * @return the loaded DataDictionary
+   * @throws IOException if an I/O error occurs reading from the file
+   * @throws ConfigError if there is an error in the configuration
+   */
+  private DataDictionary load(String dictionaryPath) throws IOException, ConfigError {
+    long start = System.nanoTime();
+    Path snapshots = snapshotDirectory;
+    DataDictionary dictionary;
+    if (snapshots != null) {
+      Path source = Paths.get(dictionaryPath);
+      Path snapshot = snapshots.resolve(DictionarySnapshot.fileName(dictionaryPath));
+      Path prebuilt = snapshots.resolve(DictionarySnapshot.prebuiltFileName(dictionaryPath));
+      if (!Files.exists(snapshot) && DictionarySnapshot.isCurrent(source, prebuilt)) {
+        snapshot = prebuilt;
+      }
+      dictionary = DictionarySnapshot.load(source, snapshot);
+    } else {
+      try (FileInputStream configFile = new FileInputStream(dictionaryPath)) {
+        dictionary = new DataDictionary(configFile);
+      }
+    }
+    loads.increment();
+    loadTimeNanos.add(System.nanoTime() - start);
+    return dictionary;
+  }
+
+  /**
+   * Cache slot for one schema path. Concurrent first lookups of the same path
+   * wait on the slot monitor so the dictionary is parsed only once.
+   */
+  private final class Entry {
+    private volatile DataDictionary dictionary;
+
+    Entry() {
+      // Empty slot, loaded on first use
+    }
+
+    Entry(DataDictionary dictionary) {
+      this.dictionary = dictionary;
+    }
+
+    DataDictionary getOrLoad(String key) throws IOException, ConfigError {
+      DataDictionary current = dictionary;
+      if (current != null) {
+        hits.increment();
+        return current;
+      }
+      synchronized (this) {
+        if (dictionary == null) {
+          misses.increment();
+          dictionary = load(key);
+        } else {
+          hits.increment();
+        }
+        return dictionary;
+      }
+    }
+  }
+}
@@ -0,0 +1,449 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.registry;
+
+import io.github.darioajr.converter.models.FixDefaultVersion;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import org.w3c.dom.DOMImplementation;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import quickfix.ConfigError;
+import quickfix.DataDictionary;
+
+/**
+ * Precompiled binary form of a FIX dictionary XML file.
+ *
+ * <p>A snapshot holds the dictionary's element tree (fields with their types and
+ * enums, components, groups and required flags) with every name and value stored
+ * once in a string table. Loading memory-maps the snapshot and rebuilds the tree
+ * directly, skipping XML scanning; quickfixj then builds its DataDictionary from
+ * that tree exactly as it would from the XML, so both produce the same dictionary.
+ *
+ * <p>Each snapshot records the length and CRC-32C of the XML it was compiled from,
+ * and the length and CRC-32C of its own payload. A snapshot whose source has changed
+ * is stale and one whose payload does not match is corrupt: {@link #load(Path, Path)}
+ * then parses the XML and rewrites the snapshot. The XML is parsed with external DTD
+ * and schema access disabled, as quickfixj's own parser does.
+ *
+ * <p>Snapshots can be compiled at build time with {@link #main(String[])} or on
+ * first use through {@link DataDictionaryRegistry#setSnapshotDirectory(Path)}.
+ * Snapshots compiled on first use are named after the source file and a hash of its
+ * absolute path, so same-named dictionaries in different directories never share a
+ * snapshot; the registry falls back to a build-time snapshot under the plain name
+ * when present.
+ */
+public final class DictionarySnapshot {
+  /**
+   * File name extension of dictionary snapshots.
+   */
+  public static final String EXTENSION = ".fixdict";
+
+  private static final int MAGIC = 0x46495844;
+  private static final int FORMAT_VERSION = 2;
+  private static final int HEADER_LENGTH = 28;
+  private static final int MIN_ELEMENT_LENGTH = 12;
+
+  /**
+   * Private constructor to prevent instantiation.
+   */
+  private DictionarySnapshot() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Compiles the dictionaries of every {@link FixDefaultVersion} into a directory.
+   *
+   * @param args the target directory
+   * @throws IOException if a dictionary cannot be read or a snapshot cannot be written
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      throw new IllegalArgumentException("Usage: DictionarySnapshot <target directory>");
+    }
+    Path directory = Paths.get(args[0]);
+    Files.createDirectories(directory);
+    for (FixDefaultVersion version : FixDefaultVersion.values()) {
+      Path source = Paths.get(version.getSchemaPath());
+      compile(source, directory.resolve(prebuiltFileName(source.toString())));
+    }
+  }
+
+  /**
+   * Gets the snapshot file name for a dictionary: its XML base name followed by a
+   * hash of its absolute path, so dictionaries that share a file name in different
+   * directories keep separate snapshots.
+   *
+   * @param schemaPath the path to the dictionary XML file
+   * @return the snapshot file name
+   */
+  public static String fileName(String schemaPath) {
+    Path path = Paths.get(schemaPath).toAbsolutePath().normalize();
+    CRC32C crc = new CRC32C();
+    crc.update(path.toString().getBytes(StandardCharsets.UTF_8));
+    return String.format("%s-%08x%s", baseName(path), crc.getValue(), EXTENSION);
+  }
+
+  /**
+   * Gets the file name of a snapshot compiled at build time by {@link #main(String[])}:
+   * the XML base name alone, so the snapshot is found wherever the dictionaries are
+   * installed. Such a snapshot is only used when its recorded checksum matches the XML.
+   *
+   * @param schemaPath the path to the dictionary XML file
+   * @return the prebuilt snapshot file name
+   */
+  public static String prebuiltFileName(String schemaPath) {
+    return baseName(Paths.get(schemaPath)) + EXTENSION;
+  }
+
+  private static String baseName(Path path) {
+    String name = path.getFileName().toString();
+    int dot = name.lastIndexOf('.');
+    return dot > 0 ? name.substring(0, dot) : name;
+  }
+
+  /**
+   * Compiles a dictionary XML file into a snapshot, replacing any existing one.
+   *
+   * @param source the dictionary XML file
+   * @param snapshot the snapshot file to write
+   * @throws IOException if the source cannot be read or parsed, or the snapshot
+   *     cannot be written
+   */
+  public static void compile(Path source, Path snapshot) throws IOException {
+    byte[] xml = Files.readAllBytes(source);
+    write(parse(xml, source), xml, snapshot);
+  }
+
+  /**
+   * Checks whether a snapshot was compiled from the current content of its source.
+   *
+   * @param source the dictionary XML file
+   * @param snapshot the snapshot file
+   * @return true if the snapshot exists and matches the source
+   * @throws IOException if the source cannot be read
+   */
+  public static boolean isCurrent(Path source, Path snapshot) throws IOException {
+    byte[] xml = Files.readAllBytes(source);
+    try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+      ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+      while (header.hasRemaining() && channel.read(header) >= 0) {
+        // Read the whole header
+      }
+      return matches(header.flip(), xml);
+    } catch (NoSuchFileException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Loads a dictionary from its snapshot, or from the XML when the snapshot is
+   * missing, stale or unreadable. In that case the snapshot is rewritten from the
+   * XML; a snapshot that cannot be written is retried on the next load.
+   *
+   * @param source the dictionary XML file
+   * @param snapshot the snapshot file
+   * @return the loaded DataDictionary
+   * @throws IOException if the source cannot be read
+   * @throws ConfigError if the dictionary is invalid
+   */
+  public static DataDictionary load(Path source, Path snapshot) throws IOException, ConfigError {
+    byte[] xml = Files.readAllBytes(source);
+    Document document = read(snapshot, xml);
+    if (document != null) {
+      return build(document);
+    }
+    try {
+      document = parse(xml, source);
+    } catch (IOException e) {
+      // Let quickfixj report the invalid dictionary as it would without snapshots
+      return new DataDictionary(new ByteArrayInputStream(xml));
+    }
+    DataDictionary dictionary = build(document);
+    try {
+      write(document, xml, snapshot);
+    } catch (IOException e) {
+      // The snapshot is only a cache; the dictionary itself loaded fine
+    }
+    return dictionary;
+  }
+
+  private static DataDictionary build(Document document) throws ConfigError {
+    PrebuiltFactory factory = new PrebuiltFactory(document);
+    return new DataDictionary(InputStream.nullInputStream(), () -> factory);
+  }
+
+  private static Document parse(byte[] xml, Path source) throws IOException {
+    try {
+      DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+      factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+      factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+      return factory.newDocumentBuilder().parse(new ByteArrayInputStream(xml));
+    } catch (ParserConfigurationException | SAXException e) {
+      throw new IOException("Invalid FIX dictionary: " + source, e);
+    }
+  }
+
+  private static Document read(Path snapshot, byte[] xml) throws IOException {
+    ByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    } catch (NoSuchFileException e) {
+      return null;
+    }
+    if (!matches(buffer, xml) || !hasValidPayload(buffer)) {
+      return null;
+    }
+    try {
+      buffer.position(HEADER_LENGTH);
+      String[] strings = new String[count(buffer, Integer.BYTES)];
+      byte[] scratch = new byte[64];
+      for (int i = 0; i < strings.length; i++) {
+        int length = count(buffer, 1);
+        if (length > scratch.length) {
+          scratch = new byte[length];
+        }
+        buffer.get(scratch, 0, length);
+        strings[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+      }
+      Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+      document.appendChild(readElement(document, buffer, strings));
+      return buffer.hasRemaining() ? null : document;
+    } catch (RuntimeException | ParserConfigurationException e) {
+      // Corrupt snapshot, fall back to the XML
+      return null;
+    }
+  }
+
+  private static Element readElement(Document document, ByteBuffer buffer, String[] strings) {
+    Element element = document.createElement(strings[buffer.getInt()]);
+    int attributes = count(buffer, 2 * Integer.BYTES);
+    for (int i = 0; i < attributes; i++) {
+      element.setAttribute(strings[buffer.getInt()], strings[buffer.getInt()]);
+    }
+    int children = count(buffer, MIN_ELEMENT_LENGTH);
+    for (int i = 0; i < children; i++) {
+      element.appendChild(readElement(document, buffer, strings));
+    }
+    return element;
+  }
+
+  /**
+   * Reads a count and checks that the rest of the buffer can hold that many entries
+   * of at least the given size, so a corrupt count fails before anything is allocated.
+   */
+  private static int count(ByteBuffer buffer, int minEntryLength) {
+    int count = buffer.getInt();
+    if (count < 0 || count > buffer.remaining() / minEntryLength) {
+      throw new IllegalStateException("Invalid snapshot count: " + count);
+    }
+    return count;
+  }
+
+  private static void write(Document document, byte[] xml, Path snapshot) throws IOException {
+    Map<String, Integer> index = new HashMap<>();
+    List<String> strings = new ArrayList<>();
+    ByteArrayOutputStream tree = new ByteArrayOutputStream(xml.length / 2);
+    writeElement(document.getDocumentElement(), new DataOutputStream(tree), index, strings);
+    ByteArrayOutputStream payload = new ByteArrayOutputStream(tree.size() + xml.length / 8);
+    DataOutputStream payloadOut = new DataOutputStream(payload);
+    payloadOut.writeInt(strings.size());
+    for (String string : strings) {
+      byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+      payloadOut.writeInt(bytes.length);
+      payloadOut.write(bytes);
+    }
+    tree.writeTo(payloadOut);
+    byte[] body = payload.toByteArray();
+
+    Path temp = Files.createTempFile(snapshot.toAbsolutePath().getParent(),
+        snapshot.getFileName().toString(), ".tmp");
+    try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(temp))) {
+      out.writeInt(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      out.writeLong(xml.length);
+      out.writeInt(crc(xml));
+      out.writeInt(body.length);
+      out.writeInt(crc(body));
+      out.write(body);
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(temp);
+      throw e;
+    }
+    try {
+      Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(temp);
+      throw e;
+    }
+  }
+
+  private static void writeElement(Element element, DataOutputStream out,
+      Map<String, Integer> index, List<String> strings) throws IOException {
+    out.writeInt(intern(element.getTagName(), index, strings));
+    NamedNodeMap attributes = element.getAttributes();
+    out.writeInt(attributes.getLength());
+    for (int i = 0; i < attributes.getLength(); i++) {
+      Node attribute = attributes.item(i);
+      out.writeInt(intern(attribute.getNodeName(), index, strings));
+      out.writeInt(intern(attribute.getNodeValue(), index, strings));
+    }
+    List<Element> children = new ArrayList<>();
+    for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+      if (child.getNodeType() == Node.ELEMENT_NODE) {
+        children.add((Element) child);
+      }
+    }
+    out.writeInt(children.size());
+    for (Element child : children) {
+      writeElement(child, out, index, strings);
+    }
+  }
+
+  private static int intern(String value, Map<String, Integer> index, List<String> strings) {
+    Integer position = index.get(value);
+    if (position == null) {
+      position = strings.size();
+      strings.add(value);
+      index.put(value, position);
+    }
+    return position;
+  }
+
+  private static boolean matches(ByteBuffer header, byte[] xml) {
+    return header.remaining() >= HEADER_LENGTH
+        && header.getInt(0) == MAGIC
+        && header.getInt(4) == FORMAT_VERSION
+        && header.getLong(8) == xml.length
+        && header.getInt(16) == crc(xml);
+  }
+
+  private static boolean hasValidPayload(ByteBuffer snapshot) {
+    int length = snapshot.getInt(20);
+    if (length != snapshot.remaining() - HEADER_LENGTH) {
+      return false;
+    }
+    CRC32C crc = new CRC32C();
+    crc.update(snapshot.duplicate().position(HEADER_LENGTH));
+    return (int) crc.getValue() == snapshot.getInt(24);
+  }
+
+  private static int crc(byte[] bytes) {
+    CRC32C crc = new CRC32C();
+    crc.update(bytes, 0, bytes.length);
+    return (int) crc.getValue();
+  }
+
+  /**
+   * Hands quickfixj a document that is already built instead of parsing its input.
+   */
+  private static final class PrebuiltFactory extends DocumentBuilderFactory {
+    private final Document document;
+
+    PrebuiltFactory(Document document) {
+      this.document = document;
+    }
+
+    @Override
+    public DocumentBuilder newDocumentBuilder() {
+      return new DocumentBuilder() {
+        @Override
+        public Document parse(InputSource is) {
+          return document;
+        }
+
+        @Override
+        public boolean isNamespaceAware() {
+          return false;
+        }
+
+        @Override
+        public boolean isValidating() {
+          return false;
+        }
+
+        @Override
+        public void setEntityResolver(EntityResolver er) {
+          // Nothing is resolved
+        }
+
+        @Override
+        public void setErrorHandler(ErrorHandler eh) {
+          // Nothing is parsed
+        }
+
+        @Override
+        public Document newDocument() {
+          return document.getImplementation().createDocument(null, null, null);
+        }
+
+        @Override
+        public DOMImplementation getDOMImplementation() {
+          return document.getImplementation();
+        }
+      };
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+      throw new IllegalArgumentException("Unsupported attribute: " + name);
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+      throw new IllegalArgumentException("Unsupported attribute: " + name);
+    }
+
+    @Override
+    public void setFeature(String name, boolean value) {
+      // Features only affect parsing
+    }
+
+    @Override
+    public boolean getFeature(String name) {
+      return false;
+    }
+  }
+}
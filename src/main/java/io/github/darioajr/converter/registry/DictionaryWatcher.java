@@ -0,0 +1,191 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.registry;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import quickfix.ConfigError;
+
+/**
+ * Watches a directory of custom FIX dictionaries and reloads the ones a
+ * {@link DataDictionaryRegistry} has cached whenever their file changes.
+ *
+ * <p>Reloads run on a daemon thread. The new XML is parsed completely before the
+ * registry swaps the cached reference, so conversions never wait for a reload and
+ * never see a partially loaded dictionary; conversions already holding the previous
+ * instance finish with it. Events for the same file are coalesced until the
+ * directory has been quiet for the settle delay. A file that fails to parse, for
+ * example because it is still being written, keeps the previous dictionary and is
+ * retried on its next change.
+ */
+public final class DictionaryWatcher implements Closeable {
+  /** Default time the directory must be quiet before changed files are reloaded. */
+  public static final Duration DEFAULT_SETTLE_DELAY = Duration.ofMillis(200);
+
+  private final DataDictionaryRegistry registry;
+  private final Path directory;
+  private final long settleMillis;
+  private final WatchService watchService;
+  private final Thread thread;
+  private final LongAdder reloads = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private volatile Exception lastError;
+
+  /**
+   * Starts watching a directory with the default settle delay.
+   *
+   * @param registry the registry whose dictionaries are reloaded
+   * @param directory the directory holding the dictionary files
+   * @throws IOException if the directory cannot be watched
+   */
+  public DictionaryWatcher(DataDictionaryRegistry registry, Path directory) throws IOException {
+    this(registry, directory, DEFAULT_SETTLE_DELAY);
+  }
+
+  /**
+   * Starts watching a directory.
+   *
+   * @param registry the registry whose dictionaries are reloaded
+   * @param directory the directory holding the dictionary files
+   * @param settleDelay the time the directory must be quiet before changed files are reloaded
+   * @throws IOException if the directory cannot be watched
+   */
+  public DictionaryWatcher(DataDictionaryRegistry registry, Path directory, Duration settleDelay)
+      throws IOException {
+    if (settleDelay.isNegative()) {
+      throw new IllegalArgumentException("Invalid settleDelay value: " + settleDelay);
+    }
+    this.registry = registry;
+    this.directory = directory.toAbsolutePath().normalize();
+    this.settleMillis = settleDelay.toMillis();
+    this.watchService = this.directory.getFileSystem().newWatchService();
+    this.directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+        StandardWatchEventKinds.ENTRY_MODIFY);
+    this.thread = new Thread(this::run, "fix-dictionary-watcher");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Gets the watched directory.
+   *
+   * @return the absolute path of the watched directory
+   */
+  public Path getDirectory() {
+    return directory;
+  }
+
+  /**
+   * Gets the number of dictionaries reloaded so far.
+   *
+   * @return the reload count
+   */
+  public long getReloadCount() {
+    return reloads.sum();
+  }
+
+  /**
+   * Gets the number of reloads that failed and kept the previous dictionary.
+   *
+   * @return the failure count
+   */
+  public long getFailureCount() {
+    return failures.sum();
+  }
+
+  /**
+   * Gets the error of the last failed reload.
+   *
+   * @return the last error, or {@code null} if no reload has failed
+   */
+  public Exception getLastError() {
+    return lastError;
+  }
+
+  /**
+   * Stops watching the directory. A reload in progress is allowed to finish.
+   *
+   * @throws IOException if the watch service cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    watchService.close();
+    if (Thread.currentThread() != thread) {
+      try {
+        thread.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void run() {
+    try {
+      while (true) {
+        Set<Path> changed = new LinkedHashSet<>();
+        boolean overflow = collect(watchService.take(), changed);
+        WatchKey key;
+        while ((key = watchService.poll(settleMillis, TimeUnit.MILLISECONDS)) != null) {
+          overflow |= collect(key, changed);
+        }
+        reload(changed, overflow);
+      }
+    } catch (InterruptedException | ClosedWatchServiceException e) {
+      // Closed
+    }
+  }
+
+  private boolean collect(WatchKey key, Set<Path> changed) {
+    boolean overflow = false;
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+        overflow = true;
+      } else {
+        changed.add(directory.resolve((Path) event.context()));
+      }
+    }
+    key.reset();
+    return overflow;
+  }
+
+  private void reload(Set<Path> changed, boolean overflow) {
+    for (String schemaPath : registry.getSchemaPaths()) {
+      Path file = Paths.get(schemaPath).toAbsolutePath().normalize();
+      if (changed.contains(file) || (overflow && directory.equals(file.getParent()))) {
+        try {
+          registry.reload(schemaPath);
+          reloads.increment();
+        } catch (IOException | ConfigError | RuntimeException e) {
+          failures.increment();
+          lastError = e;
+        }
+      }
+    }
+  }
+}
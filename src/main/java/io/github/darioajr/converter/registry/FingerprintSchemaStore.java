@@ -0,0 +1,102 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.registry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.message.SchemaStore;
+
+/**
+ * Thread-safe in-memory {@link SchemaStore} keyed by the 64-bit CRC fingerprint
+ * of each schema's Parsing Canonical Form.
+ *
+ * <p>Register every schema the archive was ever written with, so that
+ * single-object encoded records can be resolved to the current reader schema.
+ * Any other {@code SchemaStore} implementation can be plugged into
+ * {@link io.github.darioajr.converter.utils.SingleObjectDecoder} instead.
+ */
+public class FingerprintSchemaStore implements SchemaStore {
+  private final ConcurrentMap<Long, Schema> schemas = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs an empty store.
+   */
+  public FingerprintSchemaStore() {
+    // Default constructor
+  }
+
+  /**
+   * Constructs a store holding the given schemas.
+   *
+   * @param schemas the schemas to register
+   */
+  public FingerprintSchemaStore(Collection<Schema> schemas) {
+    for (Schema schema : schemas) {
+      addSchema(schema);
+    }
+  }
+
+  /**
+   * Computes the fingerprint used to identify a schema in single-object encoded data.
+   *
+   * @param schema the Avro schema
+   * @return the CRC-64-AVRO fingerprint of the schema's Parsing Canonical Form
+   */
+  public static long fingerprint(Schema schema) {
+    return SchemaNormalization.parsingFingerprint64(schema);
+  }
+
+  /**
+   * Registers a schema. Registering a schema with the same canonical form again
+   * keeps the first instance.
+   *
+   * @param schema the Avro schema
+   * @return the schema's fingerprint
+   */
+  public long addSchema(Schema schema) {
+    long fingerprint = fingerprint(schema);
+    schemas.putIfAbsent(fingerprint, schema);
+    return fingerprint;
+  }
+
+  @Override
+  public Schema findByFingerprint(long fingerprint) {
+    return schemas.get(fingerprint);
+  }
+
+  /**
+   * Gets the registered schemas.
+   *
+   * @return a snapshot of the registered schemas
+   */
+  public List<Schema> getSchemas() {
+    return List.copyOf(schemas.values());
+  }
+
+  /**
+   * Gets the number of registered schemas.
+   *
+   * @return the number of registered schemas
+   */
+  public int size() {
+    return schemas.size();
+  }
+}
@@ -0,0 +1,527 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.registry;
+
+import io.github.darioajr.converter.core.SchemaProvider;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaFormatter;
+import org.apache.avro.message.SchemaStore;
+import quickfix.ConfigError;
+import quickfix.DataDictionary;
+
+/**
+ * File-backed registry of FIX dictionaries and Avro schemas, indexed by id and
+ * version.
+ *
+ * <p>Registered files are copied into the registry directory and listed in an
+ * index file that is rewritten atomically on every registration, so a registry
+ * reopened on the same directory serves the same schemas. The whole index is
+ * held in memory; parsed dictionaries and schemas are kept in an approximate LRU
+ * cache of bounded size, so a lookup touches the filesystem only on a cache miss
+ * and a cache hit takes no lock.
+ *
+ * <p>Avro schemas are also indexed by fingerprint, which makes the registry a
+ * {@link SchemaStore} for {@link io.github.darioajr.converter.utils.SingleObjectDecoder}.
+ */
+public class LocalSchemaRegistry implements SchemaStore {
+  /**
+   * Name of the index file inside the registry directory.
+   */
+  public static final String INDEX_FILE = "index.tsv";
+  /**
+   * Default number of parsed dictionaries and schemas kept in memory.
+   */
+  public static final int DEFAULT_MAX_CACHED = 64;
+
+  private static final String INDEX_HEADER = "# kind\tid\tversion\tfixVersion|fingerprint\tfile";
+  private static final String FIX = "fix";
+  private static final String AVRO = "avro";
+  private static final Pattern NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]*");
+
+  private final Path directory;
+  private final ConcurrentMap<String, RegisteredDictionary> dictionaries =
+      new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, AvroEntry> avroSchemas = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Long, AvroEntry> fingerprints = new ConcurrentHashMap<>();
+  private final LruCache cache;
+  private final ConcurrentMap<String, Object> loadGuards = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder loads = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder loadTimeNanos = new LongAdder();
+
+  /**
+   * Opens the registry stored in the given directory, creating it if needed.
+   *
+   * @param directory the registry directory
+   * @throws IOException if the directory cannot be created or the index cannot be read
+   */
+  public LocalSchemaRegistry(Path directory) throws IOException {
+    this(directory, DEFAULT_MAX_CACHED);
+  }
+
+  /**
+   * Opens the registry stored in the given directory, creating it if needed.
+   *
+   * @param directory the registry directory
+   * @param maxCached the maximum number of parsed dictionaries and schemas kept in memory
+   * @throws IOException if the directory cannot be created or the index cannot be read
+   */
+  public LocalSchemaRegistry(Path directory, int maxCached) throws IOException {
+    if (maxCached < 1) {
+      throw new IllegalArgumentException("Invalid maxCached value: " + maxCached);
+    }
+    this.directory = directory.toAbsolutePath();
+    this.cache = new LruCache(maxCached);
+    Files.createDirectories(this.directory);
+    readIndex();
+  }
+
+  /**
+   * Registers a FIX dictionary. The dictionary is copied into the registry
+   * directory, parsed to validate it and added to the index. If any step fails,
+   * the copy is removed and the registry is left unchanged.
+   *
+   * @param id the dictionary id
+   * @param version the schema version
+   * @param source the provider of the dictionary file and its FIX version
+   * @return the registered dictionary, usable as a SchemaProvider
+   * @throws IOException if an I/O error occurs copying the file or writing the index
+   * @throws ConfigError if the dictionary is invalid
+   * @throws IllegalArgumentException if the id or version is invalid or already registered
+   */
+  public synchronized RegisteredDictionary registerDictionary(String id, String version,
+      SchemaProvider source) throws IOException, ConfigError {
+    String key = key(id, version);
+    if (dictionaries.containsKey(key)) {
+      throw new IllegalArgumentException("Dictionary already registered: " + key);
+    }
+    Path file = directory.resolve(FIX).resolve(id).resolve(version + ".xml");
+    Files.createDirectories(file.getParent());
+    Files.copy(Paths.get(source.getSchemaPath()), file, StandardCopyOption.REPLACE_EXISTING);
+    RegisteredDictionary registered =
+        new RegisteredDictionary(this, id, version, source.getVersion(), file.toString());
+    try {
+      DataDictionary dictionary = loadDictionary(file);
+      dictionaries.put(key, registered);
+      writeIndex();
+      cache.put(FIX + ':' + key, dictionary);
+    } catch (IOException | ConfigError | RuntimeException e) {
+      dictionaries.remove(key);
+      Files.deleteIfExists(file);
+      throw e;
+    }
+    return registered;
+  }
+
+  /**
+   * Registers an Avro schema. The schema is written into the registry directory
+   * and added to the index. If writing the index fails, the schema file is removed
+   * and the registry is left unchanged.
+   *
+   * @param id the schema id
+   * @param version the schema version
+   * @param schema the Avro schema
+   * @return the schema fingerprint
+   * @throws IOException if an I/O error occurs writing the schema or the index
+   * @throws IllegalArgumentException if the id or version is invalid or already registered
+   */
+  public synchronized long registerAvroSchema(String id, String version, Schema schema)
+      throws IOException {
+    String key = key(id, version);
+    if (avroSchemas.containsKey(key)) {
+      throw new IllegalArgumentException("Avro schema already registered: " + key);
+    }
+    Path file = directory.resolve(AVRO).resolve(id).resolve(version + ".avsc");
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, SchemaFormatter.format("json/pretty", schema),
+        StandardCharsets.UTF_8);
+    AvroEntry entry = new AvroEntry(key, FingerprintSchemaStore.fingerprint(schema), file);
+    avroSchemas.put(key, entry);
+    fingerprints.putIfAbsent(entry.fingerprint, entry);
+    try {
+      writeIndex();
+    } catch (IOException | RuntimeException e) {
+      avroSchemas.remove(key);
+      fingerprints.remove(entry.fingerprint, entry);
+      Files.deleteIfExists(file);
+      throw e;
+    }
+    cache.put(AVRO + ':' + key, schema);
+    return entry.fingerprint;
+  }
+
+  /**
+   * Gets a registered FIX dictionary.
+   *
+   * @param id the dictionary id
+   * @param version the schema version
+   * @return the registered dictionary, or {@code null} if none is registered
+   */
+  public RegisteredDictionary getDictionary(String id, String version) {
+    return dictionaries.get(id + '/' + version);
+  }
+
+  /**
+   * Gets the parsed DataDictionary of a registered dictionary.
+   *
+   * @param id the dictionary id
+   * @param version the schema version
+   * @return the shared DataDictionary, or {@code null} if none is registered
+   * @throws IOException if an I/O error occurs reading the dictionary file
+   * @throws ConfigError if the dictionary is invalid
+   */
+  public DataDictionary getDataDictionary(String id, String version)
+      throws IOException, ConfigError {
+    RegisteredDictionary registered = getDictionary(id, version);
+    return registered == null ? null : getDataDictionary(registered);
+  }
+
+  DataDictionary getDataDictionary(RegisteredDictionary registered)
+      throws IOException, ConfigError {
+    String cacheKey = FIX + ':' + key(registered);
+    Object cached = cache.get(cacheKey);
+    if (cached != null) {
+      hits.increment();
+      return (DataDictionary) cached;
+    }
+    synchronized (loadGuard(cacheKey)) {
+      cached = cache.get(cacheKey);
+      if (cached != null) {
+        hits.increment();
+        return (DataDictionary) cached;
+      }
+      misses.increment();
+      DataDictionary dictionary = loadDictionary(Paths.get(registered.getSchemaPath()));
+      cache.put(cacheKey, dictionary);
+      return dictionary;
+    }
+  }
+
+  /**
+   * Gets a registered Avro schema.
+   *
+   * @param id the schema id
+   * @param version the schema version
+   * @return the schema, or {@code null} if none is registered
+   * @throws IOException if an I/O error occurs reading the schema file
+   */
+  public Schema getAvroSchema(String id, String version) throws IOException {
+    AvroEntry entry = avroSchemas.get(id + '/' + version);
+    return entry == null ? null : loadAvroSchema(entry);
+  }
+
+  /**
+   * Gets the Avro schema registered with the given fingerprint.
+   *
+   * @param fingerprint the CRC-64-AVRO fingerprint of the schema
+   * @return the schema, or {@code null} if none is registered
+   * @throws UncheckedIOException if an I/O error occurs reading the schema file
+   */
+  @Override
+  public Schema findByFingerprint(long fingerprint) {
+    AvroEntry entry = fingerprints.get(fingerprint);
+    if (entry == null) {
+      return null;
+    }
+    try {
+      return loadAvroSchema(entry);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Gets the registered dictionaries.
+   *
+   * @return a snapshot of the registered dictionaries
+   */
+  public List<RegisteredDictionary> getDictionaries() {
+    return List.copyOf(dictionaries.values());
+  }
+
+  /**
+   * Gets the registry directory.
+   *
+   * @return the absolute path of the registry directory
+   */
+  public Path getDirectory() {
+    return directory;
+  }
+
+  /**
+   * Gets the number of registered dictionaries and Avro schemas.
+   *
+   * @return the number of index entries
+   */
+  public int size() {
+    return dictionaries.size() + avroSchemas.size();
+  }
+
+  /**
+   * Gets the number of parsed dictionaries and schemas currently cached.
+   *
+   * @return the number of cached entries
+   */
+  public int cachedSize() {
+    return cache.size();
+  }
+
+  /**
+   * Removes every parsed dictionary and schema from memory. The index is kept,
+   * so they are read again on next use.
+   */
+  public void evictAll() {
+    synchronized (cache) {
+      evictions.add(cache.size());
+      cache.clear();
+    }
+  }
+
+  /**
+   * Gets a snapshot of the registry counters.
+   *
+   * @return the current statistics
+   */
+  public RegistryStats getStats() {
+    return new RegistryStats(hits.sum(), misses.sum(), loads.sum(), evictions.sum(),
+      loadTimeNanos.sum());
+  }
+
+  private Schema loadAvroSchema(AvroEntry entry) throws IOException {
+    String cacheKey = AVRO + ':' + entry.key;
+    Object cached = cache.get(cacheKey);
+    if (cached != null) {
+      hits.increment();
+      return (Schema) cached;
+    }
+    synchronized (loadGuard(cacheKey)) {
+      cached = cache.get(cacheKey);
+      if (cached != null) {
+        hits.increment();
+        return (Schema) cached;
+      }
+      misses.increment();
+      long start = System.nanoTime();
+      Schema schema = new Schema.Parser().parse(entry.file.toFile());
+      loads.increment();
+      loadTimeNanos.add(System.nanoTime() - start);
+      cache.put(cacheKey, schema);
+      return schema;
+    }
+  }
+
+  /**
+   * Gets the monitor serializing loads of one cache key, so that concurrent misses
+   * on the same entry parse its file only once. There is one monitor per registered
+   * entry at most.
+   */
+  private Object loadGuard(String cacheKey) {
+    return loadGuards.computeIfAbsent(cacheKey, key -> new Object());
+  }
+
+  private DataDictionary loadDictionary(Path file) throws IOException, ConfigError {
+    long start = System.nanoTime();
+    try (InputStream in = Files.newInputStream(file)) {
+      DataDictionary dictionary = new DataDictionary(in);
+      loads.increment();
+      loadTimeNanos.add(System.nanoTime() - start);
+      return dictionary;
+    }
+  }
+
+  private void readIndex() throws IOException {
+    Path index = directory.resolve(INDEX_FILE);
+    if (!Files.exists(index)) {
+      return;
+    }
+    for (String line : Files.readAllLines(index, StandardCharsets.UTF_8)) {
+      if (line.isEmpty() || line.charAt(0) == '#') {
+        continue;
+      }
+      String[] columns = line.split("\t", -1);
+      if (columns.length != 5 || !NAME.matcher(columns[1]).matches()
+          || !NAME.matcher(columns[2]).matches()) {
+        throw new IOException("Malformed registry index line: " + line);
+      }
+      String key = columns[1] + '/' + columns[2];
+      Path file = directory.resolve(columns[4]);
+      if (FIX.equals(columns[0])) {
+        dictionaries.put(key, new RegisteredDictionary(this, columns[1], columns[2],
+            columns[3], file.toString()));
+      } else if (AVRO.equals(columns[0])) {
+        AvroEntry entry = new AvroEntry(key, Long.parseUnsignedLong(columns[3], 16), file);
+        avroSchemas.put(key, entry);
+        fingerprints.putIfAbsent(entry.fingerprint, entry);
+      } else {
+        throw new IOException("Malformed registry index line: " + line);
+      }
+    }
+  }
+
+  private void writeIndex() throws IOException {
+    Map<String, String> lines = new TreeMap<>();
+    for (RegisteredDictionary registered : dictionaries.values()) {
+      lines.put(FIX + ':' + key(registered), String.join("\t", FIX, registered.getId(),
+          registered.getSchemaVersion(), registered.getVersion(),
+          relativize(Paths.get(registered.getSchemaPath()))));
+    }
+    for (AvroEntry entry : avroSchemas.values()) {
+      String[] idVersion = entry.key.split("/", 2);
+      lines.put(AVRO + ':' + entry.key, String.join("\t", AVRO, idVersion[0], idVersion[1],
+          Long.toHexString(entry.fingerprint), relativize(entry.file)));
+    }
+    Path index = directory.resolve(INDEX_FILE);
+    Path temp = directory.resolve(INDEX_FILE + ".tmp");
+    try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+      writer.write(INDEX_HEADER);
+      writer.write('\n');
+      for (String line : lines.values()) {
+        writer.write(line);
+        writer.write('\n');
+      }
+    }
+    Files.move(temp, index, StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private String relativize(Path file) {
+    return directory.relativize(file).toString().replace('\\', '/');
+  }
+
+  private static String key(RegisteredDictionary registered) {
+    return registered.getId() + '/' + registered.getSchemaVersion();
+  }
+
+  private static String key(String id, String version) {
+    if (id == null || !NAME.matcher(id).matches()) {
+      throw new IllegalArgumentException("Invalid schema id: " + id);
+    }
+    if (version == null || !NAME.matcher(version).matches()) {
+      throw new IllegalArgumentException("Invalid schema version: " + version);
+    }
+    return id + '/' + version;
+  }
+
+  /**
+   * Index entry of one Avro schema.
+   */
+  private static final class AvroEntry {
+    private final String key;
+    private final long fingerprint;
+    private final Path file;
+
+    AvroEntry(String key, long fingerprint, Path file) {
+      this.key = key;
+      this.fingerprint = fingerprint;
+      this.file = file;
+    }
+  }
+
+  /**
+   * Approximate LRU map of parsed entries. Inserts advance the clock by two and,
+   * under the cache monitor, evict the entries with the oldest stamps. Hits read
+   * the concurrent map without locking and stamp the entry one tick past the clock:
+   * newer than every insert so far, tied with other entries hit since.
+   */
+  private final class LruCache {
+    private final ConcurrentMap<String, Slot> entries = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final int maxEntries;
+
+    LruCache(int maxEntries) {
+      this.maxEntries = maxEntries;
+    }
+
+    Object get(String key) {
+      Slot slot = entries.get(key);
+      if (slot == null) {
+        return null;
+      }
+      touch(slot);
+      return slot.value;
+    }
+
+    synchronized void put(String key, Object value) {
+      entries.put(key, new Slot(value, clock.addAndGet(2)));
+      evict(key);
+    }
+
+    int size() {
+      return entries.size();
+    }
+
+    synchronized void clear() {
+      entries.clear();
+    }
+
+    private void touch(Slot slot) {
+      long now = clock.get() + 1;
+      if (slot.stamp != now) {
+        slot.stamp = now;
+      }
+    }
+
+    private void evict(String inserted) {
+      while (entries.size() > maxEntries) {
+        String eldest = null;
+        long oldest = Long.MAX_VALUE;
+        for (Map.Entry<String, Slot> entry : entries.entrySet()) {
+          if (entry.getValue().stamp < oldest && !entry.getKey().equals(inserted)) {
+            oldest = entry.getValue().stamp;
+            eldest = entry.getKey();
+          }
+        }
+        if (eldest == null || entries.remove(eldest) == null) {
+          return;
+        }
+        evictions.increment();
+      }
+    }
+  }
+
+  /**
+   * A cached value and the clock tick of its last access.
+   */
+  private static final class Slot {
+    private final Object value;
+    private volatile long stamp;
+
+    Slot(Object value, long stamp) {
+      this.value = value;
+      this.stamp = stamp;
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.registry;
+
+import io.github.darioajr.converter.core.SchemaProvider;
+import java.io.IOException;
+import quickfix.ConfigError;
+import quickfix.DataDictionary;
+
+/**
+ * A FIX dictionary stored in a {@link LocalSchemaRegistry}, identified by id and
+ * schema version.
+ *
+ * <p>It can be passed anywhere a {@link SchemaProvider} is accepted. Conversions
+ * take the parsed DataDictionary from the owning registry's cache instead of
+ * reading the dictionary file.
+ */
+public final class RegisteredDictionary implements SchemaProvider {
+  private final LocalSchemaRegistry registry;
+  private final String id;
+  private final String schemaVersion;
+  private final String fixVersion;
+  private final String schemaPath;
+
+  RegisteredDictionary(LocalSchemaRegistry registry, String id, String schemaVersion,
+      String fixVersion, String schemaPath) {
+    this.registry = registry;
+    this.id = id;
+    this.schemaVersion = schemaVersion;
+    this.fixVersion = fixVersion;
+    this.schemaPath = schemaPath;
+  }
+
+  /**
+   * Gets the registry id of the dictionary.
+   *
+   * @return the dictionary id
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Gets the registry version of the dictionary.
+   *
+   * @return the schema version
+   */
+  public String getSchemaVersion() {
+    return schemaVersion;
+  }
+
+  /**
+   * Gets the version of the FIX protocol.
+   *
+   * @return the version of the FIX protocol
+   */
+  @Override
+  public String getVersion() {
+    return fixVersion;
+  }
+
+  /**
+   * Gets the path of the dictionary file inside the registry directory.
+   *
+   * @return the path to the schema file
+   */
+  @Override
+  public String getSchemaPath() {
+    return schemaPath;
+  }
+
+  /**
+   * Gets the parsed dictionary from the registry cache, loading it on a miss.
+   *
+   * @return the shared DataDictionary
+   * @throws IOException if an I/O error occurs reading the dictionary file
+   * @throws ConfigError if the dictionary is invalid
+   */
+  public DataDictionary getDataDictionary() throws IOException, ConfigError {
+    return registry.getDataDictionary(this);
+  }
+
+  @Override
+  public String toString() {
+    return id + "/" + schemaVersion;
+  }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.registry;
+
+/**
+ * Immutable snapshot of the counters kept by a registry.
+ */
+public final class RegistryStats {
+  private final long hits;
+  private final long misses;
+  private final long loads;
+  private final long evictions;
+  private final long totalLoadTimeNanos;
+
+  /**
+   * Constructs a new RegistryStats snapshot.
+   *
+   * @param hits the number of lookups served from memory
+   * @param misses the number of lookups that required a load
+   * @param loads the number of successful loads, including reloads
+   * @param evictions the number of entries removed from the registry
+   * @param totalLoadTimeNanos the accumulated time spent loading, in nanoseconds
+   */
+  public RegistryStats(long hits, long misses, long loads, long evictions,
+      long totalLoadTimeNanos) {
+    this.hits = hits;
+    this.misses = misses;
+    this.loads = loads;
+    this.evictions = evictions;
+    this.totalLoadTimeNanos = totalLoadTimeNanos;
+  }
+
+  /**
+   * Gets the number of lookups served from memory.
+   *
+   * @return the hit count
+   */
+  public long getHits() {
+    return hits;
+  }
+
+  /**
+   * Gets the number of lookups that required a load.
+   *
+   * @return the miss count
+   */
+  public long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Gets the number of successful loads, including explicit reloads.
+   *
+   * @return the load count
+   */
+  public long getLoads() {
+    return loads;
+  }
+
+  /**
+   * Gets the number of entries removed from the registry.
+   *
+   * @return the eviction count
+   */
+  public long getEvictions() {
+    return evictions;
+  }
+
+  /**
+   * Gets the accumulated time spent loading entries.
+   *
+   * @return the total load time in nanoseconds
+   */
+  public long getTotalLoadTimeNanos() {
+    return totalLoadTimeNanos;
+  }
+
+  /**
+   * Gets the ratio of hits over all lookups.
+   *
+   * @return the hit rate between 0 and 1, or 0 when there were no lookups
+   */
+  public double getHitRate() {
+    long requests = hits + misses;
+    return requests == 0 ? 0.0 : (double) hits / requests;
+  }
+
+  /**
+   * Gets the average time spent per load.
+   *
+   * @return the average load time in nanoseconds, or 0 when nothing was loaded
+   */
+  public double getAverageLoadTimeNanos() {
+    return loads == 0 ? 0.0 : (double) totalLoadTimeNanos / loads;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+      "RegistryStats[hits=%d, misses=%d, loads=%d, evictions=%d, avgLoadTimeMs=%.3f]",
+      hits, misses, loads, evictions, getAverageLoadTimeNanos() / 1_000_000.0);
+  }
+}
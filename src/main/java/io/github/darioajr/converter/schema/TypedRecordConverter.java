@@ -0,0 +1,352 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.schema;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.avro.LogicalType;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import quickfix.DataDictionary;
+import quickfix.Field;
+import quickfix.FieldConvertError;
+import quickfix.FieldMap;
+import quickfix.FieldNotFound;
+import quickfix.Group;
+import quickfix.InvalidMessage;
+import quickfix.Message;
+import quickfix.field.MsgType;
+import quickfix.field.converter.BooleanConverter;
+import quickfix.field.converter.UtcDateOnlyConverter;
+import quickfix.field.converter.UtcTimestampConverter;
+
+/**
+ * Converts FIX messages into the typed records described by {@link TypedSchemas}.
+ *
+ * <p>The record schema is chosen by MsgType (35). Values are converted to the field
+ * type; a value that is not one of the enumerated values of an enum field is kept in
+ * the {@value TypedSchemaGenerator#ADDITIONAL_FIELDS} map instead. Repeating groups,
+ * as parsed by the quickfixj DataDictionary, are written as arrays of entry records.
+ * Nested groups are walked with an explicit work list rather than recursion, so deep
+ * or large groups cost one small frame per entry. Instances are thread-safe.
+ */
+public final class TypedRecordConverter {
+  private final TypedSchemas schemas;
+  private final ConcurrentMap<String, Layout> layouts = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a converter writing records with the given schemas.
+   *
+   * @param schemas the typed schemas, usually from a {@link TypedSchemaGenerator}
+   */
+  public TypedRecordConverter(TypedSchemas schemas) {
+    this.schemas = Objects.requireNonNull(schemas, "schemas");
+  }
+
+  /**
+   * Gets the schemas records are written with.
+   *
+   * @return the typed schemas
+   */
+  public TypedSchemas getSchemas() {
+    return schemas;
+  }
+
+  /**
+   * Parses a FIX message and converts it to a typed record.
+   *
+   * @param rawMessage the raw FIX message, SOH or vertical bar delimited
+   * @param dataDictionary the FIX dictionary used to parse the message
+   * @return the typed record
+   * @throws RuntimeException if the message cannot be parsed or converted
+   */
+  public GenericRecord convert(String rawMessage, DataDictionary dataDictionary) {
+    Message message = new Message();
+    try {
+      message.fromString(rawMessage.replace("|", "\u0001"), dataDictionary, true);
+    } catch (InvalidMessage e) {
+      throw new RuntimeException("Error converting FIX message to Avro", e);
+    }
+    return convert(message);
+  }
+
+  /**
+   * Converts a parsed FIX message to a typed record.
+   *
+   * @param message the FIX message
+   * @return the typed record
+   * @throws RuntimeException if the message type has no schema or a value cannot be
+   *     converted to its field type
+   */
+  public GenericRecord convert(Message message) {
+    try {
+      Layout layout = layout(message.getHeader().getString(MsgType.FIELD));
+      GenericRecord record = layout.newRecord();
+      Deque<Frame> pending = new ArrayDeque<>();
+      pending.push(new Frame(message.getTrailer(), layout, record));
+      pending.push(new Frame(message, layout, record));
+      pending.push(new Frame(message.getHeader(), layout, record));
+      while (!pending.isEmpty()) {
+        pending.pop().copy(pending);
+      }
+      return record;
+    } catch (FieldNotFound | FieldConvertError | IllegalArgumentException
+        | ArithmeticException e) {
+      throw new RuntimeException("Error converting FIX message to Avro", e);
+    }
+  }
+
+  private Layout layout(String msgType) {
+    Layout layout = layouts.get(msgType);
+    if (layout == null) {
+      Schema schema = schemas.getSchema(msgType);
+      if (schema == null) {
+        throw new IllegalArgumentException("No typed schema for MsgType " + msgType);
+      }
+      layout = layouts.computeIfAbsent(msgType, k -> new Layout(schema));
+    }
+    return layout;
+  }
+
+  /**
+   * How a field value is converted to its Avro representation.
+   */
+  private enum Kind {
+    STRING, INT, LONG, DECIMAL, TIMESTAMP, DATE, BOOLEAN, ENUM, GROUP
+  }
+
+  /**
+   * Fields of one header, body, trailer or group entry still to be copied into a record.
+   */
+  private static final class Frame {
+    private final FieldMap source;
+    private final Layout layout;
+    private final GenericRecord target;
+
+    Frame(FieldMap source, Layout layout, GenericRecord target) {
+      this.source = source;
+      this.layout = layout;
+      this.target = target;
+    }
+
+    /**
+     * Copies the plain fields and queues one frame per group entry.
+     */
+    void copy(Deque<Frame> pending) throws FieldConvertError {
+      @SuppressWarnings("unchecked")
+      Map<String, String> additional =
+          (Map<String, String>) target.get(layout.additionalPosition);
+      for (Iterator<Field<?>> it = source.iterator(); it.hasNext();) {
+        Field<?> field = it.next();
+        String value = field.getObject().toString();
+        Slot slot = layout.slots.get(field.getTag());
+        if (slot != null && slot.kind == Kind.GROUP) {
+          continue;
+        }
+        Object converted = slot == null ? null : slot.convert(value);
+        if (converted == null) {
+          additional.put(String.valueOf(field.getTag()), value);
+        } else {
+          target.put(slot.position, converted);
+        }
+      }
+
+      for (Iterator<Integer> it = source.groupKeyIterator(); it.hasNext();) {
+        int tag = it.next();
+        Slot slot = layout.slots.get(tag);
+        if (slot == null || slot.kind != Kind.GROUP) {
+          throw new IllegalArgumentException("Group " + tag + " is not part of schema "
+              + layout.schema.getFullName());
+        }
+        List<Group> entries = source.getGroups(tag);
+        GenericData.Array<GenericRecord> array =
+            new GenericData.Array<>(entries.size(), slot.arraySchema);
+        for (Group entry : entries) {
+          GenericRecord record = slot.entryLayout.newRecord();
+          array.add(record);
+          pending.push(new Frame(entry, slot.entryLayout, record));
+        }
+        target.put(slot.position, array);
+      }
+    }
+  }
+
+  /**
+   * Tag to field mapping of one record schema.
+   */
+  private static final class Layout {
+    private final Schema schema;
+    private final Map<Integer, Slot> slots = new HashMap<>();
+    private final int additionalPosition;
+
+    Layout(Schema schema) {
+      this.schema = schema;
+      for (Schema.Field field : schema.getFields()) {
+        Object tag = field.getObjectProp(TypedSchemaGenerator.TAG_PROP);
+        if (tag instanceof Number) {
+          slots.put(((Number) tag).intValue(), new Slot(field));
+        }
+      }
+      Schema.Field additional = schema.getField(TypedSchemaGenerator.ADDITIONAL_FIELDS);
+      if (additional == null) {
+        throw new IllegalArgumentException("Schema " + schema.getFullName()
+            + " has no " + TypedSchemaGenerator.ADDITIONAL_FIELDS + " field");
+      }
+      this.additionalPosition = additional.pos();
+    }
+
+    /**
+     * Creates a record with empty group arrays and additional fields. Absent groups
+     * share one immutable empty list.
+     */
+    GenericRecord newRecord() {
+      GenericRecord record = new GenericData.Record(schema);
+      record.put(additionalPosition, new LinkedHashMap<String, String>());
+      for (Slot slot : slots.values()) {
+        if (slot.kind == Kind.GROUP) {
+          record.put(slot.position, Collections.emptyList());
+        }
+      }
+      return record;
+    }
+  }
+
+  /**
+   * Conversion of one tag into one record field.
+   */
+  private static final class Slot {
+    private final int position;
+    private final Kind kind;
+    private final int precision;
+    private final int scale;
+    private final Map<String, GenericData.EnumSymbol> symbols = new HashMap<>();
+    private final Schema arraySchema;
+    private final Layout entryLayout;
+
+    Slot(Schema.Field field) {
+      this.position = field.pos();
+      Schema type = valueType(field.schema());
+      LogicalType logicalType = type.getLogicalType();
+      int decimalPrecision = 0;
+      int decimalScale = 0;
+      Layout groupLayout = null;
+      switch (type.getType()) {
+        case INT:
+          kind = logicalType instanceof LogicalTypes.Date ? Kind.DATE : Kind.INT;
+          break;
+        case LONG:
+          kind = logicalType instanceof LogicalTypes.TimestampMicros ? Kind.TIMESTAMP : Kind.LONG;
+          break;
+        case BYTES:
+          if (!(logicalType instanceof LogicalTypes.Decimal)) {
+            throw new IllegalArgumentException("Unsupported bytes field " + field.name());
+          }
+          kind = Kind.DECIMAL;
+          decimalPrecision = ((LogicalTypes.Decimal) logicalType).getPrecision();
+          decimalScale = ((LogicalTypes.Decimal) logicalType).getScale();
+          break;
+        case BOOLEAN:
+          kind = Kind.BOOLEAN;
+          break;
+        case ENUM:
+          kind = Kind.ENUM;
+          Object values = type.getObjectProp(TypedSchemaGenerator.ENUM_VALUES_PROP);
+          List<String> enumSymbols = type.getEnumSymbols();
+          for (int i = 0; i < enumSymbols.size(); i++) {
+            String value = values instanceof List ? String.valueOf(((List<?>) values).get(i))
+                : enumSymbols.get(i);
+            symbols.put(value, new GenericData.EnumSymbol(type, enumSymbols.get(i)));
+          }
+          break;
+        case ARRAY:
+          kind = Kind.GROUP;
+          groupLayout = new Layout(type.getElementType());
+          break;
+        default:
+          kind = Kind.STRING;
+          break;
+      }
+      this.precision = decimalPrecision;
+      this.scale = decimalScale;
+      this.arraySchema = kind == Kind.GROUP ? type : null;
+      this.entryLayout = groupLayout;
+    }
+
+    /**
+     * Converts a wire value, or returns {@code null} when the value is not one of the
+     * enumerated values of an enum field.
+     */
+    Object convert(String value) throws FieldConvertError {
+      switch (kind) {
+        case INT:
+          return Integer.parseInt(value);
+        case LONG:
+          return Long.parseLong(value);
+        case DECIMAL:
+          return toDecimalBytes(value);
+        case TIMESTAMP:
+          LocalDateTime time = UtcTimestampConverter.convertToLocalDateTime(value);
+          return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+        case DATE:
+          return (int) UtcDateOnlyConverter.convertToLocalDate(value).toEpochDay();
+        case BOOLEAN:
+          return BooleanConverter.convert(value);
+        case ENUM:
+          return symbols.get(value);
+        default:
+          return value;
+      }
+    }
+
+    private ByteBuffer toDecimalBytes(String value) {
+      BigDecimal decimal = new BigDecimal(value).setScale(scale, RoundingMode.UNNECESSARY);
+      if (decimal.precision() > precision) {
+        throw new ArithmeticException(
+          "Value " + value + " exceeds the decimal precision " + precision);
+      }
+      return ByteBuffer.wrap(decimal.unscaledValue().toByteArray());
+    }
+
+    private static Schema valueType(Schema schema) {
+      if (schema.getType() != Schema.Type.UNION) {
+        return schema;
+      }
+      for (Schema branch : schema.getTypes()) {
+        if (branch.getType() != Schema.Type.NULL) {
+          return branch;
+        }
+      }
+      return schema;
+    }
+  }
+}
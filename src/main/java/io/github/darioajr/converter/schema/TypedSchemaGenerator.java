@@ -0,0 +1,508 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.schema;
+
+import io.github.darioajr.converter.core.SchemaProvider;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+
+/**
+ * Generates typed Avro record schemas from a FIX dictionary XML file, such as the
+ * {@code FIX44.xml} and {@code FIX50SP2.xml} files behind
+ * {@link io.github.darioajr.converter.models.FixDefaultVersion}.
+ *
+ * <p>Each message type gets a record named after the message, with one nullable field
+ * per header, body and trailer field, named after the FIX field. Components are
+ * flattened into the message. Field values are typed from the dictionary:
+ * <ul>
+ *   <li>{@code INT}, {@code LENGTH}, {@code NUMINGROUP}, {@code TAGNUM} and
+ *       {@code DAYOFMONTH} as {@code int}, {@code SEQNUM} as {@code long};</li>
+ *   <li>{@code PRICE}, {@code QTY}, {@code AMT}, {@code PRICEOFFSET},
+ *       {@code PERCENTAGE} and {@code FLOAT} as {@code decimal};</li>
+ *   <li>{@code UTCTIMESTAMP} as {@code timestamp-micros}, and {@code UTCDATEONLY},
+ *       {@code UTCDATE} and {@code LOCALMKTDATE} as {@code date};</li>
+ *   <li>{@code BOOLEAN} as {@code boolean};</li>
+ *   <li>{@code CHAR}, {@code STRING} and {@code INT} fields with enumerated values as
+ *       an Avro {@code enum} whose symbols are the value descriptions;</li>
+ *   <li>everything else as {@code string}.</li>
+ * </ul>
+ *
+ * <p>Repeating groups become an array of entry records, named after the group with an
+ * {@code Entry} suffix and holding the group fields, nested groups included. The array
+ * replaces the NumInGroup counter and is empty when the group is absent.
+ *
+ * <p>Every field carries its tag number in the {@value #TAG_PROP} property and enums
+ * carry their wire values in {@value #ENUM_VALUES_PROP}, so a schema parsed back from
+ * JSON can still drive a {@link TypedRecordConverter}. Fields a message or group entry
+ * definition does not contain are kept as strings in its {@value #ADDITIONAL_FIELDS}
+ * map.
+ */
+public final class TypedSchemaGenerator {
+  /**
+   * Field property holding the FIX tag number.
+   */
+  public static final String TAG_PROP = "fix.tag";
+
+  /**
+   * Record property holding the MsgType (35) value.
+   */
+  public static final String MSG_TYPE_PROP = "fix.msgType";
+
+  /**
+   * Enum property holding the FIX wire values, in symbol order.
+   */
+  public static final String ENUM_VALUES_PROP = "fix.values";
+
+  /**
+   * Name of the map field receiving fields the message definition does not contain.
+   */
+  public static final String ADDITIONAL_FIELDS = "additionalFields";
+
+  /**
+   * Namespace prefix of the generated records; the FIX version is appended to it.
+   */
+  public static final String DEFAULT_NAMESPACE_PREFIX = "io.github.darioajr.converter.fix";
+
+  /**
+   * Default precision of decimal fields.
+   */
+  public static final int DEFAULT_DECIMAL_PRECISION = 28;
+
+  /**
+   * Default scale of decimal fields.
+   */
+  public static final int DEFAULT_DECIMAL_SCALE = 8;
+
+  private static final String[] STANDARD_HEADER = {
+    "BeginString", "BodyLength", "MsgType", "ApplVerID", "ApplExtID", "CstmApplVerID",
+    "SenderCompID", "TargetCompID", "OnBehalfOfCompID", "DeliverToCompID", "MsgSeqNum",
+    "SenderSubID", "SenderLocationID", "TargetSubID", "TargetLocationID", "OnBehalfOfSubID",
+    "OnBehalfOfLocationID", "DeliverToSubID", "DeliverToLocationID", "PossDupFlag",
+    "PossResend", "SendingTime", "OrigSendingTime", "MessageEncoding",
+    "LastMsgSeqNumProcessed"
+  };
+  private static final String[] STANDARD_TRAILER = {"SignatureLength", "Signature", "CheckSum"};
+
+  private final String namespace;
+  private final int decimalPrecision;
+  private final int decimalScale;
+
+  /**
+   * Constructs a generator with the default namespace and decimal precision and scale.
+   */
+  public TypedSchemaGenerator() {
+    this(builder());
+  }
+
+  private TypedSchemaGenerator(Builder builder) {
+    this.namespace = builder.namespace;
+    this.decimalPrecision = builder.decimalPrecision;
+    this.decimalScale = builder.decimalScale;
+  }
+
+  /**
+   * Creates a builder for a generator with non-default settings.
+   *
+   * @return a new builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Generates the schemas for the dictionary of the given FIX version.
+   *
+   * @param schema the schema provider whose dictionary file is read
+   * @return the generated schemas
+   * @throws IOException if an I/O error occurs reading the dictionary file
+   * @throws IllegalArgumentException if the dictionary is malformed
+   */
+  public TypedSchemas generate(SchemaProvider schema) throws IOException {
+    try (InputStream in = new FileInputStream(schema.getSchemaPath())) {
+      return generate(in, schema.getVersion());
+    }
+  }
+
+  /**
+   * Generates the schemas for a dictionary read from a stream. The stream is not closed.
+   *
+   * @param dictionary the dictionary XML
+   * @param version the FIX version, used in the default namespace
+   * @return the generated schemas
+   * @throws IOException if an I/O error occurs reading the stream
+   * @throws IllegalArgumentException if the dictionary is malformed
+   */
+  public TypedSchemas generate(InputStream dictionary, String version) throws IOException {
+    Element root = parse(dictionary).getDocumentElement();
+    Dictionary dict = new Dictionary(root);
+    String recordNamespace = namespace != null ? namespace : defaultNamespace(version);
+
+    Map<String, Schema> schemas = new LinkedHashMap<>();
+    for (Element message : children(child(root, "messages"), "message")) {
+      MessageBuilder builder = new MessageBuilder(dict, recordNamespace);
+      builder.addSection(child(root, "header"), STANDARD_HEADER);
+      builder.addMembers(message);
+      builder.addSection(child(root, "trailer"), STANDARD_TRAILER);
+      String msgType = message.getAttribute("msgtype");
+      schemas.put(msgType, builder.build(message.getAttribute("name"), msgType));
+    }
+    return new TypedSchemas(version, schemas);
+  }
+
+  private static String defaultNamespace(String version) {
+    return DEFAULT_NAMESPACE_PREFIX
+      + version.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9_]", "_");
+  }
+
+  private static Document parse(InputStream in) throws IOException {
+    try {
+      DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+      factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+      factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+      return factory.newDocumentBuilder().parse(in);
+    } catch (ParserConfigurationException | SAXException e) {
+      throw new IllegalArgumentException("Invalid FIX dictionary: " + e.getMessage(), e);
+    }
+  }
+
+  private static Element child(Element parent, String name) {
+    List<Element> matches = children(parent, name);
+    return matches.isEmpty() ? null : matches.get(0);
+  }
+
+  private static List<Element> children(Element parent, String name) {
+    if (parent == null) {
+      return Collections.emptyList();
+    }
+    List<Element> elements = new ArrayList<>();
+    for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+      if (node.getNodeType() == Node.ELEMENT_NODE
+          && (name == null || name.equals(node.getNodeName()))) {
+        elements.add((Element) node);
+      }
+    }
+    return elements;
+  }
+
+  private static List<Schema.Field> copyFields(Schema record) {
+    List<Schema.Field> copies = new ArrayList<>(record.getFields().size());
+    for (Schema.Field field : record.getFields()) {
+      copies.add(new Schema.Field(field, field.schema()));
+    }
+    return copies;
+  }
+
+  private static String symbolOf(String description) {
+    String symbol = description.replaceAll("[^A-Za-z0-9_]", "_");
+    if (symbol.isEmpty() || !Character.isLetter(symbol.charAt(0)) && symbol.charAt(0) != '_') {
+      symbol = "_" + symbol;
+    }
+    return symbol;
+  }
+
+  /**
+   * Field definitions and components of one dictionary.
+   */
+  private static final class Dictionary {
+    private final Map<String, FieldDef> fields = new HashMap<>();
+    private final Map<String, Element> components = new HashMap<>();
+
+    Dictionary(Element root) {
+      for (Element field : children(child(root, "fields"), "field")) {
+        FieldDef def = new FieldDef(field);
+        fields.put(def.name, def);
+      }
+      for (Element component : children(child(root, "components"), "component")) {
+        components.put(component.getAttribute("name"), component);
+      }
+    }
+
+    FieldDef field(String name) {
+      FieldDef def = fields.get(name);
+      if (def == null) {
+        throw new IllegalArgumentException("Field not defined in the dictionary: " + name);
+      }
+      return def;
+    }
+
+    Element component(String name) {
+      Element component = components.get(name);
+      if (component == null) {
+        throw new IllegalArgumentException("Component not defined in the dictionary: " + name);
+      }
+      return component;
+    }
+  }
+
+  /**
+   * One entry of the dictionary {@code fields} section.
+   */
+  private static final class FieldDef {
+    private final int tag;
+    private final String name;
+    private final String type;
+    private final Map<String, String> values = new LinkedHashMap<>();
+
+    FieldDef(Element field) {
+      this.name = field.getAttribute("name");
+      this.type = field.getAttribute("type");
+      try {
+        this.tag = Integer.parseInt(field.getAttribute("number"));
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Invalid tag number for field " + name, e);
+      }
+      for (Element value : children(field, "value")) {
+        values.put(value.getAttribute("enum"), value.getAttribute("description"));
+      }
+    }
+  }
+
+  /**
+   * Collects the fields of one message record.
+   */
+  private final class MessageBuilder {
+    private final Dictionary dict;
+    private final String recordNamespace;
+    private final List<Schema.Field> fields = new ArrayList<>();
+    private final Set<Integer> tags = new HashSet<>();
+    private final Map<String, Schema> namedTypes;
+
+    MessageBuilder(Dictionary dict, String recordNamespace) {
+      this(dict, recordNamespace, new HashMap<>());
+    }
+
+    private MessageBuilder(Dictionary dict, String recordNamespace,
+        Map<String, Schema> namedTypes) {
+      this.dict = dict;
+      this.recordNamespace = recordNamespace;
+      this.namedTypes = namedTypes;
+    }
+
+    void addSection(Element section, String[] standardFields) {
+      if (section != null && !children(section, null).isEmpty()) {
+        addMembers(section);
+        return;
+      }
+      for (String name : standardFields) {
+        if (dict.fields.containsKey(name)) {
+          addField(dict.field(name));
+        }
+      }
+    }
+
+    void addMembers(Element parent) {
+      for (Element member : children(parent, null)) {
+        String name = member.getAttribute("name");
+        switch (member.getNodeName()) {
+          case "field":
+            addField(dict.field(name));
+            break;
+          case "group":
+            addGroup(dict.field(name), member);
+            break;
+          case "component":
+            addMembers(dict.component(name));
+            break;
+          default:
+            break;
+        }
+      }
+    }
+
+    Schema build(String name, String msgType) {
+      Schema record = buildRecord(name);
+      record.addProp(MSG_TYPE_PROP, msgType);
+      return record;
+    }
+
+    private Schema buildRecord(String name) {
+      fields.add(new Schema.Field(ADDITIONAL_FIELDS, Schema.createMap(Schema.create(
+          Schema.Type.STRING)), "Fields the definition does not contain, by tag",
+          Collections.emptyMap()));
+      return Schema.createRecord(name, null, recordNamespace, false, fields);
+    }
+
+    private void addGroup(FieldDef counter, Element group) {
+      if (!tags.add(counter.tag)) {
+        return;
+      }
+      MessageBuilder entry = new MessageBuilder(dict, recordNamespace, namedTypes);
+      entry.addMembers(group);
+      Schema array = Schema.createArray(entry.entrySchema(counter.name + "Entry"));
+      Schema.Field field = new Schema.Field(counter.name, array, null, Collections.emptyList());
+      field.addProp(TAG_PROP, counter.tag);
+      fields.add(field);
+    }
+
+    /**
+     * Builds a group entry record, reusing an identical record already defined in the
+     * message; a group name that is defined twice with different members gets a
+     * numbered name.
+     */
+    private Schema entrySchema(String name) {
+      Schema candidate = buildRecord(name);
+      for (int suffix = 2; ; suffix++) {
+        Schema existing = namedTypes.putIfAbsent(candidate.getName(), candidate);
+        if (existing == null) {
+          return candidate;
+        }
+        if (existing.equals(candidate)) {
+          return existing;
+        }
+        candidate = Schema.createRecord(name + suffix, null, recordNamespace, false,
+          copyFields(candidate));
+      }
+    }
+
+    private void addField(FieldDef def) {
+      if (!tags.add(def.tag)) {
+        return;
+      }
+      Schema nullable = Schema.createUnion(Schema.create(Schema.Type.NULL), valueSchema(def));
+      Schema.Field field = new Schema.Field(def.name, nullable, null,
+          Schema.Field.NULL_DEFAULT_VALUE);
+      field.addProp(TAG_PROP, def.tag);
+      fields.add(field);
+    }
+
+    private Schema valueSchema(FieldDef def) {
+      if (!def.values.isEmpty()
+          && ("CHAR".equals(def.type) || "STRING".equals(def.type) || "INT".equals(def.type))) {
+        return namedTypes.computeIfAbsent(def.name, k -> enumSchema(def));
+      }
+      switch (def.type) {
+        case "INT":
+        case "LENGTH":
+        case "NUMINGROUP":
+        case "TAGNUM":
+        case "DAYOFMONTH":
+          return Schema.create(Schema.Type.INT);
+        case "SEQNUM":
+          return Schema.create(Schema.Type.LONG);
+        case "PRICE":
+        case "QTY":
+        case "AMT":
+        case "PRICEOFFSET":
+        case "PERCENTAGE":
+        case "FLOAT":
+          return LogicalTypes.decimal(decimalPrecision, decimalScale)
+            .addToSchema(Schema.create(Schema.Type.BYTES));
+        case "UTCTIMESTAMP":
+          return LogicalTypes.timestampMicros().addToSchema(Schema.create(Schema.Type.LONG));
+        case "UTCDATEONLY":
+        case "UTCDATE":
+        case "LOCALMKTDATE":
+          return LogicalTypes.date().addToSchema(Schema.create(Schema.Type.INT));
+        case "BOOLEAN":
+          return Schema.create(Schema.Type.BOOLEAN);
+        default:
+          return Schema.create(Schema.Type.STRING);
+      }
+    }
+
+    private Schema enumSchema(FieldDef def) {
+      List<String> symbols = new ArrayList<>(def.values.size());
+      Set<String> used = new HashSet<>();
+      for (Map.Entry<String, String> value : def.values.entrySet()) {
+        String symbol = symbolOf(value.getValue());
+        if (!used.add(symbol)) {
+          symbol = symbol + "_" + symbolOf(value.getKey());
+          used.add(symbol);
+        }
+        symbols.add(symbol);
+      }
+      Schema schema = Schema.createEnum(def.name, null, recordNamespace, symbols);
+      schema.addProp(ENUM_VALUES_PROP, new ArrayList<>(def.values.keySet()));
+      return schema;
+    }
+  }
+
+  /**
+   * Builder for {@link TypedSchemaGenerator}.
+   */
+  public static final class Builder {
+    private String namespace;
+    private int decimalPrecision = DEFAULT_DECIMAL_PRECISION;
+    private int decimalScale = DEFAULT_DECIMAL_SCALE;
+
+    private Builder() {
+      // Use TypedSchemaGenerator.builder()
+    }
+
+    /**
+     * Sets the namespace of the generated records. Defaults to
+     * {@value TypedSchemaGenerator#DEFAULT_NAMESPACE_PREFIX} followed by the FIX version.
+     *
+     * @param namespace the Avro namespace
+     * @return this builder
+     */
+    public Builder namespace(String namespace) {
+      this.namespace = Objects.requireNonNull(namespace, "namespace");
+      return this;
+    }
+
+    /**
+     * Sets the precision and scale of decimal fields. Defaults to
+     * {@value TypedSchemaGenerator#DEFAULT_DECIMAL_PRECISION} and
+     * {@value TypedSchemaGenerator#DEFAULT_DECIMAL_SCALE}. Values with more fractional
+     * digits than the scale fail to convert rather than being rounded.
+     *
+     * @param precision the total number of digits
+     * @param scale the number of fractional digits
+     * @return this builder
+     * @throws IllegalArgumentException if the scale is negative or exceeds the precision
+     */
+    public Builder decimal(int precision, int scale) {
+      if (precision < 1 || scale < 0 || scale > precision) {
+        throw new IllegalArgumentException(
+          "Invalid decimal precision and scale: " + precision + ", " + scale);
+      }
+      this.decimalPrecision = precision;
+      this.decimalScale = scale;
+      return this;
+    }
+
+    /**
+     * Builds the generator.
+     *
+     * @return the new generator
+     */
+    public TypedSchemaGenerator build() {
+      return new TypedSchemaGenerator(this);
+    }
+  }
+}
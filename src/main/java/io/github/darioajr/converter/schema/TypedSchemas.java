@@ -0,0 +1,84 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.schema;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import org.apache.avro.Schema;
+
+/**
+ * Typed Avro record schemas generated from a FIX dictionary, one per message type.
+ *
+ * <p>Instances are immutable and can be shared between threads.
+ */
+public final class TypedSchemas {
+  private final String version;
+  private final Map<String, Schema> schemasByMsgType;
+
+  TypedSchemas(String version, Map<String, Schema> schemasByMsgType) {
+    this.version = version;
+    this.schemasByMsgType = Collections.unmodifiableMap(schemasByMsgType);
+  }
+
+  /**
+   * Gets the FIX version the schemas were generated for.
+   *
+   * @return the version, as returned by the schema provider
+   */
+  public String getVersion() {
+    return version;
+  }
+
+  /**
+   * Gets the schema of a message type.
+   *
+   * @param msgType the MsgType (35) value
+   * @return the record schema, or {@code null} if the dictionary does not define the type
+   */
+  public Schema getSchema(String msgType) {
+    return schemasByMsgType.get(msgType);
+  }
+
+  /**
+   * Gets the message types that have a schema, in dictionary order.
+   *
+   * @return the message types
+   */
+  public Set<String> getMsgTypes() {
+    return schemasByMsgType.keySet();
+  }
+
+  /**
+   * Gets every generated schema, in dictionary order.
+   *
+   * @return the record schemas
+   */
+  public Collection<Schema> getSchemas() {
+    return schemasByMsgType.values();
+  }
+
+  /**
+   * Gets the number of generated schemas.
+   *
+   * @return the number of message types
+   */
+  public int size() {
+    return schemasByMsgType.size();
+  }
+}
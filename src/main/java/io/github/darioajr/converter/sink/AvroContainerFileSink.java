@@ -0,0 +1,451 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.sink;
+
+import io.github.darioajr.converter.core.SchemaProvider;
+import io.github.darioajr.converter.registry.AvroSchemaRegistry;
+import io.github.darioajr.converter.utils.AvroUtils;
+import io.github.darioajr.converter.utils.DirectAvroEncoder;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import org.apache.avro.Schema;
+import org.apache.avro.file.CodecFactory;
+import org.apache.avro.file.DataFileConstants;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+
+/**
+ * Streams converted FIX messages into Avro object container files.
+ *
+ * <p>Files are named {@code <prefix>-<sequence>.avro} and are created in the
+ * configured directory; a new file is started once the current one reaches the
+ * configured size or record count. The size limit is checked against the bytes
+ * flushed to disk, so a file may exceed it by up to one block. Existing files are
+ * never overwritten: a sink opened on a directory that already holds files with the
+ * same prefix continues after the highest sequence number found.
+ *
+ * <p>With the default {@code FixMessage.avsc} schema each message is encoded in
+ * streaming mode by {@link DirectAvroEncoder} and appended as a pre-encoded datum.
+ *
+ * <p>Instances are not thread-safe.
+ */
+public final class AvroContainerFileSink implements Closeable {
+  /** Extension of the files written by the sink. */
+  public static final String FILE_EXTENSION = ".avro";
+  /** Metadata key holding the FIX version of the messages in a file. */
+  public static final String FIX_VERSION_META = "fix.version";
+
+  private final Path directory;
+  private final String filePrefix;
+  private final SchemaProvider fixSchema;
+  private final Schema avroSchema;
+  private final boolean defaultLayout;
+  private final CodecFactory codec;
+  private final int syncInterval;
+  private final long maxFileBytes;
+  private final long maxRecordsPerFile;
+  private final List<Path> files = new ArrayList<>();
+
+  private DataFileWriter<GenericRecord> writer;
+  private CountingOutputStream output;
+  private long nextSequence;
+  private long fileRecords;
+  private long totalRecords;
+  private boolean closed;
+
+  private AvroContainerFileSink(Builder builder) throws IOException {
+    this.directory = builder.directory;
+    this.filePrefix = builder.filePrefix;
+    this.fixSchema = builder.fixSchema;
+    Schema defaultSchema = AvroSchemaRegistry.getInstance().getDefaultSchema();
+    this.avroSchema = builder.avroSchema != null ? builder.avroSchema : defaultSchema;
+    this.defaultLayout = avroSchema.equals(defaultSchema);
+    this.codec = builder.codec;
+    this.syncInterval = builder.syncInterval;
+    this.maxFileBytes = builder.maxFileBytes;
+    this.maxRecordsPerFile = builder.maxRecordsPerFile;
+    Files.createDirectories(directory);
+    this.nextSequence = firstFreeSequence();
+  }
+
+  /**
+   * Creates a builder for a sink writing to the given directory.
+   *
+   * @param directory the directory receiving the container files
+   * @param fixSchema the schema provider for the FIX dictionary
+   * @return a new builder
+   */
+  public static Builder builder(Path directory, SchemaProvider fixSchema) {
+    return new Builder(directory, fixSchema);
+  }
+
+  /**
+   * Converts a raw FIX message and appends it to the current file.
+   *
+   * @param rawMessage the raw FIX message, SOH or vertical bar delimited
+   * @throws IOException if an I/O error occurs while writing
+   * @throws RuntimeException if the message cannot be converted; nothing is written
+   */
+  public void append(String rawMessage) throws IOException {
+    ensureOpen();
+    if (defaultLayout) {
+      byte[] datum = DirectAvroEncoder.getInstance().encode(rawMessage, fixSchema);
+      currentWriter().appendEncoded(ByteBuffer.wrap(datum));
+    } else {
+      GenericRecord record = AvroUtils.convertFixToAvro(rawMessage, fixSchema, avroSchema);
+      currentWriter().append(record);
+    }
+    recordAppended();
+  }
+
+  /**
+   * Converts a raw FIX message held in a byte array region and appends it to the
+   * current file. The bytes are read as ISO-8859-1.
+   *
+   * @param rawMessage the raw FIX message bytes, SOH or vertical bar delimited
+   * @param offset the index of the first byte of the message
+   * @param length the number of bytes in the message
+   * @throws IOException if an I/O error occurs while writing
+   * @throws RuntimeException if the message cannot be converted; nothing is written
+   */
+  public void append(byte[] rawMessage, int offset, int length) throws IOException {
+    ensureOpen();
+    if (defaultLayout) {
+      byte[] datum = DirectAvroEncoder.getInstance().encode(rawMessage, offset, length, fixSchema);
+      currentWriter().appendEncoded(ByteBuffer.wrap(datum));
+    } else {
+      String message = new String(rawMessage, offset, length, StandardCharsets.ISO_8859_1);
+      currentWriter().append(AvroUtils.convertFixToAvro(message, fixSchema, avroSchema));
+    }
+    recordAppended();
+  }
+
+  /**
+   * Appends an already converted record to the current file.
+   *
+   * @param record the record to append, matching the sink's Avro schema
+   * @throws IOException if an I/O error occurs while writing
+   */
+  public void append(GenericRecord record) throws IOException {
+    ensureOpen();
+    currentWriter().append(record);
+    recordAppended();
+  }
+
+  /**
+   * Appends a record that is already Avro binary encoded with the sink's schema,
+   * such as the output of a {@link io.github.darioajr.converter.pipeline.ConversionPipeline}.
+   *
+   * @param datum the encoded record
+   * @throws IOException if an I/O error occurs while writing
+   */
+  public void appendEncoded(byte[] datum) throws IOException {
+    ensureOpen();
+    currentWriter().appendEncoded(ByteBuffer.wrap(datum));
+    recordAppended();
+  }
+
+  /**
+   * Flushes the pending block of the current file to disk.
+   *
+   * @throws IOException if an I/O error occurs while writing
+   */
+  public void flush() throws IOException {
+    if (writer != null) {
+      writer.flush();
+    }
+  }
+
+  /**
+   * Closes the current file; the next append starts a new one.
+   *
+   * @throws IOException if an I/O error occurs while closing the file
+   */
+  public void roll() throws IOException {
+    if (writer != null) {
+      try {
+        writer.close();
+      } finally {
+        writer = null;
+        output = null;
+        fileRecords = 0;
+      }
+    }
+  }
+
+  /**
+   * Gets the files created by this sink, in creation order.
+   *
+   * @return the paths of the written files
+   */
+  public List<Path> getFiles() {
+    return Collections.unmodifiableList(files);
+  }
+
+  /**
+   * Gets the number of records appended across all files.
+   *
+   * @return the total record count
+   */
+  public long getRecordCount() {
+    return totalRecords;
+  }
+
+  /**
+   * Gets the Avro schema of the records written by this sink.
+   *
+   * @return the record schema
+   */
+  public Schema getSchema() {
+    return avroSchema;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!closed) {
+      closed = true;
+      roll();
+    }
+  }
+
+  private DataFileWriter<GenericRecord> currentWriter() throws IOException {
+    if (writer == null) {
+      Path file = directory.resolve(
+          String.format("%s-%05d%s", filePrefix, nextSequence, FILE_EXTENSION));
+      OutputStream stream = Files.newOutputStream(file, StandardOpenOption.CREATE_NEW,
+          StandardOpenOption.WRITE);
+      DataFileWriter<GenericRecord> created =
+          new DataFileWriter<>(new GenericDatumWriter<GenericRecord>(avroSchema));
+      try {
+        created.setCodec(codec);
+        created.setSyncInterval(syncInterval);
+        created.setMeta(FIX_VERSION_META, fixSchema.getVersion());
+        output = new CountingOutputStream(stream);
+        created.create(avroSchema, output);
+      } catch (IOException | RuntimeException e) {
+        stream.close();
+        Files.deleteIfExists(file);
+        throw e;
+      }
+      files.add(file);
+      nextSequence++;
+      writer = created;
+    }
+    return writer;
+  }
+
+  private long firstFreeSequence() throws IOException {
+    String head = filePrefix + '-';
+    long highest = -1;
+    try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+      for (Path entry : entries) {
+        String name = entry.getFileName().toString();
+        if (name.startsWith(head) && name.endsWith(FILE_EXTENSION)) {
+          String digits = name.substring(head.length(), name.length() - FILE_EXTENSION.length());
+          if (isSequence(digits)) {
+            highest = Math.max(highest, Long.parseLong(digits));
+          }
+        }
+      }
+    }
+    return highest + 1;
+  }
+
+  private static boolean isSequence(String digits) {
+    if (digits.isEmpty() || digits.length() > 18) {
+      return false;
+    }
+    for (int i = 0; i < digits.length(); i++) {
+      char c = digits.charAt(i);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void recordAppended() throws IOException {
+    fileRecords++;
+    totalRecords++;
+    if ((maxRecordsPerFile > 0 && fileRecords >= maxRecordsPerFile)
+        || (maxFileBytes > 0 && output.count >= maxFileBytes)) {
+      roll();
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Sink is closed");
+    }
+  }
+
+  /**
+   * Builder for {@link AvroContainerFileSink}.
+   */
+  public static final class Builder {
+    private final Path directory;
+    private final SchemaProvider fixSchema;
+    private String filePrefix = "fix";
+    private Schema avroSchema;
+    private CodecFactory codec = CodecFactory.nullCodec();
+    private int syncInterval = DataFileConstants.DEFAULT_SYNC_INTERVAL;
+    private long maxFileBytes;
+    private long maxRecordsPerFile;
+
+    private Builder(Path directory, SchemaProvider fixSchema) {
+      this.directory = Objects.requireNonNull(directory, "directory");
+      this.fixSchema = Objects.requireNonNull(fixSchema, "fixSchema");
+    }
+
+    /**
+     * Sets the prefix of the file names. Defaults to {@code fix}.
+     *
+     * @param filePrefix the file name prefix
+     * @return this builder
+     */
+    public Builder filePrefix(String filePrefix) {
+      this.filePrefix = Objects.requireNonNull(filePrefix, "filePrefix");
+      return this;
+    }
+
+    /**
+     * Sets the Avro schema of the written records. Defaults to {@code FixMessage.avsc}.
+     *
+     * @param avroSchema the record schema
+     * @return this builder
+     */
+    public Builder avroSchema(Schema avroSchema) {
+      this.avroSchema = Objects.requireNonNull(avroSchema, "avroSchema");
+      return this;
+    }
+
+    /**
+     * Sets the block compression codec. Defaults to no compression.
+     *
+     * @param codec the codec factory
+     * @return this builder
+     */
+    public Builder codec(CodecFactory codec) {
+      this.codec = Objects.requireNonNull(codec, "codec");
+      return this;
+    }
+
+    /**
+     * Sets the block compression codec by name, with its default level: {@code null},
+     * {@code deflate}, {@code snappy}, {@code zstandard}, {@code xz} or {@code bzip2}.
+     * Snappy, Zstandard and XZ need their compression library on the classpath.
+     *
+     * @param codecName the codec name
+     * @return this builder
+     * @throws org.apache.avro.AvroRuntimeException if the codec is unknown
+     */
+    public Builder codec(String codecName) {
+      return codec(CodecFactory.fromString(codecName));
+    }
+
+    /**
+     * Sets the approximate uncompressed size of a block, in bytes, after which it
+     * is compressed and written out.
+     *
+     * @param syncInterval the block size, between 32 bytes and 1 GiB
+     * @return this builder
+     * @throws IllegalArgumentException if the value is out of range
+     */
+    public Builder syncInterval(int syncInterval) {
+      if (syncInterval < 32 || syncInterval > (1 << 30)) {
+        throw new IllegalArgumentException("Invalid syncInterval value: " + syncInterval);
+      }
+      this.syncInterval = syncInterval;
+      return this;
+    }
+
+    /**
+     * Starts a new file once the current one reaches the given size.
+     *
+     * @param maxFileBytes the size limit in bytes, or 0 for no limit
+     * @return this builder
+     */
+    public Builder maxFileBytes(long maxFileBytes) {
+      if (maxFileBytes < 0) {
+        throw new IllegalArgumentException("Invalid maxFileBytes value: " + maxFileBytes);
+      }
+      this.maxFileBytes = maxFileBytes;
+      return this;
+    }
+
+    /**
+     * Starts a new file once the current one holds the given number of records.
+     *
+     * @param maxRecordsPerFile the record limit, or 0 for no limit
+     * @return this builder
+     */
+    public Builder maxRecordsPerFile(long maxRecordsPerFile) {
+      if (maxRecordsPerFile < 0) {
+        throw new IllegalArgumentException(
+            "Invalid maxRecordsPerFile value: " + maxRecordsPerFile);
+      }
+      this.maxRecordsPerFile = maxRecordsPerFile;
+      return this;
+    }
+
+    /**
+     * Builds the sink, creating the target directory if needed.
+     *
+     * @return the configured sink
+     * @throws IOException if the directory or the default schema cannot be accessed
+     */
+    public AvroContainerFileSink build() throws IOException {
+      return new AvroContainerFileSink(this);
+    }
+  }
+
+  /**
+   * Output stream that counts the bytes passed to the underlying file.
+   */
+  private static final class CountingOutputStream extends FilterOutputStream {
+    private long count;
+
+    CountingOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      count += len;
+    }
+  }
+}
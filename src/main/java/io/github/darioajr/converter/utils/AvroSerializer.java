@@ -0,0 +1,195 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumWriter;
+
+/**
+ * Serializes GenericRecords to Avro binary with reusable writers and buffers.
+ *
+ * <p>DatumWriters are created once per schema and shared between threads.
+ * Each thread keeps its own BinaryEncoder and scratch buffer, so in steady
+ * state the only allocation is the returned byte array.
+ */
+public class AvroSerializer {
+  private static final AvroSerializer INSTANCE = new AvroSerializer();
+  private static final int INITIAL_BUFFER_SIZE = 512;
+  private static final int MAX_RETAINED_BUFFER_SIZE = 1 << 20;
+
+  private final ConcurrentMap<Schema, DatumWriter<GenericRecord>> writers =
+      new ConcurrentHashMap<>();
+  private final ThreadLocal<ThreadState> threadState = ThreadLocal.withInitial(ThreadState::new);
+
+  /**
+   * Constructs a serializer with its own writer cache.
+   * Most callers should use the process-wide instance from {@link #getInstance()}.
+   */
+  public AvroSerializer() {
+    // Default constructor
+  }
+
+  /**
+   * Gets the process-wide serializer instance.
+   *
+   * @return the shared serializer
+   */
+  public static AvroSerializer getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Gets the shared DatumWriter for the given schema.
+   *
+   * @param schema the Avro schema
+   * @return the cached DatumWriter
+   */
+  public DatumWriter<GenericRecord> getWriter(Schema schema) {
+    return writers.computeIfAbsent(schema, SpecificDatumWriter::new);
+  }
+
+  /**
+   * Serializes a GenericRecord to a byte array using the record's own schema.
+   *
+   * @param record the GenericRecord to serialize
+   * @return the serialized byte array
+   * @throws IOException if an I/O error occurs during serialization
+   */
+  public byte[] serialize(GenericRecord record) throws IOException {
+    return serialize(record, record.getSchema());
+  }
+
+  /**
+   * Serializes a GenericRecord to a byte array.
+   *
+   * @param record the GenericRecord to serialize
+   * @param schema the Avro schema for the record
+   * @return the serialized byte array
+   * @throws IOException if an I/O error occurs during serialization
+   */
+  public byte[] serialize(GenericRecord record, Schema schema) throws IOException {
+    ThreadState state = encode(record, schema);
+    try {
+      return state.buffer.toByteArray();
+    } finally {
+      state.release();
+    }
+  }
+
+  /**
+   * Serializes a GenericRecord into a caller-supplied buffer, starting at its
+   * current position. On success the position is advanced past the written bytes.
+   *
+   * @param record the GenericRecord to serialize
+   * @param schema the Avro schema for the record
+   * @param target the buffer receiving the serialized bytes
+   * @return the number of bytes written
+   * @throws IOException if an I/O error occurs during serialization
+   * @throws BufferOverflowException if the target has not enough space remaining;
+   *     the target is left unchanged
+   */
+  public int serialize(GenericRecord record, Schema schema, ByteBuffer target)
+      throws IOException {
+    ThreadState state = encode(record, schema);
+    try {
+      int size = state.buffer.size();
+      if (target.remaining() < size) {
+        throw new BufferOverflowException();
+      }
+      target.put(state.buffer.array(), 0, size);
+      return size;
+    } finally {
+      state.release();
+    }
+  }
+
+  /**
+   * Serializes a GenericRecord directly to a caller-supplied stream.
+   * The stream is flushed but not closed.
+   *
+   * @param record the GenericRecord to serialize
+   * @param schema the Avro schema for the record
+   * @param out the stream receiving the serialized bytes
+   * @throws IOException if an I/O error occurs during serialization
+   */
+  public void serialize(GenericRecord record, Schema schema, OutputStream out)
+      throws IOException {
+    ThreadState state = threadState.get();
+    BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, state.streamEncoder);
+    state.streamEncoder = null;
+    state.writer(schema).write(record, encoder);
+    encoder.flush();
+    state.streamEncoder = encoder;
+  }
+
+  private ThreadState encode(GenericRecord record, Schema schema) throws IOException {
+    ThreadState state = threadState.get();
+    state.buffer.reset();
+    try {
+      state.writer(schema).write(record, state.encoder);
+      state.encoder.flush();
+    } catch (IOException | RuntimeException e) {
+      state.discard();
+      throw e;
+    }
+    return state;
+  }
+
+  /**
+   * Per-thread scratch state. The last writer is memoized so a thread that
+   * always serializes the same schema skips the map lookup.
+   */
+  private final class ThreadState {
+    private ReusableByteArrayOutputStream buffer =
+        new ReusableByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+    private BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(buffer, null);
+    private BinaryEncoder streamEncoder;
+    private Schema lastSchema;
+    private DatumWriter<GenericRecord> lastWriter;
+
+    DatumWriter<GenericRecord> writer(Schema schema) {
+      if (schema != lastSchema) {
+        lastWriter = getWriter(schema);
+        lastSchema = schema;
+      }
+      return lastWriter;
+    }
+
+    void discard() {
+      // Drop whatever a failed write left buffered in the encoder
+      encoder = EncoderFactory.get().binaryEncoder(buffer, null);
+      buffer.reset();
+    }
+
+    void release() {
+      if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+        buffer = new ReusableByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        encoder = EncoderFactory.get().binaryEncoder(buffer, encoder);
+      }
+    }
+  }
+}
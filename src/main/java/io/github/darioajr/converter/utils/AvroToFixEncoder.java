@@ -0,0 +1,385 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.utils;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.util.Utf8;
+
+/**
+ * Writes {@code FixMessage.avsc} records back into FIX tag=value wire format.
+ *
+ * <p>The header is rebuilt from the BeginString(8), MsgType(35), SenderCompID(49),
+ * TargetCompID(56), MsgSeqNum(34) and SendingTime(52) record fields, followed by the
+ * {@code fields} map in ascending tag order, the order the forward conversion reads
+ * them in, whatever map implementation the record was decoded with. BodyLength(9)
+ * and CheckSum(10) are recomputed while the message is written instead of being
+ * copied from the record. Values are written as ISO-8859-1, straight from the
+ * record's {@link Utf8} or String values, into a byte array owned by the encoder and
+ * reused by every call.
+ *
+ * <p>Only what the record holds can be written back: header fields other than the ones
+ * above, trailer fields other than the CheckSum and the entries of repeating groups
+ * are not part of the layout, so group count fields are written as recorded. Instances
+ * are not thread-safe.
+ */
+public final class AvroToFixEncoder {
+  /** The standard FIX field delimiter. */
+  public static final byte SOH = 0x01;
+
+  private static final int INITIAL_BUFFER_SIZE = 512;
+  private static final String[] HEADER_FIELDS = {
+    "msgType", "senderCompID", "targetCompID", "msgSeqNum", "sendingTime"
+  };
+  private static final int[] HEADER_TAGS = {35, 49, 56, 34, 52};
+  private static final int MAX_INT_DIGITS = 10;
+
+  private final byte delimiter;
+  private byte[] buf = new byte[INITIAL_BUFFER_SIZE];
+  private int offset;
+  private int length;
+  private int sum;
+  private Schema schema;
+  private int beginStringPos;
+  private int fieldsPos;
+  private final int[] headerPos = new int[HEADER_FIELDS.length];
+  private long[] order = new long[64];
+  private CharSequence[] values = new CharSequence[64];
+
+  /**
+   * Constructs an encoder writing SOH delimited messages.
+   */
+  public AvroToFixEncoder() {
+    this(SOH);
+  }
+
+  /**
+   * Constructs an encoder writing messages with a custom delimiter, such as
+   * {@code '|'} for logs. The CheckSum is computed as if the delimiter were SOH.
+   *
+   * @param delimiter the byte written after every field
+   */
+  public AvroToFixEncoder(byte delimiter) {
+    this.delimiter = delimiter;
+  }
+
+  /**
+   * Writes a record as a FIX message into the reusable buffer. The message starts
+   * at {@link #getOffset()} in {@link #getBuffer()} and stays valid until the next
+   * call.
+   *
+   * @param record a record with the {@code FixMessage.avsc} layout
+   * @return the length of the message in bytes
+   * @throws IllegalArgumentException if the record lacks a header field, or the
+   *     {@code fields} map has a key that is not a tag number
+   */
+  public int encode(GenericRecord record) {
+    resolvePositions(record.getSchema());
+    CharSequence beginString = required(record, beginStringPos, "beginString");
+    // Room for 8=<BeginString>|9=<BodyLength>|, filled in once the body length is known
+    int prefixLength = 6 + encodedLength(beginString);
+    int reserved = prefixLength + MAX_INT_DIGITS;
+    ensureCapacity(reserved);
+    int pos = reserved;
+    sum = 0;
+
+    for (int i = 0; i < HEADER_TAGS.length; i++) {
+      pos = writeTag(HEADER_TAGS[i], pos);
+      pos = writeValue(required(record, headerPos[i], HEADER_FIELDS[i]), pos);
+    }
+
+    Object fields = record.get(fieldsPos);
+    if (fields instanceof Map<?, ?>) {
+      int count = collectFields((Map<?, ?>) fields);
+      Arrays.sort(order, 0, count);
+      for (int i = 0; i < count; i++) {
+        int index = (int) order[i];
+        pos = writeTag((int) (order[i] >>> 32), pos);
+        pos = writeValue(values[index], pos);
+        values[index] = null;
+      }
+    }
+
+    int bodyLength = pos - reserved;
+    int start = reserved - prefixLength - digits(bodyLength);
+    int prefix = writeTag(8, start);
+    prefix = writeValue(beginString, prefix);
+    prefix = writeTag(9, prefix);
+    writeInt(bodyLength, prefix);
+    putDelimiter(reserved - 1);
+
+    ensureCapacity(pos + 7);
+    buf[pos++] = '1';
+    buf[pos++] = '0';
+    buf[pos++] = '=';
+    int checkSum = sum & 0xFF;
+    buf[pos++] = (byte) ('0' + checkSum / 100);
+    buf[pos++] = (byte) ('0' + checkSum / 10 % 10);
+    buf[pos++] = (byte) ('0' + checkSum % 10);
+    buf[pos++] = delimiter;
+
+    this.offset = start;
+    this.length = pos - start;
+    return length;
+  }
+
+  /**
+   * Writes a record as a FIX message into a caller-supplied buffer, starting at its
+   * current position.
+   *
+   * @param record a record with the {@code FixMessage.avsc} layout
+   * @param target the buffer receiving the message
+   * @return the number of bytes written
+   * @throws java.nio.BufferOverflowException if the target has not enough space remaining
+   * @see #encode(GenericRecord)
+   */
+  public int encode(GenericRecord record, ByteBuffer target) {
+    encode(record);
+    target.put(buf, offset, length);
+    return length;
+  }
+
+  /**
+   * Writes a record as a FIX message into a new byte array.
+   *
+   * @param record a record with the {@code FixMessage.avsc} layout
+   * @return the FIX message bytes
+   * @see #encode(GenericRecord)
+   */
+  public byte[] toByteArray(GenericRecord record) {
+    encode(record);
+    return Arrays.copyOfRange(buf, offset, offset + length);
+  }
+
+  /**
+   * Gets the buffer holding the last encoded message. The array is reused, and may be
+   * replaced by a larger one, by the next call.
+   *
+   * @return the backing array
+   */
+  public byte[] getBuffer() {
+    return buf;
+  }
+
+  /**
+   * Gets the index of the first byte of the last encoded message in the buffer.
+   *
+   * @return the offset
+   */
+  public int getOffset() {
+    return offset;
+  }
+
+  /**
+   * Gets the length of the last encoded message.
+   *
+   * @return the length in bytes
+   */
+  public int getLength() {
+    return length;
+  }
+
+  private void resolvePositions(Schema recordSchema) {
+    if (recordSchema == schema) {
+      return;
+    }
+    beginStringPos = position(recordSchema, "beginString");
+    fieldsPos = position(recordSchema, "fields");
+    for (int i = 0; i < HEADER_FIELDS.length; i++) {
+      headerPos[i] = position(recordSchema, HEADER_FIELDS[i]);
+    }
+    schema = recordSchema;
+  }
+
+  private static int position(Schema recordSchema, String name) {
+    Schema.Field field = recordSchema.getField(name);
+    if (field == null) {
+      throw new IllegalArgumentException("Record has no field " + name + ": "
+          + recordSchema.getFullName());
+    }
+    return field.pos();
+  }
+
+  private static CharSequence required(GenericRecord record, int pos, String name) {
+    Object value = record.get(pos);
+    if (!(value instanceof CharSequence) || ((CharSequence) value).length() == 0) {
+      throw new IllegalArgumentException("The required field is missing: " + name);
+    }
+    return (CharSequence) value;
+  }
+
+  /**
+   * Collects the body fields to write, packing each tag with the index of its value so
+   * that sorting the packed longs sorts the fields by tag.
+   */
+  private int collectFields(Map<?, ?> fields) {
+    int count = 0;
+    for (Map.Entry<?, ?> field : fields.entrySet()) {
+      CharSequence value = (CharSequence) field.getValue();
+      if (value == null || value.length() == 0) {
+        continue;
+      }
+      int tag = parseTag((CharSequence) field.getKey());
+      if (isRebuiltTag(tag)) {
+        continue;
+      }
+      if (count == order.length) {
+        order = Arrays.copyOf(order, count << 1);
+        values = Arrays.copyOf(values, count << 1);
+      }
+      order[count] = ((long) tag << 32) | count;
+      values[count] = value;
+      count++;
+    }
+    return count;
+  }
+
+  private static int parseTag(CharSequence tag) {
+    int tagLength = tag.length();
+    if (tagLength == 0 || tagLength > 9) {
+      throw new IllegalArgumentException("Invalid tag in the fields map: " + tag);
+    }
+    int value = 0;
+    for (int i = 0; i < tagLength; i++) {
+      char c = tag.charAt(i);
+      if (c < '0' || c > '9') {
+        throw new IllegalArgumentException("Invalid tag in the fields map: " + tag);
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  private static boolean isRebuiltTag(int tag) {
+    switch (tag) {
+      case 8:
+      case 9:
+      case 10:
+      case 34:
+      case 35:
+      case 49:
+      case 52:
+      case 56:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private int writeTag(int tag, int pos) {
+    ensureCapacity(pos + MAX_INT_DIGITS + 1);
+    pos = writeInt(tag, pos);
+    return put(pos, (byte) '=');
+  }
+
+  private int writeInt(int value, int pos) {
+    int end = pos + digits(value);
+    for (int i = end - 1; i >= pos; i--) {
+      put(i, (byte) ('0' + value % 10));
+      value /= 10;
+    }
+    return end;
+  }
+
+  /**
+   * Writes a value as ISO-8859-1, followed by the delimiter. {@link Utf8} values are
+   * decoded from their bytes so no String is created; characters outside ISO-8859-1
+   * are written as {@code '?'}.
+   */
+  private int writeValue(CharSequence value, int pos) {
+    if (value instanceof Utf8) {
+      Utf8 utf8 = (Utf8) value;
+      byte[] bytes = utf8.getBytes();
+      int byteLength = utf8.getByteLength();
+      ensureCapacity(pos + byteLength + 1);
+      for (int i = 0; i < byteLength; i++) {
+        int b = bytes[i] & 0xFF;
+        if (b < 0x80) {
+          pos = put(pos, (byte) b);
+        } else if ((b & 0xE0) == 0xC0 && i + 1 < byteLength) {
+          int c = ((b & 0x1F) << 6) | (bytes[++i] & 0x3F);
+          pos = put(pos, c <= 0xFF ? (byte) c : (byte) '?');
+        } else if ((b & 0xC0) != 0x80) {
+          // Three and four byte sequences are outside ISO-8859-1
+          int trailing = b >= 0xF0 ? 3 : b >= 0xE0 ? 2 : 0;
+          i = Math.min(i + trailing, byteLength - 1);
+          pos = put(pos, (byte) '?');
+        }
+      }
+      return putDelimiter(pos);
+    }
+    int valueLength = value.length();
+    ensureCapacity(pos + valueLength + 1);
+    for (int i = 0; i < valueLength; i++) {
+      char c = value.charAt(i);
+      pos = put(pos, c <= 0xFF ? (byte) c : (byte) '?');
+    }
+    return putDelimiter(pos);
+  }
+
+  /**
+   * Stores the delimiter. It counts as SOH in the CheckSum, so a message written with
+   * a display delimiter stays valid once the delimiter is replaced back.
+   */
+  private int putDelimiter(int pos) {
+    buf[pos] = delimiter;
+    sum += SOH;
+    return pos + 1;
+  }
+
+  /**
+   * Stores a byte and adds it to the running CheckSum.
+   */
+  private int put(int pos, byte b) {
+    buf[pos] = b;
+    sum += b & 0xFF;
+    return pos + 1;
+  }
+
+  private static int encodedLength(CharSequence value) {
+    if (!(value instanceof Utf8)) {
+      return value.length();
+    }
+    Utf8 utf8 = (Utf8) value;
+    byte[] bytes = utf8.getBytes();
+    int count = 0;
+    for (int i = 0; i < utf8.getByteLength(); i++) {
+      if ((bytes[i] & 0xC0) != 0x80) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static int digits(int value) {
+    int digits = 1;
+    while (value >= 10) {
+      value /= 10;
+      digits++;
+    }
+    return digits;
+  }
+
+  private void ensureCapacity(int minCapacity) {
+    if (minCapacity > buf.length) {
+      buf = Arrays.copyOf(buf, Math.max(buf.length << 1, minCapacity));
+    }
+  }
+}
@@ -17,18 +17,16 @@
 package io.github.darioajr.converter.utils;
 
 import io.github.darioajr.converter.core.SchemaProvider;
-import io.github.darioajr.converter.parser.AvroSchemaReader;
-import java.io.ByteArrayOutputStream;
-import java.io.FileInputStream;
+import io.github.darioajr.converter.metrics.ConversionMetrics;
+import io.github.darioajr.converter.metrics.ConversionStage;
+import io.github.darioajr.converter.parser.FixValueInterner;
+import io.github.darioajr.converter.registry.AvroSchemaRegistry;
+import io.github.darioajr.converter.registry.DataDictionaryRegistry;
 import java.io.IOException;
 import java.util.Map;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
-import org.apache.avro.io.BinaryEncoder;
-import org.apache.avro.io.DatumWriter;
-import org.apache.avro.io.EncoderFactory;
-import org.apache.avro.specific.SpecificDatumWriter;
 import quickfix.ConfigError;
 import quickfix.DataDictionary;
 import quickfix.FieldNotFound;
@@ -58,7 +56,7 @@ public class AvroUtils {
   }
   
   /**
-   * Converts a FIX message to an Avro byte array.
+   * Converts a FIX message to an Avro byte array using the default Avro schema.
    *
    * @param rawMessage the raw FIX message as a string
    * @param schema the schema provider for the Avro schema
@@ -68,12 +66,26 @@ public class AvroUtils {
   public static byte[] convertFixToAvroByteArray(String rawMessage, SchemaProvider schema)
       throws IOException {
     GenericRecord record = convertFixToAvro(rawMessage, schema);
-    Schema avroSchema = AvroSchemaReader.readDefaultAvroSchema();
+    return serializeGenericRecordToBytes(record, record.getSchema());
+  }
+
+  /**
+   * Converts a FIX message to an Avro byte array using a pre-resolved Avro schema.
+   *
+   * @param rawMessage the raw FIX message as a string
+   * @param schema the schema provider for the FIX dictionary
+   * @param avroSchema the Avro schema of the produced record
+   * @return the serialized Avro byte array
+   * @throws IOException if an I/O error occurs during conversion or serialization
+   */
+  public static byte[] convertFixToAvroByteArray(String rawMessage, SchemaProvider schema,
+      Schema avroSchema) throws IOException {
+    GenericRecord record = convertFixToAvro(rawMessage, schema, avroSchema);
     return serializeGenericRecordToBytes(record, avroSchema);
   }
 
   /**
-   * Converts a FIX message to an Avro GenericRecord.
+   * Converts a FIX message to an Avro GenericRecord using the default Avro schema.
    *
    * @param rawMessage the raw FIX message as a string
    * @param schema the schema provider for the Avro schema
@@ -82,44 +94,130 @@ public class AvroUtils {
    */
   public static GenericRecord convertFixToAvro(String rawMessage, SchemaProvider schema) {
     try {
-      Message message = new Message();
-      DataDictionary dataDictionary = loadDataDictionary(schema.getSchemaPath());
-      rawMessage = rawMessage.replace("|", "\u0001");
-      message.fromString(rawMessage, dataDictionary, true);
+      return buildRecord(rawMessage, schema, AvroSchemaRegistry.getInstance().getDefaultSchema());
+    } catch (IOException | InvalidMessage | FieldNotFound | ConfigError e) {
+      throw new RuntimeException("Error converting FIX message to Avro", e);
+    }
+  }
 
-      Schema avroSchema = AvroSchemaReader.readDefaultAvroSchema();
+  /**
+   * Converts a FIX message to an Avro GenericRecord using a pre-resolved Avro schema.
+   *
+   * @param rawMessage the raw FIX message as a string
+   * @param schema the schema provider for the FIX dictionary
+   * @param avroSchema the Avro schema of the produced record
+   * @return the converted Avro GenericRecord
+   * @throws RuntimeException if an error occurs during conversion
+   */
+  public static GenericRecord convertFixToAvro(String rawMessage, SchemaProvider schema,
+      Schema avroSchema) {
+    try {
+      return buildRecord(rawMessage, schema, avroSchema);
+    } catch (IOException | InvalidMessage | FieldNotFound | ConfigError e) {
+      throw new RuntimeException("Error converting FIX message to Avro", e);
+    }
+  }
 
-      GenericRecord record = new GenericData.Record(avroSchema);
-      record.put("beginString", message.getHeader().getString(BeginString.FIELD));
-      record.put("bodyLength", message.getHeader().getString(BodyLength.FIELD));
-      record.put("msgType", message.getHeader().getString(MsgType.FIELD));
-      record.put("senderCompID", message.getHeader().getString(SenderCompID.FIELD));
-      record.put("targetCompID", message.getHeader().getString(TargetCompID.FIELD));
-      record.put("msgSeqNum", message.getHeader().getString(MsgSeqNum.FIELD));
-      record.put("sendingTime", message.getHeader().getString(SendingTime.FIELD));
-      record.put("checkSum", message.getTrailer().getString(CheckSum.FIELD));
+  /**
+   * Converts a FIX message to an Avro GenericRecord using an already resolved FIX
+   * dictionary and Avro schema, so callers converting many messages look them up once.
+   *
+   * @param rawMessage the raw FIX message as a string
+   * @param dataDictionary the FIX dictionary used to parse the message
+   * @param avroSchema the Avro schema of the produced record
+   * @return the converted Avro GenericRecord
+   * @throws RuntimeException if an error occurs during conversion
+   */
+  public static GenericRecord convertFixToAvro(String rawMessage, DataDictionary dataDictionary,
+      Schema avroSchema) {
+    return convertFixToAvro(rawMessage, dataDictionary, avroSchema, ConversionMetrics.noop());
+  }
 
-      Map<String, String> fields = FixUtils.getFieldsAsMap(message);
-      record.put("fields", fields);
+  /**
+   * Converts a FIX message to an Avro GenericRecord using an already resolved FIX
+   * dictionary and Avro schema, reporting the decode and record build stages, the
+   * message type and any failure to a metrics hook.
+   *
+   * @param rawMessage the raw FIX message as a string
+   * @param dataDictionary the FIX dictionary used to parse the message
+   * @param avroSchema the Avro schema of the produced record
+   * @param metrics the metrics hook
+   * @return the converted Avro GenericRecord
+   * @throws RuntimeException if an error occurs during conversion
+   */
+  public static GenericRecord convertFixToAvro(String rawMessage, DataDictionary dataDictionary,
+      Schema avroSchema, ConversionMetrics metrics) {
+    boolean timed = metrics.isEnabled();
+    long start = timed ? System.nanoTime() : 0L;
+    ConversionStage stage = ConversionStage.DECODE;
+    try {
+      Message message = decode(rawMessage, dataDictionary);
+      if (timed) {
+        long decoded = System.nanoTime();
+        metrics.recordStage(stage, decoded - start);
+        start = decoded;
+      }
+      stage = ConversionStage.RECORD_BUILD;
+      GenericRecord record = buildRecord(message, avroSchema);
+      if (timed) {
+        metrics.recordStage(stage, System.nanoTime() - start);
+        metrics.recordMessage((String) record.get("beginString"), (String) record.get("msgType"));
+      }
       return record;
-    } catch (IOException | InvalidMessage | FieldNotFound | ConfigError e) {
+    } catch (InvalidMessage | FieldNotFound e) {
+      metrics.recordError(stage, e);
       throw new RuntimeException("Error converting FIX message to Avro", e);
+    } catch (RuntimeException e) {
+      metrics.recordError(stage, e);
+      throw e;
     }
   }
 
+  private static GenericRecord buildRecord(String rawMessage, SchemaProvider schema,
+      Schema avroSchema) throws IOException, InvalidMessage, FieldNotFound, ConfigError {
+    return buildRecord(decode(rawMessage, DataDictionaryRegistry.getInstance().get(schema)),
+        avroSchema);
+  }
+
   /**
-   * Loads the DataDictionary from the specified file path.
+   * Copies the header, trailer and body fields of a parsed message into a record.
    *
-   * @param dictionaryPath the path to the DataDictionary file
-   * @return the loaded DataDictionary
-   * @throws IOException if an I/O error occurs reading from the file
-   * @throws ConfigError if there is an error in the configuration
+   * @param message the parsed FIX message
+   * @param avroSchema the Avro schema of the produced record
+   * @return the populated GenericRecord
    */
-  private static DataDictionary loadDataDictionary(String dictionaryPath)
-      throws IOException, ConfigError {
-    try (FileInputStream configFile = new FileInputStream(dictionaryPath)) {
-      return new DataDictionary(configFile);
-    }
+  private static GenericRecord buildRecord(Message message, Schema avroSchema)
+      throws FieldNotFound {
+    FixValueInterner interner = FixValueInterner.getInstance();
+    GenericRecord record = new GenericData.Record(avroSchema);
+    record.put("beginString", interner.intern(message.getHeader().getString(BeginString.FIELD)));
+    record.put("bodyLength", message.getHeader().getString(BodyLength.FIELD));
+    record.put("msgType", interner.intern(message.getHeader().getString(MsgType.FIELD)));
+    record.put("senderCompID",
+        interner.intern(message.getHeader().getString(SenderCompID.FIELD)));
+    record.put("targetCompID",
+        interner.intern(message.getHeader().getString(TargetCompID.FIELD)));
+    record.put("msgSeqNum", message.getHeader().getString(MsgSeqNum.FIELD));
+    record.put("sendingTime", message.getHeader().getString(SendingTime.FIELD));
+    record.put("checkSum", message.getTrailer().getString(CheckSum.FIELD));
+
+    Map<String, String> fields = FixUtils.getFieldsAsMap(message);
+    record.put("fields", fields);
+    return record;
+  }
+
+  /**
+   * Parses a FIX message, validating it against its dictionary.
+   *
+   * @param rawMessage the raw FIX message as a string
+   * @param dataDictionary the FIX dictionary used to parse the message
+   * @return the parsed message
+   */
+  private static Message decode(String rawMessage, DataDictionary dataDictionary)
+      throws InvalidMessage {
+    Message message = new Message();
+    message.fromString(rawMessage.replace("|", "\u0001"), dataDictionary, true);
+    return message;
   }
 
   /**
@@ -132,12 +230,6 @@ public class AvroUtils {
    */
   private static byte[] serializeGenericRecordToBytes(GenericRecord record, Schema schema)
       throws IOException {
-    try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream()) {
-      DatumWriter<GenericRecord> datumWriter = new SpecificDatumWriter<>(schema);
-      BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(byteArrayOutputStream, null);
-      datumWriter.write(record, encoder);
-      encoder.flush();
-      return byteArrayOutputStream.toByteArray();
-    }
+    return AvroSerializer.getInstance().serialize(record, schema);
   }
 }
@@ -0,0 +1,556 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.utils;
+
+import io.github.darioajr.converter.core.SchemaProvider;
+import io.github.darioajr.converter.metrics.ConversionMetrics;
+import io.github.darioajr.converter.metrics.ConversionStage;
+import io.github.darioajr.converter.parser.FixTokenizer;
+import io.github.darioajr.converter.registry.DataDictionaryRegistry;
+import java.io.IOException;
+import java.util.Arrays;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import quickfix.ConfigError;
+import quickfix.DataDictionary;
+import quickfix.InvalidMessage;
+import quickfix.field.BeginString;
+import quickfix.field.BodyLength;
+import quickfix.field.CheckSum;
+import quickfix.field.MsgSeqNum;
+import quickfix.field.MsgType;
+import quickfix.field.SenderCompID;
+import quickfix.field.SendingTime;
+import quickfix.field.TargetCompID;
+
+/**
+ * Streams raw FIX messages straight into the Avro binary layout of
+ * {@code FixMessage.avsc}, without building a quickfixj Message or a GenericRecord.
+ *
+ * <p>Header, body and trailer fields and repeating groups are classified with the
+ * same DataDictionary used by {@link AvroUtils#convertFixToAvro}, body fields are
+ * written in ascending tag order and group count fields are normalized to their
+ * integer value, so a well-formed message produces the same bytes as
+ * {@link AvroUtils#convertFixToAvroByteArray}. The CheckSum(10) is verified;
+ * BodyLength(9) is copied as is, like the quickfixj path does.
+ *
+ * <p>Overloads taking a {@link ConversionMetrics} report the message type, and
+ * failures under the stage they occur in: tokenizing as {@code PARSE}, resolving
+ * the dictionary as {@code DICTIONARY_LOOKUP}, classifying and validating the
+ * fields as {@code DECODE} and writing as {@code SERIALIZE}. Timings are left to
+ * the caller.
+ */
+public class DirectAvroEncoder {
+  private static final DirectAvroEncoder INSTANCE = new DirectAvroEncoder();
+  private static final int[] HEADER_TAGS = {
+    BeginString.FIELD, BodyLength.FIELD, MsgType.FIELD, SenderCompID.FIELD,
+    TargetCompID.FIELD, MsgSeqNum.FIELD, SendingTime.FIELD
+  };
+  private static final int BEGIN_STRING_SLOT = 0;
+  private static final int MSG_TYPE_SLOT = 2;
+  private static final int INITIAL_BUFFER_SIZE = 512;
+  private static final int INITIAL_FIELD_CAPACITY = 64;
+  private static final int SECTION_HEADER = 0;
+  private static final int SECTION_BODY = 1;
+  private static final int SECTION_TRAILER = 2;
+
+  private final ThreadLocal<State> threadState = ThreadLocal.withInitial(State::new);
+
+  /**
+   * Default constructor.
+   * Most callers should use the process-wide instance from {@link #getInstance()}.
+   */
+  public DirectAvroEncoder() {
+    // Default constructor
+  }
+
+  /**
+   * Gets the process-wide encoder instance.
+   *
+   * @return the shared encoder
+   */
+  public static DirectAvroEncoder getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Encodes a raw FIX message held in a byte array region.
+   *
+   * @param rawMessage the raw FIX message bytes, SOH or vertical bar delimited
+   * @param offset the index of the first byte of the message
+   * @param length the number of bytes in the message
+   * @param schema the schema provider for the FIX dictionary
+   * @return the Avro binary encoding of the message
+   * @throws IOException if an I/O error occurs loading the dictionary or encoding
+   * @throws RuntimeException if the message is not a valid FIX message
+   */
+  public byte[] encode(byte[] rawMessage, int offset, int length, SchemaProvider schema)
+      throws IOException {
+    return encode(rawMessage, offset, length, schema, ConversionMetrics.noop());
+  }
+
+  /**
+   * Encodes a raw FIX message held in a byte array region, reporting the message type
+   * and any failure to a metrics hook.
+   *
+   * @param rawMessage the raw FIX message bytes, SOH or vertical bar delimited
+   * @param offset the index of the first byte of the message
+   * @param length the number of bytes in the message
+   * @param schema the schema provider for the FIX dictionary
+   * @param metrics the metrics hook
+   * @return the Avro binary encoding of the message
+   * @throws IOException if an I/O error occurs loading the dictionary or encoding
+   * @throws RuntimeException if the message is not a valid FIX message
+   */
+  public byte[] encode(byte[] rawMessage, int offset, int length, SchemaProvider schema,
+      ConversionMetrics metrics) throws IOException {
+    State state = threadState.get();
+    try {
+      state.tokenize(rawMessage, offset, length, metrics);
+      return state.toByteArray(schema, metrics);
+    } finally {
+      state.tokenizer.reset();
+    }
+  }
+
+  /**
+   * Encodes a raw FIX message held in a character sequence.
+   *
+   * @param rawMessage the raw FIX message, SOH or vertical bar delimited
+   * @param schema the schema provider for the FIX dictionary
+   * @return the Avro binary encoding of the message
+   * @throws IOException if an I/O error occurs loading the dictionary or encoding
+   * @throws RuntimeException if the message is not a valid FIX message
+   */
+  public byte[] encode(CharSequence rawMessage, SchemaProvider schema) throws IOException {
+    return encode(rawMessage, schema, ConversionMetrics.noop());
+  }
+
+  /**
+   * Encodes a raw FIX message held in a character sequence, reporting the message type
+   * and any failure to a metrics hook.
+   *
+   * @param rawMessage the raw FIX message, SOH or vertical bar delimited
+   * @param schema the schema provider for the FIX dictionary
+   * @param metrics the metrics hook
+   * @return the Avro binary encoding of the message
+   * @throws IOException if an I/O error occurs loading the dictionary or encoding
+   * @throws RuntimeException if the message is not a valid FIX message
+   */
+  public byte[] encode(CharSequence rawMessage, SchemaProvider schema,
+      ConversionMetrics metrics) throws IOException {
+    State state = threadState.get();
+    try {
+      state.tokenize(rawMessage, metrics);
+      return state.toByteArray(schema, metrics);
+    } finally {
+      state.tokenizer.reset();
+    }
+  }
+
+  /**
+   * Encodes a raw FIX message held in a byte array region into a caller-supplied
+   * encoder. Nothing is written if the message is invalid. The encoder is not flushed.
+   *
+   * @param rawMessage the raw FIX message bytes, SOH or vertical bar delimited
+   * @param offset the index of the first byte of the message
+   * @param length the number of bytes in the message
+   * @param schema the schema provider for the FIX dictionary
+   * @param out the encoder receiving the record
+   * @throws IOException if an I/O error occurs loading the dictionary or encoding
+   * @throws RuntimeException if the message is not a valid FIX message
+   */
+  public void encode(byte[] rawMessage, int offset, int length, SchemaProvider schema,
+      BinaryEncoder out) throws IOException {
+    State state = threadState.get();
+    try {
+      state.tokenizer.tokenize(rawMessage, offset, length);
+      state.write(schema, out, ConversionMetrics.noop());
+    } finally {
+      state.tokenizer.reset();
+    }
+  }
+
+  /**
+   * Encodes a raw FIX message held in a character sequence into a caller-supplied
+   * encoder. Nothing is written if the message is invalid. The encoder is not flushed.
+   *
+   * @param rawMessage the raw FIX message, SOH or vertical bar delimited
+   * @param schema the schema provider for the FIX dictionary
+   * @param out the encoder receiving the record
+   * @throws IOException if an I/O error occurs loading the dictionary or encoding
+   * @throws RuntimeException if the message is not a valid FIX message
+   */
+  public void encode(CharSequence rawMessage, SchemaProvider schema, BinaryEncoder out)
+      throws IOException {
+    State state = threadState.get();
+    try {
+      state.tokenizer.tokenize(rawMessage);
+      state.write(schema, out, ConversionMetrics.noop());
+    } finally {
+      state.tokenizer.reset();
+    }
+  }
+
+  /**
+   * Encodes a raw FIX message held in a byte array region into a caller-supplied
+   * encoder, using an already resolved FIX dictionary. Nothing is written if the
+   * message is invalid. The encoder is not flushed.
+   *
+   * @param rawMessage the raw FIX message bytes, SOH or vertical bar delimited
+   * @param offset the index of the first byte of the message
+   * @param length the number of bytes in the message
+   * @param dictionary the FIX dictionary used to classify the fields
+   * @param out the encoder receiving the record
+   * @throws IOException if an I/O error occurs while encoding
+   * @throws RuntimeException if the message is not a valid FIX message
+   */
+  public void encode(byte[] rawMessage, int offset, int length, DataDictionary dictionary,
+      BinaryEncoder out) throws IOException {
+    encode(rawMessage, offset, length, dictionary, out, ConversionMetrics.noop());
+  }
+
+  /**
+   * Encodes a raw FIX message held in a byte array region into a caller-supplied
+   * encoder, using an already resolved FIX dictionary and reporting the message type
+   * and any failure to a metrics hook. Nothing is written if the message is invalid.
+   * The encoder is not flushed.
+   *
+   * @param rawMessage the raw FIX message bytes, SOH or vertical bar delimited
+   * @param offset the index of the first byte of the message
+   * @param length the number of bytes in the message
+   * @param dictionary the FIX dictionary used to classify the fields
+   * @param out the encoder receiving the record
+   * @param metrics the metrics hook
+   * @throws IOException if an I/O error occurs while encoding
+   * @throws RuntimeException if the message is not a valid FIX message
+   */
+  public void encode(byte[] rawMessage, int offset, int length, DataDictionary dictionary,
+      BinaryEncoder out, ConversionMetrics metrics) throws IOException {
+    State state = threadState.get();
+    try {
+      state.tokenize(rawMessage, offset, length, metrics);
+      state.write(dictionary, out, metrics);
+    } finally {
+      state.tokenizer.reset();
+    }
+  }
+
+  /**
+   * Per-thread tokenizer, scratch arrays and output buffer.
+   */
+  private static final class State {
+    private final FixTokenizer tokenizer = new FixTokenizer();
+    private final int[] headerIndexes = new int[HEADER_TAGS.length];
+    private final ReusableByteArrayOutputStream buffer =
+        new ReusableByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+    private final BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(buffer, null);
+    private int[] bodyTags = new int[INITIAL_FIELD_CAPACITY];
+    private int[] bodyIndexes = new int[INITIAL_FIELD_CAPACITY];
+    private int[] groupCounts = new int[INITIAL_FIELD_CAPACITY];
+    private int bodyCount;
+    private int checkSumIndex;
+    private byte[] scratch = new byte[INITIAL_BUFFER_SIZE];
+
+    void tokenize(byte[] rawMessage, int offset, int length, ConversionMetrics metrics) {
+      try {
+        tokenizer.tokenize(rawMessage, offset, length);
+      } catch (RuntimeException e) {
+        metrics.recordError(ConversionStage.PARSE, e);
+        throw e;
+      }
+    }
+
+    void tokenize(CharSequence rawMessage, ConversionMetrics metrics) {
+      try {
+        tokenizer.tokenize(rawMessage);
+      } catch (RuntimeException e) {
+        metrics.recordError(ConversionStage.PARSE, e);
+        throw e;
+      }
+    }
+
+    byte[] toByteArray(SchemaProvider schema, ConversionMetrics metrics) throws IOException {
+      buffer.reset();
+      write(schema, encoder, metrics);
+      encoder.flush();
+      return buffer.toByteArray();
+    }
+
+    void write(SchemaProvider schema, BinaryEncoder out, ConversionMetrics metrics)
+        throws IOException {
+      DataDictionary dictionary;
+      try {
+        dictionary = DataDictionaryRegistry.getInstance().get(schema);
+      } catch (ConfigError e) {
+        metrics.recordError(ConversionStage.DICTIONARY_LOOKUP, e);
+        throw new RuntimeException("Error converting FIX message to Avro", e);
+      } catch (IOException | RuntimeException e) {
+        metrics.recordError(ConversionStage.DICTIONARY_LOOKUP, e);
+        throw e;
+      }
+      write(dictionary, out, metrics);
+    }
+
+    void write(DataDictionary dictionary, BinaryEncoder out, ConversionMetrics metrics)
+        throws IOException {
+      try {
+        index(dictionary);
+      } catch (InvalidMessage e) {
+        metrics.recordError(ConversionStage.DECODE, e);
+        throw new RuntimeException("Error converting FIX message to Avro", e);
+      } catch (RuntimeException e) {
+        metrics.recordError(ConversionStage.DECODE, e);
+        throw e;
+      }
+      if (metrics.isEnabled()) {
+        metrics.recordMessage(tokenizer.valueAsString(headerIndexes[BEGIN_STRING_SLOT]),
+            tokenizer.valueAsString(headerIndexes[MSG_TYPE_SLOT]));
+      }
+
+      try {
+        writeRecord(out);
+      } catch (IOException | RuntimeException e) {
+        metrics.recordError(ConversionStage.SERIALIZE, e);
+        throw e;
+      }
+    }
+
+    private void writeRecord(BinaryEncoder out) throws IOException {
+      for (int slot = 0; slot < HEADER_TAGS.length; slot++) {
+        writeValue(headerIndexes[slot], out);
+      }
+      out.writeMapStart();
+      out.setItemCount(bodyCount);
+      for (int i = 0; i < bodyCount; i++) {
+        out.startItem();
+        writeDecimal(bodyTags[i], out);
+        if (groupCounts[i] >= 0) {
+          writeDecimal(groupCounts[i], out);
+        } else {
+          writeValue(bodyIndexes[i], out);
+        }
+      }
+      out.writeMapEnd();
+      writeValue(checkSumIndex, out);
+    }
+
+    /**
+     * Classifies every field and validates the message before anything is written.
+     */
+    private void index(DataDictionary dictionary) throws InvalidMessage {
+      Arrays.fill(headerIndexes, -1);
+      bodyCount = 0;
+      checkSumIndex = -1;
+      String msgType = null;
+      int section = SECTION_HEADER;
+      int size = tokenizer.size();
+      int i = 0;
+      while (i < size) {
+        int tag = tokenizer.tagAt(i);
+        if (tag == FixTokenizer.INVALID_TAG) {
+          throw new InvalidMessage("Invalid tag number: " + tokenizer.tagAsString(i));
+        }
+        if (isStandardHeaderField(tag) || dictionary.isHeaderField(tag)) {
+          if (section != SECTION_HEADER) {
+            throw new InvalidMessage("Tag specified out of required order, field=" + tag);
+          }
+          int slot = headerSlot(tag);
+          if (slot >= 0) {
+            headerIndexes[slot] = i;
+          }
+          if (tag == MsgType.FIELD) {
+            msgType = tokenizer.valueAsString(i);
+          }
+          i++;
+        } else if (isStandardTrailerField(tag) || dictionary.isTrailerField(tag)) {
+          section = SECTION_TRAILER;
+          if (tag == CheckSum.FIELD) {
+            checkSumIndex = i;
+          }
+          i++;
+        } else {
+          if (section == SECTION_TRAILER) {
+            throw new InvalidMessage("Tag specified out of required order, field=" + tag);
+          }
+          section = SECTION_BODY;
+          if (msgType != null && dictionary.isGroup(msgType, tag)) {
+            addBodyField(tag, i, parseGroupCount(i));
+            i = skipGroup(i, msgType, dictionary.getGroup(msgType, tag));
+          } else {
+            addBodyField(tag, i, -1);
+            i++;
+          }
+        }
+      }
+
+      for (int slot = 0; slot < HEADER_TAGS.length; slot++) {
+        if (headerIndexes[slot] < 0) {
+          throw new InvalidMessage("Field not found: " + HEADER_TAGS[slot]);
+        }
+      }
+      if (checkSumIndex < 0) {
+        throw new InvalidMessage("Field not found: " + CheckSum.FIELD);
+      }
+      verifyCheckSum();
+      sortBody();
+    }
+
+    private int skipGroup(int countIndex, String msgType, DataDictionary.GroupInfo group)
+        throws InvalidMessage {
+      int delimiter = group.getDelimiterField();
+      DataDictionary groupDictionary = group.getDataDictionary();
+      boolean started = false;
+      int size = tokenizer.size();
+      int i = countIndex + 1;
+      while (i < size) {
+        int tag = tokenizer.tagAt(i);
+        if (tag == delimiter) {
+          started = true;
+          i++;
+        } else if (groupDictionary.isGroup(msgType, tag) || groupDictionary.isField(tag)) {
+          if (!started) {
+            throw new InvalidMessage("The group " + tokenizer.tagAt(countIndex)
+              + " must set the delimiter field " + delimiter);
+          }
+          i = groupDictionary.isGroup(msgType, tag)
+            ? skipGroup(i, msgType, groupDictionary.getGroup(msgType, tag))
+            : i + 1;
+        } else {
+          break;
+        }
+      }
+      return i;
+    }
+
+    private int parseGroupCount(int index) throws InvalidMessage {
+      try {
+        return tokenizer.valueAsInt(index);
+      } catch (NumberFormatException e) {
+        throw new InvalidMessage("Incorrect NumInGroup count for field "
+          + tokenizer.tagAt(index) + ": " + tokenizer.valueAsString(index));
+      }
+    }
+
+    private void verifyCheckSum() throws InvalidMessage {
+      int expected;
+      try {
+        expected = tokenizer.valueAsInt(checkSumIndex);
+      } catch (NumberFormatException e) {
+        throw new InvalidMessage("Invalid CheckSum: " + tokenizer.valueAsString(checkSumIndex));
+      }
+      int actual = tokenizer.checksumBefore(checkSumIndex);
+      if (expected != actual) {
+        throw new InvalidMessage("Expected CheckSum=" + actual + ", Received CheckSum="
+          + expected);
+      }
+    }
+
+    private void addBodyField(int tag, int index, int groupCount) {
+      if (bodyCount == bodyTags.length) {
+        int capacity = bodyTags.length << 1;
+        bodyTags = Arrays.copyOf(bodyTags, capacity);
+        bodyIndexes = Arrays.copyOf(bodyIndexes, capacity);
+        groupCounts = Arrays.copyOf(groupCounts, capacity);
+      }
+      bodyTags[bodyCount] = tag;
+      bodyIndexes[bodyCount] = index;
+      groupCounts[bodyCount] = groupCount;
+      bodyCount++;
+    }
+
+    /**
+     * Insertion sort by tag; bodies are short and usually almost sorted already.
+     */
+    private void sortBody() throws InvalidMessage {
+      for (int i = 1; i < bodyCount; i++) {
+        int tag = bodyTags[i];
+        int j = i - 1;
+        while (j >= 0 && bodyTags[j] > tag) {
+          j--;
+        }
+        if (j >= 0 && bodyTags[j] == tag) {
+          throw new InvalidMessage("Tag appears more than once, field=" + tag);
+        }
+        if (j + 1 < i) {
+          moveBack(bodyTags, i, j + 1);
+          moveBack(bodyIndexes, i, j + 1);
+          moveBack(groupCounts, i, j + 1);
+        }
+      }
+    }
+
+    /**
+     * Moves the element at {@code from} to {@code to}, shifting the ones in between up.
+     */
+    private static void moveBack(int[] values, int from, int to) {
+      int value = values[from];
+      System.arraycopy(values, to, values, to + 1, from - to);
+      values[to] = value;
+    }
+
+    private void writeValue(int index, BinaryEncoder out) throws IOException {
+      int maxLength = tokenizer.valueLength(index) * 3;
+      if (scratch.length < maxLength) {
+        scratch = new byte[Math.max(maxLength, scratch.length << 1)];
+      }
+      int length = tokenizer.copyValueUtf8(index, scratch, 0);
+      out.writeBytes(scratch, 0, length);
+    }
+
+    /**
+     * Writes a non-negative int as its decimal string without allocating.
+     */
+    private void writeDecimal(int value, BinaryEncoder out) throws IOException {
+      int pos = scratch.length;
+      do {
+        scratch[--pos] = (byte) ('0' + value % 10);
+        value /= 10;
+      } while (value > 0);
+      out.writeBytes(scratch, pos, scratch.length - pos);
+    }
+
+    private static int headerSlot(int tag) {
+      for (int slot = 0; slot < HEADER_TAGS.length; slot++) {
+        if (HEADER_TAGS[slot] == tag) {
+          return slot;
+        }
+      }
+      return -1;
+    }
+
+    /**
+     * Mirrors quickfixj, which treats the standard session header fields as header
+     * fields even when the dictionary has no header section (FIX 5.0 and later).
+     */
+    private static boolean isStandardHeaderField(int tag) {
+      switch (tag) {
+        case 8: case 9: case 34: case 35: case 43: case 49: case 50: case 52: case 56:
+        case 57: case 90: case 97: case 115: case 116: case 122: case 128: case 129:
+        case 142: case 143: case 144: case 145: case 212: case 213: case 347: case 369:
+        case 370: case 627: case 1128: case 1129: case 1156:
+          return true;
+        default:
+          return false;
+      }
+    }
+
+    private static boolean isStandardTrailerField(int tag) {
+      return tag == 10 || tag == 89 || tag == 93;
+    }
+  }
+}
@@ -16,10 +16,13 @@
 
 package io.github.darioajr.converter.utils;
 
-import java.util.HashMap;
+import io.github.darioajr.converter.parser.FixFieldMap;
+import io.github.darioajr.converter.parser.FixValueInterner;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import quickfix.Field;
+import quickfix.FieldMap;
 import quickfix.Message;
 
 /**
@@ -39,17 +42,39 @@ public class FixUtils {
    * Converts the fields of a FIX message into a map of key-value pairs.
    *
    * @param message The FIX message.
-   * @return A map containing the fields of the FIX message (tag, value).
+   * @return A map containing the fields of the FIX message (tag, value), in message body
+   *     order, so serialized records are deterministic.
    */
   public static Map<String, String> getFieldsAsMap(Message message) {
-    Map<String, String> fieldMap = new HashMap<>();
+    Map<String, String> fieldMap = new LinkedHashMap<>();
+    FixValueInterner interner = FixValueInterner.getInstance();
 
     for (Iterator<Field<?>> it = message.iterator(); it.hasNext();) {
       Field<?> field = it.next();
       int tag = field.getTag();
       String value = field.getObject().toString();
-      fieldMap.put(String.valueOf(tag), value);
+      if (interner.isInterned(tag)) {
+        value = interner.intern(value);
+      }
+      fieldMap.put(FixValueInterner.tagName(tag), value);
     }
     return fieldMap;
   }
-}
\ No newline at end of file
+
+  /**
+   * Copies the top-level fields of a FIX message section into an int-keyed map,
+   * without converting tags to strings. The target is not cleared, so the header,
+   * body and trailer can be collected into one map.
+   *
+   * @param fields The message header, body or trailer.
+   * @param target The map receiving the fields (tag, value).
+   * @return The target map.
+   */
+  public static FixFieldMap getFields(FieldMap fields, FixFieldMap target) {
+    for (Iterator<Field<?>> it = fields.iterator(); it.hasNext();) {
+      Field<?> field = it.next();
+      target.put(field.getTag(), field.getObject().toString());
+    }
+    return target;
+  }
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.utils;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Growable, unsynchronized byte sink whose backing array is reused across records.
+ */
+final class ReusableByteArrayOutputStream extends OutputStream {
+  private byte[] buf;
+  private int count;
+
+  ReusableByteArrayOutputStream(int size) {
+    this.buf = new byte[size];
+  }
+
+  @Override
+  public void write(int b) {
+    ensureCapacity(count + 1);
+    buf[count++] = (byte) b;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) {
+    ensureCapacity(count + len);
+    System.arraycopy(b, off, buf, count, len);
+    count += len;
+  }
+
+  void reset() {
+    count = 0;
+  }
+
+  int size() {
+    return count;
+  }
+
+  byte[] array() {
+    return buf;
+  }
+
+  int capacity() {
+    return buf.length;
+  }
+
+  byte[] toByteArray() {
+    return Arrays.copyOf(buf, count);
+  }
+
+  private void ensureCapacity(int minCapacity) {
+    if (minCapacity > buf.length) {
+      buf = Arrays.copyOf(buf, Math.max(buf.length << 1, minCapacity));
+    }
+  }
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.utils;
+
+import io.github.darioajr.converter.registry.FingerprintSchemaStore;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaCompatibility;
+import org.apache.avro.SchemaCompatibility.SchemaPairCompatibility;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.message.BadHeaderException;
+import org.apache.avro.message.MissingSchemaException;
+import org.apache.avro.message.SchemaStore;
+
+/**
+ * Reads records written by {@link SingleObjectEncoder} into a fixed reader schema,
+ * resolving whatever writer schema each record's fingerprint names.
+ *
+ * <p>Writer schemas are looked up in a pluggable {@link SchemaStore} once per
+ * fingerprint and checked for compatibility with the reader schema. The
+ * resulting DatumReader is cached and shared between threads; it keeps the
+ * {@link org.apache.avro.io.ResolvingDecoder} for its writer/reader pair per
+ * thread, so the resolution grammar is built once rather than per record.
+ * Records written with the reader schema itself skip resolution entirely.
+ */
+public class SingleObjectDecoder {
+  private final Schema readerSchema;
+  private final long readerFingerprint;
+  private final SchemaStore store;
+  private final ConcurrentMap<Long, DatumReader<GenericRecord>> readers =
+      new ConcurrentHashMap<>();
+  private final ThreadLocal<BinaryDecoder> decoders = new ThreadLocal<>();
+
+  /**
+   * Constructs a decoder that only accepts records written with the reader schema.
+   *
+   * @param readerSchema the schema records are decoded into
+   */
+  public SingleObjectDecoder(Schema readerSchema) {
+    this(readerSchema, fingerprint -> null);
+  }
+
+  /**
+   * Constructs a decoder that resolves older writer schemas from the given store.
+   *
+   * @param readerSchema the schema records are decoded into
+   * @param store the store used to find writer schemas by fingerprint
+   */
+  public SingleObjectDecoder(Schema readerSchema, SchemaStore store) {
+    this.readerSchema = readerSchema;
+    this.readerFingerprint = FingerprintSchemaStore.fingerprint(readerSchema);
+    this.store = store;
+  }
+
+  /**
+   * Gets the schema records are decoded into.
+   *
+   * @return the reader schema
+   */
+  public Schema getReaderSchema() {
+    return readerSchema;
+  }
+
+  /**
+   * Reads the writer schema fingerprint from a single-object encoded record.
+   *
+   * @param data the encoded bytes
+   * @param offset the offset of the record
+   * @param length the length of the record
+   * @return the writer schema fingerprint
+   * @throws BadHeaderException if the bytes do not start with a single-object header
+   */
+  public static long readFingerprint(byte[] data, int offset, int length) {
+    if (length < SingleObjectEncoder.HEADER_LENGTH
+        || data[offset] != SingleObjectEncoder.MARKER_0
+        || data[offset + 1] != SingleObjectEncoder.MARKER_1) {
+      throw new BadHeaderException("Not a single-object encoded record");
+    }
+    long fingerprint = 0L;
+    for (int i = Long.BYTES - 1; i >= 0; i--) {
+      fingerprint = (fingerprint << 8) | (data[offset + 2 + i] & 0xFF);
+    }
+    return fingerprint;
+  }
+
+  /**
+   * Decodes a single-object encoded record.
+   *
+   * @param data the encoded bytes
+   * @return the decoded record in the reader schema
+   * @throws IOException if the body cannot be decoded
+   * @throws BadHeaderException if the bytes do not start with a single-object header
+   * @throws MissingSchemaException if the writer schema is not in the store
+   * @throws AvroTypeException if the writer schema cannot be read as the reader schema
+   */
+  public GenericRecord decode(byte[] data) throws IOException {
+    return decode(data, 0, data.length, null);
+  }
+
+  /**
+   * Decodes a single-object encoded record, reusing a previously decoded record
+   * when possible.
+   *
+   * @param data the encoded bytes
+   * @param offset the offset of the record
+   * @param length the length of the record
+   * @param reuse a record to reuse, or {@code null}
+   * @return the decoded record in the reader schema
+   * @throws IOException if the body cannot be decoded
+   * @throws BadHeaderException if the bytes do not start with a single-object header
+   * @throws MissingSchemaException if the writer schema is not in the store
+   * @throws AvroTypeException if the writer schema cannot be read as the reader schema
+   */
+  public GenericRecord decode(byte[] data, int offset, int length, GenericRecord reuse)
+      throws IOException {
+    DatumReader<GenericRecord> reader = getReader(readFingerprint(data, offset, length));
+    BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(data,
+        offset + SingleObjectEncoder.HEADER_LENGTH, length - SingleObjectEncoder.HEADER_LENGTH,
+        decoders.get());
+    decoders.set(decoder);
+    return reader.read(reuse, decoder);
+  }
+
+  private DatumReader<GenericRecord> getReader(long fingerprint) {
+    DatumReader<GenericRecord> reader = readers.get(fingerprint);
+    if (reader == null) {
+      reader = readers.computeIfAbsent(fingerprint, this::newReader);
+    }
+    return reader;
+  }
+
+  private DatumReader<GenericRecord> newReader(long fingerprint) {
+    if (fingerprint == readerFingerprint) {
+      return new GenericDatumReader<>(readerSchema);
+    }
+    Schema writerSchema = store.findByFingerprint(fingerprint);
+    if (writerSchema == null) {
+      throw new MissingSchemaException("Cannot resolve schema for fingerprint: " + fingerprint);
+    }
+    SchemaPairCompatibility compatibility =
+        SchemaCompatibility.checkReaderWriterCompatibility(readerSchema, writerSchema);
+    if (compatibility.getType() != SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE) {
+      throw new AvroTypeException("Writer schema " + fingerprint + " cannot be read as "
+          + readerSchema.getFullName() + ": " + compatibility.getDescription());
+    }
+    return new GenericDatumReader<>(writerSchema, readerSchema);
+  }
+}
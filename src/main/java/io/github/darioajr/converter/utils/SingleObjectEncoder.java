@@ -0,0 +1,189 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.utils;
+
+import io.github.darioajr.converter.registry.FingerprintSchemaStore;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+
+/**
+ * Serializes GenericRecords using Avro single-object encoding: the two byte
+ * marker {@code C3 01}, the little-endian CRC-64 fingerprint of the writer
+ * schema, then the Avro binary body.
+ *
+ * <p>Because every record names its writer schema, archived data can later be
+ * read with a newer reader schema through {@link SingleObjectDecoder}. Headers
+ * are computed once per schema and writers are shared with
+ * {@link AvroSerializer}; each thread reuses its own scratch buffer.
+ */
+public class SingleObjectEncoder {
+  /**
+   * Length of the single-object header: marker plus fingerprint.
+   */
+  public static final int HEADER_LENGTH = 10;
+  static final byte MARKER_0 = (byte) 0xC3;
+  static final byte MARKER_1 = (byte) 0x01;
+
+  private static final SingleObjectEncoder INSTANCE = new SingleObjectEncoder();
+  private static final int INITIAL_BUFFER_SIZE = 512;
+  private static final int MAX_RETAINED_BUFFER_SIZE = 1 << 20;
+
+  private final ConcurrentMap<Schema, byte[]> headers = new ConcurrentHashMap<>();
+  private final ThreadLocal<ThreadState> threadState = ThreadLocal.withInitial(ThreadState::new);
+
+  /**
+   * Constructs an encoder with its own header cache.
+   * Most callers should use the process-wide instance from {@link #getInstance()}.
+   */
+  public SingleObjectEncoder() {
+    // Default constructor
+  }
+
+  /**
+   * Gets the process-wide encoder instance.
+   *
+   * @return the shared encoder
+   */
+  public static SingleObjectEncoder getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Gets the single-object header for the given writer schema.
+   *
+   * @param schema the writer schema
+   * @return a copy of the ten byte header
+   */
+  public byte[] getHeader(Schema schema) {
+    return header(schema).clone();
+  }
+
+  /**
+   * Serializes a GenericRecord with its own schema as the writer schema.
+   *
+   * @param record the GenericRecord to serialize
+   * @return the single-object encoded bytes
+   * @throws IOException if an I/O error occurs during serialization
+   */
+  public byte[] encode(GenericRecord record) throws IOException {
+    ThreadState state = write(record);
+    try {
+      return state.buffer.toByteArray();
+    } finally {
+      state.release();
+    }
+  }
+
+  /**
+   * Serializes a GenericRecord into a caller-supplied buffer, starting at its
+   * current position. On success the position is advanced past the written bytes.
+   *
+   * @param record the GenericRecord to serialize
+   * @param target the buffer receiving the encoded bytes
+   * @return the number of bytes written
+   * @throws IOException if an I/O error occurs during serialization
+   * @throws BufferOverflowException if the target has not enough space remaining;
+   *     the target is left unchanged
+   */
+  public int encode(GenericRecord record, ByteBuffer target) throws IOException {
+    ThreadState state = write(record);
+    try {
+      int size = state.buffer.size();
+      if (target.remaining() < size) {
+        throw new BufferOverflowException();
+      }
+      target.put(state.buffer.array(), 0, size);
+      return size;
+    } finally {
+      state.release();
+    }
+  }
+
+  /**
+   * Serializes a GenericRecord directly to a caller-supplied stream.
+   * The stream is flushed but not closed.
+   *
+   * @param record the GenericRecord to serialize
+   * @param out the stream receiving the encoded bytes
+   * @throws IOException if an I/O error occurs during serialization
+   */
+  public void encode(GenericRecord record, OutputStream out) throws IOException {
+    Schema schema = record.getSchema();
+    out.write(header(schema));
+    AvroSerializer.getInstance().serialize(record, schema, out);
+  }
+
+  private ThreadState write(GenericRecord record) throws IOException {
+    Schema schema = record.getSchema();
+    ThreadState state = threadState.get();
+    state.buffer.reset();
+    state.buffer.write(header(schema), 0, HEADER_LENGTH);
+    try {
+      AvroSerializer.getInstance().getWriter(schema).write(record, state.encoder);
+      state.encoder.flush();
+    } catch (IOException | RuntimeException e) {
+      state.discard();
+      throw e;
+    }
+    return state;
+  }
+
+  private byte[] header(Schema schema) {
+    return headers.computeIfAbsent(schema, SingleObjectEncoder::newHeader);
+  }
+
+  private static byte[] newHeader(Schema schema) {
+    long fingerprint = FingerprintSchemaStore.fingerprint(schema);
+    byte[] header = new byte[HEADER_LENGTH];
+    header[0] = MARKER_0;
+    header[1] = MARKER_1;
+    for (int i = 0; i < Long.BYTES; i++) {
+      header[2 + i] = (byte) (fingerprint >>> (i << 3));
+    }
+    return header;
+  }
+
+  /**
+   * Per-thread scratch buffer and encoder.
+   */
+  private static final class ThreadState {
+    private ReusableByteArrayOutputStream buffer =
+        new ReusableByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+    private BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(buffer, null);
+
+    void discard() {
+      // Drop whatever a failed write left buffered in the encoder
+      encoder = EncoderFactory.get().binaryEncoder(buffer, null);
+      buffer.reset();
+    }
+
+    void release() {
+      if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+        buffer = new ReusableByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        encoder = EncoderFactory.get().binaryEncoder(buffer, encoder);
+      }
+    }
+  }
+}
@@ -17,21 +17,36 @@
 package io.github.darioajr.converter.validation;
 
 import io.github.darioajr.converter.core.SchemaProvider;
+import io.github.darioajr.converter.metrics.ConversionMetrics;
+import io.github.darioajr.converter.metrics.ConversionStage;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Implementation of FixMessageValidator.
  * 
  */
 public class FixMessageValidator {
+  private final ConversionMetrics metrics;
 
   /**
-   * Default constructor.
-   * This constructor is intentionally empty. Nothing special is needed here.
+   * Constructs a validator that reports to the no-op metrics hook,
+   * {@link ConversionMetrics#noop()}.
    */
   public FixMessageValidator() {
-    // Default constructor
+    this.metrics = ConversionMetrics.noop();
+  }
+
+  /**
+   * Constructs a validator that reports the time spent validating each message, and
+   * every rejected message, to a metrics hook as the {@link ConversionStage#VALIDATE}
+   * stage.
+   *
+   * @param metrics the metrics hook, or {@link ConversionMetrics#noop()}
+   */
+  public FixMessageValidator(ConversionMetrics metrics) {
+    this.metrics = Objects.requireNonNull(metrics, "metrics");
   }
 
   /**
@@ -43,6 +58,45 @@ public class FixMessageValidator {
    */
   public void validateFields(Map<String, String> parsedFields,
       SchemaProvider schema, Map<String, Object> fieldCriteria) {
+    if (!metrics.isEnabled()) {
+      validateCriteria(parsedFields, schema, fieldCriteria);
+      return;
+    }
+    long start = System.nanoTime();
+    try {
+      validateCriteria(parsedFields, schema, fieldCriteria);
+    } catch (RuntimeException e) {
+      metrics.recordError(ConversionStage.VALIDATE, e);
+      throw e;
+    } finally {
+      metrics.recordStage(ConversionStage.VALIDATE, System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Validates the fields of a FIX message against compiled criteria.
+   *
+   * @param parsedFields Fields of the FIX message (key: tag, value: field value).
+   * @param program      Compiled validation criteria.
+   */
+  public void validateFields(Map<String, String> parsedFields, ValidationProgram program) {
+    if (!metrics.isEnabled()) {
+      program.validate(parsedFields);
+      return;
+    }
+    long start = System.nanoTime();
+    try {
+      program.validate(parsedFields);
+    } catch (RuntimeException e) {
+      metrics.recordError(ConversionStage.VALIDATE, e);
+      throw e;
+    } finally {
+      metrics.recordStage(ConversionStage.VALIDATE, System.nanoTime() - start);
+    }
+  }
+
+  private void validateCriteria(Map<String, String> parsedFields,
+      SchemaProvider schema, Map<String, Object> fieldCriteria) {
     if (parsedFields == null || parsedFields.isEmpty()) {
       throw new IllegalArgumentException("The FIX message cannot be empty.");
     }
@@ -83,6 +137,43 @@ public class FixMessageValidator {
     }
   }
 
+  /**
+   * Compiles validation criteria into a reusable, thread-safe program, so the
+   * criteria are inspected once instead of on every message.
+   *
+   * @param schema       FIX version of the messages.
+   * @param fieldCriteria Validation criteria (key: tag, value: String or List of String).
+   * @return the compiled validation program
+   * @throws IllegalArgumentException if the version is unknown or a criterion is invalid
+   */
+  public ValidationProgram compile(SchemaProvider schema, Map<String, Object> fieldCriteria) {
+    return ValidationProgram.compile(schema, fieldCriteria);
+  }
+
+  /**
+   * Checks the fields of a FIX message against compiled criteria without throwing,
+   * collecting every violation.
+   *
+   * @param parsedFields Fields of the FIX message (key: tag, value: field value).
+   * @param program      Compiled validation criteria.
+   * @return the validation result
+   */
+  public ValidationResult checkFields(Map<String, String> parsedFields,
+      ValidationProgram program) {
+    if (!metrics.isEnabled()) {
+      return program.check(parsedFields);
+    }
+    long start = System.nanoTime();
+    ValidationResult result = program.check(parsedFields);
+    metrics.recordStage(ConversionStage.VALIDATE, System.nanoTime() - start);
+    if (!result.isValid()) {
+      for (ValidationError error : result.getErrors()) {
+        metrics.recordError(ConversionStage.VALIDATE, error.name());
+      }
+    }
+    return result;
+  }
+
   /**
    * Checks if the FIX message is compatible with the provided version.
    *
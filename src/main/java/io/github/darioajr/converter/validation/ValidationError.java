@@ -0,0 +1,33 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.validation;
+
+/**
+ * Kinds of validation failure reported in a {@link ValidationResult}.
+ */
+public enum ValidationError {
+  /** The message has no fields. */
+  EMPTY_MESSAGE,
+  /** The message has no BeginString (8) field. */
+  MISSING_BEGIN_STRING,
+  /** The BeginString does not match the expected FIX version. */
+  VERSION_MISMATCH,
+  /** A field required by the criteria is absent. */
+  MISSING_FIELD,
+  /** A field value is not one of the allowed values. */
+  INVALID_VALUE
+}
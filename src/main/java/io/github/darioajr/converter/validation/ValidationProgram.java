@@ -0,0 +1,332 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.validation;
+
+import io.github.darioajr.converter.core.SchemaProvider;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Validation criteria compiled once and reused for any number of messages.
+ *
+ * <p>A program checks the same things as
+ * {@link FixMessageValidator#validateFields(Map, SchemaProvider, Map)}, with the
+ * same error messages, but the criteria are inspected only when the program is
+ * compiled: criterion types are resolved up front, allowed values are stored in
+ * a hash table, and the rules are ordered so the most selective run first (single
+ * expected values, then allowed-value sets from the smallest, then presence-only
+ * criteria). When a message breaks several rules, the error reported is the one of
+ * the first rule in that order.
+ *
+ * <p>Instances are immutable and can be shared between threads.
+ */
+public final class ValidationProgram {
+  private static final Comparator<Rule> BY_SELECTIVITY = Comparator
+      .comparingInt((Rule rule) -> rule.allowed == null ? Integer.MAX_VALUE : rule.allowed.size)
+      .thenComparing(rule -> rule.expected == null);
+
+  private final String beginString;
+  private final Rule[] rules;
+  private final ValidationResult emptyMessage =
+      new ValidationResult(this, null, ValidationError.EMPTY_MESSAGE, null, null);
+
+  private ValidationProgram(String beginString, Rule[] rules) {
+    this.beginString = beginString;
+    this.rules = rules;
+  }
+
+  /**
+   * Compiles validation criteria for the given FIX version.
+   *
+   * @param schema the expected FIX version
+   * @param fieldCriteria validation criteria (key: tag, value: String or List of String)
+   * @return the compiled program
+   * @throws IllegalArgumentException if the version is unknown or a criterion is invalid
+   */
+  public static ValidationProgram compile(SchemaProvider schema,
+      Map<String, Object> fieldCriteria) {
+    String beginString = expectedBeginString(schema);
+    List<Rule> compiled = new ArrayList<>(fieldCriteria.size());
+    for (Map.Entry<String, Object> criterion : fieldCriteria.entrySet()) {
+      compiled.add(Rule.compile(criterion.getKey(), criterion.getValue()));
+    }
+    Rule[] rules = compiled.toArray(new Rule[0]);
+    Arrays.sort(rules, BY_SELECTIVITY);
+    return new ValidationProgram(beginString, rules);
+  }
+
+  /**
+   * Validates the fields of a parsed FIX message.
+   *
+   * @param parsedFields fields of the FIX message (key: tag, value: field value)
+   * @throws IllegalArgumentException if the message breaks a rule
+   */
+  public void validate(Map<String, String> parsedFields) {
+    if (parsedFields == null || parsedFields.isEmpty()) {
+      throw new IllegalArgumentException(describe(ValidationError.EMPTY_MESSAGE));
+    }
+
+    String actualBeginString = parsedFields.get("8");
+    if (actualBeginString == null) {
+      throw new IllegalArgumentException(describe(ValidationError.MISSING_BEGIN_STRING));
+    }
+    if (!beginString.equals(actualBeginString)) {
+      throw new IllegalArgumentException(describe(ValidationError.VERSION_MISMATCH));
+    }
+
+    for (Rule rule : rules) {
+      String actualValue = parsedFields.get(rule.tag);
+      if (actualValue == null && !parsedFields.containsKey(rule.tag)) {
+        throw new IllegalArgumentException(missingFieldMessage(rule.tag));
+      }
+      rule.check(actualValue);
+    }
+  }
+
+  /**
+   * Checks whether the fields of a parsed FIX message pass every rule.
+   *
+   * @param parsedFields fields of the FIX message (key: tag, value: field value)
+   * @return true if {@link #validate(Map)} would not throw
+   */
+  public boolean test(Map<String, String> parsedFields) {
+    if (parsedFields == null || !beginString.equals(parsedFields.get("8"))) {
+      return false;
+    }
+    for (Rule rule : rules) {
+      String actualValue = parsedFields.get(rule.tag);
+      if (actualValue == null && !parsedFields.containsKey(rule.tag)) {
+        return false;
+      }
+      if (!rule.accepts(actualValue)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks the fields of a parsed FIX message without throwing, collecting every
+   * violation in one pass. Unlike {@link #validate(Map)}, a version mismatch does
+   * not stop the field rules from being applied.
+   *
+   * @param parsedFields fields of the FIX message (key: tag, value: field value)
+   * @return the validation result; valid messages all share one instance
+   */
+  public ValidationResult check(Map<String, String> parsedFields) {
+    if (parsedFields == null || parsedFields.isEmpty()) {
+      return emptyMessage;
+    }
+
+    String actualBeginString = parsedFields.get("8");
+    ValidationError messageError = null;
+    if (actualBeginString == null) {
+      messageError = ValidationError.MISSING_BEGIN_STRING;
+    } else if (!beginString.equals(actualBeginString)) {
+      messageError = ValidationError.VERSION_MISMATCH;
+    }
+
+    long[] failed = null;
+    long[] missing = null;
+    for (int i = 0; i < rules.length; i++) {
+      Rule rule = rules[i];
+      String actualValue = parsedFields.get(rule.tag);
+      boolean absent = actualValue == null && !parsedFields.containsKey(rule.tag);
+      if (absent || !rule.accepts(actualValue)) {
+        if (failed == null) {
+          failed = new long[(rules.length + 63) >>> 6];
+          missing = new long[failed.length];
+        }
+        failed[i >>> 6] |= 1L << i;
+        if (absent) {
+          missing[i >>> 6] |= 1L << i;
+        }
+      }
+    }
+
+    if (messageError == null && failed == null) {
+      return ValidationResult.VALID;
+    }
+    return new ValidationResult(this, parsedFields, messageError, failed, missing);
+  }
+
+  /**
+   * Gets the number of field rules in the program.
+   *
+   * @return the rule count
+   */
+  public int size() {
+    return rules.length;
+  }
+
+  String ruleTag(int rule) {
+    return rules[rule].tag;
+  }
+
+  String describeViolation(int rule, boolean missing, Map<String, String> parsedFields) {
+    Rule failed = rules[rule];
+    return missing
+        ? missingFieldMessage(failed.tag)
+        : failed.describe(parsedFields.get(failed.tag));
+  }
+
+  String describe(ValidationError messageError) {
+    switch (messageError) {
+      case EMPTY_MESSAGE:
+        return "The FIX message cannot be empty.";
+      case MISSING_BEGIN_STRING:
+        return "The FIX message does not contain the BeginString tag (8).";
+      default:
+        return "FIX message incompatible with version " + beginString + ".";
+    }
+  }
+
+  private static String missingFieldMessage(String tag) {
+    return "The required field is missing: tag " + tag;
+  }
+
+  private static String expectedBeginString(SchemaProvider schema) {
+    switch (schema.getVersion()) {
+      case "44":
+        return "FIX.4.4";
+      case "50":
+        return "FIX.5.0";
+      case "50SP1":
+        return "FIX.5.0SP1";
+      case "50SP2":
+        return "FIX.5.0SP2";
+      default:
+        throw new IllegalArgumentException("Unknown FIX version: " + schema);
+    }
+  }
+
+  /**
+   * A single compiled criterion.
+   */
+  private static final class Rule {
+    private final String tag;
+    private final String expected;
+    private final ValueSet allowed;
+    private final List<?> allowedValues;
+
+    private Rule(String tag, String expected, ValueSet allowed, List<?> allowedValues) {
+      this.tag = tag;
+      this.expected = expected;
+      this.allowed = allowed;
+      this.allowedValues = allowedValues;
+    }
+
+    static Rule compile(String tag, Object expectedValue) {
+      if (expectedValue instanceof String) {
+        String value = (String) expectedValue;
+        return new Rule(tag, value, ValueSet.of(List.of(value)), null);
+      }
+      if (expectedValue instanceof List<?>) {
+        List<?> values = (List<?>) expectedValue;
+        if (!values.isEmpty() && values.get(0) instanceof String) {
+          return new Rule(tag, null, ValueSet.of(values),
+              Collections.unmodifiableList(new ArrayList<>(values)));
+        }
+        return new Rule(tag, null, null, null);
+      }
+      throw new IllegalArgumentException("Invalid validation criterion for tag " + tag);
+    }
+
+    boolean accepts(String actualValue) {
+      return allowed == null || allowed.contains(actualValue);
+    }
+
+    void check(String actualValue) {
+      if (!accepts(actualValue)) {
+        throw new IllegalArgumentException(describe(actualValue));
+      }
+    }
+
+    String describe(String actualValue) {
+      if (expected != null) {
+        return String.format("The field %s has an invalid value: expected=%s, actual=%s",
+          tag, expected, actualValue);
+      }
+      return String.format("The field %s has an invalid value: expected one of=%s, actual=%s",
+        tag, allowedValues, actualValue);
+    }
+  }
+
+  /**
+   * Immutable open-addressing hash set of strings, sized to keep probe chains short.
+   */
+  private static final class ValueSet {
+    private final String[] table;
+    private final int[] hashes;
+    private final int mask;
+    private final int size;
+
+    private ValueSet(String[] table, int[] hashes, int size) {
+      this.table = table;
+      this.hashes = hashes;
+      this.mask = table.length - 1;
+      this.size = size;
+    }
+
+    static ValueSet of(List<?> values) {
+      LinkedHashSet<String> distinct = new LinkedHashSet<>();
+      for (Object value : values) {
+        if (value instanceof String) {
+          distinct.add((String) value);
+        }
+      }
+      int capacity = Integer.highestOneBit(Math.max(1, distinct.size()) * 2) << 1;
+      String[] table = new String[capacity];
+      int[] hashes = new int[capacity];
+      for (String value : distinct) {
+        int hash = mix(value.hashCode());
+        int slot = hash & (capacity - 1);
+        while (table[slot] != null) {
+          slot = (slot + 1) & (capacity - 1);
+        }
+        table[slot] = value;
+        hashes[slot] = hash;
+      }
+      return new ValueSet(table, hashes, distinct.size());
+    }
+
+    boolean contains(String value) {
+      if (value == null) {
+        return false;
+      }
+      int hash = mix(value.hashCode());
+      int slot = hash & mask;
+      String candidate;
+      while ((candidate = table[slot]) != null) {
+        if (hashes[slot] == hash && candidate.equals(value)) {
+          return true;
+        }
+        slot = (slot + 1) & mask;
+      }
+      return false;
+    }
+
+    private static int mix(int hash) {
+      return hash ^ (hash >>> 16);
+    }
+  }
+}
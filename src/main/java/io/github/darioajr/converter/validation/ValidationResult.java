@@ -0,0 +1,175 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of checking a message against a {@link ValidationProgram}, holding every
+ * violation found instead of only the first one.
+ *
+ * <p>Failed rules are kept as a bitset and error messages are only formatted when
+ * {@link #getMessages()} or {@link #throwIfInvalid()} is called, so a rejected
+ * message costs about as much to check as an accepted one. Messages are built from
+ * the checked field map, which is referenced rather than copied; it should not be
+ * modified while the result is in use. Valid messages share a single instance.
+ */
+public final class ValidationResult {
+  static final ValidationResult VALID = new ValidationResult(null, null, null, null, null);
+
+  private final ValidationProgram program;
+  private final Map<String, String> parsedFields;
+  private final ValidationError messageError;
+  private final long[] failedRules;
+  private final long[] missingRules;
+
+  ValidationResult(ValidationProgram program, Map<String, String> parsedFields,
+      ValidationError messageError, long[] failedRules, long[] missingRules) {
+    this.program = program;
+    this.parsedFields = parsedFields;
+    this.messageError = messageError;
+    this.failedRules = failedRules;
+    this.missingRules = missingRules;
+  }
+
+  /**
+   * Checks whether the message passed every rule.
+   *
+   * @return true if there are no violations
+   */
+  public boolean isValid() {
+    return messageError == null && failedRules == null;
+  }
+
+  /**
+   * Gets the message-level error, found before the field rules are applied.
+   *
+   * @return {@link ValidationError#EMPTY_MESSAGE}, {@link ValidationError#MISSING_BEGIN_STRING},
+   *     {@link ValidationError#VERSION_MISMATCH}, or {@code null} if there is none
+   */
+  public ValidationError getMessageError() {
+    return messageError;
+  }
+
+  /**
+   * Gets the number of violations, including the message-level error.
+   *
+   * @return the violation count
+   */
+  public int getViolationCount() {
+    int count = messageError != null ? 1 : 0;
+    if (failedRules != null) {
+      for (long word : failedRules) {
+        count += Long.bitCount(word);
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Gets the tags of the fields that broke a rule, in rule order.
+   *
+   * @return the failed tags
+   */
+  public List<String> getFailedTags() {
+    if (failedRules == null) {
+      return Collections.emptyList();
+    }
+    List<String> tags = new ArrayList<>();
+    for (int rule = nextFailed(0); rule >= 0; rule = nextFailed(rule + 1)) {
+      tags.add(program.ruleTag(rule));
+    }
+    return tags;
+  }
+
+  /**
+   * Gets the error code of every violation, the message-level error first.
+   *
+   * @return the error codes
+   */
+  public List<ValidationError> getErrors() {
+    List<ValidationError> errors = new ArrayList<>(getViolationCount());
+    if (messageError != null) {
+      errors.add(messageError);
+    }
+    if (failedRules != null) {
+      for (int rule = nextFailed(0); rule >= 0; rule = nextFailed(rule + 1)) {
+        errors.add(isMissing(rule) ? ValidationError.MISSING_FIELD : ValidationError.INVALID_VALUE);
+      }
+    }
+    return errors;
+  }
+
+  /**
+   * Formats the message of every violation, the message-level error first. The
+   * messages are the ones {@link FixMessageValidator#validateFields} would throw.
+   *
+   * @return the error messages
+   */
+  public List<String> getMessages() {
+    List<String> messages = new ArrayList<>(getViolationCount());
+    if (messageError != null) {
+      messages.add(program.describe(messageError));
+    }
+    if (failedRules != null) {
+      for (int rule = nextFailed(0); rule >= 0; rule = nextFailed(rule + 1)) {
+        messages.add(program.describeViolation(rule, isMissing(rule), parsedFields));
+      }
+    }
+    return messages;
+  }
+
+  /**
+   * Throws the first violation, as {@link ValidationProgram#validate} would.
+   *
+   * @throws IllegalArgumentException if the message is not valid
+   */
+  public void throwIfInvalid() {
+    if (!isValid()) {
+      throw new IllegalArgumentException(getMessages().get(0));
+    }
+  }
+
+  @Override
+  public String toString() {
+    return isValid() ? "ValidationResult[valid]" : "ValidationResult" + getMessages();
+  }
+
+  private boolean isMissing(int rule) {
+    return (missingRules[rule >>> 6] & (1L << rule)) != 0;
+  }
+
+  private int nextFailed(int from) {
+    int word = from >>> 6;
+    if (word >= failedRules.length) {
+      return -1;
+    }
+    long bits = failedRules[word] & (-1L << from);
+    while (true) {
+      if (bits != 0) {
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+      }
+      if (++word == failedRules.length) {
+        return -1;
+      }
+      bits = failedRules[word];
+    }
+  }
+}
@@ -18,6 +18,8 @@ package io.github.darioajr.converter.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
@@ -26,6 +28,7 @@ import static org.mockito.Mockito.when;
 import io.github.darioajr.converter.models.FixDefaultVersion;
 import io.github.darioajr.converter.utils.AvroUtils;
 import java.io.IOException;
+import java.util.List;
 import org.apache.avro.generic.GenericRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -74,4 +77,30 @@ class ConverterTest {
       assertEquals(mockRecord, result);
     }
   }
-}
\ No newline at end of file
+
+  @Test
+  void testConvertBatchReportsFailuresWithoutAborting() throws IOException {
+    try (MockedStatic<AvroUtils> mockedStatic = mockStatic(AvroUtils.class)) {
+      FixDefaultVersion version = mock(FixDefaultVersion.class);
+      GenericRecord mockRecord = mock(GenericRecord.class);
+      RuntimeException failure = new RuntimeException("Error converting FIX message to Avro");
+
+      mockedStatic.when(() -> AvroUtils.convertFixToAvro("good", version))
+          .thenReturn(mockRecord);
+      mockedStatic.when(() -> AvroUtils.convertFixToAvro("bad", version))
+          .thenThrow(failure);
+
+      BatchResult<GenericRecord> result =
+          converter.convertBatch(List.of("good", "bad", "good"), version);
+
+      assertEquals(3, result.size());
+      assertEquals(2, result.getSuccessCount());
+      assertEquals(mockRecord, result.get(0));
+      assertNull(result.get(1));
+      assertEquals(mockRecord, result.get(2));
+      assertEquals(1, result.getFailures().size());
+      assertEquals(1, result.getFailures().get(0).getIndex());
+      assertSame(failure, result.getFailures().get(0).getCause());
+    }
+  }
+}
@@ -18,17 +18,38 @@ package io.github.darioajr.converter.core;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.github.darioajr.converter.metrics.ConversionStage;
+import io.github.darioajr.converter.metrics.LatencyRecorder;
+import io.github.darioajr.converter.metrics.SimpleConversionMetrics;
 import io.github.darioajr.converter.models.FixCustomVersion;
 import io.github.darioajr.converter.models.FixDefaultVersion;
+import io.github.darioajr.converter.parser.AvroSchemaReader;
+import io.github.darioajr.converter.parser.FixFieldMap;
+import io.github.darioajr.converter.registry.FingerprintSchemaStore;
+import io.github.darioajr.converter.utils.AvroSerializer;
 import io.github.darioajr.converter.utils.AvroUtils;
+import io.github.darioajr.converter.utils.SingleObjectDecoder;
+import io.github.darioajr.converter.utils.SingleObjectEncoder;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
 import org.apache.avro.generic.GenericRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -108,4 +129,221 @@ class FixConverterTest {
       assertArrayEquals(mockByteArray, result);
     }
   }
+
+  @Test
+  void testConvertWithInjectedSchema() throws IOException {
+    try (MockedStatic<AvroUtils> mockedStatic = mockStatic(AvroUtils.class)) {
+      Schema avroSchema = AvroSchemaReader.readDefaultAvroSchema();
+      FixConverter converter = new FixConverter(avroSchema);
+
+      String rawMessage = "8=FIX.4.4|9=123|35=D|49=SenderCompID|56=TargetCompID|"
+          + "34=1|52=20231208-12:34:56|11=Order123|54=1|38=100|55=AAPL|44=50.00|10=242|";
+
+      FixDefaultVersion version = mock(FixDefaultVersion.class);
+      GenericRecord mockRecord = mock(GenericRecord.class);
+      byte[] mockByteArray = new byte[]{1, 2, 3, 4};
+
+      mockedStatic.when(() -> AvroUtils.convertFixToAvro(rawMessage, version, avroSchema))
+          .thenReturn(mockRecord);
+      mockedStatic.when(() -> AvroUtils.convertFixToAvroByteArray(rawMessage, version, avroSchema))
+          .thenReturn(mockByteArray);
+
+      assertEquals(mockRecord, converter.convertToAvro(rawMessage, version));
+      assertArrayEquals(mockByteArray, converter.convertToByteArray(rawMessage, version));
+
+      mockedStatic.verify(() -> AvroUtils.convertFixToAvro(rawMessage, version, avroSchema),
+          times(1));
+    }
+  }
+
+  @Test
+  void testConvertToByteArrayDirect() throws IOException {
+    String rawMessage = "8=FIX.4.4|9=123|35=D|49=SenderCompID|56=TargetCompID|"
+        + "34=1|52=20231208-12:34:56|11=Order123|54=1|38=100|55=AAPL|44=50.00|10=242|";
+    byte[] expected = fixConverter.convertToByteArray(rawMessage, FixDefaultVersion.FIX_4_4);
+
+    assertArrayEquals(expected,
+        fixConverter.convertToByteArrayDirect(rawMessage, FixDefaultVersion.FIX_4_4));
+    assertArrayEquals(expected, new FixConverter(AvroSchemaReader.readDefaultAvroSchema())
+        .convertToByteArrayDirect(rawMessage, FixDefaultVersion.FIX_4_4));
+  }
+
+  @Test
+  void testConvertToByteArrayDirectWithCustomSchema() {
+    Schema custom = SchemaBuilder.record("Custom").fields().requiredString("msgType").endRecord();
+    FixConverter converter = new FixConverter(custom);
+
+    assertThrows(UnsupportedOperationException.class,
+        () -> converter.convertToByteArrayDirect("8=FIX.4.4|", FixDefaultVersion.FIX_4_4));
+  }
+
+  @Test
+  void testConvertBatch() throws IOException {
+    String rawMessage = "8=FIX.4.4|9=123|35=D|49=SenderCompID|56=TargetCompID|"
+        + "34=1|52=20231208-12:34:56|11=Order123|54=1|38=100|55=AAPL|44=50.00|10=242|";
+    String invalid = rawMessage.replace("10=242", "10=241");
+
+    BatchResult<GenericRecord> result = fixConverter.convertBatch(
+        List.of(rawMessage, invalid, rawMessage), FixDefaultVersion.FIX_4_4);
+
+    assertEquals(3, result.size());
+    assertEquals(2, result.getSuccessCount());
+    assertEquals(fixConverter.convertToAvro(rawMessage, FixDefaultVersion.FIX_4_4),
+        result.get(0));
+    assertNull(result.get(1));
+    assertEquals(1, result.getFailures().get(0).getIndex());
+
+    BatchResult<GenericRecord> fromBytes = fixConverter.convertBatch(
+        List.of(rawMessage.getBytes(StandardCharsets.US_ASCII)), FixDefaultVersion.FIX_4_4);
+    assertFalse(fromBytes.hasFailures());
+    assertEquals(result.get(0), fromBytes.get(0));
+  }
+
+  @Test
+  void testConvertBatchToByteArray() throws IOException {
+    String rawMessage = "8=FIX.4.4|9=123|35=D|49=SenderCompID|56=TargetCompID|"
+        + "34=1|52=20231208-12:34:56|11=Order123|54=1|38=100|55=AAPL|44=50.00|10=242|";
+    byte[] valid = rawMessage.getBytes(StandardCharsets.US_ASCII);
+    byte[] invalid = rawMessage.replace("|49=SenderCompID", "")
+        .getBytes(StandardCharsets.US_ASCII);
+    byte[] expected = fixConverter.convertToByteArray(rawMessage, FixDefaultVersion.FIX_4_4);
+
+    for (FixConverter converter : List.of(fixConverter,
+        new FixConverter(AvroSchemaReader.readDefaultAvroSchema()))) {
+      EncodedBatch batch = converter.convertBatchToByteArray(
+          Arrays.asList(valid, invalid, null, valid), FixDefaultVersion.FIX_4_4);
+
+      assertEquals(4, batch.size());
+      assertEquals(expected.length * 2, batch.getData().length);
+      assertArrayEquals(expected, batch.getRecord(0));
+      assertFalse(batch.isSuccess(1));
+      assertFalse(batch.isSuccess(2));
+      assertNull(batch.getRecord(2));
+      assertEquals(expected.length, batch.getOffset(3));
+      assertArrayEquals(expected, batch.getRecord(3));
+      assertEquals(2, batch.getFailures().size());
+      assertTrue(batch.hasFailures());
+    }
+  }
+
+  @Test
+  void testConvertToTypedRecord() throws IOException {
+    String rawMessage = "8=FIX.4.4|9=123|35=D|49=SenderCompID|56=TargetCompID|"
+        + "34=1|52=20231208-12:34:56|11=Order123|54=1|38=100|55=AAPL|44=50.00|10=242|";
+
+    GenericRecord record = fixConverter.convertToTypedRecord(rawMessage,
+        FixDefaultVersion.FIX_4_4);
+
+    assertEquals("NewOrderSingle", record.getSchema().getName());
+    assertEquals(1L, record.get("MsgSeqNum"));
+    assertEquals("BUY", record.get("Side").toString());
+    assertEquals(record.getSchema(),
+        fixConverter.getTypedSchemas(FixDefaultVersion.FIX_4_4).getSchema("D"));
+    assertArrayEquals(AvroSerializer.getInstance().serialize(record),
+        fixConverter.convertToTypedByteArray(rawMessage, FixDefaultVersion.FIX_4_4));
+  }
+
+  @Test
+  void testConvertWithMetrics() throws IOException {
+    String rawMessage = "8=FIX.4.4|9=123|35=D|49=SenderCompID|56=TargetCompID|"
+        + "34=1|52=20231208-12:34:56|11=Order123|54=1|38=100|55=AAPL|44=50.00|10=242|";
+    SimpleConversionMetrics metrics = new SimpleConversionMetrics();
+    FixConverter converter = new FixConverter(metrics);
+
+    byte[] bytes = converter.convertToByteArray(rawMessage, FixDefaultVersion.FIX_4_4);
+    byte[] direct = converter.convertToByteArrayDirect(rawMessage, FixDefaultVersion.FIX_4_4);
+    assertThrows(RuntimeException.class, () -> converter.convertToAvro(
+        rawMessage.replace("10=242", "10=241"), FixDefaultVersion.FIX_4_4));
+
+    assertSame(metrics, converter.getMetrics());
+    assertArrayEquals(fixConverter.convertToByteArray(rawMessage, FixDefaultVersion.FIX_4_4),
+        bytes);
+    assertEquals(2, metrics.getStageCount(ConversionStage.DICTIONARY_LOOKUP));
+    assertEquals(1, metrics.getStageCount(ConversionStage.DECODE));
+    assertEquals(1, metrics.getStageCount(ConversionStage.RECORD_BUILD));
+    assertEquals(2, metrics.getStageCount(ConversionStage.SERIALIZE));
+    assertEquals(2, metrics.getOutputCount());
+    assertEquals(bytes.length + direct.length, metrics.getOutputBytes());
+    assertEquals(Map.of("FIX.4.4/D", 2L), metrics.getMessageCounts());
+    assertEquals(Map.of("DECODE/InvalidMessage", 1L), metrics.getErrorCounts());
+  }
+
+  @Test
+  void testConvertDirectWithMetrics() throws IOException {
+    String rawMessage = "8=FIX.4.4|9=123|35=D|49=SenderCompID|56=TargetCompID|"
+        + "34=1|52=20231208-12:34:56|11=Order123|54=1|38=100|55=AAPL|44=50.00|10=242|";
+    SimpleConversionMetrics metrics = new SimpleConversionMetrics();
+    LatencyRecorder latencies = new LatencyRecorder(metrics);
+    FixConverter converter = new FixConverter(latencies);
+    List<byte[]> batch = List.of(rawMessage.getBytes(StandardCharsets.ISO_8859_1),
+        rawMessage.replace("10=242", "10=241").getBytes(StandardCharsets.ISO_8859_1));
+
+    EncodedBatch encoded = converter.convertBatchToByteArray(batch, FixDefaultVersion.FIX_4_4);
+    assertThrows(RuntimeException.class, () -> converter.convertToByteArrayDirect(
+        "8=FIX.4.4|9=5|35=D|10=000|", FixDefaultVersion.FIX_4_4));
+
+    assertEquals(1, encoded.getFailures().size());
+    assertEquals(1, metrics.getStageCount(ConversionStage.SERIALIZE));
+    assertEquals(1, metrics.getOutputCount());
+    assertEquals(encoded.getLength(0), metrics.getOutputBytes());
+    assertEquals(1, latencies.snapshot().getTotalCount());
+    assertEquals(Map.of("FIX.4.4/D", 1L), metrics.getMessageCounts());
+    assertEquals(Map.of("DECODE/InvalidMessage", 2L), metrics.getErrorCounts());
+  }
+
+  @Test
+  void testConvertToFix() {
+    String rawMessage = "8=FIX.4.4|9=123|35=D|49=SenderCompID|56=TargetCompID|"
+        + "34=1|52=20231208-12:34:56|11=Order123|54=1|38=100|55=AAPL|44=50.00|10=242|";
+    GenericRecord record = fixConverter.convertToAvro(rawMessage, FixDefaultVersion.FIX_4_4);
+
+    String fix = new String(fixConverter.convertToFix(record), StandardCharsets.ISO_8859_1);
+
+    assertTrue(fix.startsWith("8=FIX.4.4\u00019=104\u000135=D\u0001"));
+    GenericRecord reparsed = fixConverter.convertToAvro(fix, FixDefaultVersion.FIX_4_4);
+    assertEquals("104", reparsed.get("bodyLength"));
+    assertEquals(record.get("fields"), reparsed.get("fields"));
+  }
+
+  @Test
+  void testConvertToSingleObject() throws IOException {
+    String rawMessage = "8=FIX.4.4|9=123|35=D|49=SenderCompID|56=TargetCompID|"
+        + "34=1|52=20231208-12:34:56|11=Order123|54=1|38=100|55=AAPL|44=50.00|10=242|";
+    Schema writer = AvroSchemaReader.readDefaultAvroSchema();
+    List<Schema.Field> fields = new ArrayList<>();
+    for (Schema.Field field : writer.getFields()) {
+      fields.add(new Schema.Field(field, field.schema()));
+    }
+    fields.add(new Schema.Field("sessionQualifier", Schema.create(Schema.Type.STRING), null,
+        "default"));
+    Schema reader = Schema.createRecord(writer.getName(), null, writer.getNamespace(), false,
+        fields);
+    SingleObjectDecoder decoder =
+        new SingleObjectDecoder(reader, new FingerprintSchemaStore(List.of(writer)));
+
+    byte[] bytes = fixConverter.convertToSingleObject(rawMessage, FixDefaultVersion.FIX_4_4);
+
+    assertArrayEquals(SingleObjectEncoder.getInstance().getHeader(writer),
+        Arrays.copyOf(bytes, SingleObjectEncoder.HEADER_LENGTH));
+    GenericRecord record = decoder.decode(bytes);
+    assertEquals("D", record.get("msgType").toString());
+    assertEquals("default", record.get("sessionQualifier").toString());
+  }
+
+  @Test
+  void testConvertToFieldMap() throws IOException {
+    String rawMessage = "8=FIX.4.4|9=123|35=D|49=SenderCompID|56=TargetCompID|"
+        + "34=1|52=20231208-12:34:56|11=Order123|54=1|38=100|55=AAPL|44=50.00|10=242|";
+    FixFieldMap fields = new FixFieldMap();
+
+    assertSame(fields, fixConverter.convertToFieldMap(rawMessage, FixDefaultVersion.FIX_4_4,
+        fields));
+
+    assertEquals(13, fields.size());
+    assertEquals("D", fields.get(35));
+    assertEquals("Order123", fields.get(11));
+    assertEquals("242", fields.get(10));
+    assertThrows(RuntimeException.class, () -> fixConverter.convertToFieldMap(
+        rawMessage.replace("10=242", "10=241"), FixDefaultVersion.FIX_4_4, fields));
+  }
 }
@@ -0,0 +1,45 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.core;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Helpers for building raw FIX messages in tests.
+ */
+public final class FixTestMessages {
+
+  private FixTestMessages() {
+    // Utility class
+  }
+
+  /**
+   * Appends the CheckSum(10) field of a message. The message is summed as if vertical
+   * bars were SOH, and the new field ends with the delimiter the message uses.
+   *
+   * @param message the message up to and including the delimiter before CheckSum
+   * @return the message with its CheckSum field
+   */
+  public static String withCheckSum(String message) {
+    int sum = 0;
+    for (byte b : message.replace('|', '\u0001').getBytes(StandardCharsets.ISO_8859_1)) {
+      sum += b & 0xFF;
+    }
+    char delimiter = message.indexOf('|') >= 0 ? '|' : '\u0001';
+    return message + String.format("10=%03d%c", sum & 0xFF, delimiter);
+  }
+}
@@ -0,0 +1,147 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.ingest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.darioajr.converter.models.FixDefaultVersion;
+import io.github.darioajr.converter.sink.AvroContainerFileSink;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Implementation of FixLogReaderTest.
+ *
+ */
+class FixLogReaderTest {
+
+  private static final String ORDER = "8=FIX.4.4\u00019=123\u000135=D\u000149=SenderCompID"
+      + "\u000156=TargetCompID\u000134=1\u000152=20231208-12:34:56\u000111=Order123\u0001"
+      + "54=1\u000138=100\u000155=AAPL\u000144=50.00\u000110=242\u0001";
+  private static final String PIPE_ORDER = ORDER.replace('\u0001', '|');
+  private static final String NEWS = "8=FIX.4.4|9=5|35=B|58=FIX rocks|10=000|";
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void read_shouldSplitQuickfixjLog() throws IOException {
+    Path log = write(
+        "20231208-12:34:56.123: " + ORDER + "\n"
+        + "20231208-12:34:56.124: " + PIPE_ORDER + "\r\n"
+        + NEWS + "\n"
+        + ORDER + ORDER);
+
+    assertThat(readAll(log, FixLogReader.DEFAULT_WINDOW_SIZE))
+        .containsExactly(ORDER, PIPE_ORDER, NEWS, ORDER, ORDER);
+  }
+
+  @Test
+  void read_withSmallWindow_shouldHandleMessagesAcrossWindows() throws IOException {
+    StringBuilder content = new StringBuilder();
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      String message = i % 2 == 0 ? ORDER : PIPE_ORDER;
+      content.append("20231208-12:34:56.").append(i).append(": ").append(message).append('\n');
+      expected.add(message);
+    }
+    Path log = write(content.toString());
+
+    for (int windowSize : new int[] {ORDER.length(), ORDER.length() + 7, 4096}) {
+      assertThat(readAll(log, windowSize)).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void read_shouldSkipTruncatedMessages() throws IOException {
+    String truncated = ORDER.substring(0, ORDER.indexOf("55=AAPL"));
+    Path log = write(truncated + "\n" + ORDER + truncated);
+
+    try (FixLogReader reader = new FixLogReader(log)) {
+      List<String> messages = new ArrayList<>();
+      reader.read((buffer, offset, length) ->
+          messages.add(new String(buffer, offset, length, StandardCharsets.ISO_8859_1)));
+
+      assertThat(messages).containsExactly(ORDER);
+      assertThat(reader.getMessageCount()).isEqualTo(1);
+      assertThat(reader.getSkippedCount()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void read_withInconsistentBodyLength_shouldFindTrailer() throws IOException {
+    String message = ORDER.replace("9=123", "9=7");
+    Path log = write(message + message);
+
+    assertThat(readAll(log, 256)).containsExactly(message, message);
+  }
+
+  @Test
+  void read_withMessageLargerThanWindow_shouldThrow() throws IOException {
+    Path log = write(ORDER);
+
+    try (FixLogReader reader = new FixLogReader(log, 64)) {
+      assertThatThrownBy(() -> reader.read((buffer, offset, length) -> { }))
+          .isInstanceOf(IOException.class)
+          .hasMessageContaining("does not fit");
+    }
+  }
+
+  @Test
+  void read_intoSink_shouldWriteAllMessages() throws IOException {
+    Path log = write(ORDER + "\n" + PIPE_ORDER + "\n");
+    Path output = directory.resolve("out");
+
+    try (FixLogReader reader = new FixLogReader(log);
+        AvroContainerFileSink sink = AvroContainerFileSink
+            .builder(output, FixDefaultVersion.FIX_4_4).build()) {
+      assertThat(reader.read(sink::append)).isEqualTo(2);
+    }
+
+    try (DataFileReader<GenericRecord> records = new DataFileReader<>(
+        output.resolve("fix-00000.avro").toFile(), new GenericDatumReader<>())) {
+      assertThat(records.next().get("msgType")).hasToString("D");
+      assertThat(records.next().get("checkSum")).hasToString("242");
+      assertThat(records.hasNext()).isFalse();
+    }
+  }
+
+  private List<String> readAll(Path log, int windowSize) throws IOException {
+    List<String> messages = new ArrayList<>();
+    try (FixLogReader reader = new FixLogReader(log, windowSize)) {
+      reader.read((buffer, offset, length) ->
+          messages.add(new String(buffer, offset, length, StandardCharsets.ISO_8859_1)));
+    }
+    return messages;
+  }
+
+  private Path write(String content) throws IOException {
+    Path log = Files.createTempFile(directory, "messages", ".log");
+    Files.write(log, content.getBytes(StandardCharsets.ISO_8859_1));
+    return log;
+  }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LatencyIntervalLogTest {
+
+  @TempDir
+  Path tempDir;
+
+  private final LatencyRecorder recorder = new LatencyRecorder();
+
+  @Test
+  void writeInterval_shouldAppendOneLinePerInterval() throws IOException {
+    Path file = tempDir.resolve("latency.csv");
+    recorder.recordConversion(5_000_000);
+
+    try (LatencyIntervalLog log = new LatencyIntervalLog(recorder, file, Duration.ofHours(1))) {
+      recorder.recordConversion(1_000);
+      recorder.recordConversion(3_000);
+
+      LatencyHistogram interval = log.writeInterval();
+
+      assertThat(interval.getTotalCount()).isEqualTo(2);
+      assertThat(interval.getMax()).isEqualTo(3_007);
+    }
+
+    List<String> lines = Files.readAllLines(file);
+    assertThat(lines).hasSize(3);
+    assertThat(lines.get(0)).isEqualTo(LatencyIntervalLog.HEADER);
+    String[] columns = lines.get(1).split(",");
+    assertThat(columns).hasSize(9);
+    assertThat(columns[2]).isEqualTo("2");
+    assertThat(columns[3]).isEqualTo("2.000");
+    assertThat(lines.get(2).split(",")[2]).isEqualTo("0");
+  }
+
+  @Test
+  void log_shouldWritePeriodicallyAndAppendToExistingFile() throws Exception {
+    Path file = tempDir.resolve("latency.csv");
+    Files.writeString(file, LatencyIntervalLog.HEADER + "\n");
+
+    LatencyIntervalLog log = new LatencyIntervalLog(recorder, file, Duration.ofMillis(10));
+    try {
+      recorder.recordConversion(1_000);
+      long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+      while (Files.readAllLines(file).size() < 3 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+    } finally {
+      log.close();
+    }
+
+    List<String> lines = Files.readAllLines(file);
+    assertThat(lines).hasSizeGreaterThanOrEqualTo(3);
+    assertThat(lines).filteredOn(LatencyIntervalLog.HEADER::equals).hasSize(1);
+    assertThat(lines.stream().skip(1).mapToLong(line -> Long.parseLong(line.split(",")[2])).sum())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void log_withInvalidPeriodOrClosed_shouldThrow() throws IOException {
+    Path file = tempDir.resolve("latency.csv");
+
+    assertThatThrownBy(() -> new LatencyIntervalLog(recorder, file, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class);
+
+    LatencyIntervalLog log = new LatencyIntervalLog(recorder, file, Duration.ofHours(1));
+    log.close();
+    log.close();
+    assertThatThrownBy(log::writeInterval)
+        .isInstanceOf(IOException.class)
+        .hasMessage("Latency log is closed");
+  }
+}
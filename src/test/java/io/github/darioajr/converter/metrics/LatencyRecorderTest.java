@@ -0,0 +1,134 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+import io.github.darioajr.converter.core.FixConverter;
+import io.github.darioajr.converter.models.FixDefaultVersion;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LatencyRecorderTest {
+
+  private final LatencyRecorder recorder = new LatencyRecorder();
+
+  @Test
+  void snapshot_shouldReportPercentilesWithinOnePercent() {
+    for (long micros = 1; micros <= 10_000; micros++) {
+      recorder.recordConversion(micros * 1_000);
+    }
+
+    LatencyHistogram histogram = recorder.snapshot();
+
+    assertThat(histogram.getTotalCount()).isEqualTo(10_000);
+    assertThat(histogram.getMean()).isCloseTo(5_000_500.0, within(0.001));
+    assertThat(histogram.getValueAtPercentile(50.0)).isCloseTo(5_000_000L, withinPercentage(1));
+    assertThat(histogram.getValueAtPercentile(99.0)).isCloseTo(9_900_000L, withinPercentage(1));
+    assertThat(histogram.getValueAtPercentile(99.9)).isCloseTo(9_990_000L, withinPercentage(1));
+    assertThat(histogram.getMin()).isCloseTo(1_000L, withinPercentage(1));
+    assertThat(histogram.getMax()).isCloseTo(10_000_000L, withinPercentage(1));
+    assertThat(histogram.getValueAtPercentile(100.0)).isEqualTo(histogram.getMax());
+  }
+
+  @Test
+  void snapshot_withSmallAndHugeValues_shouldClampToTrackableRange() {
+    recorder.recordConversion(0);
+    recorder.recordConversion(-5);
+    recorder.recordConversion(127);
+    recorder.recordConversion(Long.MAX_VALUE);
+
+    LatencyHistogram histogram = recorder.snapshot();
+
+    assertThat(histogram.getMin()).isZero();
+    assertThat(histogram.getValueAtPercentile(75.0)).isEqualTo(127);
+    assertThat(histogram.getMax())
+        .isCloseTo(LatencyHistogram.HIGHEST_TRACKABLE_NANOS, withinPercentage(1));
+    assertThatThrownBy(() -> histogram.getValueAtPercentile(101.0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void snapshot_shouldMergeThreadsAndSubtractEarlierSnapshots() throws InterruptedException {
+    recorder.recordConversion(1_000);
+    LatencyHistogram before = recorder.snapshot();
+
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      Thread thread = new Thread(() -> {
+        for (int i = 0; i < 1_000; i++) {
+          recorder.recordConversion(2_000_000);
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    LatencyHistogram interval = recorder.snapshot().minus(before);
+
+    assertThat(recorder.snapshot().getTotalCount()).isEqualTo(4_001);
+    assertThat(interval.getTotalCount()).isEqualTo(4_000);
+    assertThat(interval.getMin()).isCloseTo(2_000_000L, withinPercentage(1));
+    assertThat(interval.getMean()).isEqualTo(2_000_000.0);
+    assertThat(new LatencyRecorder().snapshot().getValueAtPercentile(99.0)).isZero();
+  }
+
+  @Test
+  void snapshot_shouldCountManyShortLivedThreads() throws InterruptedException {
+    recorder.recordConversion(1_000);
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 256; t++) {
+      Thread thread = new Thread(() -> recorder.recordConversion(3_000_000));
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    LatencyHistogram histogram = recorder.snapshot();
+
+    assertThat(histogram.getTotalCount()).isEqualTo(257);
+    assertThat(histogram.getMax()).isCloseTo(3_000_000L, withinPercentage(1));
+    assertThat(histogram.getMean()).isCloseTo((1_000 + 256 * 3_000_000.0) / 257, within(0.001));
+  }
+
+  @Test
+  void fixConverter_shouldRecordConversionsAndForwardToDelegate() throws IOException {
+    String rawMessage = "8=FIX.4.4|9=123|35=D|49=SenderCompID|56=TargetCompID|"
+        + "34=1|52=20231208-12:34:56|11=Order123|54=1|38=100|55=AAPL|44=50.00|10=242|";
+    SimpleConversionMetrics counters = new SimpleConversionMetrics();
+    LatencyRecorder latencies = new LatencyRecorder(counters);
+    FixConverter converter = new FixConverter(latencies);
+
+    converter.convertToAvro(rawMessage, FixDefaultVersion.FIX_4_4);
+    converter.convertToByteArray(rawMessage, FixDefaultVersion.FIX_4_4);
+
+    assertThat(latencies.snapshot().getTotalCount()).isEqualTo(2);
+    assertThat(latencies.snapshot().getMin()).isPositive();
+    assertThat(counters.getStageCount(ConversionStage.DECODE)).isEqualTo(2);
+    assertThat(counters.getOutputCount()).isEqualTo(1);
+  }
+}
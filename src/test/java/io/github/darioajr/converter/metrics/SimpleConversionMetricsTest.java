@@ -0,0 +1,133 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.darioajr.converter.models.FixDefaultVersion;
+import io.github.darioajr.converter.parser.FixMessageParser;
+import io.github.darioajr.converter.validation.FixMessageValidator;
+import io.github.darioajr.converter.validation.ValidationProgram;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import org.junit.jupiter.api.Test;
+
+class SimpleConversionMetricsTest {
+
+  private final SimpleConversionMetrics metrics = new SimpleConversionMetrics();
+
+  @Test
+  void record_shouldAccumulateCounters() {
+    metrics.recordStage(ConversionStage.DECODE, 100);
+    metrics.recordStage(ConversionStage.DECODE, 300);
+    metrics.recordMessage("FIX.4.4", "D");
+    metrics.recordMessage("FIX.4.4", "D");
+    metrics.recordMessage("FIX.5.0SP2", "8");
+    metrics.recordOutputBytes(40);
+    metrics.recordOutputBytes(2);
+    metrics.recordError(ConversionStage.SERIALIZE, new IllegalStateException("x"));
+
+    assertThat(metrics.getStageCount(ConversionStage.DECODE)).isEqualTo(2);
+    assertThat(metrics.getStageTotalNanos(ConversionStage.DECODE)).isEqualTo(400);
+    assertThat(metrics.getStageMaxNanos(ConversionStage.DECODE)).isEqualTo(300);
+    assertThat(metrics.getStageAverageNanos(ConversionStage.DECODE)).isEqualTo(200.0);
+    assertThat(metrics.getStageAverageNanos(ConversionStage.PARSE)).isZero();
+    assertThat(metrics.getMessageCounts())
+        .isEqualTo(Map.of("FIX.4.4/D", 2L, "FIX.5.0SP2/8", 1L));
+    assertThat(metrics.getOutputCount()).isEqualTo(2);
+    assertThat(metrics.getOutputBytes()).isEqualTo(42);
+    assertThat(metrics.getErrorCounts()).containsEntry("SERIALIZE/IllegalStateException", 1L);
+    assertThat(metrics.toString()).contains("DECODE(count=2", "FIX.4.4/D=2");
+
+    metrics.reset();
+
+    assertThat(metrics.getStageCount(ConversionStage.DECODE)).isZero();
+    assertThat(metrics.getStageMaxNanos(ConversionStage.DECODE)).isZero();
+    assertThat(metrics.getMessageCounts()).isEmpty();
+    assertThat(metrics.getOutputBytes()).isZero();
+  }
+
+  @Test
+  void recordStage_shouldKeepStageHistogram() {
+    for (int i = 1; i <= 1_000; i++) {
+      metrics.recordStage(ConversionStage.SERIALIZE, i * 1_000L);
+    }
+
+    LatencyHistogram histogram = metrics.getStageHistogram(ConversionStage.SERIALIZE);
+
+    assertThat(histogram.getTotalCount()).isEqualTo(1_000);
+    assertThat(histogram.getValueAtPercentile(99.0)).isBetween(985_000L, 1_000_000L);
+    assertThat(metrics.getStageP99Micros().get("SERIALIZE")).isBetween(985.0, 1_000.0);
+    assertThat(metrics.getStageHistogram(ConversionStage.PARSE).getTotalCount()).isZero();
+
+    metrics.reset();
+
+    assertThat(metrics.getStageHistogram(ConversionStage.SERIALIZE).getTotalCount()).isZero();
+  }
+
+  @Test
+  void registerMbean_shouldExposeAttributes() throws JMException {
+    metrics.recordStage(ConversionStage.DECODE, 2_000);
+    metrics.recordOutputBytes(42);
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+    ObjectName name = metrics.registerMbean("test");
+    try {
+      assertThat(server.getAttribute(name, "OutputBytes")).isEqualTo(42L);
+      TabularData counts = (TabularData) server.getAttribute(name, "StageCounts");
+      assertThat(counts.get(new Object[] {"DECODE"}).get("value")).isEqualTo(1L);
+
+      server.invoke(name, "reset", new Object[0], new String[0]);
+
+      assertThat(metrics.getOutputBytes()).isZero();
+    } finally {
+      server.unregisterMBean(name);
+    }
+  }
+
+  @Test
+  void parserAndValidator_shouldReportParseAndValidateStages() {
+    FixMessageParser parser = new FixMessageParser(metrics);
+    FixMessageValidator validator = new FixMessageValidator(metrics);
+    ValidationProgram program = validator.compile(FixDefaultVersion.FIX_4_4,
+        Map.of("35", "D", "55", "AAPL"));
+
+    Map<String, String> fields = parser.parse("8=FIX.4.4|35=D|55=MSFT|",
+        FixDefaultVersion.FIX_4_4);
+    validator.checkFields(fields, program);
+    validator.checkFields(Map.of("8", "FIX.4.4", "35", "D", "55", "AAPL"), program);
+
+    assertThat(metrics.getStageCount(ConversionStage.PARSE)).isEqualTo(1);
+    assertThat(metrics.getStageCount(ConversionStage.VALIDATE)).isEqualTo(2);
+    assertThat(metrics.getErrorCounts()).isEqualTo(Map.of("VALIDATE/INVALID_VALUE", 1L));
+  }
+
+  @Test
+  void noop_shouldBeDisabled() {
+    ConversionMetrics noop = ConversionMetrics.noop();
+
+    noop.recordStage(ConversionStage.PARSE, 1);
+    noop.recordError(ConversionStage.PARSE, "x");
+
+    assertThat(noop.isEnabled()).isFalse();
+    assertThat(metrics.isEnabled()).isTrue();
+  }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class FixFieldMapTest {
+
+  @Test
+  void put_shouldKeepFirstPositionAndLastValue() {
+    FixFieldMap fields = new FixFieldMap();
+
+    assertThat(fields.put(35, "D")).isNull();
+    fields.put(5000, "udf");
+    fields.put(55, "AAPL");
+    assertThat(fields.put(35, "G")).isEqualTo("D");
+    assertThat(fields.put(5000, "udf2")).isEqualTo("udf");
+
+    assertThat(fields.size()).isEqualTo(3);
+    assertThat(fields.tagAt(0)).isEqualTo(35);
+    assertThat(fields.valueAt(0)).isEqualTo("G");
+    assertThat(fields.get(5000)).isEqualTo("udf2");
+    assertThat(fields.get(54)).isNull();
+    assertThat(fields.get(-1)).isNull();
+    assertThat(fields.containsTag(55)).isTrue();
+    assertThat(fields.toString()).isEqualTo("{35=G, 5000=udf2, 55=AAPL}");
+    assertThat(fields.toMap()).containsExactly(
+        Map.entry("35", "G"), Map.entry("5000", "udf2"), Map.entry("55", "AAPL"));
+  }
+
+  @Test
+  void clear_shouldAllowReuse() {
+    FixFieldMap fields = new FixFieldMap();
+    fields.put(8, "FIX.4.4");
+    fields.put(9999, "x");
+
+    fields.clear();
+
+    assertThat(fields.isEmpty()).isTrue();
+    assertThat(fields.get(8)).isNull();
+    assertThat(fields.get(9999)).isNull();
+    fields.put(9999, "y");
+    assertThat(fields.size()).isEqualTo(1);
+    assertThat(fields.get(9999)).isEqualTo("y");
+  }
+
+  @Test
+  void putAndGet_shouldMatchHashMap() {
+    Random random = new Random(42);
+    for (boolean dense : new boolean[] {true, false}) {
+      FixFieldMap fields = new FixFieldMap(dense);
+      for (int round = 0; round < 3; round++) {
+        Map<Integer, String> expected = new HashMap<>();
+        fields.clear();
+        for (int i = 0; i < 500; i++) {
+          int tag = random.nextInt(i % 2 == 0 ? 1100 : 100_000);
+          String value = "v" + i;
+          assertThat(fields.put(tag, value)).isEqualTo(expected.put(tag, value));
+        }
+        assertThat(fields.size()).isEqualTo(expected.size());
+        for (Map.Entry<Integer, String> entry : expected.entrySet()) {
+          assertThat(fields.get(entry.getKey())).isEqualTo(entry.getValue());
+        }
+        for (int i = 0; i < fields.size(); i++) {
+          assertThat(expected.get(fields.tagAt(i))).isEqualTo(fields.valueAt(i));
+        }
+      }
+    }
+  }
+
+  @Test
+  void invalidArguments_shouldThrow() {
+    FixFieldMap fields = new FixFieldMap();
+
+    assertThatThrownBy(() -> fields.put(-1, "x")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> fields.put(1, null)).isInstanceOf(NullPointerException.class);
+    assertThatThrownBy(() -> fields.tagAt(0)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+}
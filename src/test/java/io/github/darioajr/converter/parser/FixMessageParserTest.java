@@ -51,6 +51,25 @@ class FixMessageParserTest {
         .containsEntry("55", "AAPL");
   }
 
+  @Test
+  void shouldParseFieldsIntoReusableMap() {
+    String fixMessage = "8=FIX.4.4|9=123|35=D|abc=1|035=G|49=SenderCompID|5001=udf|10=242|";
+    FixFieldMap fields = new FixFieldMap();
+    fields.put(999, "stale");
+
+    assertThat(parser.parseFields(fixMessage, FixDefaultVersion.FIX_4_4, fields))
+        .isSameAs(fields);
+
+    assertThat(fields.get(999)).isNull();
+    assertThat(fields.get(35)).isEqualTo("G");
+    assertThat(fields.get(5001)).isEqualTo("udf");
+    assertThat(fields.size()).isEqualTo(6);
+    assertThat(parser.parseFields("8=FIX.4.4|35=0|", FixDefaultVersion.FIX_4_4).toMap())
+        .isEqualTo(parser.parse("8=FIX.4.4|35=0|", FixDefaultVersion.FIX_4_4));
+    assertThatThrownBy(() -> parser.parseFields(" ", FixDefaultVersion.FIX_4_4, fields))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   void shouldThrowExceptionForNullMessage() {
     assertThatThrownBy(() -> parser.parse(null, FixDefaultVersion.FIX_4_4))
@@ -65,6 +84,13 @@ class FixMessageParserTest {
         .hasMessage("The FIX message cannot be null or empty.");
   }
 
+  @Test
+  void shouldThrowExceptionForControlCharacterOnlyMessage() {
+    assertThatThrownBy(() -> parser.parse(" \u0001\t\u0001", FixDefaultVersion.FIX_4_4))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The FIX message cannot be null or empty.");
+  }
+
   @Test
   void shouldIgnoreEmptyFields() {
     String fixMessage = "8=FIX.4.4|9=123|35=D|||49=SenderCompID|";
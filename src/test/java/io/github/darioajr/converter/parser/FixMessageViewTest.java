@@ -0,0 +1,118 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.darioajr.converter.models.FixDefaultVersion;
+import io.github.darioajr.converter.utils.AvroUtils;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class FixMessageViewTest {
+
+  private static final String NEW_ORDER_SINGLE = "8=FIX.4.4|9=123|35=D|49=SenderCompID|"
+      + "56=TargetCompID|34=1|52=20231208-12:34:56|11=Order123|54=1|38=100|55=AAPL|"
+      + "44=50.00|10=242|";
+
+  private final FixMessageParser parser = new FixMessageParser();
+
+  @Test
+  void get_shouldDecodeOnceAndCache() {
+    FixMessageView view = parser.view(NEW_ORDER_SINGLE);
+
+    String first = view.get(11);
+
+    assertThat(first).isEqualTo("Order123");
+    assertThat(view.get(11)).isSameAs(first);
+    assertThat(view.getMsgType()).isEqualTo("D");
+    assertThat(view.get(999)).isNull();
+    assertThat(view.contains(55)).isTrue();
+    assertThat(view.contains(999)).isFalse();
+    assertThat(view.getInt(38, -1)).isEqualTo(100);
+    assertThat(view.getInt(999, -1)).isEqualTo(-1);
+    assertThat(view.valueEquals(55, "AAPL")).isTrue();
+    assertThat(view.valueEquals(999, "AAPL")).isFalse();
+    assertThat(view.isVerified()).isFalse(); // BodyLength(9) is 104, not 123
+    assertThat(parser.view(NEW_ORDER_SINGLE.replace("9=123", "9=104")
+        .replace("10=242", "10=241")).isVerified()).isTrue();
+  }
+
+  @Test
+  void get_withRepeatedTag_shouldMatchParse() {
+    String message = "8=FIX.4.4|35=D|55=AAPL|55=MSFT|";
+    FixMessageView view = parser.view(message);
+
+    assertThat(view.get(55)).isEqualTo("MSFT")
+        .isEqualTo(parser.parse(message, FixDefaultVersion.FIX_4_4).get("55"));
+    assertThat(view.size()).isEqualTo(4);
+    assertThat(view.toMap()).isEqualTo(parser.parse(message, FixDefaultVersion.FIX_4_4));
+    assertThat(view.toFieldMap(new FixFieldMap()).toMap())
+        .containsEntry("55", "MSFT")
+        .hasSize(3);
+  }
+
+  @Test
+  void view_overBytes_shouldMatchString() {
+    byte[] bytes = ("xx" + NEW_ORDER_SINGLE.replace('|', '\u0001'))
+        .getBytes(StandardCharsets.ISO_8859_1);
+
+    FixMessageView view = parser.view(bytes, 2, bytes.length - 2);
+
+    assertThat(view.toMap())
+        .isEqualTo(parser.parse(NEW_ORDER_SINGLE, FixDefaultVersion.FIX_4_4));
+    assertThat(view.tagAt(0)).isEqualTo(8);
+    assertThat(view.valueAt(view.size() - 1)).isEqualTo("242");
+  }
+
+  @Test
+  void toAvro_shouldMatchExistingConverters() throws IOException {
+    byte[] bytes = NEW_ORDER_SINGLE.getBytes(StandardCharsets.ISO_8859_1);
+
+    assertThat(parser.view(NEW_ORDER_SINGLE).toAvro(FixDefaultVersion.FIX_4_4))
+        .isEqualTo(AvroUtils.convertFixToAvro(NEW_ORDER_SINGLE, FixDefaultVersion.FIX_4_4));
+
+    byte[] expected = AvroUtils.convertFixToAvroByteArray(NEW_ORDER_SINGLE,
+        FixDefaultVersion.FIX_4_4);
+    assertThat(parser.view(NEW_ORDER_SINGLE).toAvroByteArray(FixDefaultVersion.FIX_4_4))
+        .isEqualTo(expected);
+    assertThat(parser.view(bytes, 0, bytes.length).toAvroByteArray(FixDefaultVersion.FIX_4_4))
+        .isEqualTo(expected);
+  }
+
+  @Test
+  void wrap_shouldResetDecodedValues() {
+    FixMessageView view = new FixMessageView();
+
+    assertThat(view.wrap("35=D|11=A|").get(11)).isEqualTo("A");
+    assertThat(view.wrap("35=F|41=A|11=B|").get(11)).isEqualTo("B");
+    assertThat(view.getMsgType()).isEqualTo("F");
+  }
+
+  @Test
+  void view_withEmptyMessage_shouldThrow() {
+    assertThatThrownBy(() -> parser.view(" "))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The FIX message cannot be null or empty.");
+    assertThatThrownBy(() -> parser.view(null, 0, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new FixMessageView().toAvro(FixDefaultVersion.FIX_4_4))
+        .isInstanceOf(IllegalStateException.class);
+  }
+}
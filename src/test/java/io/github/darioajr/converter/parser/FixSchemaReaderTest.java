@@ -111,4 +111,19 @@ class FixSchemaReaderTest {
     assertThatThrownBy(() -> AvroSchemaReader.readAvroSchema(schemaPath.toString()))
         .isInstanceOf(org.apache.avro.SchemaParseException.class);
   }
-}
\ No newline at end of file
+
+  @Test
+  void testReadDefaultAvroSchemaFromClasspath() throws IOException {
+    Schema schema = AvroSchemaReader.readDefaultAvroSchema();
+
+    assertThat(schema.getName()).isEqualTo("FixMessage");
+    assertThat(schema.getFields()).hasSize(9);
+  }
+
+  @Test
+  void testMissingSchemaResource() {
+    assertThatThrownBy(() -> AvroSchemaReader.readAvroSchemaResource("schemas/Missing.avsc"))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("schemas/Missing.avsc");
+  }
+}
@@ -0,0 +1,173 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.parser;
+
+import static io.github.darioajr.converter.core.FixTestMessages.withCheckSum;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class FixTokenizerTest {
+
+  private static final String MESSAGE = "8=FIX.4.4\u00019=123\u000135=D\u000149=SenderCompID"
+      + "\u000156=TargetCompID\u000134=1\u000152=20231208-12:34:56\u000111=Order123\u0001"
+      + "54=1\u000138=100\u000155=AAPL\u000144=50.00\u000110=242\u0001";
+
+  private final FixTokenizer tokenizer = new FixTokenizer();
+
+  @Test
+  void tokenize_shouldParseTagsAsIntsAndExposeOffsets() {
+    tokenizer.tokenize(MESSAGE);
+
+    assertThat(tokenizer.size()).isEqualTo(13);
+    assertThat(tokenizer.tagAt(0)).isEqualTo(8);
+    assertThat(tokenizer.tagAt(2)).isEqualTo(35);
+    assertThat(tokenizer.valueOffset(2)).isEqualTo(MESSAGE.indexOf("35=D") + 3);
+    assertThat(tokenizer.valueLength(2)).isEqualTo(1);
+    assertThat(tokenizer.valueAsString(2)).isEqualTo("D");
+    assertThat(tokenizer.getValue(11)).isEqualTo("Order123");
+    assertThat(tokenizer.getValue(999)).isNull();
+    assertThat(tokenizer.valueAsInt(tokenizer.indexOf(38))).isEqualTo(100);
+    assertThat(tokenizer.valueEquals(tokenizer.indexOf(55), "AAPL")).isTrue();
+    assertThat(tokenizer.valueEquals(tokenizer.indexOf(55), "AAP")).isFalse();
+  }
+
+  @Test
+  void tokenize_byteSources_shouldMatchCharSequence() {
+    byte[] bytes = ("xx" + MESSAGE).getBytes(StandardCharsets.US_ASCII);
+    Map<String, String> expected = tokenizer.tokenize(MESSAGE).toMap();
+
+    assertThat(tokenizer.tokenize(bytes, 2, bytes.length - 2).toMap()).isEqualTo(expected);
+    assertThat(tokenizer.valueOffset(0)).isEqualTo(4);
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes).flip().position(2);
+    assertThat(tokenizer.tokenize(direct).toMap()).isEqualTo(expected);
+    assertThat(direct.position()).isEqualTo(2);
+  }
+
+  @Test
+  void toMap_shouldMatchLegacySplitParser() {
+    String[] messages = {
+      "8=FIX.4.4|9=123|35=D|||49=SenderCompID|",
+      "8=FIX.4.4|9=123|35=D|49=SenderCompID|56=TargetCompID|34=1|\n"
+          + "      52=20231208-12:34:56|11=Order123|54=1|38=100|55=AAPL|44=50.00|10=242|\n  ",
+      " 035 = D |abc=1|=x|y=|noseparator|58=a=b|35=G|",
+      MESSAGE
+    };
+
+    for (String message : messages) {
+      assertThat(tokenizer.tokenize(message).toMap()).isEqualTo(legacyParse(message));
+    }
+  }
+
+  @Test
+  void tokenize_withNonNumericTag_shouldReportInvalidTag() {
+    tokenizer.tokenize("abc=1|035=D|");
+
+    assertThat(tokenizer.tagAt(0)).isEqualTo(FixTokenizer.INVALID_TAG);
+    assertThat(tokenizer.tagAsString(0)).isEqualTo("abc");
+    assertThat(tokenizer.tagAt(1)).isEqualTo(35);
+    assertThat(tokenizer.toMap()).containsEntry("035", "D");
+  }
+
+  @Test
+  void valueAsInt_withInvalidNumber_shouldThrow() {
+    tokenizer.tokenize("34=12a|9=99999999999|");
+
+    assertThatThrownBy(() -> tokenizer.valueAsInt(0)).isInstanceOf(NumberFormatException.class);
+    assertThatThrownBy(() -> tokenizer.valueAsInt(1)).isInstanceOf(NumberFormatException.class);
+  }
+
+  @Test
+  void tokenize_manyFields_shouldGrow() {
+    StringBuilder message = new StringBuilder();
+    for (int i = 1; i <= 200; i++) {
+      message.append(i + 1000).append('=').append(i).append('|');
+    }
+
+    tokenizer.tokenize(message);
+
+    assertThat(tokenizer.size()).isEqualTo(200);
+    assertThat(tokenizer.valueAsInt(199)).isEqualTo(200);
+  }
+
+  @Test
+  void accessors_outOfRange_shouldThrow() {
+    tokenizer.tokenize("35=D|");
+
+    assertThatThrownBy(() -> tokenizer.valueAsString(1))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void checksumBefore_shouldMatchRecomputedChecksum() {
+    byte[] bytes = ("  " + MESSAGE).getBytes(StandardCharsets.US_ASCII);
+    String piped = " 8=FIX.4.4| 9=5 |35=D|| 58 = a=b |10=000|";
+
+    tokenizer.tokenize(bytes, 2, bytes.length - 2);
+    for (int i = 0; i < tokenizer.size(); i++) {
+      assertThat(tokenizer.checksumBefore(i)).isEqualTo(tokenizer.checksum(tokenizer.tagOffset(i)));
+    }
+    tokenizer.tokenize(piped);
+    for (int i = 0; i < tokenizer.size(); i++) {
+      assertThat(tokenizer.checksumBefore(i)).isEqualTo(tokenizer.checksum(tokenizer.tagOffset(i)));
+    }
+  }
+
+  @Test
+  void isVerified_shouldCheckBodyLengthAndCheckSum() {
+    String body = "35=D\u000149=S\u000156=T\u000134=1\u000152=20231208-12:34:56\u000155=AAPL\u0001";
+    String valid = withCheckSum("8=FIX.4.4\u00019=" + body.length() + "\u0001" + body);
+
+    assertThat(tokenizer.tokenize(valid).isVerified()).isTrue();
+    assertThat(tokenizer.bodyLength()).isEqualTo(body.length());
+    assertThat(tokenizer.tokenize(valid.replace('\u0001', '|')).isVerified()).isTrue();
+    assertThat(tokenizer.tokenize(valid.getBytes(StandardCharsets.US_ASCII)).isVerified())
+        .isTrue();
+
+    assertThat(tokenizer.tokenize(valid.replace("AAPL", "AAPM")).isVerified()).isFalse();
+    assertThat(tokenizer.tokenize(valid.replace("9=" + body.length(), "9=" + (body.length() + 1)))
+        .isVerified()).isFalse();
+    assertThat(tokenizer.tokenize(valid.substring(0, valid.indexOf("10="))).isVerified())
+        .isFalse();
+    assertThat(tokenizer.bodyLength()).isEqualTo(-1);
+    assertThat(tokenizer.tokenize(valid.replace("10=", "10=x")).isVerified()).isFalse();
+    assertThat(tokenizer.tokenize("9=5\u00018=FIX.4.4\u000110=000\u0001").isVerified()).isFalse();
+    assertThat(tokenizer.tokenize(MESSAGE).isVerified()).isFalse();
+  }
+
+  private static Map<String, String> legacyParse(String fixMessage) {
+    Map<String, String> parsedFields = new HashMap<>();
+    for (String field : fixMessage.replace('|', '\u0001').split("\u0001")) {
+      String[] keyValue = field.split("=", 2);
+      if (keyValue.length == 2) {
+        String tag = keyValue[0].trim();
+        String value = keyValue[1].trim();
+        if (!tag.isEmpty() && !value.isEmpty()) {
+          parsedFields.put(tag, value);
+        }
+      }
+    }
+    return parsedFields;
+  }
+}
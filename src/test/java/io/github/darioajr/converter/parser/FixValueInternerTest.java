@@ -0,0 +1,149 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package io.github.darioajr.converter.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.darioajr.converter.models.FixDefaultVersion;
+import io.github.darioajr.converter.registry.DataDictionaryRegistry;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class FixValueInternerTest {
+
+  private final FixValueInterner interner = new FixValueInterner(64, 8, 35, 49, 56);
+
+  @Test
+  void intern_fromAnySource_shouldReturnCanonicalInstance() {
+    byte[] bytes = "xxSENDERyy".getBytes(StandardCharsets.US_ASCII);
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+
+    String first = interner.intern(bytes, 2, 6);
+
+    assertThat(first).isEqualTo("SENDER");
+    assertThat(interner.intern(bytes, 2, 6)).isSameAs(first);
+    assertThat(interner.intern(direct, 2, 6)).isSameAs(first);
+    assertThat(interner.intern("--SENDER", 2, 6)).isSameAs(first);
+    assertThat(interner.intern(new String("SENDER"))).isSameAs(first);
+    assertThat(direct.position()).isEqualTo(bytes.length);
+    assertThat(interner.getMisses()).isEqualTo(1);
+    assertThat(interner.getHits()).isEqualTo(4);
+  }
+
+  @Test
+  void intern_withLatin1AndCollidingValues_shouldReturnEqualStrings() {
+    FixValueInterner tiny = new FixValueInterner(1, 58);
+    byte[] latin1 = "Olá".getBytes(StandardCharsets.ISO_8859_1);
+
+    assertThat(tiny.intern(latin1, 0, latin1.length)).isEqualTo("Olá");
+    assertThat(tiny.intern("Olá", 0, 3)).isEqualTo("Olá");
+    assertThat(tiny.intern("A", 0, 1)).isEqualTo("A");
+    assertThat(tiny.intern(latin1, 0, latin1.length)).isEqualTo("Olá");
+    assertThat(tiny.getCapacity()).isEqualTo(1);
+  }
+
+  @Test
+  void intern_withLongValue_shouldNotCache() {
+    String longValue = "x".repeat(FixValueInterner.MAX_VALUE_LENGTH + 1);
+    byte[] bytes = longValue.getBytes(StandardCharsets.US_ASCII);
+
+    assertThat(interner.intern(bytes, 0, bytes.length)).isEqualTo(longValue);
+    assertThat(interner.intern(bytes, 0, bytes.length))
+        .isNotSameAs(interner.intern(bytes, 0, bytes.length));
+    assertThat(interner.intern(longValue)).isSameAs(longValue);
+    assertThat(interner.intern((String) null)).isNull();
+    assertThat(interner.getMisses()).isZero();
+  }
+
+  @Test
+  void tokenizer_shouldInternConfiguredTagsOnly() {
+    FixTokenizer tokenizer = new FixTokenizer();
+    tokenizer.setInterner(interner);
+    String message = "8=FIX.4.4|35=D|49=S|56=T|11=ID1|";
+
+    tokenizer.tokenize(message.getBytes(StandardCharsets.US_ASCII));
+    String msgType = tokenizer.getValue(35);
+    String clOrdId = tokenizer.getValue(11);
+    tokenizer.tokenize(message);
+
+    assertThat(tokenizer.getValue(35)).isSameAs(msgType);
+    assertThat(tokenizer.getValue(8)).isSameAs(tokenizer.getValue(8));
+    assertThat(tokenizer.getValue(11)).isEqualTo(clOrdId).isNotSameAs(clOrdId);
+    assertThat(tokenizer.toMap().get("35")).isSameAs(msgType);
+
+    tokenizer.setInterner(null);
+    assertThat(tokenizer.getValue(35)).isEqualTo("D").isNotSameAs(msgType);
+  }
+
+  @Test
+  void forDictionary_shouldInternEnumValuedFields() throws Exception {
+    FixValueInterner dictionaryInterner = FixValueInterner.forDictionary(
+        DataDictionaryRegistry.getInstance().get(FixDefaultVersion.FIX_4_4), 256);
+
+    assertThat(dictionaryInterner.isInterned(35)).isTrue();
+    assertThat(dictionaryInterner.isInterned(54)).isTrue();
+    assertThat(dictionaryInterner.isInterned(1300)).isFalse();
+    assertThat(dictionaryInterner.isInterned(11)).isFalse();
+    assertThat(dictionaryInterner.getCapacity()).isEqualTo(256);
+  }
+
+  @Test
+  void intern_fromManyThreads_shouldReturnEqualValues() throws Exception {
+    FixValueInterner shared = new FixValueInterner(8, 49);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Callable<Boolean>> tasks = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        tasks.add(() -> {
+          for (int i = 0; i < 10_000; i++) {
+            String expected = "COMP" + (i % 20);
+            byte[] bytes = expected.getBytes(StandardCharsets.US_ASCII);
+            if (!shared.intern(bytes, 0, bytes.length).equals(expected)) {
+              return false;
+            }
+          }
+          return true;
+        });
+      }
+      for (Future<Boolean> result : executor.invokeAll(tasks)) {
+        assertThat(result.get()).isTrue();
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void constructor_withInvalidArguments_shouldThrow() {
+    assertThat(new FixValueInterner(100).getCapacity()).isEqualTo(128);
+    assertThat(FixValueInterner.tagName(35)).isSameAs(FixValueInterner.tagName(35));
+    assertThat(FixValueInterner.tagName(5000)).isEqualTo("5000");
+    assertThatThrownBy(() -> new FixValueInterner(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid capacity value: 0");
+    assertThatThrownBy(() -> new FixValueInterner(16, -1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid tag value: -1");
+  }
+}
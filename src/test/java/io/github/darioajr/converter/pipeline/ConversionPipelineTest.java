@@ -0,0 +1,197 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import io.github.darioajr.converter.core.SchemaProvider;
+import io.github.darioajr.converter.models.FixDefaultVersion;
+import io.github.darioajr.converter.utils.AvroUtils;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Implementation of ConversionPipelineTest.
+ *
+ */
+class ConversionPipelineTest {
+
+  @Test
+  void pipeline_shouldPreserveInputOrder() throws IOException {
+    List<Long> sequences = Collections.synchronizedList(new ArrayList<>());
+    List<byte[]> records = Collections.synchronizedList(new ArrayList<>());
+    List<Long> failures = Collections.synchronizedList(new ArrayList<>());
+    List<String> rawFailures = Collections.synchronizedList(new ArrayList<>());
+
+    try (ConversionPipeline pipeline = ConversionPipeline.builder(FixDefaultVersion.FIX_4_4,
+        new PipelineOutput() {
+          @Override
+          public void onRecord(long sequence, byte[] record) {
+            sequences.add(sequence);
+            records.add(record);
+          }
+
+          @Override
+          public void onFailure(long sequence, byte[] rawMessage, Exception cause) {
+            sequences.add(sequence);
+            failures.add(sequence);
+            rawFailures.add(new String(rawMessage, StandardCharsets.ISO_8859_1));
+          }
+        }).workers(4).queueCapacity(8).build()) {
+      for (int i = 0; i < 500; i++) {
+        if (i % 100 == 99) {
+          pipeline.submit("8=FIX.4.4|9=10|35=D|10=000|");
+        } else if (i % 2 == 0) {
+          pipeline.submit(message("S" + i, i));
+        } else {
+          byte[] bytes = ("xx" + message("S" + i, i)).getBytes(StandardCharsets.US_ASCII);
+          pipeline.submit(bytes, 2, bytes.length - 2);
+        }
+      }
+    }
+
+    assertThat(sequences).hasSize(500).isSorted();
+    assertThat(failures).containsExactly(99L, 199L, 299L, 399L, 499L);
+    assertThat(rawFailures).hasSize(5).containsOnly("8=FIX.4.4|9=10|35=D|10=000|");
+    assertThat(records.get(7))
+        .isEqualTo(AvroUtils.convertFixToAvroByteArray(
+            message("S7", 7), FixDefaultVersion.FIX_4_4));
+  }
+
+  @Test
+  void pipeline_withSenderOrdering_shouldPreserveOrderPerSender() throws IOException {
+    Map<String, List<Long>> bySender = new HashMap<>();
+    List<String> senders = List.of("A", "B", "C", "D", "E");
+
+    try (ConversionPipeline pipeline = ConversionPipeline.builder(FixDefaultVersion.FIX_4_4,
+        (sequence, record) -> bySender
+            .computeIfAbsent(senders.get((int) (sequence % senders.size())),
+                key -> new ArrayList<>())
+            .add(sequence))
+        .ordering(ConversionPipeline.Ordering.SENDER).workers(3).queueCapacity(4).build()) {
+      for (int i = 0; i < 300; i++) {
+        pipeline.submit(message(senders.get(i % senders.size()), i));
+      }
+    }
+
+    assertThat(bySender).hasSize(5);
+    bySender.values().forEach(sequences -> assertThat(sequences).hasSize(60).isSorted());
+  }
+
+  @Test
+  void pipeline_shouldApplyBackPressure() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    ConversionPipeline pipeline = ConversionPipeline.builder(FixDefaultVersion.FIX_4_4,
+        (sequence, record) -> {
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        }).workers(1).queueCapacity(2).build();
+
+    Thread producer = new Thread(() -> {
+      try {
+        for (int i = 0; i < 50; i++) {
+          pipeline.submit(message("S", i));
+        }
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    producer.start();
+    producer.join(500);
+
+    assertThat(producer.isAlive()).isTrue();
+    assertThat(pipeline.getStats().get(0).getMessages()).isLessThan(10);
+
+    release.countDown();
+    producer.join(TimeUnit.SECONDS.toMillis(10));
+    pipeline.close();
+
+    List<StageStats> stats = pipeline.getStats();
+    assertThat(stats).extracting(StageStats::getName).containsExactly("read", "convert", "write");
+    assertThat(stats).allSatisfy(stage -> assertThat(stage.getMessages()).isEqualTo(50));
+    assertThat(stats.get(1).getThroughput()).isPositive();
+  }
+
+  @Test
+  void pipeline_withFailingOutput_shouldReportErrorOnClose() throws IOException {
+    ConversionPipeline pipeline = ConversionPipeline.builder(FixDefaultVersion.FIX_4_4,
+        (sequence, record) -> {
+          throw new IOException("disk full");
+        }).workers(2).build();
+
+    pipeline.submit(message("S", 1));
+
+    assertThatThrownBy(pipeline::close)
+        .isInstanceOf(IOException.class)
+        .hasRootCauseMessage("disk full");
+    assertThatThrownBy(() -> pipeline.submit(message("S", 2)))
+        .isInstanceOf(IOException.class)
+        .hasMessage("Pipeline is closed");
+  }
+
+  @Test
+  void pipeline_withWorkerError_shouldFailFastInsteadOfHanging() throws IOException {
+    SchemaProvider failing = new SchemaProvider() {
+      @Override
+      public String getVersion() {
+        return "44";
+      }
+
+      @Override
+      public String getSchemaPath() {
+        throw new StackOverflowError("boom");
+      }
+    };
+
+    assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+      ConversionPipeline pipeline = ConversionPipeline.builder(failing, (sequence, record) -> { })
+          .workers(2).queueCapacity(1).build();
+      assertThatThrownBy(() -> {
+        for (int i = 0; i < 1_000; i++) {
+          pipeline.submit(message("S", i));
+        }
+      }).isInstanceOf(IOException.class).hasRootCauseInstanceOf(StackOverflowError.class);
+      assertThatThrownBy(pipeline::close)
+          .isInstanceOf(IOException.class)
+          .hasRootCauseMessage("boom");
+    });
+  }
+
+  private static String message(String sender, int sequence) {
+    String message = "8=FIX.4.4|9=100|35=D|49=" + sender + "|56=T|34=" + sequence
+        + "|52=20231208-12:34:56|11=O" + sequence + "|55=AAPL|";
+    int sum = 0;
+    for (char c : message.replace('|', '\u0001').toCharArray()) {
+      sum += c;
+    }
+    return message + String.format("10=%03d|", sum & 0xFF);
+  }
+}
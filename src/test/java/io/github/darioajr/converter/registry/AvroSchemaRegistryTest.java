@@ -0,0 +1,80 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import org.apache.avro.Schema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AvroSchemaRegistryTest {
+
+  private AvroSchemaRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    registry = new AvroSchemaRegistry();
+  }
+
+  @Test
+  void getDefaultSchema_shouldParseOnce() throws IOException {
+    Schema first = registry.getDefaultSchema();
+    Schema second = registry.getDefaultSchema();
+
+    assertThat(first).isSameAs(second);
+    assertThat(first.getName()).isEqualTo("FixMessage");
+    assertThat(registry.getStats().getLoads()).isEqualTo(1);
+    assertThat(registry.getStats().getHits()).isEqualTo(1);
+  }
+
+  @Test
+  void getSchemaResource_shouldShareWithDefaultSchema() throws IOException {
+    Schema resource = registry.getSchemaResource("schemas/FixMessage.avsc");
+
+    assertThat(registry.getDefaultSchema()).isSameAs(resource);
+    assertThat(registry.size()).isEqualTo(1);
+  }
+
+  @Test
+  void getSchema_fromFile_shouldCacheByPath() throws IOException {
+    String path = getClass().getClassLoader().getResource("schemas/FixMessage.avsc").getPath();
+
+    Schema schema = registry.getSchema(path);
+
+    assertThat(registry.getSchema(path)).isSameAs(schema);
+    assertThat(schema).isEqualTo(registry.getDefaultSchema());
+  }
+
+  @Test
+  void evictAll_shouldForceReparse() throws IOException {
+    Schema first = registry.getDefaultSchema();
+
+    registry.evictAll();
+
+    assertThat(registry.getDefaultSchema()).isNotSameAs(first);
+    assertThat(registry.getStats().getEvictions()).isEqualTo(1);
+  }
+
+  @Test
+  void getSchemaResource_withMissingResource_shouldThrow() {
+    assertThatThrownBy(() -> registry.getSchemaResource("schemas/Missing.avsc"))
+        .isInstanceOf(IOException.class);
+  }
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.darioajr.converter.core.SimpleSchemaProvider;
+import io.github.darioajr.converter.models.FixCustomVersion;
+import io.github.darioajr.converter.models.FixDefaultVersion;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import quickfix.DataDictionary;
+
+class DataDictionaryRegistryTest {
+
+  private DataDictionaryRegistry registry;
+
+  @BeforeEach
+  void setUp() {
+    registry = new DataDictionaryRegistry();
+  }
+
+  @Test
+  void get_shouldLoadOnceAndShareInstance() throws Exception {
+    DataDictionary first = registry.get(FixDefaultVersion.FIX_4_4);
+    DataDictionary second = registry.get(FixDefaultVersion.FIX_4_4);
+
+    assertThat(first).isSameAs(second);
+    assertThat(first.getVersion()).isEqualTo("FIX.4.4");
+    assertThat(registry.getStats().getMisses()).isEqualTo(1);
+    assertThat(registry.getStats().getHits()).isEqualTo(1);
+    assertThat(registry.getStats().getLoads()).isEqualTo(1);
+    assertThat(registry.getStats().getTotalLoadTimeNanos()).isPositive();
+  }
+
+  @Test
+  void get_withCustomVersion_shouldShareByPath() throws Exception {
+    String path = getClass().getClassLoader().getResource("schemas/FIX44_custom.xml").getPath();
+
+    DataDictionary first = registry.get(new FixCustomVersion("44", path));
+    DataDictionary second = registry.get(new FixCustomVersion("44", path));
+
+    assertThat(first).isSameAs(second);
+    assertThat(registry.size()).isEqualTo(1);
+  }
+
+  @Test
+  void get_fromManyThreads_shouldLoadOnce() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Callable<DataDictionary>> tasks = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        tasks.add(() -> registry.get(FixDefaultVersion.FIX_4_4));
+      }
+      DataDictionary expected = null;
+      for (Future<DataDictionary> future : executor.invokeAll(tasks)) {
+        if (expected == null) {
+          expected = future.get();
+        }
+        assertThat(future.get()).isSameAs(expected);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(registry.getStats().getLoads()).isEqualTo(1);
+  }
+
+  @Test
+  void evict_shouldForceNewLoad() throws Exception {
+    DataDictionary first = registry.get(FixDefaultVersion.FIX_4_4);
+
+    assertThat(registry.evict(FixDefaultVersion.FIX_4_4)).isTrue();
+    assertThat(registry.isLoaded(FixDefaultVersion.FIX_4_4)).isFalse();
+    assertThat(registry.evict(FixDefaultVersion.FIX_4_4)).isFalse();
+
+    DataDictionary second = registry.get(FixDefaultVersion.FIX_4_4);
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(registry.getStats().getEvictions()).isEqualTo(1);
+    assertThat(registry.getStats().getLoads()).isEqualTo(2);
+  }
+
+  @Test
+  void reload_shouldSwapInstance() throws Exception {
+    DataDictionary first = registry.get(FixDefaultVersion.FIX_4_4);
+    DataDictionary reloaded = registry.reload(FixDefaultVersion.FIX_4_4);
+
+    assertThat(reloaded).isNotSameAs(first);
+    assertThat(registry.get(FixDefaultVersion.FIX_4_4)).isSameAs(reloaded);
+  }
+
+  @Test
+  void evictAll_shouldClearRegistry() throws Exception {
+    registry.get(FixDefaultVersion.FIX_4_4);
+    registry.get(FixDefaultVersion.FIX_5_0_SP2);
+
+    registry.evictAll();
+
+    assertThat(registry.size()).isZero();
+    assertThat(registry.getStats().getEvictions()).isEqualTo(2);
+  }
+
+  @Test
+  void get_withMissingFile_shouldThrowAndNotCache() {
+    SimpleSchemaProvider missing = new SimpleSchemaProvider("44", "does/not/exist.xml");
+
+    assertThatThrownBy(() -> registry.get(missing)).isInstanceOf(IOException.class);
+    assertThat(registry.isLoaded(missing)).isFalse();
+  }
+}
@@ -0,0 +1,245 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package io.github.darioajr.converter.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.darioajr.converter.models.FixCustomVersion;
+import io.github.darioajr.converter.models.FixDefaultVersion;
+import io.github.darioajr.converter.parser.AvroSchemaReader;
+import io.github.darioajr.converter.utils.AvroUtils;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import org.apache.avro.Schema;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import quickfix.ConfigError;
+import quickfix.DataDictionary;
+
+class DictionarySnapshotTest {
+
+  private static final String[] MSG_TYPES = {"0", "A", "D", "8", "W", "X", "AE", "V", "j"};
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void load_fromSnapshot_shouldMatchXmlDictionary() throws Exception {
+    for (FixDefaultVersion version : new FixDefaultVersion[] {
+        FixDefaultVersion.FIX_4_4, FixDefaultVersion.FIX_5_0_SP2}) {
+      Path source = Paths.get(version.getSchemaPath());
+      Path snapshot = directory.resolve(DictionarySnapshot.fileName(source.toString()));
+      DictionarySnapshot.compile(source, snapshot);
+
+      assertThat(DictionarySnapshot.isCurrent(source, snapshot)).isTrue();
+      assertThat(Files.size(snapshot)).isLessThan(Files.size(source));
+      assertEquivalent(DictionarySnapshot.load(source, snapshot), xmlDictionary(source));
+    }
+  }
+
+  @Test
+  void load_fromSnapshot_shouldConvertLikeXmlDictionary() throws Exception {
+    Path source = Paths.get(FixDefaultVersion.FIX_4_4.getSchemaPath());
+    Path snapshot = directory.resolve("FIX44.fixdict");
+    DictionarySnapshot.compile(source, snapshot);
+    Schema schema = AvroSchemaReader.readDefaultAvroSchema();
+    String message = "8=FIX.4.4|9=123|35=D|49=SenderCompID|56=TargetCompID|34=1|"
+        + "52=20231208-12:34:56|11=Order123|54=1|38=100|55=AAPL|44=50.00|10=242|";
+
+    assertThat(AvroUtils.convertFixToAvro(message, DictionarySnapshot.load(source, snapshot),
+        schema)).isEqualTo(AvroUtils.convertFixToAvro(message, xmlDictionary(source), schema));
+  }
+
+  @Test
+  void load_withStaleSnapshot_shouldFallBackToXmlAndRecompile() throws Exception {
+    Path source = copyCustomDictionary();
+    Path snapshot = directory.resolve("venue.fixdict");
+    DictionarySnapshot.compile(source, snapshot);
+    String xml = Files.readString(source);
+    Files.writeString(source, xml.replace("<messages>",
+        "<messages>\n    <message name=\"Custom\" msgtype=\"XX\" msgcat=\"app\">\n"
+        + "      <field name=\"Text\" required=\"N\"/>\n    </message>"));
+
+    assertThat(DictionarySnapshot.isCurrent(source, snapshot)).isFalse();
+    assertThat(DictionarySnapshot.load(source, snapshot).isMsgType("XX")).isTrue();
+    assertThat(DictionarySnapshot.isCurrent(source, snapshot)).isTrue();
+    assertThat(DictionarySnapshot.load(source, snapshot).isMsgType("XX")).isTrue();
+  }
+
+  @Test
+  void load_withMissingOrCorruptSnapshot_shouldFallBackToXml() throws Exception {
+    Path source = copyCustomDictionary();
+    Path snapshot = directory.resolve("venue.fixdict");
+
+    assertThat(DictionarySnapshot.isCurrent(source, snapshot)).isFalse();
+    assertThat(DictionarySnapshot.load(source, snapshot).isMsgType("D")).isTrue();
+    assertThat(Files.exists(snapshot)).isTrue();
+
+    byte[] bytes = Files.readAllBytes(snapshot);
+    Files.write(snapshot, Arrays.copyOf(bytes, bytes.length / 2));
+    assertThat(DictionarySnapshot.load(source, snapshot).isMsgType("D")).isTrue();
+    assertThat(Files.size(snapshot)).isEqualTo(bytes.length);
+  }
+
+  @Test
+  void load_withCorruptPayload_shouldFallBackToXml() throws Exception {
+    Path source = copyCustomDictionary();
+    Path snapshot = directory.resolve("venue.fixdict");
+    DictionarySnapshot.compile(source, snapshot);
+    byte[] bytes = Files.readAllBytes(snapshot);
+
+    byte[] flipped = bytes.clone();
+    flipped[flipped.length - 1] ^= 1;
+    Files.write(snapshot, flipped);
+    assertEquivalent(DictionarySnapshot.load(source, snapshot), xmlDictionary(source));
+    assertThat(Files.readAllBytes(snapshot)).isEqualTo(bytes);
+
+    byte[] hugeCount = bytes.clone();
+    hugeCount[28] = 0x7f;
+    Files.write(snapshot, hugeCount);
+    assertEquivalent(DictionarySnapshot.load(source, snapshot), xmlDictionary(source));
+    assertThat(Files.readAllBytes(snapshot)).isEqualTo(bytes);
+  }
+
+  @Test
+  void load_withExternalEntity_shouldNotResolveIt() throws Exception {
+    Path secret = Files.writeString(directory.resolve("secret.txt"), "SECRET");
+    String xml = Files.readString(copyCustomDictionary())
+        .replaceFirst("<fix ", "<!DOCTYPE fix [<!ENTITY secret SYSTEM \""
+            + secret.toUri() + "\">]>\n<fix ")
+        .replace("<messages>", "<messages>&secret;");
+    Path source = Files.writeString(directory.resolve("xxe.xml"), xml);
+    Path snapshot = directory.resolve("xxe.fixdict");
+
+    assertThatThrownBy(() -> DictionarySnapshot.load(source, snapshot))
+        .isInstanceOf(ConfigError.class);
+    assertThatThrownBy(() -> DictionarySnapshot.compile(source, snapshot))
+        .isInstanceOf(IOException.class);
+    assertThat(snapshot).doesNotExist();
+  }
+
+  @Test
+  void load_withInvalidXml_shouldThrowConfigError() throws Exception {
+    Path source = Files.writeString(directory.resolve("invalid.xml"), "<fix major=\"4\"");
+
+    assertThatThrownBy(() -> DictionarySnapshot.load(source, directory.resolve("x.fixdict")))
+        .isInstanceOf(ConfigError.class);
+  }
+
+  @Test
+  void main_shouldCompileEveryDefaultVersion() throws Exception {
+    Path target = directory.resolve("snapshots");
+
+    DictionarySnapshot.main(new String[] {target.toString()});
+
+    for (FixDefaultVersion version : FixDefaultVersion.values()) {
+      Path source = Paths.get(version.getSchemaPath());
+      assertThat(DictionarySnapshot.isCurrent(source,
+          target.resolve(DictionarySnapshot.prebuiltFileName(source.toString())))).isTrue();
+    }
+  }
+
+  @Test
+  void registry_withSnapshotDirectory_shouldCompileOnFirstUse() throws Exception {
+    DataDictionaryRegistry registry = new DataDictionaryRegistry();
+    registry.setSnapshotDirectory(directory.resolve("cache"));
+    FixCustomVersion custom = new FixCustomVersion("44", copyCustomDictionary().toString());
+
+    DataDictionary dictionary = registry.get(custom);
+
+    assertThat(dictionary.isMsgType("D")).isTrue();
+    assertThat(directory.resolve("cache")
+        .resolve(DictionarySnapshot.fileName(custom.getSchemaPath()))).exists();
+    assertThat(new DataDictionaryRegistry().get(custom).getOrderedFields())
+        .isEqualTo(dictionary.getOrderedFields());
+  }
+
+  @Test
+  void registry_withPrebuiltSnapshot_shouldLoadIt() throws Exception {
+    Path source = copyCustomDictionary();
+    Path cache = directory.resolve("cache");
+    Files.createDirectories(cache);
+    DictionarySnapshot.compile(source,
+        cache.resolve(DictionarySnapshot.prebuiltFileName(source.toString())));
+    DataDictionaryRegistry registry = new DataDictionaryRegistry();
+    registry.setSnapshotDirectory(cache);
+
+    DataDictionary dictionary = registry.get(new FixCustomVersion("44", source.toString()));
+
+    assertThat(dictionary.isMsgType("D")).isTrue();
+    assertThat(cache.resolve(DictionarySnapshot.fileName(source.toString()))).doesNotExist();
+  }
+
+  @Test
+  void fileName_shouldDifferForSameNamedSources() throws Exception {
+    String first = directory.resolve("a").resolve("venue.xml").toString();
+    String second = directory.resolve("b").resolve("venue.xml").toString();
+
+    assertThat(DictionarySnapshot.fileName(first))
+        .startsWith("venue-")
+        .endsWith(DictionarySnapshot.EXTENSION)
+        .isNotEqualTo(DictionarySnapshot.fileName(second));
+    assertThat(DictionarySnapshot.prebuiltFileName(first)).isEqualTo("venue.fixdict");
+  }
+
+  private Path copyCustomDictionary() throws Exception {
+    Path source = Paths.get(
+        getClass().getClassLoader().getResource("schemas/FIX44_custom.xml").toURI());
+    return Files.copy(source, directory.resolve("venue.xml"));
+  }
+
+  private static DataDictionary xmlDictionary(Path source) throws Exception {
+    try (InputStream in = new FileInputStream(source.toFile())) {
+      return new DataDictionary(in);
+    }
+  }
+
+  private static void assertEquivalent(DataDictionary actual, DataDictionary expected)
+      throws Exception {
+    assertThat(actual.getFullVersion()).isEqualTo(expected.getFullVersion());
+    assertThat(actual.getOrderedFields()).isEqualTo(expected.getOrderedFields());
+    for (int tag : expected.getOrderedFields()) {
+      assertThat(actual.getFieldName(tag)).isEqualTo(expected.getFieldName(tag));
+      assertThat(actual.getFieldType(tag)).isEqualTo(expected.getFieldType(tag));
+      assertThat(actual.isHeaderField(tag)).isEqualTo(expected.isHeaderField(tag));
+      assertThat(actual.isTrailerField(tag)).isEqualTo(expected.isTrailerField(tag));
+      assertThat(actual.hasFieldValue(tag)).isEqualTo(expected.hasFieldValue(tag));
+      assertThat(actual.isDataField(tag)).isEqualTo(expected.isDataField(tag));
+      for (String msgType : MSG_TYPES) {
+        assertThat(actual.isMsgType(msgType)).isEqualTo(expected.isMsgType(msgType));
+        assertThat(actual.isMsgField(msgType, tag)).isEqualTo(expected.isMsgField(msgType, tag));
+        assertThat(actual.isRequiredField(msgType, tag))
+            .isEqualTo(expected.isRequiredField(msgType, tag));
+        assertThat(actual.isGroup(msgType, tag)).isEqualTo(expected.isGroup(msgType, tag));
+        if (expected.isGroup(msgType, tag)) {
+          DataDictionary.GroupInfo group = expected.getGroup(msgType, tag);
+          DataDictionary.GroupInfo actualGroup = actual.getGroup(msgType, tag);
+          assertThat(actualGroup.getDelimiterField()).isEqualTo(group.getDelimiterField());
+          assertThat(actualGroup.getDataDictionary().getOrderedFields())
+              .isEqualTo(group.getDataDictionary().getOrderedFields());
+        }
+      }
+    }
+    assertThat(actual.isFieldValue(54, "1")).isEqualTo(expected.isFieldValue(54, "1"));
+    assertThat(actual.getValueName(54, "1")).isEqualTo(expected.getValueName(54, "1"));
+  }
+}
@@ -0,0 +1,119 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package io.github.darioajr.converter.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.darioajr.converter.models.FixCustomVersion;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import quickfix.DataDictionary;
+
+class DictionaryWatcherTest {
+
+  private static final String CUSTOM_MESSAGE =
+      "    <message name=\"Custom\" msgtype=\"XX\" msgcat=\"app\">\n"
+      + "      <field name=\"Text\" required=\"N\"/>\n"
+      + "    </message>\n";
+
+  @TempDir
+  Path directory;
+
+  private final DataDictionaryRegistry registry = new DataDictionaryRegistry();
+  private String original;
+  private FixCustomVersion custom;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    Path source = Paths.get(
+        getClass().getClassLoader().getResource("schemas/FIX44_custom.xml").toURI());
+    original = Files.readString(source, StandardCharsets.UTF_8);
+    Path file = Files.writeString(directory.resolve("venue.xml"), original);
+    custom = new FixCustomVersion("44", file.toString());
+  }
+
+  @Test
+  void modifiedDictionary_shouldBeSwappedIn() throws Exception {
+    DataDictionary before = registry.get(custom);
+    assertThat(before.isMsgType("XX")).isFalse();
+
+    try (DictionaryWatcher watcher =
+        new DictionaryWatcher(registry, directory, Duration.ofMillis(50))) {
+      Files.writeString(Path.of(custom.getSchemaPath()),
+          original.replace("  <messages>\n", "  <messages>\n" + CUSTOM_MESSAGE));
+
+      awaitTrue(() -> watcher.getReloadCount() > 0);
+
+      DataDictionary after = registry.get(custom);
+      assertThat(after).isNotSameAs(before);
+      assertThat(after.isMsgType("XX")).isTrue();
+      assertThat(before.isMsgType("XX")).isFalse();
+      assertThat(watcher.getFailureCount()).isZero();
+    }
+  }
+
+  @Test
+  void invalidDictionary_shouldKeepPreviousInstance() throws Exception {
+    DataDictionary before = registry.get(custom);
+
+    try (DictionaryWatcher watcher =
+        new DictionaryWatcher(registry, directory, Duration.ofMillis(50))) {
+      Files.writeString(Path.of(custom.getSchemaPath()), "<fix major=\"4\"");
+
+      awaitTrue(() -> watcher.getFailureCount() > 0);
+
+      assertThat(registry.get(custom)).isSameAs(before);
+      assertThat(watcher.getLastError()).isNotNull();
+      assertThat(watcher.getReloadCount()).isZero();
+    }
+  }
+
+  @Test
+  void unloadedDictionary_shouldNotBeLoaded() throws Exception {
+    try (DictionaryWatcher watcher =
+        new DictionaryWatcher(registry, directory, Duration.ofMillis(50))) {
+      Files.writeString(Path.of(custom.getSchemaPath()), original + "\n");
+      Files.writeString(directory.resolve("other.txt"), "x");
+      Thread.sleep(500);
+
+      assertThat(registry.size()).isZero();
+      assertThat(watcher.getReloadCount()).isZero();
+    }
+  }
+
+  @Test
+  void negativeSettleDelay_shouldThrow() {
+    assertThatThrownBy(() -> new DictionaryWatcher(registry, directory, Duration.ofMillis(-1)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid settleDelay value: PT-0.001S");
+  }
+
+  private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + Duration.ofSeconds(20).toNanos();
+    while (!condition.getAsBoolean()) {
+      assertThat(System.nanoTime()).isLessThan(deadline);
+      Thread.sleep(20);
+    }
+  }
+}
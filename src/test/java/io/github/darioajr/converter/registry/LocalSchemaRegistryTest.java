@@ -0,0 +1,215 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package io.github.darioajr.converter.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.darioajr.converter.core.FixConverter;
+import io.github.darioajr.converter.models.FixCustomVersion;
+import io.github.darioajr.converter.models.FixDefaultVersion;
+import io.github.darioajr.converter.parser.AvroSchemaReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import quickfix.ConfigError;
+import quickfix.DataDictionary;
+
+class LocalSchemaRegistryTest {
+
+  private static final String CUSTOM_MESSAGE = "8=FIX.4.4|9=123|35=XX|49=SenderCompID|"
+      + "56=TargetCompID|34=1|52=20231208-12:34:56|11=Order123|54=1|38=100|55=AAPL|"
+      + "44=50.00|10=94|";
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void registerDictionary_shouldServeConversionsFromCache() throws Exception {
+    LocalSchemaRegistry registry = new LocalSchemaRegistry(directory);
+
+    RegisteredDictionary dictionary = registry.registerDictionary("venue-x", "1", custom());
+
+    assertThat(dictionary.getVersion()).isEqualTo(FixDefaultVersion.FIX_4_4.getVersion());
+    assertThat(Path.of(dictionary.getSchemaPath())).startsWith(directory).exists();
+    assertThat(registry.getDictionary("venue-x", "1")).isSameAs(dictionary);
+    assertThat(registry.getDictionary("venue-x", "2")).isNull();
+
+    GenericRecord record = new FixConverter().convertToAvro(CUSTOM_MESSAGE, dictionary);
+
+    assertThat(record.get("msgType")).isEqualTo("XX");
+    assertThat(DataDictionaryRegistry.getInstance().isLoaded(dictionary)).isFalse();
+    assertThat(registry.getStats().getLoads()).isEqualTo(1);
+    assertThat(registry.getStats().getHits()).isEqualTo(1);
+  }
+
+  @Test
+  void reopen_shouldRestoreIndexAndLoadLazily() throws Exception {
+    Schema avroSchema = AvroSchemaReader.readDefaultAvroSchema();
+    LocalSchemaRegistry first = new LocalSchemaRegistry(directory);
+    first.registerDictionary("venue-x", "1", custom());
+    long fingerprint = first.registerAvroSchema("fix-message", "1", avroSchema);
+
+    LocalSchemaRegistry reopened = new LocalSchemaRegistry(directory);
+
+    assertThat(Files.exists(directory.resolve(LocalSchemaRegistry.INDEX_FILE))).isTrue();
+    assertThat(reopened.size()).isEqualTo(2);
+    assertThat(reopened.cachedSize()).isZero();
+    DataDictionary dictionary = reopened.getDataDictionary("venue-x", "1");
+    assertThat(dictionary.isMsgType("D")).isTrue();
+    assertThat(reopened.getDataDictionary("venue-x", "1")).isSameAs(dictionary);
+    assertThat(reopened.findByFingerprint(fingerprint)).isEqualTo(avroSchema);
+    assertThat(reopened.getAvroSchema("fix-message", "1")).isEqualTo(avroSchema);
+    assertThat(reopened.findByFingerprint(fingerprint + 1)).isNull();
+    assertThat(reopened.getStats().getMisses()).isEqualTo(2);
+    assertThat(reopened.getStats().getHits()).isEqualTo(2);
+  }
+
+  @Test
+  void cache_shouldEvictLeastRecentlyUsed() throws Exception {
+    LocalSchemaRegistry registry = new LocalSchemaRegistry(directory, 2);
+    Schema v1 = SchemaBuilder.record("Order").fields().requiredString("id").endRecord();
+    Schema v2 = SchemaBuilder.record("Order").fields().requiredString("id")
+        .optionalString("venue").endRecord();
+    registry.registerAvroSchema("order", "1", v1);
+    registry.registerAvroSchema("order", "2", v2);
+
+    registry.getAvroSchema("order", "1");
+    registry.registerDictionary("venue-x", "1", custom());
+
+    assertThat(registry.cachedSize()).isEqualTo(2);
+    assertThat(registry.getStats().getEvictions()).isEqualTo(1);
+    long loads = registry.getStats().getLoads();
+    assertThat(registry.getAvroSchema("order", "1")).isEqualTo(v1);
+    assertThat(registry.getStats().getLoads()).isEqualTo(loads);
+    assertThat(registry.getAvroSchema("order", "2")).isEqualTo(v2);
+    assertThat(registry.getStats().getLoads()).isEqualTo(loads + 1);
+
+    registry.evictAll();
+    assertThat(registry.cachedSize()).isZero();
+  }
+
+  @Test
+  void register_withInvalidOrDuplicateKey_shouldThrow() throws Exception {
+    LocalSchemaRegistry registry = new LocalSchemaRegistry(directory);
+    Schema schema = SchemaBuilder.record("Order").fields().requiredString("id").endRecord();
+    registry.registerAvroSchema("order", "1", schema);
+
+    assertThatThrownBy(() -> registry.registerAvroSchema("order", "1", schema))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Avro schema already registered: order/1");
+    assertThatThrownBy(() -> registry.registerAvroSchema("../order", "1", schema))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid schema id: ../order");
+    assertThatThrownBy(() -> registry.registerDictionary("venue-x", "a/b", custom()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid schema version: a/b");
+    assertThatThrownBy(() -> new LocalSchemaRegistry(directory, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid maxCached value: 0");
+  }
+
+  @Test
+  void registerDictionary_withInvalidDictionary_shouldNotIndex() throws Exception {
+    LocalSchemaRegistry registry = new LocalSchemaRegistry(directory);
+    Path invalid = Files.writeString(directory.resolve("invalid.xml"), "<fix></fix>");
+
+    assertThatThrownBy(() -> registry.registerDictionary("bad", "1",
+        new FixCustomVersion("44", invalid.toString())))
+        .isInstanceOf(ConfigError.class);
+    assertThat(registry.size()).isZero();
+    assertThat(directory.resolve("fix").resolve("bad").resolve("1.xml")).doesNotExist();
+  }
+
+  @Test
+  void register_whenIndexWriteFails_shouldRollBack() throws Exception {
+    LocalSchemaRegistry registry = new LocalSchemaRegistry(directory);
+    Schema schema = SchemaBuilder.record("Order").fields().requiredString("id").endRecord();
+    Path blocker = Files.createDirectories(
+        directory.resolve(LocalSchemaRegistry.INDEX_FILE + ".tmp"));
+    Files.createFile(blocker.resolve("keep"));
+
+    assertThatThrownBy(() -> registry.registerDictionary("venue-x", "1", custom()))
+        .isInstanceOf(IOException.class);
+    assertThatThrownBy(() -> registry.registerAvroSchema("order", "1", schema))
+        .isInstanceOf(IOException.class);
+
+    assertThat(registry.size()).isZero();
+    assertThat(registry.cachedSize()).isZero();
+    assertThat(registry.findByFingerprint(FingerprintSchemaStore.fingerprint(schema))).isNull();
+    assertThat(directory.resolve("fix").resolve("venue-x").resolve("1.xml")).doesNotExist();
+    assertThat(directory.resolve("avro").resolve("order").resolve("1.avsc")).doesNotExist();
+
+    Files.delete(blocker.resolve("keep"));
+    Files.delete(blocker);
+    registry.registerDictionary("venue-x", "1", custom());
+    registry.registerAvroSchema("order", "1", schema);
+    assertThat(new LocalSchemaRegistry(directory).size()).isEqualTo(2);
+  }
+
+  @Test
+  void getDataDictionary_withConcurrentMisses_shouldParseOnce() throws Exception {
+    LocalSchemaRegistry registry = new LocalSchemaRegistry(directory);
+    RegisteredDictionary registered = registry.registerDictionary("venue-x", "1", custom());
+    registry.evictAll();
+    long loads = registry.getStats().getLoads();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<DataDictionary>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        results.add(executor.submit(() -> {
+          start.await();
+          return registered.getDataDictionary();
+        }));
+      }
+      start.countDown();
+      DataDictionary first = results.get(0).get();
+      for (Future<DataDictionary> result : results) {
+        assertThat(result.get()).isSameAs(first);
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(registry.getStats().getLoads()).isEqualTo(loads + 1);
+  }
+
+  @Test
+  void open_withMalformedIndex_shouldThrow() throws IOException {
+    Files.writeString(directory.resolve(LocalSchemaRegistry.INDEX_FILE), "fix\tonly\n");
+
+    assertThatThrownBy(() -> new LocalSchemaRegistry(directory))
+        .isInstanceOf(IOException.class)
+        .hasMessage("Malformed registry index line: fix\tonly");
+  }
+
+  private FixCustomVersion custom() {
+    return new FixCustomVersion(FixDefaultVersion.FIX_4_4.getVersion(),
+        getClass().getClassLoader().getResource("schemas/FIX44_custom.xml").getPath());
+  }
+}
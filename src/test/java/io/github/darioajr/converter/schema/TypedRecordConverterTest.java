@@ -0,0 +1,208 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.schema;
+
+import static io.github.darioajr.converter.core.FixTestMessages.withCheckSum;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.darioajr.converter.models.FixDefaultVersion;
+import io.github.darioajr.converter.registry.DataDictionaryRegistry;
+import io.github.darioajr.converter.utils.AvroSerializer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.Conversions;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import quickfix.DataDictionary;
+
+class TypedRecordConverterTest {
+
+  private static TypedRecordConverter converter;
+  private static DataDictionary dictionary;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    converter = new TypedRecordConverter(
+        new TypedSchemaGenerator().generate(FixDefaultVersion.FIX_4_4));
+    dictionary = DataDictionaryRegistry.getInstance().get(FixDefaultVersion.FIX_4_4);
+  }
+
+  @Test
+  void convert_shouldWriteTypedValues() {
+    String message = withCheckSum("8=FIX.4.4|9=150|35=D|49=S|56=T|34=7|43=Y|"
+        + "52=20231208-12:34:56.123456|11=Order123|54=2|38=100|40=2|44=50.25|55=AAPL|"
+        + "60=20231208-12:34:56|64=20231211|5001=udf|");
+
+    GenericRecord record = converter.convert(message, dictionary);
+
+    assertThat(record.getSchema().getName()).isEqualTo("NewOrderSingle");
+    assertThat(record.get("BeginString").toString()).isEqualTo("FIX.4.4");
+    assertThat(record.get("MsgSeqNum")).isEqualTo(7L);
+    assertThat(record.get("PossDupFlag")).isEqualTo(true);
+    assertThat(record.get("ClOrdID")).isEqualTo("Order123");
+    assertThat(record.get("Side").toString()).isEqualTo("SELL");
+    assertThat(decimal(record, "Price")).isEqualByComparingTo("50.25");
+    assertThat(decimal(record, "OrderQty")).isEqualByComparingTo("100");
+    LocalDateTime sendingTime = LocalDateTime.of(2023, 12, 8, 12, 34, 56, 123_456_000);
+    assertThat(record.get("SendingTime"))
+        .isEqualTo(sendingTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + 123_456L);
+    assertThat(record.get("SettlDate"))
+        .isEqualTo((int) LocalDate.of(2023, 12, 11).toEpochDay());
+    assertThat(record.get("Account")).isNull();
+    assertThat(record.get(TypedSchemaGenerator.ADDITIONAL_FIELDS))
+        .isEqualTo(Map.of("5001", "udf"));
+  }
+
+  @Test
+  void convert_shouldRoundTripThroughAvroBinary() throws IOException {
+    String message = withCheckSum("8=FIX.4.4|9=150|35=D|49=S|56=T|34=7|"
+        + "52=20231208-12:34:56|11=Order123|54=1|38=100|40=2|44=50.25|55=AAPL|"
+        + "60=20231208-12:34:56|");
+    GenericRecord record = converter.convert(message, dictionary);
+    Schema schema = record.getSchema();
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+    new GenericDatumWriter<GenericRecord>(schema).write(record, encoder);
+    encoder.flush();
+    GenericRecord read = new GenericDatumReader<GenericRecord>(schema)
+        .read(null, DecoderFactory.get().binaryDecoder(out.toByteArray(), null));
+
+    assertThat(read.toString()).isEqualTo(record.toString());
+  }
+
+  @Test
+  void convert_withUnknownEnumValue_shouldKeepItAsAdditionalField() {
+    String message = withCheckSum("8=FIX.4.4|9=80|35=D|49=S|56=T|34=7|"
+        + "52=20231208-12:34:56|11=Order123|54=Z|55=AAPL|");
+
+    GenericRecord record = converter.convert(message, dictionary);
+
+    assertThat(record.get("Side")).isNull();
+    assertThat(record.get(TypedSchemaGenerator.ADDITIONAL_FIELDS)).isEqualTo(Map.of("54", "Z"));
+  }
+
+  @Test
+  void convert_withInvalidValues_shouldThrow() {
+    String[] messages = {
+      withCheckSum("8=FIX.4.4|9=80|35=D|49=S|56=T|34=7|52=20231208-12:34:56|44=abc|"),
+      withCheckSum("8=FIX.4.4|9=80|35=D|49=S|56=T|34=7|52=20231208-12:34:56|44=1.123456789|"),
+      withCheckSum("8=FIX.4.4|9=80|35=D|49=S|56=T|34=7|52=2023-12-08|"),
+      withCheckSum("8=FIX.4.4|9=80|35=D|49=S|56=T|34=x|52=20231208-12:34:56|")
+    };
+
+    for (String message : messages) {
+      assertThatThrownBy(() -> converter.convert(message, dictionary))
+          .isInstanceOf(RuntimeException.class)
+          .hasMessage("Error converting FIX message to Avro");
+    }
+  }
+
+  @Test
+  void convert_withoutSchemaForMsgType_shouldThrow() {
+    String message = withCheckSum("8=FIX.4.4|9=60|35=ZZ|49=S|56=T|34=7|52=20231208-12:34:56|");
+
+    assertThatThrownBy(() -> converter.convert(message, dictionary))
+        .hasMessage("Error converting FIX message to Avro")
+        .hasRootCauseMessage("No typed schema for MsgType ZZ");
+  }
+
+  @Test
+  void convert_withSchemaParsedFromJson_shouldMatch() {
+    TypedSchemas schemas = converter.getSchemas();
+    Schema parsed = new Schema.Parser().parse(schemas.getSchema("0").toString());
+    TypedSchemas reparsed = new TypedSchemas("44", Map.of("0", parsed));
+    String message = withCheckSum("8=FIX.4.4|9=60|35=0|49=S|56=T|34=9|52=20231208-12:34:56|");
+
+    GenericRecord expected = converter.convert(message, dictionary);
+    GenericRecord actual = new TypedRecordConverter(reparsed).convert(message, dictionary);
+
+    assertThat(actual.toString()).isEqualTo(expected.toString());
+  }
+
+  @Test
+  void convert_shouldWriteNestedGroupsAsArrays() {
+    String message = withCheckSum("8=FIX.4.4|9=200|35=8|49=S|56=T|34=3|"
+        + "52=20231208-12:34:56|627=1|628=HOP1|629=20231208-12:34:55|37=O1|11=C1|17=E1|150=F|"
+        + "39=2|55=AAPL|54=1|453=2|448=P1|447=D|452=1|802=2|523=S1|803=2|523=S2|803=3|"
+        + "448=P2|447=D|452=3|151=0|14=100|6=10|");
+
+    GenericRecord record = converter.convert(message, dictionary);
+
+    List<?> hops = (List<?>) record.get("NoHops");
+    assertThat(hops).hasSize(1);
+    assertThat(((GenericRecord) hops.get(0)).get("HopCompID")).isEqualTo("HOP1");
+    List<?> parties = (List<?>) record.get("NoPartyIDs");
+    assertThat(parties).hasSize(2);
+    GenericRecord first = (GenericRecord) parties.get(0);
+    assertThat(first.get("PartyID")).isEqualTo("P1");
+    assertThat(first.get("PartyRole").toString()).isEqualTo("EXECUTING_FIRM");
+    List<?> subIds = (List<?>) first.get("NoPartySubIDs");
+    assertThat(subIds).hasSize(2);
+    assertThat(((GenericRecord) subIds.get(1)).get("PartySubID")).isEqualTo("S2");
+    assertThat(((GenericRecord) subIds.get(1)).get("PartySubIDType")).isEqualTo(3);
+    GenericRecord second = (GenericRecord) parties.get(1);
+    assertThat(second.get("PartyID")).isEqualTo("P2");
+    assertThat((List<?>) second.get("NoPartySubIDs")).isEmpty();
+    assertThat((List<?>) record.get("NoContraBrokers")).isEmpty();
+    assertThat((Map<?, ?>) record.get(TypedSchemaGenerator.ADDITIONAL_FIELDS)).isEmpty();
+  }
+
+  @Test
+  void convert_largeSnapshot_shouldKeepEveryEntry() throws IOException {
+    StringBuilder body = new StringBuilder("8=FIX.4.4|9=100|35=W|49=S|56=T|34=2|"
+        + "52=20231208-12:34:56|55=AAPL|268=5000|");
+    for (int i = 0; i < 5000; i++) {
+      body.append("269=").append(i % 2).append("|270=").append(100 + i).append(".25|271=")
+          .append(i + 1).append('|');
+    }
+
+    GenericRecord record = converter.convert(withCheckSum(body.toString()), dictionary);
+
+    List<?> entries = (List<?>) record.get("NoMDEntries");
+    assertThat(entries).hasSize(5000);
+    GenericRecord last = (GenericRecord) entries.get(4999);
+    assertThat(last.get("MDEntryType").toString()).isEqualTo("OFFER");
+    assertThat(decimal(last, "MDEntryPx")).isEqualByComparingTo("5099.25");
+
+    byte[] encoded = AvroSerializer.getInstance().serialize(record);
+    GenericRecord read = new GenericDatumReader<GenericRecord>(record.getSchema())
+        .read(null, DecoderFactory.get().binaryDecoder(encoded, null));
+    assertThat((List<?>) read.get("NoMDEntries")).hasSize(5000);
+  }
+
+  private static BigDecimal decimal(GenericRecord record, String field) {
+    Schema schema = record.getSchema().getField(field).schema().getTypes().get(1);
+    return new Conversions.DecimalConversion().fromBytes(
+        (ByteBuffer) record.get(field), schema, schema.getLogicalType());
+  }
+}
@@ -0,0 +1,197 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.darioajr.converter.models.FixDefaultVersion;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.junit.jupiter.api.Test;
+
+class TypedSchemaGeneratorTest {
+
+  private final TypedSchemaGenerator generator = new TypedSchemaGenerator();
+
+  @Test
+  void generate_shouldCreateOneRecordPerMessageType() throws IOException {
+    TypedSchemas schemas = generator.generate(FixDefaultVersion.FIX_4_4);
+
+    assertThat(schemas.getVersion()).isEqualTo("44");
+    assertThat(schemas.size()).isEqualTo(schemas.getMsgTypes().size()).isGreaterThan(90);
+    assertThat(schemas.getMsgTypes()).contains("0", "D", "8", "W");
+    assertThat(schemas.getSchema("ZZ")).isNull();
+
+    Schema order = schemas.getSchema("D");
+    assertThat(order.getFullName()).isEqualTo("io.github.darioajr.converter.fix44.NewOrderSingle");
+    assertThat(order.getProp(TypedSchemaGenerator.MSG_TYPE_PROP)).isEqualTo("D");
+    assertThat(order.getFields().get(0).name()).isEqualTo("BeginString");
+    assertThat(order.getField("CheckSum")).isNotNull();
+    assertThat(order.getField(TypedSchemaGenerator.ADDITIONAL_FIELDS).schema().getType())
+        .isEqualTo(Schema.Type.MAP);
+  }
+
+  @Test
+  void generate_shouldTypeFieldsFromDictionary() throws IOException {
+    Schema order = generator.generate(FixDefaultVersion.FIX_4_4).getSchema("D");
+
+    assertThat(order.getField("ClOrdID").getObjectProp(TypedSchemaGenerator.TAG_PROP))
+        .isEqualTo(11);
+    assertThat(valueType(order, "ClOrdID").getType()).isEqualTo(Schema.Type.STRING);
+    assertThat(valueType(order, "MsgSeqNum").getType()).isEqualTo(Schema.Type.LONG);
+    assertThat(valueType(order, "BodyLength").getType()).isEqualTo(Schema.Type.INT);
+    assertThat(valueType(order, "Price").getLogicalType())
+        .isEqualTo(LogicalTypes.decimal(TypedSchemaGenerator.DEFAULT_DECIMAL_PRECISION,
+            TypedSchemaGenerator.DEFAULT_DECIMAL_SCALE));
+    assertThat(valueType(order, "SendingTime").getLogicalType())
+        .isEqualTo(LogicalTypes.timestampMicros());
+    assertThat(valueType(order, "SettlDate").getLogicalType()).isEqualTo(LogicalTypes.date());
+    assertThat(valueType(order, "PossDupFlag").getType()).isEqualTo(Schema.Type.BOOLEAN);
+    assertThat(valueType(order, "ExecInst").getType()).isEqualTo(Schema.Type.STRING);
+
+    Schema side = valueType(order, "Side");
+    assertThat(side.getType()).isEqualTo(Schema.Type.ENUM);
+    assertThat(side.getEnumSymbols()).startsWith("BUY", "SELL");
+    assertThat(side.getObjectProp(TypedSchemaGenerator.ENUM_VALUES_PROP).toString())
+        .startsWith("[1, 2, 3");
+    assertThat(order.getField("Side").hasDefaultValue()).isTrue();
+    assertThat(order.getField("Side").schema().getTypes().get(0).getType())
+        .isEqualTo(Schema.Type.NULL);
+  }
+
+  @Test
+  void generate_shouldFlattenComponentsAndNestGroups() throws IOException {
+    Schema order = generator.generate(FixDefaultVersion.FIX_4_4).getSchema("D");
+
+    assertThat(order.getField("Symbol")).isNotNull();
+    assertThat(order.getField("PartyID")).isNull();
+
+    Schema.Field parties = order.getField("NoPartyIDs");
+    assertThat(parties.getObjectProp(TypedSchemaGenerator.TAG_PROP)).isEqualTo(453);
+    assertThat(parties.schema().getType()).isEqualTo(Schema.Type.ARRAY);
+    Schema party = parties.schema().getElementType();
+    assertThat(party.getName()).isEqualTo("NoPartyIDsEntry");
+    assertThat(party.getFields().get(0).name()).isEqualTo("PartyID");
+    assertThat(valueType(party, "PartyRole").getType()).isEqualTo(Schema.Type.ENUM);
+    assertThat(party.getField(TypedSchemaGenerator.ADDITIONAL_FIELDS)).isNotNull();
+    assertThat(party.getField("NoPartySubIDs").schema().getElementType().getField("PartySubID"))
+        .isNotNull();
+    assertThat(order.getField("NoHops").schema().getElementType().getField("HopCompID"))
+        .isNotNull();
+  }
+
+  @Test
+  void generate_withGroupDefinedTwice_shouldReuseOrRenameEntry() throws IOException {
+    String xml = "<fix major=\"4\" minor=\"4\"><header/><trailer/><messages>"
+        + "<message name=\"Custom\" msgtype=\"U1\" msgcat=\"app\">"
+        + "<component name=\"Legs\" required=\"N\"/>"
+        + "<group name=\"NoSides\" required=\"N\"><field name=\"Side\" required=\"N\"/>"
+        + "<component name=\"Legs\" required=\"N\"/>"
+        + "<group name=\"NoFills\" required=\"N\"><field name=\"FillQty\" required=\"N\"/>"
+        + "</group></group>"
+        + "<group name=\"NoFills\" required=\"N\"><field name=\"FillPx\" required=\"N\"/>"
+        + "</group></message></messages><components><component name=\"Legs\">"
+        + "<group name=\"NoLegs\" required=\"N\"><field name=\"LegSymbol\" required=\"N\"/>"
+        + "</group></component></components><fields>"
+        + "<field number=\"54\" name=\"Side\" type=\"CHAR\"/>"
+        + "<field number=\"555\" name=\"NoLegs\" type=\"NUMINGROUP\"/>"
+        + "<field number=\"600\" name=\"LegSymbol\" type=\"STRING\"/>"
+        + "<field number=\"552\" name=\"NoSides\" type=\"NUMINGROUP\"/>"
+        + "<field number=\"5000\" name=\"NoFills\" type=\"NUMINGROUP\"/>"
+        + "<field number=\"5001\" name=\"FillQty\" type=\"QTY\"/>"
+        + "<field number=\"5002\" name=\"FillPx\" type=\"PRICE\"/></fields></fix>";
+
+    Schema custom = generator.generate(
+        new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), "custom").getSchema("U1");
+
+    Schema side = custom.getField("NoSides").schema().getElementType();
+    assertThat(side.getField("NoLegs").schema().getElementType())
+        .isSameAs(custom.getField("NoLegs").schema().getElementType());
+    assertThat(side.getField("NoFills").schema().getElementType().getName())
+        .isEqualTo("NoFillsEntry");
+    Schema fills = custom.getField("NoFills").schema().getElementType();
+    assertThat(fills.getName()).isEqualTo("NoFillsEntry2");
+    assertThat(fills.getField("FillPx")).isNotNull();
+    assertThat(new Schema.Parser().parse(custom.toString())).isEqualTo(custom);
+  }
+
+  @Test
+  void generate_withoutHeaderSection_shouldUseStandardHeader() throws IOException {
+    TypedSchemas schemas = generator.generate(FixDefaultVersion.FIX_5_0_SP2);
+
+    Schema report = schemas.getSchema("8");
+    assertThat(report.getNamespace()).isEqualTo("io.github.darioajr.converter.fix50sp2");
+    assertThat(report.getField("SenderCompID")).isNotNull();
+    assertThat(report.getField("ApplVerID")).isNotNull();
+    assertThat(report.getField("CheckSum")).isNotNull();
+    assertThat(new Schema.Parser().parse(report.toString())).isEqualTo(report);
+  }
+
+  @Test
+  void generate_withOptions_shouldApplyNamespaceAndDecimal() throws IOException {
+    TypedSchemas schemas = TypedSchemaGenerator.builder()
+        .namespace("com.example.fix")
+        .decimal(18, 4)
+        .build()
+        .generate(FixDefaultVersion.FIX_4_4);
+
+    Schema order = schemas.getSchema("D");
+    assertThat(order.getNamespace()).isEqualTo("com.example.fix");
+    assertThat(valueType(order, "OrderQty").getLogicalType())
+        .isEqualTo(LogicalTypes.decimal(18, 4));
+    assertThatThrownBy(() -> TypedSchemaGenerator.builder().decimal(4, 5))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void generate_withDuplicateEnumDescriptions_shouldKeepSymbolsUnique() throws IOException {
+    String xml = "<fix major=\"4\" minor=\"4\"><header/><trailer/><messages>"
+        + "<message name=\"Custom\" msgtype=\"U1\" msgcat=\"app\">"
+        + "<field name=\"Flavor\" required=\"N\"/></message></messages><components/>"
+        + "<fields><field number=\"5001\" name=\"Flavor\" type=\"CHAR\">"
+        + "<value enum=\"A\" description=\"SAME\"/><value enum=\"B\" description=\"SAME\"/>"
+        + "<value enum=\"C\" description=\"1st choice\"/></field></fields></fix>";
+
+    try (InputStream in = new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8))) {
+      Schema custom = generator.generate(in, "custom").getSchema("U1");
+
+      assertThat(valueType(custom, "Flavor").getEnumSymbols())
+          .containsExactly("SAME", "SAME_B", "_1st_choice");
+    }
+  }
+
+  @Test
+  void generate_withUnknownField_shouldThrow() {
+    String xml = "<fix major=\"4\" minor=\"4\"><messages>"
+        + "<message name=\"Custom\" msgtype=\"U1\" msgcat=\"app\">"
+        + "<field name=\"Missing\" required=\"N\"/></message></messages><fields/></fix>";
+
+    assertThatThrownBy(() -> generator.generate(
+        new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), "custom"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Field not defined in the dictionary: Missing");
+  }
+
+  private static Schema valueType(Schema record, String field) {
+    return record.getField(field).schema().getTypes().get(1);
+  }
+}
@@ -0,0 +1,224 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.sink;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.darioajr.converter.models.FixDefaultVersion;
+import io.github.darioajr.converter.registry.AvroSchemaRegistry;
+import io.github.darioajr.converter.utils.AvroUtils;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.avro.Schema;
+import org.apache.avro.file.DataFileConstants;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Implementation of AvroContainerFileSinkTest.
+ *
+ */
+class AvroContainerFileSinkTest {
+
+  private static final String RAW_MESSAGE = "8=FIX.4.4|9=123|35=D|49=SenderCompID|"
+      + "56=TargetCompID|34=1|52=20231208-12:34:56|11=Order123|54=1|38=100|55=AAPL|"
+      + "44=50.00|10=242|";
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void append_shouldWriteReadableContainerFile() throws IOException {
+    GenericRecord expected = AvroUtils.convertFixToAvro(RAW_MESSAGE, FixDefaultVersion.FIX_4_4);
+
+    for (String codec : List.of("null", "deflate", "snappy", "zstandard", "xz")) {
+      Path file;
+      try (AvroContainerFileSink sink = AvroContainerFileSink
+          .builder(directory, FixDefaultVersion.FIX_4_4).filePrefix(codec).codec(codec).build()) {
+        for (int i = 0; i < 10; i++) {
+          sink.append(RAW_MESSAGE);
+        }
+        file = sink.getFiles().get(0);
+      }
+
+      try (DataFileReader<GenericRecord> reader = open(file)) {
+        assertThat(reader.getMetaString(DataFileConstants.CODEC)).isEqualTo(codec);
+        assertThat(reader.getMetaString(AvroContainerFileSink.FIX_VERSION_META))
+            .isEqualTo("44");
+        List<GenericRecord> records = new ArrayList<>();
+        reader.forEach(records::add);
+        assertThat(records).hasSize(10);
+        assertThat(normalize(records.get(9))).isEqualTo(normalize(expected));
+      }
+    }
+  }
+
+  @Test
+  void append_shouldRollOverByRecordCount() throws IOException {
+    try (AvroContainerFileSink sink = AvroContainerFileSink
+        .builder(directory, FixDefaultVersion.FIX_4_4)
+        .filePrefix("orders").maxRecordsPerFile(4).build()) {
+      for (int i = 0; i < 10; i++) {
+        sink.append(RAW_MESSAGE);
+      }
+      assertThat(sink.getRecordCount()).isEqualTo(10);
+      assertThat(sink.getFiles()).extracting(path -> path.getFileName().toString())
+          .containsExactly("orders-00000.avro", "orders-00001.avro", "orders-00002.avro");
+    }
+
+    assertThat(countRecords(directory.resolve("orders-00000.avro"))).isEqualTo(4);
+    assertThat(countRecords(directory.resolve("orders-00002.avro"))).isEqualTo(2);
+  }
+
+  @Test
+  void append_afterReopen_shouldContinueSequence() throws IOException {
+    try (AvroContainerFileSink sink = AvroContainerFileSink
+        .builder(directory, FixDefaultVersion.FIX_4_4)
+        .filePrefix("orders").maxRecordsPerFile(1).build()) {
+      sink.append(RAW_MESSAGE);
+      sink.append(RAW_MESSAGE);
+    }
+    Files.createFile(directory.resolve("orders-archive-00099.avro"));
+    Files.createFile(directory.resolve("trades-00042.avro"));
+
+    try (AvroContainerFileSink sink = AvroContainerFileSink
+        .builder(directory, FixDefaultVersion.FIX_4_4).filePrefix("orders").build()) {
+      sink.append(RAW_MESSAGE);
+      assertThat(sink.getFiles()).extracting(path -> path.getFileName().toString())
+          .containsExactly("orders-00002.avro");
+    }
+
+    assertThat(countRecords(directory.resolve("orders-00000.avro"))).isEqualTo(1);
+    assertThat(countRecords(directory.resolve("orders-00002.avro"))).isEqualTo(1);
+  }
+
+  @Test
+  void append_shouldRollOverBySize() throws IOException {
+    try (AvroContainerFileSink sink = AvroContainerFileSink
+        .builder(directory, FixDefaultVersion.FIX_4_4)
+        .syncInterval(256).maxFileBytes(1024).build()) {
+      for (int i = 0; i < 100; i++) {
+        sink.append(RAW_MESSAGE);
+      }
+    }
+
+    List<Path> files = listFiles();
+    assertThat(files.size()).isGreaterThan(1);
+    long total = 0;
+    for (Path file : files) {
+      assertThat(Files.size(file)).isLessThan(1024 + 512);
+      total += countRecords(file);
+    }
+    assertThat(total).isEqualTo(100);
+  }
+
+  @Test
+  void append_withCustomSchema_shouldWriteRecords() throws IOException {
+    Schema schema = new Schema.Parser().parse(AvroSchemaRegistry.getInstance()
+        .getDefaultSchema().toString().replace("\"FixMessage\"", "\"ArchivedFixMessage\""));
+
+    try (AvroContainerFileSink sink = AvroContainerFileSink
+        .builder(directory, FixDefaultVersion.FIX_4_4).avroSchema(schema).build()) {
+      sink.append(RAW_MESSAGE);
+    }
+
+    try (DataFileReader<GenericRecord> reader = open(listFiles().get(0))) {
+      GenericRecord record = reader.next();
+      assertThat(record.getSchema().getName()).isEqualTo("ArchivedFixMessage");
+      assertThat(record.get("msgType")).hasToString("D");
+      assertThat(record.get("checkSum")).hasToString("242");
+    }
+  }
+
+  @Test
+  void append_withInvalidMessage_shouldThrowAndKeepSinkUsable() throws IOException {
+    try (AvroContainerFileSink sink = AvroContainerFileSink
+        .builder(directory, FixDefaultVersion.FIX_4_4).build()) {
+      assertThatThrownBy(() -> sink.append(RAW_MESSAGE.replace("10=242", "10=241")))
+          .isInstanceOf(RuntimeException.class);
+      sink.append(RAW_MESSAGE);
+    }
+
+    assertThat(countRecords(listFiles().get(0))).isEqualTo(1);
+  }
+
+  @Test
+  void append_afterClose_shouldThrow() throws IOException {
+    AvroContainerFileSink sink = AvroContainerFileSink
+        .builder(directory, FixDefaultVersion.FIX_4_4).build();
+    sink.close();
+
+    assertThatThrownBy(() -> sink.append(RAW_MESSAGE)).isInstanceOf(IOException.class);
+    assertThat(listFiles()).isEmpty();
+  }
+
+  @Test
+  void builder_withInvalidSettings_shouldThrow() {
+    AvroContainerFileSink.Builder builder =
+        AvroContainerFileSink.builder(directory, FixDefaultVersion.FIX_4_4);
+
+    assertThatThrownBy(() -> builder.syncInterval(8))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> builder.maxFileBytes(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> builder.codec("lz4"))
+        .isInstanceOf(RuntimeException.class);
+  }
+
+  private List<Path> listFiles() throws IOException {
+    try (var stream = Files.list(directory)) {
+      return stream.sorted().toList();
+    }
+  }
+
+  private static long countRecords(Path file) throws IOException {
+    long count = 0;
+    try (DataFileReader<GenericRecord> reader = open(file)) {
+      while (reader.hasNext()) {
+        reader.next();
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static Map<String, String> normalize(GenericRecord record) {
+    Map<String, String> values = new TreeMap<>();
+    for (Schema.Field field : record.getSchema().getFields()) {
+      Object value = record.get(field.pos());
+      if (value instanceof Map<?, ?> map) {
+        map.forEach((key, item) -> values.put(field.name() + "." + key, item.toString()));
+      } else {
+        values.put(field.name(), String.valueOf(value));
+      }
+    }
+    return values;
+  }
+
+  private static DataFileReader<GenericRecord> open(Path file) throws IOException {
+    return new DataFileReader<>(file.toFile(), new GenericDatumReader<>());
+  }
+}
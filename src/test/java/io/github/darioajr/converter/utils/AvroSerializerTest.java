@@ -0,0 +1,127 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.darioajr.converter.models.FixDefaultVersion;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Implementation of AvroSerializerTest.
+ *
+ */
+class AvroSerializerTest {
+
+  private static final String RAW_MESSAGE = "8=FIX.4.4|9=123|35=D|49=SenderCompID|"
+      + "56=TargetCompID|34=1|52=20231208-12:34:56|11=Order123|54=1|38=100|55=AAPL|"
+      + "44=50.00|10=242|";
+
+  private final AvroSerializer serializer = new AvroSerializer();
+  private GenericRecord record;
+
+  @BeforeEach
+  void setUp() {
+    record = AvroUtils.convertFixToAvro(RAW_MESSAGE, FixDefaultVersion.FIX_4_4);
+  }
+
+  @Test
+  void serialize_shouldMatchPlainDatumWriter() throws IOException {
+    ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(expected, null);
+    new GenericDatumWriter<GenericRecord>(record.getSchema()).write(record, encoder);
+    encoder.flush();
+
+    assertThat(serializer.serialize(record)).isEqualTo(expected.toByteArray());
+  }
+
+  @Test
+  void serialize_repeatedly_shouldNotLeakPreviousBytes() throws IOException {
+    byte[] first = serializer.serialize(record);
+    GenericRecord smaller = GenericData.get().deepCopy(record.getSchema(), record);
+    smaller.put("fields", Collections.emptyMap());
+
+    byte[] second = serializer.serialize(smaller);
+
+    assertThat(second.length).isLessThan(first.length);
+    assertThat(serializer.serialize(record)).isEqualTo(first);
+  }
+
+  @Test
+  void serialize_afterFailure_shouldRecover() throws IOException {
+    byte[] expected = serializer.serialize(record);
+    GenericRecord broken = GenericData.get().deepCopy(record.getSchema(), record);
+    broken.put("checkSum", null);
+
+    assertThatThrownBy(() -> serializer.serialize(broken)).isInstanceOf(RuntimeException.class);
+    assertThat(serializer.serialize(record)).isEqualTo(expected);
+  }
+
+  @Test
+  void getWriter_shouldReuseWriterPerSchema() {
+    assertThat(serializer.getWriter(record.getSchema()))
+        .isSameAs(serializer.getWriter(record.getSchema()));
+  }
+
+  @Test
+  void serialize_toByteBuffer_shouldAdvancePosition() throws IOException {
+    byte[] expected = serializer.serialize(record);
+    ByteBuffer target = ByteBuffer.allocate(expected.length + 8);
+    target.put((byte) 7);
+
+    int written = serializer.serialize(record, record.getSchema(), target);
+
+    assertThat(written).isEqualTo(expected.length);
+    assertThat(target.position()).isEqualTo(expected.length + 1);
+    assertThat(Arrays.copyOfRange(target.array(), 1, expected.length + 1)).isEqualTo(expected);
+  }
+
+  @Test
+  void serialize_toSmallByteBuffer_shouldThrowAndLeaveBufferUntouched() {
+    ByteBuffer target = ByteBuffer.allocate(4);
+
+    assertThatThrownBy(() -> serializer.serialize(record, record.getSchema(), target))
+        .isInstanceOf(BufferOverflowException.class);
+    assertThat(target.position()).isZero();
+  }
+
+  @Test
+  void serialize_toOutputStream_shouldMatchByteArray() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    serializer.serialize(record, record.getSchema(), out);
+    serializer.serialize(record, record.getSchema(), out);
+
+    byte[] single = serializer.serialize(record);
+    assertThat(out.size()).isEqualTo(single.length * 2);
+    assertThat(Arrays.copyOfRange(out.toByteArray(), single.length, out.size()))
+        .isEqualTo(single);
+  }
+}
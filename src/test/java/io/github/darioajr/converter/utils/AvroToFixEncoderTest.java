@@ -0,0 +1,150 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.utils;
+
+import static io.github.darioajr.converter.core.FixTestMessages.withCheckSum;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.darioajr.converter.models.FixDefaultVersion;
+import io.github.darioajr.converter.parser.AvroSchemaReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DecoderFactory;
+import org.junit.jupiter.api.Test;
+
+class AvroToFixEncoderTest {
+
+  private static final String NEW_ORDER_SINGLE = withTrailer("8=FIX.4.4|9=0|35=D|"
+      + "49=SenderCompID|56=TargetCompID|34=1|52=20231208-12:34:56|11=Order123|38=100|"
+      + "44=50.00|54=1|55=AAPL|");
+
+  private final AvroToFixEncoder encoder = new AvroToFixEncoder((byte) '|');
+
+  @Test
+  void encode_shouldRebuildMessageWithBodyLengthAndCheckSum() {
+    GenericRecord record = AvroUtils.convertFixToAvro(NEW_ORDER_SINGLE, FixDefaultVersion.FIX_4_4);
+
+    byte[] fix = encoder.toByteArray(record);
+
+    assertThat(new String(fix, StandardCharsets.ISO_8859_1)).isEqualTo(NEW_ORDER_SINGLE);
+    assertThat(AvroUtils.convertFixToAvro(
+        new String(fix, StandardCharsets.ISO_8859_1), FixDefaultVersion.FIX_4_4))
+        .isEqualTo(record);
+  }
+
+  @Test
+  void encode_fromDecodedAvroBinary_shouldMatchStringRecord() throws IOException {
+    byte[] avro = AvroUtils.convertFixToAvroByteArray(NEW_ORDER_SINGLE,
+        FixDefaultVersion.FIX_4_4);
+    Schema schema = AvroSchemaReader.readDefaultAvroSchema();
+    GenericRecord decoded = new GenericDatumReader<GenericRecord>(schema)
+        .read(null, DecoderFactory.get().binaryDecoder(avro, null));
+
+    int length = encoder.encode(decoded);
+
+    assertThat(new String(encoder.getBuffer(), encoder.getOffset(), length,
+        StandardCharsets.ISO_8859_1)).isEqualTo(NEW_ORDER_SINGLE);
+  }
+
+  @Test
+  void encode_withSoh_shouldBeParsedByQuickfixj() {
+    Map<String, String> fields = new LinkedHashMap<>(Map.of("11", "Order123", "54", "1"));
+    fields.put("58", "Olá");
+    GenericRecord record = record(fields);
+
+    byte[] fix = new AvroToFixEncoder().toByteArray(record);
+    String raw = new String(fix, StandardCharsets.ISO_8859_1);
+
+    assertThat(raw).contains("\u000158=Olá\u0001").doesNotContain("|");
+    assertThat(fix).contains((byte) 0xE1);
+    assertThat(AvroUtils.convertFixToAvro(raw, FixDefaultVersion.FIX_4_4).get("fields"))
+        .isEqualTo(record.get("fields"));
+  }
+
+  @Test
+  void encode_shouldSkipRebuiltTagsAndGrowBuffer() {
+    GenericRecord record = record(new LinkedHashMap<>(Map.of("9", "1", "10", "000", "35", "X")));
+    Map<String, String> fields = new LinkedHashMap<>();
+    for (int tag = 5000; tag < 7000; tag++) {
+      fields.put(String.valueOf(tag), "value" + tag);
+    }
+
+    String small = new String(encoder.toByteArray(record), StandardCharsets.ISO_8859_1);
+    record.put("fields", fields);
+    int length = encoder.encode(record);
+    ByteBuffer target = ByteBuffer.allocate(length + 3).put(new byte[3]);
+    encoder.encode(record, target);
+    String large = new String(target.array(), 3, length, StandardCharsets.ISO_8859_1);
+
+    assertThat(small).isEqualTo(withTrailer("8=FIX.4.4|9=0|35=D|49=S|56=T|34=7|"
+        + "52=20231208-12:34:56|"));
+    assertThat(encoder.getBuffer().length).isGreaterThanOrEqualTo(length);
+    assertThat(large).isEqualTo(withTrailer(large.substring(0, large.indexOf("|10=") + 1)));
+    assertThat(large).contains("|6999=value6999|");
+  }
+
+  @Test
+  void encode_withInvalidRecord_shouldThrow() {
+    GenericRecord missingSender = record(Map.of());
+    missingSender.put("senderCompID", "");
+    GenericRecord invalidTag = record(Map.of("5x", "1"));
+
+    assertThatThrownBy(() -> encoder.encode(missingSender))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("The required field is missing: senderCompID");
+    assertThatThrownBy(() -> encoder.encode(invalidTag))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid tag in the fields map: 5x");
+  }
+
+  private static GenericRecord record(Map<String, String> fields) {
+    try {
+      GenericRecord record = new GenericData.Record(AvroSchemaReader.readDefaultAvroSchema());
+      record.put("beginString", "FIX.4.4");
+      record.put("bodyLength", "0");
+      record.put("msgType", "D");
+      record.put("senderCompID", "S");
+      record.put("targetCompID", "T");
+      record.put("msgSeqNum", "7");
+      record.put("sendingTime", "20231208-12:34:56");
+      record.put("fields", fields);
+      record.put("checkSum", "000");
+      return record;
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Replaces the BodyLength(9) of a message and appends its CheckSum(10).
+   */
+  private static String withTrailer(String message) {
+    int bodyStart = message.indexOf('|', message.indexOf("|9=") + 1) + 1;
+    String body = message.substring(bodyStart);
+    String fixed = message.substring(0, message.indexOf("|9=")) + "|9=" + body.length() + "|"
+        + body;
+    return withCheckSum(fixed);
+  }
+}
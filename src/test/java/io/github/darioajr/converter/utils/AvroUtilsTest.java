@@ -23,7 +23,9 @@ import static org.mockito.Mockito.mockStatic;
 
 import io.github.darioajr.converter.models.FixDefaultVersion;
 import io.github.darioajr.converter.parser.AvroSchemaReader;
+import io.github.darioajr.converter.registry.AvroSchemaRegistry;
 import java.io.IOException;
+import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericRecord;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
@@ -81,6 +83,7 @@ class AvroUtilsTest {
   @Test
   void convertFixToAvroByteArray_withIoException_shouldThrowException() throws IOException {
     String rawMessage = "8=FIX.4.4|35=D|49=SENDER|56=TARGET|34=1|52=20240210-12:30:00|10=003|";
+    AvroSchemaRegistry.getInstance().evictAll();
 
     try (MockedStatic<AvroSchemaReader> schemaReaderMock = mockStatic(AvroSchemaReader.class)) {
       schemaReaderMock.when(() -> AvroSchemaReader.readDefaultAvroSchema())
@@ -92,4 +95,19 @@ class AvroUtilsTest {
       .hasMessageContaining("Error converting FIX message to Avro");
     }
   }
+
+  @Test
+  void convertFixToAvroByteArray_withInjectedSchema_shouldMatchDefault() throws IOException {
+    String rawMessage = "8=FIX.4.4|9=123|35=D|49=SenderCompID|56=TargetCompID|"
+        + "34=1|52=20231208-12:34:56|11=Order123|54=1|38=100|55=AAPL|44=50.00|10=242|";
+    Schema avroSchema = AvroSchemaRegistry.getInstance().getDefaultSchema();
+
+    byte[] injected = AvroUtils.convertFixToAvroByteArray(rawMessage, FixDefaultVersion.FIX_4_4,
+        avroSchema);
+    byte[] defaults = AvroUtils.convertFixToAvroByteArray(rawMessage, FixDefaultVersion.FIX_4_4);
+
+    assertThat(injected).isEqualTo(defaults);
+    assertThat(AvroUtils.convertFixToAvro(rawMessage, FixDefaultVersion.FIX_4_4, avroSchema)
+        .getSchema()).isSameAs(avroSchema);
+  }
 }
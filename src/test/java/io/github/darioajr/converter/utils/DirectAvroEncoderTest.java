@@ -0,0 +1,141 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.utils;
+
+import static io.github.darioajr.converter.core.FixTestMessages.withCheckSum;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.darioajr.converter.models.FixCustomVersion;
+import io.github.darioajr.converter.models.FixDefaultVersion;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Implementation of DirectAvroEncoderTest.
+ *
+ */
+class DirectAvroEncoderTest {
+
+  private static final String NEW_ORDER_SINGLE = "8=FIX.4.4|9=123|35=D|49=SenderCompID|"
+      + "56=TargetCompID|34=1|52=20231208-12:34:56|11=Order123|54=1|38=100|55=AAPL|"
+      + "44=50.00|10=242|";
+
+  private final DirectAvroEncoder encoder = new DirectAvroEncoder();
+
+  @Test
+  void encode_shouldMatchQuickfixjPath() throws IOException {
+    String[] messages = {
+      NEW_ORDER_SINGLE,
+      withCheckSum("8=FIX.4.4|9=200|35=8|49=S|56=T|115=OBO|34=3|52=20231208-12:34:56|37=O1|"
+          + "11=C1|17=E1|150=F|39=2|55=AAPL|54=1|453=2|448=P1|447=D|452=1|802=1|523=S1|803=2|"
+          + "448=P2|447=D|452=3|38=100|151=0|14=100|6=10|999=x|44=01.50|"),
+      withCheckSum("8=FIX.4.4|9=150|35=W|49=S|56=T|34=2|52=20231208-12:34:56|55=AAPL|"
+          + "262=req1|268=02|269=0|270=10.5|271=100|269=1|270=10.6|271=200|"),
+      withCheckSum("8=FIX.4.4|9=90|35=XX|49=S|56=T|34=2|52=20231208-12:34:56|58=Olá|"
+          + "268=2|269=0|"),
+      withCheckSum("8=FIX.4.4|9=60|35=0|49=S|56=T|34=9|52=20231208-12:34:56|")
+    };
+
+    for (String message : messages) {
+      byte[] expected = AvroUtils.convertFixToAvroByteArray(message, FixDefaultVersion.FIX_4_4);
+
+      assertThat(encoder.encode(message, FixDefaultVersion.FIX_4_4)).isEqualTo(expected);
+      byte[] bytes = message.replace('|', '\u0001').getBytes(StandardCharsets.ISO_8859_1);
+      assertThat(encoder.encode(bytes, 0, bytes.length, FixDefaultVersion.FIX_4_4))
+          .isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void encode_withDictionaryWithoutHeaderSection_shouldMatchQuickfixjPath() throws IOException {
+    String message = withCheckSum("8=FIX.5.0SP2|9=120|35=8|49=S|56=T|34=3|"
+        + "52=20231208-12:34:56|37=O1|11=C1|17=E1|150=F|39=2|55=AAPL|54=1|453=1|448=P1|"
+        + "447=D|452=1|151=0|14=100|6=10|");
+
+    assertThat(encoder.encode(message, FixDefaultVersion.FIX_5_0_SP2))
+        .isEqualTo(AvroUtils.convertFixToAvroByteArray(message, FixDefaultVersion.FIX_5_0_SP2));
+  }
+
+  @Test
+  void encode_withCustomDictionary_shouldMatchQuickfixjPath() throws IOException {
+    FixCustomVersion custom = new FixCustomVersion(FixDefaultVersion.FIX_4_4.getVersion(),
+        getClass().getClassLoader().getResource("schemas/FIX44_custom.xml").getPath());
+    String message = "8=FIX.4.4|9=123|35=XX|49=SenderCompID|56=TargetCompID|"
+        + "34=1|52=20231208-12:34:56|11=Order123|54=1|38=100|55=AAPL|44=50.00|10=94|";
+
+    assertThat(encoder.encode(message, custom))
+        .isEqualTo(AvroUtils.convertFixToAvroByteArray(message, custom));
+  }
+
+  @Test
+  void encode_intoEncoder_shouldConcatenateRecords() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BinaryEncoder binaryEncoder = EncoderFactory.get().binaryEncoder(out, null);
+    byte[] raw = ("xx" + NEW_ORDER_SINGLE).getBytes(StandardCharsets.US_ASCII);
+
+    encoder.encode(raw, 2, raw.length - 2, FixDefaultVersion.FIX_4_4, binaryEncoder);
+    encoder.encode(NEW_ORDER_SINGLE, FixDefaultVersion.FIX_4_4, binaryEncoder);
+    binaryEncoder.flush();
+
+    byte[] single = encoder.encode(NEW_ORDER_SINGLE, FixDefaultVersion.FIX_4_4);
+    assertThat(out.size()).isEqualTo(single.length * 2);
+  }
+
+  @Test
+  void encode_withWrongCheckSum_shouldThrow() {
+    String message = NEW_ORDER_SINGLE.replace("10=242", "10=241");
+
+    assertThatThrownBy(() -> encoder.encode(message, FixDefaultVersion.FIX_4_4))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessageContaining("Error converting FIX message to Avro")
+        .hasRootCauseMessage("Expected CheckSum=242, Received CheckSum=241");
+  }
+
+  @Test
+  void encode_withMissingHeaderField_shouldThrow() {
+    String message = withCheckSum("8=FIX.4.4|9=10|35=D|56=T|34=1|52=20231208-12:34:56|55=X|");
+
+    assertThatThrownBy(() -> encoder.encode(message, FixDefaultVersion.FIX_4_4))
+        .isInstanceOf(RuntimeException.class)
+        .hasRootCauseMessage("Field not found: 49");
+  }
+
+  @Test
+  void encode_withDuplicateBodyField_shouldThrow() {
+    String message = withCheckSum("8=FIX.4.4|9=10|35=D|49=S|56=T|34=1|"
+        + "52=20231208-12:34:56|55=AAPL|55=MSFT|");
+
+    assertThatThrownBy(() -> encoder.encode(message, FixDefaultVersion.FIX_4_4))
+        .isInstanceOf(RuntimeException.class)
+        .hasRootCauseMessage("Tag appears more than once, field=55");
+  }
+
+  @Test
+  void encode_withGroupNotStartingWithDelimiter_shouldThrow() {
+    String message = withCheckSum("8=FIX.4.4|9=10|35=W|49=S|56=T|34=1|"
+        + "52=20231208-12:34:56|55=AAPL|268=1|270=10.5|269=0|");
+
+    assertThatThrownBy(() -> encoder.encode(message, FixDefaultVersion.FIX_4_4))
+        .isInstanceOf(RuntimeException.class)
+        .hasRootCauseMessage("The group 268 must set the delimiter field 269");
+  }
+}
@@ -18,7 +18,9 @@ package io.github.darioajr.converter.utils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
+import io.github.darioajr.converter.parser.FixFieldMap;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 import quickfix.Message;
@@ -52,4 +54,21 @@ public class FixUtilsTest {
     assertEquals("D", fieldsMap.get("35"));
     assertEquals("AAPL", fieldsMap.get("55"));
   }
+
+  @Test
+  public void testGetFields() throws Exception {
+    Message message = new Message();
+    message.getHeader().setString(35, "D");
+    message.setString(55, "AAPL");
+    message.setString(5001, "udf");
+    FixFieldMap fields = new FixFieldMap();
+
+    FixUtils.getFields(message.getHeader(), fields);
+    assertSame(fields, FixUtils.getFields(message, fields));
+
+    assertEquals(3, fields.size());
+    assertEquals("D", fields.get(35));
+    assertEquals("AAPL", fields.get(55));
+    assertEquals("udf", fields.get(5001));
+  }
 }
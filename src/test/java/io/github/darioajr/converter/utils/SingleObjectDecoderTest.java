@@ -0,0 +1,155 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package io.github.darioajr.converter.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.darioajr.converter.registry.FingerprintSchemaStore;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.AvroTypeException;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BadHeaderException;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.message.MissingSchemaException;
+import org.junit.jupiter.api.Test;
+
+class SingleObjectDecoderTest {
+
+  private static final Schema V1 = SchemaBuilder.record("Execution").fields()
+      .requiredString("orderId")
+      .requiredString("symbol")
+      .name("fields").type().map().values().stringType().noDefault()
+      .endRecord();
+
+  private static final Schema V2 = SchemaBuilder.record("Execution").fields()
+      .requiredString("orderId")
+      .name("fields").type().map().values().stringType().noDefault()
+      .name("venue").type().stringType().stringDefault("XNYS")
+      .endRecord();
+
+  private final SingleObjectEncoder encoder = SingleObjectEncoder.getInstance();
+
+  @Test
+  void encode_shouldMatchAvroBinaryMessageEncoder() throws IOException {
+    GenericRecord record = v1Record();
+    byte[] expected = new BinaryMessageEncoder<GenericRecord>(GenericData.get(), V1)
+        .encode(record).array();
+
+    assertThat(encoder.encode(record)).isEqualTo(expected);
+    ByteBuffer buffer = ByteBuffer.allocate(expected.length + 4).position(4);
+    assertThat(encoder.encode(record, buffer)).isEqualTo(expected.length);
+    assertThat(buffer.position()).isEqualTo(expected.length + 4);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    encoder.encode(record, out);
+    assertThat(out.toByteArray()).isEqualTo(expected);
+    assertThat(encoder.getHeader(V1)).hasSize(SingleObjectEncoder.HEADER_LENGTH);
+
+    BinaryMessageDecoder<GenericRecord> avroDecoder =
+        new BinaryMessageDecoder<>(GenericData.get(), V1);
+    assertThat(avroDecoder.decode(encoder.encode(record))).isEqualTo(record);
+  }
+
+  @Test
+  void decode_withReaderSchema_shouldRoundTrip() throws IOException {
+    GenericRecord record = v1Record();
+    SingleObjectDecoder decoder = new SingleObjectDecoder(V1);
+    byte[] bytes = encoder.encode(record);
+
+    assertThat(decoder.decode(bytes)).isEqualTo(record);
+    assertThat(SingleObjectDecoder.readFingerprint(bytes, 0, bytes.length))
+        .isEqualTo(FingerprintSchemaStore.fingerprint(V1));
+  }
+
+  @Test
+  void decode_withOldWriterSchema_shouldResolveToReaderSchema() throws IOException {
+    FingerprintSchemaStore store = new FingerprintSchemaStore();
+    store.addSchema(V1);
+    SingleObjectDecoder decoder = new SingleObjectDecoder(V2, store);
+    byte[] padded = new byte[64];
+    byte[] bytes = encoder.encode(v1Record());
+    System.arraycopy(bytes, 0, padded, 3, bytes.length);
+
+    GenericRecord first = decoder.decode(padded, 3, bytes.length, null);
+    GenericRecord second = decoder.decode(padded, 3, bytes.length, first);
+
+    assertThat(first.getSchema()).isEqualTo(V2);
+    assertThat(first.get("orderId").toString()).isEqualTo("O1");
+    assertThat(first.get("venue").toString()).isEqualTo("XNYS");
+    assertThat(first.getSchema().getField("symbol")).isNull();
+    assertThat(second).isSameAs(first);
+
+    GenericRecord current = new GenericData.Record(V2);
+    current.put("orderId", "O2");
+    current.put("fields", Map.of("55", "MSFT"));
+    current.put("venue", "XLON");
+    assertThat(decoder.decode(encoder.encode(current))).isEqualTo(current);
+  }
+
+  @Test
+  void decode_withUnknownFingerprint_shouldThrow() throws IOException {
+    SingleObjectDecoder decoder = new SingleObjectDecoder(V2, new FingerprintSchemaStore());
+    byte[] bytes = encoder.encode(v1Record());
+
+    assertThatThrownBy(() -> decoder.decode(bytes))
+        .isInstanceOf(MissingSchemaException.class)
+        .hasMessage("Cannot resolve schema for fingerprint: "
+            + FingerprintSchemaStore.fingerprint(V1));
+  }
+
+  @Test
+  void decode_withIncompatibleWriterSchema_shouldThrow() throws IOException {
+    Schema reader = SchemaBuilder.record("Execution").fields()
+        .requiredString("orderId")
+        .requiredString("account")
+        .endRecord();
+    SingleObjectDecoder decoder =
+        new SingleObjectDecoder(reader, new FingerprintSchemaStore(List.of(V1)));
+    byte[] bytes = encoder.encode(v1Record());
+
+    assertThatThrownBy(() -> decoder.decode(bytes))
+        .isInstanceOf(AvroTypeException.class)
+        .hasMessageContaining("cannot be read as Execution");
+  }
+
+  @Test
+  void decode_withoutHeader_shouldThrow() throws IOException {
+    SingleObjectDecoder decoder = new SingleObjectDecoder(V1);
+    byte[] raw = AvroSerializer.getInstance().serialize(v1Record());
+
+    assertThatThrownBy(() -> decoder.decode(raw))
+        .isInstanceOf(BadHeaderException.class)
+        .hasMessage("Not a single-object encoded record");
+    assertThatThrownBy(() -> decoder.decode(new byte[] {(byte) 0xC3, 0x01}))
+        .isInstanceOf(BadHeaderException.class);
+  }
+
+  private static GenericRecord v1Record() {
+    GenericRecord record = new GenericData.Record(V1);
+    record.put("orderId", "O1");
+    record.put("symbol", "AAPL");
+    record.put("fields", Map.of("54", "1"));
+    return record;
+  }
+}
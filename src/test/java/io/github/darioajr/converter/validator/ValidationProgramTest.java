@@ -0,0 +1,156 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.darioajr.converter.models.FixCustomVersion;
+import io.github.darioajr.converter.models.FixDefaultVersion;
+import io.github.darioajr.converter.parser.FixMessageParser;
+import io.github.darioajr.converter.validation.FixMessageValidator;
+import io.github.darioajr.converter.validation.ValidationProgram;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class ValidationProgramTest {
+
+  private static final String MESSAGE = "8=FIX.4.4|9=123|35=D|49=SenderCompID|56=TargetCompID|"
+      + "34=1|52=20231208-12:34:56|11=Order123|54=1|38=100|55=AAPL|44=50.00|10=242|";
+
+  private final FixMessageValidator validator = new FixMessageValidator();
+  private final Map<String, String> parsedFields =
+      new FixMessageParser().parse(MESSAGE, FixDefaultVersion.FIX_4_4);
+
+  @Test
+  void validate_shouldMatchValidateFieldsForSingleFailures() {
+    List<Map<String, Object>> criteriaList = List.of(
+        Map.of("35", "D", "54", Arrays.asList("1", "2")),
+        Map.of("35", "G"),
+        Map.of("54", Arrays.asList("2", "5")),
+        Map.of("999", "x"),
+        Map.of("55", Collections.emptyList()),
+        Map.of("55", Arrays.asList(1, 2)),
+        Map.of("54", Arrays.asList("1", null)),
+        Map.of("54", Arrays.asList("2", null)),
+        Map.of("55", Arrays.asList("MSFT", "IBM", "GOOG", "AMZN", "TSLA", "NFLX", "AAPL")));
+
+    for (Map<String, Object> criteria : criteriaList) {
+      ValidationProgram program = validator.compile(FixDefaultVersion.FIX_4_4, criteria);
+      String expected = errorOf(() ->
+          validator.validateFields(parsedFields, FixDefaultVersion.FIX_4_4, criteria));
+
+      assertThat(errorOf(() -> validator.validateFields(parsedFields, program)))
+          .isEqualTo(expected);
+      assertThat(program.test(parsedFields)).isEqualTo(expected == null);
+    }
+  }
+
+  @Test
+  void validate_shouldCheckMessageAndVersionFirst() {
+    ValidationProgram program = validator.compile(FixDefaultVersion.FIX_5_0_SP2, Map.of());
+
+    assertThatThrownBy(() -> program.validate(Collections.emptyMap()))
+        .hasMessage("The FIX message cannot be empty.");
+    assertThatThrownBy(() -> program.validate(Map.of("35", "D")))
+        .hasMessage("The FIX message does not contain the BeginString tag (8).");
+    assertThatThrownBy(() -> program.validate(parsedFields))
+        .hasMessage("FIX message incompatible with version FIX.5.0SP2.");
+    assertThat(program.test(null)).isFalse();
+  }
+
+  @Test
+  void validate_shouldRunMostSelectiveRuleFirst() {
+    Map<String, Object> criteria = new LinkedHashMap<>();
+    criteria.put("55", Arrays.asList("MSFT", "IBM", "GOOG"));
+    criteria.put("54", Arrays.asList("2"));
+    criteria.put("35", "G");
+    ValidationProgram program = validator.compile(FixDefaultVersion.FIX_4_4, criteria);
+
+    assertThat(program.size()).isEqualTo(3);
+    assertThatThrownBy(() -> program.validate(parsedFields))
+        .hasMessage("The field 35 has an invalid value: expected=G, actual=D");
+  }
+
+  @Test
+  void compile_withInvalidCriteria_shouldThrow() {
+    assertThatThrownBy(() -> validator.compile(FixDefaultVersion.FIX_4_4, Map.of("35", 1)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid validation criterion for tag 35");
+    assertThatThrownBy(() -> ValidationProgram.compile(
+        new FixCustomVersion("42", "unused.xml"), Map.of()))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Unknown FIX version");
+  }
+
+  @Test
+  void compile_shouldNotDependOnLaterCriteriaChanges() {
+    Map<String, Object> criteria = new HashMap<>();
+    List<String> sides = new ArrayList<>(List.of("1"));
+    criteria.put("54", sides);
+    ValidationProgram program = validator.compile(FixDefaultVersion.FIX_4_4, criteria);
+
+    sides.set(0, "2");
+    criteria.put("35", "G");
+
+    assertThat(program.test(parsedFields)).isTrue();
+  }
+
+  @Test
+  void validate_shouldBeUsableFromManyThreads() throws Exception {
+    ValidationProgram program = validator.compile(FixDefaultVersion.FIX_4_4,
+        Map.of("35", Arrays.asList("D", "G", "F"), "54", Arrays.asList("1", "2")));
+    Map<String, String> sell = new HashMap<>(parsedFields);
+    sell.put("54", "5");
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Integer>> results = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        results.add(executor.submit(() -> {
+          int accepted = 0;
+          for (int i = 0; i < 10_000; i++) {
+            accepted += program.test(i % 2 == 0 ? parsedFields : sell) ? 1 : 0;
+          }
+          return accepted;
+        }));
+      }
+      for (Future<Integer> result : results) {
+        assertThat(result.get()).isEqualTo(5_000);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static String errorOf(Runnable validation) {
+    try {
+      validation.run();
+      return null;
+    } catch (IllegalArgumentException e) {
+      return e.getMessage();
+    }
+  }
+}
@@ -0,0 +1,145 @@
+/**
+ * Copyright 2025 Dario Alves Junior. All Rights Reserved.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+
+package io.github.darioajr.converter.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.darioajr.converter.models.FixDefaultVersion;
+import io.github.darioajr.converter.parser.FixMessageParser;
+import io.github.darioajr.converter.validation.FixMessageValidator;
+import io.github.darioajr.converter.validation.ValidationError;
+import io.github.darioajr.converter.validation.ValidationProgram;
+import io.github.darioajr.converter.validation.ValidationResult;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ValidationResultTest {
+
+  private static final String MESSAGE = "8=FIX.4.4|9=123|35=D|49=SenderCompID|56=TargetCompID|"
+      + "34=1|52=20231208-12:34:56|11=Order123|54=1|38=100|55=AAPL|44=50.00|10=242|";
+
+  private final FixMessageValidator validator = new FixMessageValidator();
+  private final Map<String, String> parsedFields =
+      new FixMessageParser().parse(MESSAGE, FixDefaultVersion.FIX_4_4);
+
+  @Test
+  void check_validMessage_shouldShareResult() {
+    ValidationProgram program = validator.compile(FixDefaultVersion.FIX_4_4,
+        Map.of("35", "D", "54", Arrays.asList("1", "2")));
+
+    ValidationResult result = validator.checkFields(parsedFields, program);
+
+    assertThat(result.isValid()).isTrue();
+    assertThat(result.getViolationCount()).isZero();
+    assertThat(result.getMessages()).isEmpty();
+    assertThat(result.getFailedTags()).isEmpty();
+    assertThat(program.check(parsedFields)).isSameAs(result);
+    result.throwIfInvalid();
+  }
+
+  @Test
+  void check_shouldCollectEveryViolation() {
+    Map<String, Object> criteria = new LinkedHashMap<>();
+    criteria.put("35", "G");
+    criteria.put("54", Arrays.asList("2", "5"));
+    criteria.put("999", "x");
+    criteria.put("55", "AAPL");
+    ValidationProgram program = validator.compile(FixDefaultVersion.FIX_4_4, criteria);
+
+    ValidationResult result = program.check(parsedFields);
+
+    assertThat(result.isValid()).isFalse();
+    assertThat(result.getMessageError()).isNull();
+    assertThat(result.getViolationCount()).isEqualTo(3);
+    assertThat(result.getFailedTags()).containsExactly("35", "999", "54");
+    assertThat(result.getErrors()).containsExactly(ValidationError.INVALID_VALUE,
+        ValidationError.MISSING_FIELD, ValidationError.INVALID_VALUE);
+    assertThat(result.getMessages()).containsExactly(
+        "The field 35 has an invalid value: expected=G, actual=D",
+        "The required field is missing: tag 999",
+        "The field 54 has an invalid value: expected one of=[2, 5], actual=1");
+    assertThatThrownBy(result::throwIfInvalid).hasMessage(errorOf(program, parsedFields));
+  }
+
+  @Test
+  void check_versionMismatch_shouldStillApplyRules() {
+    ValidationProgram program =
+        validator.compile(FixDefaultVersion.FIX_5_0_SP2, Map.of("35", "G"));
+
+    ValidationResult result = program.check(parsedFields);
+
+    assertThat(result.getMessageError()).isEqualTo(ValidationError.VERSION_MISMATCH);
+    assertThat(result.getErrors())
+        .containsExactly(ValidationError.VERSION_MISMATCH, ValidationError.INVALID_VALUE);
+    assertThat(result.getMessages()).containsExactly(
+        "FIX message incompatible with version FIX.5.0SP2.",
+        "The field 35 has an invalid value: expected=G, actual=D");
+    assertThat(result.getFailedTags()).containsExactly("35");
+    assertThatThrownBy(result::throwIfInvalid).hasMessage(errorOf(program, parsedFields));
+  }
+
+  @Test
+  void check_emptyOrHeaderlessMessage_shouldReportMessageError() {
+    ValidationProgram program = validator.compile(FixDefaultVersion.FIX_4_4, Map.of("35", "D"));
+
+    ValidationResult empty = program.check(Collections.emptyMap());
+    assertThat(empty.getErrors()).containsExactly(ValidationError.EMPTY_MESSAGE);
+    assertThat(empty.getMessages()).containsExactly("The FIX message cannot be empty.");
+    assertThat(program.check(null)).isSameAs(empty);
+
+    ValidationResult headerless = program.check(Map.of("35", "D"));
+    assertThat(headerless.getErrors()).containsExactly(ValidationError.MISSING_BEGIN_STRING);
+    assertThat(headerless.getViolationCount()).isEqualTo(1);
+  }
+
+  @Test
+  void check_shouldAgreeWithValidateAcrossRuleWordBoundary() {
+    Map<String, Object> criteria = new HashMap<>();
+    Map<String, String> fields = new HashMap<>(parsedFields);
+    for (int tag = 5000; tag < 5130; tag++) {
+      criteria.put(String.valueOf(tag), "v");
+      fields.put(String.valueOf(tag), tag % 7 == 0 ? "w" : "v");
+    }
+    ValidationProgram program = validator.compile(FixDefaultVersion.FIX_4_4, criteria);
+
+    ValidationResult result = program.check(fields);
+
+    long expected = criteria.keySet().stream()
+        .filter(tag -> Integer.parseInt(tag) % 7 == 0).count();
+    assertThat(result.getViolationCount()).isEqualTo((int) expected);
+    List<String> messages = result.getMessages();
+    assertThat(messages).hasSize((int) expected);
+    assertThat(messages.get(0)).isEqualTo(errorOf(program, fields));
+    assertThat(result.getFailedTags())
+        .allSatisfy(tag -> assertThat(Integer.parseInt(tag) % 7).isZero());
+  }
+
+  private static String errorOf(ValidationProgram program, Map<String, String> fields) {
+    try {
+      program.validate(fields);
+      return null;
+    } catch (IllegalArgumentException e) {
+      return e.getMessage();
+    }
+  }
+}